@@ -0,0 +1,39 @@
+package com.knowy.core.domain;
+
+import java.util.List;
+
+/**
+ * A page of results read with keyset pagination.
+ * <p>
+ * Unlike an offset page, a slice does not know how many results there are in total; it only knows whether there is a
+ * next slice and the cursor to read it.
+ *
+ * @param items      the results of this slice
+ * @param nextCursor the cursor to read the next slice, or {@code null} if this is the last one
+ * @param <T>        the type of the results
+ */
+public record Slice<T>(List<T> items, String nextCursor) {
+
+	public Slice {
+		items = List.copyOf(items);
+	}
+
+	/**
+	 * Returns an empty last slice.
+	 *
+	 * @param <T> the type of the results
+	 * @return a slice without results nor next cursor
+	 */
+	public static <T> Slice<T> empty() {
+		return new Slice<>(List.of(), null);
+	}
+
+	/**
+	 * Returns whether there are more results after this slice.
+	 *
+	 * @return {@code true} if {@link #nextCursor()} is not {@code null}
+	 */
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -5,6 +5,10 @@ public class KnowyIllegalArgumentRuntimeException extends RuntimeException {
 		super(message);
 	}
 
+	public KnowyIllegalArgumentRuntimeException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
 	public KnowyIllegalArgumentRuntimeException(Throwable cause) {
 		super(cause);
 	}
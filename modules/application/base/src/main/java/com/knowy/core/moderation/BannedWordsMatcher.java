@@ -0,0 +1,178 @@
+package com.knowy.core.moderation;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable Aho–Corasick automaton that tells whether a text contains any of a set of banned words, ignoring case.
+ * <p>
+ * The words are compiled into a deterministic automaton whose transitions are stored in a flat {@code int} table
+ * indexed by state and by the position of the character in the sorted alphabet of the words, so a text is scanned in a
+ * single pass with one table lookup per character, however many words there are. Characters that do not appear in any
+ * word send the automaton back to its initial state.
+ * <p>
+ * Case is folded character by character with {@link Character#toUpperCase(char)} followed by
+ * {@link Character#toLowerCase(char)}, both when compiling the words and when scanning the text. Blank words are
+ * ignored.
+ */
+public final class BannedWordsMatcher {
+
+	private static final int ROOT = 0;
+	private static final int NONE = -1;
+
+	private final char[] alphabet;
+	private final int[] transitions;
+	private final boolean[] accepting;
+	private final int wordCount;
+
+	private BannedWordsMatcher(char[] alphabet, int[] transitions, boolean[] accepting, int wordCount) {
+		this.alphabet = alphabet;
+		this.transitions = transitions;
+		this.accepting = accepting;
+		this.wordCount = wordCount;
+	}
+
+	/**
+	 * Compiles the given words into a matcher.
+	 *
+	 * @param words the banned words
+	 * @return a matcher that finds any of the words in a text
+	 */
+	public static BannedWordsMatcher compile(Collection<String> words) {
+		String[] foldedWords = words.stream()
+			.filter(word -> word != null && !word.isBlank())
+			.map(BannedWordsMatcher::fold)
+			.distinct()
+			.toArray(String[]::new);
+
+		char[] alphabet = alphabetOf(foldedWords);
+		int alphabetSize = alphabet.length;
+		int maxStates = 1;
+		for (String word : foldedWords) {
+			maxStates += word.length();
+		}
+
+		int[] transitions = new int[maxStates * alphabetSize];
+		Arrays.fill(transitions, NONE);
+		boolean[] accepting = new boolean[maxStates];
+		int states = 1;
+
+		for (String word : foldedWords) {
+			int state = ROOT;
+			for (int i = 0; i < word.length(); i++) {
+				int transition = state * alphabetSize + Arrays.binarySearch(alphabet, word.charAt(i));
+				if (transitions[transition] == NONE) {
+					transitions[transition] = states++;
+				}
+				state = transitions[transition];
+			}
+			accepting[state] = true;
+		}
+
+		completeTransitions(transitions, accepting, alphabetSize, states);
+		return new BannedWordsMatcher(
+			alphabet,
+			Arrays.copyOf(transitions, states * alphabetSize),
+			Arrays.copyOf(accepting, states),
+			foldedWords.length
+		);
+	}
+
+	/**
+	 * Returns whether the text contains any of the banned words, ignoring case.
+	 *
+	 * @param text the text to scan
+	 * @return {@code true} if at least one banned word appears in the text
+	 */
+	public boolean containsBannedWord(String text) {
+		if (text == null || wordCount == 0) {
+			return false;
+		}
+
+		int alphabetSize = alphabet.length;
+		int state = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			int symbol = Arrays.binarySearch(alphabet, fold(text.charAt(i)));
+			state = symbol < 0 ? ROOT : transitions[state * alphabetSize + symbol];
+			if (accepting[state]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of distinct banned words compiled into the matcher.
+	 *
+	 * @return the number of words
+	 */
+	public int wordCount() {
+		return wordCount;
+	}
+
+	/**
+	 * Turns the trie into a deterministic automaton in breadth-first order: every missing transition of a state is set
+	 * to the one of its failure state, which has already been completed because it is shallower, and a state accepts
+	 * if its failure state does.
+	 */
+	private static void completeTransitions(int[] transitions, boolean[] accepting, int alphabetSize, int states) {
+		int[] failure = new int[states];
+		int[] queue = new int[states];
+		int head = 0;
+		int tail = 0;
+
+		for (int symbol = 0; symbol < alphabetSize; symbol++) {
+			int next = transitions[ROOT * alphabetSize + symbol];
+			if (next == NONE) {
+				transitions[ROOT * alphabetSize + symbol] = ROOT;
+			} else {
+				failure[next] = ROOT;
+				queue[tail++] = next;
+			}
+		}
+
+		while (head < tail) {
+			int state = queue[head++];
+			accepting[state] |= accepting[failure[state]];
+			for (int symbol = 0; symbol < alphabetSize; symbol++) {
+				int transition = state * alphabetSize + symbol;
+				int fallback = transitions[failure[state] * alphabetSize + symbol];
+				if (transitions[transition] == NONE) {
+					transitions[transition] = fallback;
+				} else {
+					failure[transitions[transition]] = fallback;
+					queue[tail++] = transitions[transition];
+				}
+			}
+		}
+	}
+
+	private static char[] alphabetOf(String[] words) {
+		StringBuilder characters = new StringBuilder();
+		for (String word : words) {
+			characters.append(word);
+		}
+		char[] alphabet = characters.toString().toCharArray();
+		Arrays.sort(alphabet);
+
+		int size = 0;
+		for (int i = 0; i < alphabet.length; i++) {
+			if (i == 0 || alphabet[i] != alphabet[i - 1]) {
+				alphabet[size++] = alphabet[i];
+			}
+		}
+		return Arrays.copyOf(alphabet, size);
+	}
+
+	private static String fold(String word) {
+		char[] characters = word.toCharArray();
+		for (int i = 0; i < characters.length; i++) {
+			characters[i] = fold(characters[i]);
+		}
+		return new String(characters);
+	}
+
+	private static char fold(char character) {
+		return Character.toLowerCase(Character.toUpperCase(character));
+	}
+}
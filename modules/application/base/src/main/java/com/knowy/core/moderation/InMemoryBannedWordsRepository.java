@@ -0,0 +1,134 @@
+package com.knowy.core.moderation;
+
+import com.knowy.core.port.BannedWordsRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BannedWordsRepository} decorator that checks words against a {@link BannedWordsMatcher} held in memory instead
+ * of querying the stored words on every check.
+ * <p>
+ * The matcher is compiled from the stored words on the first check. Once {@link #start() started}, every
+ * {@code refreshInterval} a background thread
+ * asks the delegate for the {@linkplain BannedWordsRepository#findVersion() version} of the words and, only if it has
+ * changed, compiles a new matcher and swaps it in at once, so a check always sees either the old or the new list. If
+ * the words cannot be read, a warning is logged and the current matcher is kept until the next refresh.
+ */
+public class InMemoryBannedWordsRepository implements BannedWordsRepository, AutoCloseable {
+
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+	private static final System.Logger LOGGER = System.getLogger(InMemoryBannedWordsRepository.class.getName());
+
+	private final BannedWordsRepository bannedWordsRepository;
+	private final Duration refreshInterval;
+	private final ScheduledExecutorService refresher;
+	private final Object loadLock = new Object();
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Creates a repository that refreshes its matcher every {@link #DEFAULT_REFRESH_INTERVAL}.
+	 *
+	 * @param bannedWordsRepository repository the banned words and their version are read from
+	 */
+	public InMemoryBannedWordsRepository(BannedWordsRepository bannedWordsRepository) {
+		this(bannedWordsRepository, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Creates a repository. Its background refresher runs once {@link #start()} is called.
+	 *
+	 * @param bannedWordsRepository repository the banned words and their version are read from
+	 * @param refreshInterval       time between two checks of the version of the stored words
+	 */
+	public InMemoryBannedWordsRepository(BannedWordsRepository bannedWordsRepository, Duration refreshInterval) {
+		this.bannedWordsRepository = bannedWordsRepository;
+		this.refreshInterval = refreshInterval;
+		this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "knowy-banned-words-refresher");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts the background refresher, which checks the version of the stored words every {@code refreshInterval}.
+	 */
+	public void start() {
+		long intervalNanos = refreshInterval.toNanos();
+		refresher.scheduleWithFixedDelay(this::refreshQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns whether the word contains any banned word, ignoring case.
+	 *
+	 * @param word the word to check
+	 * @return {@code true} if a banned word appears in the word
+	 */
+	@Override
+	public boolean isWordBanned(String word) {
+		return currentSnapshot().matcher().containsBannedWord(word);
+	}
+
+	@Override
+	public List<String> findAllWords() {
+		return bannedWordsRepository.findAllWords();
+	}
+
+	@Override
+	public String findVersion() {
+		return bannedWordsRepository.findVersion();
+	}
+
+	/**
+	 * Compiles a new matcher if the stored words have changed since the current one was compiled.
+	 */
+	public void refresh() {
+		String version = bannedWordsRepository.findVersion();
+		Snapshot current = snapshot;
+		if (current != null && Objects.equals(current.version(), version)) {
+			return;
+		}
+
+		synchronized (loadLock) {
+			current = snapshot;
+			if (current == null || !Objects.equals(current.version(), version)) {
+				snapshot = new Snapshot(version, BannedWordsMatcher.compile(bannedWordsRepository.findAllWords()));
+			}
+		}
+	}
+
+	/**
+	 * Stops the background refresher.
+	 */
+	@Override
+	public void close() {
+		refresher.shutdownNow();
+	}
+
+	private Snapshot currentSnapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			refresh();
+			current = snapshot;
+		}
+		return current;
+	}
+
+	private void refreshQuietly() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			// Keep the current matcher; the next refresh tries again
+			LOGGER.log(System.Logger.Level.WARNING, "The banned words could not be refreshed: " + e.getMessage(), e);
+		}
+	}
+
+	private record Snapshot(String version, BannedWordsMatcher matcher) {
+	}
+}
@@ -1,5 +1,15 @@
 package com.knowy.core.port;
 
+import java.util.List;
+
 public interface BannedWordsRepository {
 	boolean isWordBanned(String word);
+
+	List<String> findAllWords();
+
+	/**
+	 * Returns a value that changes whenever the banned words change, so that in-memory copies can tell whether they
+	 * are stale without reading every word.
+	 */
+	String findVersion();
 }
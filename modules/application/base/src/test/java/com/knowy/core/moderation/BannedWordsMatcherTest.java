@@ -0,0 +1,80 @@
+package com.knowy.core.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BannedWordsMatcherTest {
+
+	@Test
+	void given_textContainingBannedWord_when_containsBannedWord_then_returnTrueIgnoringCase() {
+		BannedWordsMatcher matcher = BannedWordsMatcher.compile(List.of("idiota", "tonto"));
+
+		assertAll(
+			() -> assertTrue(matcher.containsBannedWord("SuperIdiota99")),
+			() -> assertTrue(matcher.containsBannedWord("TONTO")),
+			() -> assertFalse(matcher.containsBannedWord("Tontería")),
+			() -> assertFalse(matcher.containsBannedWord("Knowy"))
+		);
+	}
+
+	@Test
+	void given_overlappingWords_when_containsBannedWord_then_followFailureLinks() {
+		BannedWordsMatcher matcher = BannedWordsMatcher.compile(List.of("abcd", "bce", "cx"));
+
+		assertAll(
+			() -> assertTrue(matcher.containsBannedWord("abce")),
+			() -> assertTrue(matcher.containsBannedWord("abcx")),
+			() -> assertFalse(matcher.containsBannedWord("abcbcd"))
+		);
+	}
+
+	@Test
+	void given_blankAndDuplicatedWords_when_compile_then_ignoreThem() {
+		BannedWordsMatcher matcher = BannedWordsMatcher.compile(List.of("", "  ", "Malo", "malo"));
+
+		assertAll(
+			() -> assertEquals(1, matcher.wordCount()),
+			() -> assertFalse(matcher.containsBannedWord("Bueno")),
+			() -> assertTrue(matcher.containsBannedWord("muyMALO"))
+		);
+	}
+
+	@Test
+	void given_noWords_when_containsBannedWord_then_returnFalse() {
+		BannedWordsMatcher matcher = BannedWordsMatcher.compile(List.of());
+
+		assertFalse(matcher.containsBannedWord("anything"));
+	}
+
+	@Test
+	void given_randomWordsAndTexts_when_containsBannedWord_then_matchNaiveSubstringSearch() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			List<String> words = new ArrayList<>();
+			for (int i = 0; i < 1 + random.nextInt(8); i++) {
+				words.add(randomString(random, 1 + random.nextInt(4)));
+			}
+			BannedWordsMatcher matcher = BannedWordsMatcher.compile(words);
+
+			String text = randomString(random, random.nextInt(20));
+			boolean expected = words.stream()
+				.anyMatch(word -> text.toLowerCase(Locale.ROOT).contains(word.toLowerCase(Locale.ROOT)));
+			assertEquals(expected, matcher.containsBannedWord(text), () -> words + " in " + text);
+		}
+	}
+
+	private static String randomString(Random random, int length) {
+		StringBuilder value = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			char character = (char) ('a' + random.nextInt(3));
+			value.append(random.nextBoolean() ? Character.toUpperCase(character) : character);
+		}
+		return value.toString();
+	}
+}
@@ -0,0 +1,71 @@
+package com.knowy.core.moderation;
+
+import com.knowy.core.port.BannedWordsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBannedWordsRepositoryTest {
+
+	@Mock
+	private BannedWordsRepository bannedWordsRepository;
+
+	private InMemoryBannedWordsRepository inMemoryBannedWordsRepository;
+
+	@BeforeEach
+	void setUp() {
+		inMemoryBannedWordsRepository = new InMemoryBannedWordsRepository(bannedWordsRepository, Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		inMemoryBannedWordsRepository.close();
+	}
+
+	@Test
+	void given_loadedWords_when_isWordBanned_then_answerWithoutQueryingAgain() {
+		Mockito.when(bannedWordsRepository.findVersion()).thenReturn("v1");
+		Mockito.when(bannedWordsRepository.findAllWords()).thenReturn(List.of("malo"));
+
+		assertTrue(inMemoryBannedWordsRepository.isWordBanned("MuyMalo"));
+		assertFalse(inMemoryBannedWordsRepository.isWordBanned("Bueno"));
+		Mockito.verify(bannedWordsRepository, Mockito.times(1)).findAllWords();
+		Mockito.verify(bannedWordsRepository, Mockito.never()).isWordBanned(Mockito.anyString());
+	}
+
+	@Test
+	void given_unchangedVersion_when_refresh_then_keepMatcher() {
+		Mockito.when(bannedWordsRepository.findVersion()).thenReturn("v1");
+		Mockito.when(bannedWordsRepository.findAllWords()).thenReturn(List.of("malo"));
+		inMemoryBannedWordsRepository.isWordBanned("Bueno");
+
+		inMemoryBannedWordsRepository.refresh();
+
+		Mockito.verify(bannedWordsRepository, Mockito.times(1)).findAllWords();
+	}
+
+	@Test
+	void given_changedVersion_when_refresh_then_swapMatcher() {
+		Mockito.when(bannedWordsRepository.findVersion()).thenReturn("v1", "v2");
+		Mockito.when(bannedWordsRepository.findAllWords()).thenReturn(List.of("malo"))
+			.thenReturn(List.of("feo"));
+		assertTrue(inMemoryBannedWordsRepository.isWordBanned("Malo"));
+
+		inMemoryBannedWordsRepository.refresh();
+
+		assertAll(
+			() -> assertFalse(inMemoryBannedWordsRepository.isWordBanned("Malo")),
+			() -> assertTrue(inMemoryBannedWordsRepository.isWordBanned("Feo"))
+		);
+	}
+}
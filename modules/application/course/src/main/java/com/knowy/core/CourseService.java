@@ -2,13 +2,19 @@ package com.knowy.core;
 
 import com.knowy.core.domain.Category;
 import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseOutlineView;
+import com.knowy.core.domain.CourseProgressSummary;
+import com.knowy.core.domain.CourseQuery;
 import com.knowy.core.domain.Pagination;
+import com.knowy.core.domain.Slice;
 import com.knowy.core.exception.KnowyCourseNotFound;
 import com.knowy.core.exception.KnowyCourseSubscriptionException;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.CourseRepository;
 import com.knowy.core.port.LessonRepository;
 import com.knowy.core.port.UserLessonRepository;
+import com.knowy.core.recommendation.CourseRecommender;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.course.*;
 
 import java.util.List;
@@ -18,27 +24,50 @@ public class CourseService {
 
 	private final GetUserCoursesUseCase getUserCoursesUseCase;
 	private final GetAllCoursesRandomized getAllCoursesRandomized;
+	private final GetRandomCoursesUseCase getRandomCoursesUseCase;
 	private final GetRecommendedCoursesByCategoriesUseCase getRecommendedCoursesByCategoriesUseCase;
 	private final GetAllCoursesUseCase getAllCoursesUseCase;
+	private final FindCoursesUseCase findCoursesUseCase;
 	private final GetCourseWithProgressUseCase getCourseWithProgressUseCase;
 	private final GetAllCoursesWithProgressUseCase getAllCoursesWithProgressUseCase;
 	private final GetCourseByIdUseCase getCourseByIdUseCase;
+	private final GetCourseOutlineUseCase getCourseOutlineUseCase;
 	private final SubscribeUserToCourseUseCase subscribeUserToCourseUseCase;
+	private final CourseRecommender courseRecommender;
+	private final ReviewScheduler reviewScheduler;
 
+	/**
+	 * Constructs a new {@code CourseService} that recommends courses through the given recommender and keeps it
+	 * informed of new subscriptions, together with the review scheduler whose queues depend on the lessons a user has
+	 * started.
+	 *
+	 * @param courseRepository     repository for accessing courses
+	 * @param lessonRepository     repository for accessing lessons
+	 * @param userLessonRepository repository for accessing user lessons
+	 * @param courseRecommender    recommender used for course recommendations
+	 * @param reviewScheduler      scheduler whose queues are dropped when a user subscribes to a course
+	 */
 	public CourseService(
 		CourseRepository courseRepository,
 		LessonRepository lessonRepository,
-		UserLessonRepository userLessonRepository
+		UserLessonRepository userLessonRepository,
+		CourseRecommender courseRecommender,
+		ReviewScheduler reviewScheduler
 	) {
+		this.courseRecommender = courseRecommender;
+		this.reviewScheduler = reviewScheduler;
 		this.getUserCoursesUseCase = new GetUserCoursesUseCase(userLessonRepository, courseRepository);
 		this.getAllCoursesRandomized = new GetAllCoursesRandomized(courseRepository);
-		this.getRecommendedCoursesByCategoriesUseCase = new GetRecommendedCoursesByCategoriesUseCase(courseRepository);
+		this.getRandomCoursesUseCase = new GetRandomCoursesUseCase(courseRepository);
+		this.getRecommendedCoursesByCategoriesUseCase = new GetRecommendedCoursesByCategoriesUseCase(courseRecommender);
 		this.getAllCoursesUseCase = new GetAllCoursesUseCase(courseRepository);
+		this.findCoursesUseCase = new FindCoursesUseCase(courseRepository);
 		this.getCourseWithProgressUseCase = new GetCourseWithProgressUseCase(
 			courseRepository, userLessonRepository
 		);
 		this.getAllCoursesWithProgressUseCase = new GetAllCoursesWithProgressUseCase(userLessonRepository);
 		this.getCourseByIdUseCase = new GetCourseByIdUseCase(courseRepository);
+		this.getCourseOutlineUseCase = new GetCourseOutlineUseCase(courseRepository, userLessonRepository);
 		this.subscribeUserToCourseUseCase = new SubscribeUserToCourseUseCase(lessonRepository, userLessonRepository);
 	}
 
@@ -70,6 +99,20 @@ public class CourseService {
 		return getAllCoursesRandomized.execute();
 	}
 
+	/**
+	 * Retrieves a random selection of courses.
+	 *
+	 * <p>This method delegates to the {@link GetRandomCoursesUseCase} use case, which samples the requested number of
+	 * courses without loading or sorting the whole catalog.</p>
+	 *
+	 * @param numOfCourses the maximum number of courses to return
+	 * @return a random list of up to {@code numOfCourses} {@link Course} entities
+	 * @throws KnowyInconsistentDataException if inconsistencies occur when retrieving course data
+	 */
+	public List<Course> findRandom(int numOfCourses) throws KnowyInconsistentDataException {
+		return getRandomCoursesUseCase.execute(numOfCourses);
+	}
+
 	/**
 	 * Retrieves a list of recommended courses for a specific user based on the provided categories.
 	 *
@@ -101,6 +144,8 @@ public class CourseService {
 	public void subscribeUserToCourse(int userId, int courseId)
 		throws KnowyCourseSubscriptionException, KnowyInconsistentDataException {
 		subscribeUserToCourseUseCase.execute(userId, courseId);
+		courseRecommender.subscribed(userId, courseId);
+		reviewScheduler.invalidate(userId);
 	}
 
 	/**
@@ -114,6 +159,20 @@ public class CourseService {
 		return getAllCoursesUseCase.execute(pagination);
 	}
 
+	/**
+	 * Retrieves one slice of the catalog filtered and sorted as described by the given query.
+	 * <p>
+	 * Delegates to {@link FindCoursesUseCase}. The next slice is read by passing the returned cursor back in a new
+	 * query with the same filters and order.
+	 *
+	 * @param query the filter, order and position of the slice
+	 * @return the matching courses and the cursor of the next slice
+	 * @throws KnowyInconsistentDataException if inconsistencies occur while retrieving course data
+	 */
+	public Slice<Course> findCourses(CourseQuery query) throws KnowyInconsistentDataException {
+		return findCoursesUseCase.execute(query);
+	}
+
 	/**
 	 * Retrieves a course by its unique identifier.
 	 * <p>
@@ -128,6 +187,33 @@ public class CourseService {
 		return getCourseByIdUseCase.execute(id);
 	}
 
+	/**
+	 * Retrieves the outline of a course for a user, as shown on the course introduction.
+	 * <p>
+	 * The lessons come from the course, and only the progress of the user in each of them is read.
+	 *
+	 * @param userId   the ID of the user
+	 * @param courseId the ID of the course
+	 * @return the {@link CourseOutlineView} of the course, without current lesson
+	 * @throws KnowyInconsistentDataException if the course does not exist or the user does not follow it
+	 */
+	public CourseOutlineView getCourseOutline(int userId, int courseId) throws KnowyInconsistentDataException {
+		return getCourseOutlineUseCase.execute(userId, courseId);
+	}
+
+	/**
+	 * Retrieves the outline of a course for a user with the content of one of its lessons, as shown on a lesson page.
+	 *
+	 * @param userId   the ID of the user
+	 * @param courseId the ID of the course
+	 * @param lessonId the ID of the lesson to show
+	 * @return the {@link CourseOutlineView} of the course, with the given lesson as current lesson
+	 * @throws KnowyInconsistentDataException if the course does not exist or the user does not follow the lesson
+	 */
+	public CourseOutlineView getCourseOutline(int userId, int courseId, int lessonId) throws KnowyInconsistentDataException {
+		return getCourseOutlineUseCase.execute(userId, courseId, lessonId);
+	}
+
 	/**
 	 * Retrieves a course along with the progress of a specific user in that course.
 	 *
@@ -148,14 +234,14 @@ public class CourseService {
 	/**
 	 * Retrieves all courses along with the progress of a specific user in each course.
 	 * <p>
-	 * Delegates to {@link GetAllCoursesWithProgressUseCase} to fetch all courses and calculate the user's progress for
-	 * each course.
+	 * Delegates to {@link GetAllCoursesWithProgressUseCase} to fetch the lesson status counts of every subscribed
+	 * course, from which the user's progress in each course is calculated.
 	 *
 	 * @param userId the ID of the user whose course progress should be retrieved
-	 * @return a list of {@link GetAllCoursesWithProgressResult} containing course data and user progress
+	 * @return a list of {@link CourseProgressSummary}, one per subscribed course
 	 * @throws KnowyInconsistentDataException if there is an inconsistency while retrieving course or progress data
 	 */
-	public List<GetAllCoursesWithProgressResult> getAllCourseProgress(int userId) throws KnowyInconsistentDataException {
+	public List<CourseProgressSummary> getAllCourseProgress(int userId) throws KnowyInconsistentDataException {
 		return getAllCoursesWithProgressUseCase.execute(userId);
 	}
 }
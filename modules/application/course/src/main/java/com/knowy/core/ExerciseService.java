@@ -1,11 +1,15 @@
 package com.knowy.core;
 
+import com.knowy.core.domain.ExercisePageView;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyExerciseNotFoundException;
+import com.knowy.core.port.ExercisePageViewRepository;
 import com.knowy.core.port.ExerciseRepository;
 import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.exercise.GetAllUserExercisesByCourseIdAndLessonIdUseCase;
+import com.knowy.core.usecase.exercise.GetExercisePageUseCase;
 import com.knowy.core.usecase.exercise.GetNextExerciseByLessonIdUseCase;
 import com.knowy.core.usecase.exercise.GetNextExerciseByUserIdUseCase;
 import com.knowy.core.usecase.exercise.GetUserExerciseByIdOrCreate;
@@ -18,21 +22,27 @@ public class ExerciseService {
 	private final GetNextExerciseByUserIdUseCase getNextExerciseByUserIdUseCase;
 	private final GetUserExerciseByIdOrCreate getUserExerciseByIdOrCreate;
 	private final GetAllUserExercisesByCourseIdAndLessonIdUseCase getAllUserExercisesByCourseIdAndLessonIdUseCase;
+	private final GetExercisePageUseCase getExercisePageUseCase;
 
 	/**
-	 * Constructs a new {@code ExerciseService} and initializes all underlying use cases.
+	 * Constructs a new {@code ExerciseService} that resolves the next exercise of a user from the given scheduler.
 	 *
-	 * @param userExerciseRepository the repository used to manage user exercises
-	 * @param exerciseRepository     the repository used to access exercise data
+	 * @param userExerciseRepository     the repository used to manage user exercises
+	 * @param exerciseRepository         the repository used to access exercise data
+	 * @param exercisePageViewRepository the repository used to read exercise pages
+	 * @param reviewScheduler            the scheduler holding the review queues of active users
 	 */
 	public ExerciseService(
 		UserExerciseRepository userExerciseRepository,
-		ExerciseRepository exerciseRepository
+		ExerciseRepository exerciseRepository,
+		ExercisePageViewRepository exercisePageViewRepository,
+		ReviewScheduler reviewScheduler
 	) {
-		this.getNextExerciseByLessonIdUseCase = new GetNextExerciseByLessonIdUseCase(userExerciseRepository);
-		this.getNextExerciseByUserIdUseCase = new GetNextExerciseByUserIdUseCase(userExerciseRepository);
+		this.getNextExerciseByLessonIdUseCase = new GetNextExerciseByLessonIdUseCase(reviewScheduler);
+		this.getNextExerciseByUserIdUseCase = new GetNextExerciseByUserIdUseCase(reviewScheduler);
 		this.getUserExerciseByIdOrCreate = new GetUserExerciseByIdOrCreate(userExerciseRepository, exerciseRepository);
 		this.getAllUserExercisesByCourseIdAndLessonIdUseCase = new GetAllUserExercisesByCourseIdAndLessonIdUseCase(userExerciseRepository);
+		this.getExercisePageUseCase = new GetExercisePageUseCase(exercisePageViewRepository);
 	}
 
 	/**
@@ -97,4 +107,45 @@ public class ExerciseService {
 	public List<UserExercise> getAllUserExerciseByUserIdAndLessonId(int userId, int lessonId) throws KnowyDataAccessException {
 		return getAllUserExercisesByCourseIdAndLessonIdUseCase.execute(userId, lessonId);
 	}
+
+	/**
+	 * Retrieves the page of the next exercise for a user within a specific lesson.
+	 *
+	 * @param userId   the ID of the user
+	 * @param lessonId the ID of the lesson
+	 * @return the {@link ExercisePageView} of the next exercise for the given user and lesson
+	 * @throws KnowyDataAccessException       if an error occurs while accessing the repository
+	 * @throws KnowyExerciseNotFoundException if no next exercise exists for the given user and lesson
+	 */
+	public ExercisePageView getNextExercisePageByLessonId(int userId, int lessonId) throws KnowyDataAccessException {
+		return getExercisePageUseCase.execute(getNextExerciseByLessonIdUseCase.execute(userId, lessonId));
+	}
+
+	/**
+	 * Retrieves the page of the next exercise assigned to the specified user, regardless of lesson or course.
+	 *
+	 * @param userId the ID of the user
+	 * @return the {@link ExercisePageView} of the next exercise assigned to the user
+	 * @throws KnowyDataAccessException       if an error occurs while accessing the repository
+	 * @throws KnowyExerciseNotFoundException if no next exercise exists for the given user
+	 */
+	public ExercisePageView getNextExercisePageByUserId(int userId) throws KnowyDataAccessException {
+		return getExercisePageUseCase.execute(getNextExerciseByUserIdUseCase.execute(userId));
+	}
+
+	/**
+	 * Retrieves the page of a specific exercise for a user.
+	 * <p>
+	 * The exercise statement, its options, its lesson, the title of its course and the rate of the user are read in a
+	 * single round trip, instead of loading the exercise, the lesson and the course trees.
+	 *
+	 * @param userId     the ID of the user
+	 * @param exerciseId the ID of the exercise
+	 * @return the {@link ExercisePageView} of the exercise
+	 * @throws KnowyDataAccessException       if an error occurs while accessing the repository
+	 * @throws KnowyExerciseNotFoundException if the exercise does not exist or the user has not started its lesson
+	 */
+	public ExercisePageView getExercisePage(int userId, int exerciseId) throws KnowyDataAccessException {
+		return getExercisePageUseCase.execute(userId, exerciseId);
+	}
 }
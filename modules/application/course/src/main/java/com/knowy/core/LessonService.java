@@ -10,6 +10,8 @@ import com.knowy.core.exception.KnowyUnsupportedOperationRuntimeException;
 import com.knowy.core.port.LessonBaseRepository;
 import com.knowy.core.port.UserExerciseRepository;
 import com.knowy.core.port.UserLessonRepository;
+import com.knowy.core.progress.LessonProgressTracker;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.adjust.AdjustLessonToSurveyResponseResult;
 import com.knowy.core.usecase.adjust.AdjustLessonToSurveyResponseUseCase;
 import com.knowy.core.usecase.lesson.GetAllUserLessonByCourseIdUseCase;
@@ -29,25 +31,56 @@ public class LessonService {
 	private final GetAllUserLessonByCourseIdUseCase getAllUserLessonByCourseIdUseCase;
 	private final UpdateUserLessonStatusUseCase updateUserLessonStatusUseCase;
 	private final AdjustLessonToSurveyResponseUseCase adjustLessonToSurveyResponseUseCase;
+	private final ReviewScheduler reviewScheduler;
 
 	/**
-	 * Constructs a new {@code LessonService} with the required repositories.
+	 * Constructs a new {@code LessonService} that keeps the given review scheduler in sync with answers and lesson
+	 * status changes.
 	 *
 	 * @param userLessonRepository   repository for accessing user lessons
 	 * @param userExerciseRepository repository for accessing user exercises
 	 * @param lessonBaseRepository   repository for accessing lesson base data
+	 * @param reviewScheduler        scheduler shared with the {@link ExerciseService}
 	 */
 	public LessonService(
 		UserLessonRepository userLessonRepository,
 		UserExerciseRepository userExerciseRepository,
-		LessonBaseRepository lessonBaseRepository
+		LessonBaseRepository lessonBaseRepository,
+		ReviewScheduler reviewScheduler
 	) {
+		this(
+			userLessonRepository,
+			userExerciseRepository,
+			lessonBaseRepository,
+			reviewScheduler,
+			new LessonProgressTracker(userExerciseRepository, 0)
+		);
+	}
+
+	/**
+	 * Constructs a new {@code LessonService} that keeps the given review scheduler in sync and updates lesson progress
+	 * incrementally through the given tracker.
+	 *
+	 * @param userLessonRepository   repository for accessing user lessons
+	 * @param userExerciseRepository repository for accessing user exercises
+	 * @param lessonBaseRepository   repository for accessing lesson base data
+	 * @param reviewScheduler        scheduler shared with the {@link ExerciseService}
+	 * @param lessonProgressTracker  tracker that applies every answer to the progress of its lesson
+	 */
+	public LessonService(
+		UserLessonRepository userLessonRepository,
+		UserExerciseRepository userExerciseRepository,
+		LessonBaseRepository lessonBaseRepository,
+		ReviewScheduler reviewScheduler,
+		LessonProgressTracker lessonProgressTracker
+	) {
+		this.reviewScheduler = reviewScheduler;
 		this.getLessonBaseByIdUserCase = new GetLessonBaseByIdUserCase(lessonBaseRepository);
 		this.getUserLessonByIdUseCase = new GetUserLessonByIdUseCase(userLessonRepository);
 		this.getAllUserLessonByCourseIdUseCase = new GetAllUserLessonByCourseIdUseCase(userLessonRepository);
 		this.updateUserLessonStatusUseCase = new UpdateUserLessonStatusUseCase(userLessonRepository);
 		this.adjustLessonToSurveyResponseUseCase = new AdjustLessonToSurveyResponseUseCase(
-			userExerciseRepository, userLessonRepository
+			userExerciseRepository, userLessonRepository, reviewScheduler, lessonProgressTracker
 		);
 	}
 
@@ -108,6 +141,7 @@ public class LessonService {
 		throws KnowyInconsistentDataException, KnowyUnsupportedOperationRuntimeException {
 
 		updateUserLessonStatusUseCase.execute(statusToUpdate, userId, lessonId);
+		reviewScheduler.invalidate(userId);
 	}
 
 
@@ -0,0 +1,502 @@
+package com.knowy.core.buffer;
+
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.port.UserExerciseRepository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * Write-behind decorator of a {@link UserExerciseRepository} that acknowledges saves immediately and stores them in
+ * batches.
+ * <p>
+ * Saved progress is kept in memory, coalesced by user and exercise so that only the latest progress of each exercise is
+ * written, and handed to {@link UserExerciseRepository#saveAll(Collection)} once {@code batchSize} exercises are
+ * pending or every {@code flushInterval}, whichever comes first. Users always read their own writes: lookups that can
+ * be answered by overlaying the pending progress on the stored one do so, and the others flush the user's pending
+ * progress before delegating. Queries made through other repositories only see progress once it has been flushed.
+ * <p>
+ * A batch that cannot be stored is retried row by row. If no row can be stored the failure is taken as transient: the
+ * batch stays pending and background flushes back off exponentially, from {@code flushInterval} up to
+ * {@link #DEFAULT_MAX_BACKOFF}. A row that fails while others of the same batch are stored is kept pending but dropped
+ * once it has failed {@code maxAttempts} times, so a row the repository always rejects cannot block the rest.
+ * <p>
+ * Pending progress is lost if the process stops abruptly before it is flushed. {@code maxPending} bounds how much that
+ * can be: once reached, saves flush synchronously before returning, so {@code 0} stores every save before it is
+ * acknowledged while the repository is available. A save is only rejected before it is queued, when the bound is
+ * reached and flushes back off; once queued it is acknowledged even if its synchronous flush fails, since the progress
+ * stays pending and is stored by a later flush. A flush that stores only part of a batch goes on with the remaining
+ * progress of the selected users, so reads that flush a user first see everything but the rejected rows. The
+ * background flusher runs once
+ * {@link #start()} is called; progress still pending when the repository is {@linkplain #close() closed} is flushed.
+ */
+public class WriteBehindUserExerciseRepository implements UserExerciseRepository, AutoCloseable {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(200);
+	public static final int DEFAULT_MAX_PENDING = 10_000;
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(1);
+
+	private static final System.Logger LOGGER = System.getLogger(WriteBehindUserExerciseRepository.class.getName());
+
+	private final UserExerciseRepository userExerciseRepository;
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final int maxPending;
+	private final int maxAttempts;
+	private final ScheduledExecutorService flusher;
+
+	private final Map<Integer, Map<Integer, UserExercise>> pending = new LinkedHashMap<>();
+	private final Map<Integer, Map<Integer, UserExercise>> inFlight = new HashMap<>();
+	private final Map<RowKey, Integer> failedAttempts = new HashMap<>();
+	private int pendingCount;
+	private int inFlightCount;
+	private final Object flushLock = new Object();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private int consecutiveFailures;
+	private volatile long retryAtNanos = System.nanoTime();
+
+	private final LongAdder flushes = new LongAdder();
+	private final LongAdder flushedRows = new LongAdder();
+	private final LongAdder failedFlushes = new LongAdder();
+	private final LongAdder droppedRows = new LongAdder();
+	private final LongAdder flushTimeNanos = new LongAdder();
+
+	/**
+	 * Creates a write-behind repository with the default batch size, flush interval and pending bound.
+	 *
+	 * @param userExerciseRepository repository the pending progress is flushed to and reads are delegated to
+	 */
+	public WriteBehindUserExerciseRepository(UserExerciseRepository userExerciseRepository) {
+		this(userExerciseRepository, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL, DEFAULT_MAX_PENDING);
+	}
+
+	/**
+	 * Creates a write-behind repository that drops a rejected row after {@link #DEFAULT_MAX_ATTEMPTS} attempts.
+	 *
+	 * @param userExerciseRepository repository the pending progress is flushed to and reads are delegated to
+	 * @param batchSize              number of pending exercises that triggers a flush, and maximum size of each batch
+	 * @param flushInterval          maximum time progress stays pending while the repository is idle
+	 * @param maxPending             number of pending exercises at which saves flush synchronously
+	 */
+	public WriteBehindUserExerciseRepository(
+		UserExerciseRepository userExerciseRepository,
+		int batchSize,
+		Duration flushInterval,
+		int maxPending
+	) {
+		this(userExerciseRepository, batchSize, flushInterval, maxPending, DEFAULT_MAX_ATTEMPTS);
+	}
+
+	/**
+	 * Creates a write-behind repository. Its background flusher runs once {@link #start()} is called.
+	 *
+	 * @param userExerciseRepository repository the pending progress is flushed to and reads are delegated to
+	 * @param batchSize              number of pending exercises that triggers a flush, and maximum size of each batch
+	 * @param flushInterval          maximum time progress stays pending while the repository is idle
+	 * @param maxPending             number of pending exercises at which saves flush synchronously
+	 * @param maxAttempts            number of flushes a row rejected by the repository is attempted before it is
+	 *                               dropped
+	 */
+	public WriteBehindUserExerciseRepository(
+		UserExerciseRepository userExerciseRepository,
+		int batchSize,
+		Duration flushInterval,
+		int maxPending,
+		int maxAttempts
+	) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		}
+		if (flushInterval.isNegative() || flushInterval.isZero()) {
+			throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+		}
+		if (maxAttempts <= 0) {
+			throw new IllegalArgumentException("Max attempts must be positive: " + maxAttempts);
+		}
+
+		this.userExerciseRepository = userExerciseRepository;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.maxPending = maxPending;
+		this.maxAttempts = maxAttempts;
+		this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "knowy-user-exercise-flusher");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts the background flusher, which stores the pending progress every {@code flushInterval}.
+	 */
+	public void start() {
+		long intervalNanos = flushInterval.toNanos();
+		flusher.scheduleWithFixedDelay(this::flushQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public UserExercise save(UserExercise userExercise) throws KnowyDataAccessException {
+		enqueue(List.of(userExercise));
+		return userExercise;
+	}
+
+	@Override
+	public List<UserExercise> saveAll(Collection<UserExercise> userExercises) throws KnowyDataAccessException {
+		enqueue(userExercises);
+		return List.copyOf(userExercises);
+	}
+
+	@Override
+	public Optional<UserExercise> findById(int userId, int exerciseId) throws KnowyDataAccessException {
+		UserExercise pendingUserExercise = pendingByExerciseId(userId).get(exerciseId);
+		if (pendingUserExercise != null) {
+			return Optional.of(pendingUserExercise);
+		}
+		return userExerciseRepository.findById(userId, exerciseId);
+	}
+
+	@Override
+	public List<UserExercise> findAll() throws KnowyDataAccessException {
+		flush();
+		return userExerciseRepository.findAll();
+	}
+
+	@Override
+	public List<UserExercise> findAllByUserIdAndLessonId(int userId, int lessonId) throws KnowyDataAccessException {
+		Map<Integer, UserExercise> pendingUserExercises = pendingByExerciseId(userId);
+		pendingUserExercises.values().removeIf(userExercise -> userExercise.exercise().lessonId() != lessonId);
+
+		List<UserExercise> stored = userExerciseRepository.findAllByUserIdAndLessonId(userId, lessonId);
+		if (pendingUserExercises.isEmpty()) {
+			return stored;
+		}
+
+		List<UserExercise> result = new ArrayList<>(stored.size() + pendingUserExercises.size());
+		for (UserExercise userExercise : stored) {
+			UserExercise pendingUserExercise = pendingUserExercises.remove(userExercise.exercise().id());
+			result.add(pendingUserExercise == null ? userExercise : pendingUserExercise);
+		}
+		result.addAll(pendingUserExercises.values());
+		return result;
+	}
+
+	@Override
+	public Optional<UserExercise> findNextExerciseByLessonId(int publicUserId, int lessonId)
+		throws KnowyDataAccessException {
+		flush(userId -> userId == publicUserId);
+		return userExerciseRepository.findNextExerciseByLessonId(publicUserId, lessonId);
+	}
+
+	@Override
+	public Optional<UserExercise> findNextExerciseByUserId(int userId) throws KnowyDataAccessException {
+		flush(pendingUserId -> pendingUserId == userId);
+		return userExerciseRepository.findNextExerciseByUserId(userId);
+	}
+
+	@Override
+	public List<UserExercise> findAllReviewCandidatesByUserId(int userId) throws KnowyDataAccessException {
+		Map<Integer, UserExercise> pendingUserExercises = pendingByExerciseId(userId);
+
+		List<UserExercise> candidates = userExerciseRepository.findAllReviewCandidatesByUserId(userId);
+		if (pendingUserExercises.isEmpty()) {
+			return candidates;
+		}
+		return candidates.stream()
+			.map(candidate -> pendingUserExercises.getOrDefault(candidate.exercise().id(), candidate))
+			.toList();
+	}
+
+	/**
+	 * Stores all the pending progress, except the rows the repository rejects, which stay pending until they are
+	 * dropped.
+	 *
+	 * @throws KnowyDataAccessException if no row of a batch can be stored; its progress is kept pending
+	 */
+	public void flush() throws KnowyDataAccessException {
+		flush(userId -> true);
+	}
+
+	/**
+	 * Returns a snapshot of the buffer counters.
+	 *
+	 * @return the current number of pending exercises together with the flush counters
+	 */
+	public WriteBehindStats stats() {
+		int unflushed;
+		synchronized (pending) {
+			unflushed = pendingCount + inFlightCount;
+		}
+		return new WriteBehindStats(
+			unflushed, flushes.sum(), flushedRows.sum(), failedFlushes.sum(), droppedRows.sum(), flushTimeNanos.sum()
+		);
+	}
+
+	/**
+	 * Stops the background flusher and stores the progress that is still pending.
+	 *
+	 * @throws KnowyDataAccessException if the pending progress cannot be stored
+	 */
+	@Override
+	public void close() throws KnowyDataAccessException {
+		flusher.shutdown();
+		flush();
+	}
+
+	private void enqueue(Collection<UserExercise> userExercises) throws KnowyDataAccessException {
+		int count;
+		synchronized (pending) {
+			if (pendingCount >= maxPending && isBackingOff()) {
+				throw new KnowyDataAccessException(
+					"Exercise progress cannot be stored right now: " + pendingCount + " exercises are pending"
+				);
+			}
+			for (UserExercise userExercise : userExercises) {
+				UserExercise previous = pending.computeIfAbsent(userExercise.userId(), userId -> new HashMap<>())
+					.put(userExercise.exercise().id(), userExercise);
+				if (previous == null) {
+					pendingCount++;
+				}
+				failedAttempts.remove(RowKey.of(userExercise));
+			}
+			count = pendingCount;
+		}
+
+		if (count >= maxPending) {
+			flushQuietly();
+		} else if (count >= batchSize && flushRequested.compareAndSet(false, true)) {
+			flusher.execute(this::flushQuietly);
+		}
+	}
+
+	private void flushQuietly() {
+		flushRequested.set(false);
+		if (isBackingOff()) {
+			return;
+		}
+		try {
+			flush();
+		} catch (KnowyDataAccessException | RuntimeException e) {
+			// Already logged; the failed batch stays pending until the backoff ends
+		}
+	}
+
+	private void flush(IntPredicate userSelector) throws KnowyDataAccessException {
+		synchronized (flushLock) {
+			Set<UserExercise> rejected = new HashSet<>();
+			List<UserExercise> batch = drain(userSelector, rejected);
+			while (!batch.isEmpty()) {
+				long start = System.nanoTime();
+				try {
+					userExerciseRepository.saveAll(batch);
+				} catch (KnowyDataAccessException | RuntimeException e) {
+					failedFlushes.increment();
+					if (!saveRowByRow(batch, rejected)) {
+						backOff(batch.size(), e);
+						throw e;
+					}
+					// Rejected rows were put back; leave them to the next flush and go on with the others
+					batch = drain(userSelector, rejected);
+					continue;
+				}
+				flushTimeNanos.add(System.nanoTime() - start);
+				flushes.increment();
+				flushedRows.add(batch.size());
+				complete(batch);
+				consecutiveFailures = 0;
+				batch = drain(userSelector, rejected);
+			}
+		}
+	}
+
+	private boolean saveRowByRow(List<UserExercise> batch, Set<UserExercise> rejectedInFlush) {
+		List<UserExercise> stored = new ArrayList<>(batch.size());
+		List<UserExercise> rejected = new ArrayList<>();
+		for (UserExercise userExercise : batch) {
+			try {
+				userExerciseRepository.saveAll(List.of(userExercise));
+				stored.add(userExercise);
+			} catch (KnowyDataAccessException | RuntimeException e) {
+				rejected.add(userExercise);
+			}
+		}
+		rejectedInFlush.addAll(rejected);
+		boolean anyStored = !stored.isEmpty();
+		if (anyStored) {
+			flushedRows.add(stored.size());
+			consecutiveFailures = 0;
+		}
+
+		List<UserExercise> dropped = restoreRejected(stored, rejected, anyStored);
+		droppedRows.add(dropped.size());
+		for (UserExercise userExercise : dropped) {
+			LOGGER.log(
+				System.Logger.Level.ERROR,
+				"Dropping progress of exercise {0} of user {1} (rate {2}, next review {3}) after {4} failed attempts",
+				userExercise.exercise().id(),
+				userExercise.userId(),
+				userExercise.rate(),
+				userExercise.nextReview(),
+				maxAttempts
+			);
+		}
+		return anyStored;
+	}
+
+	private void backOff(int rows, Exception cause) {
+		consecutiveFailures++;
+		Duration backoff = flushInterval.multipliedBy(1L << Math.min(consecutiveFailures - 1, 20));
+		if (backoff.compareTo(DEFAULT_MAX_BACKOFF) > 0) {
+			backoff = DEFAULT_MAX_BACKOFF;
+		}
+		retryAtNanos = System.nanoTime() + backoff.toNanos();
+		LOGGER.log(
+			System.Logger.Level.WARNING,
+			"Could not store " + rows + " exercise progress rows, retrying in " + backoff,
+			cause
+		);
+	}
+
+	private boolean isBackingOff() {
+		return System.nanoTime() - retryAtNanos < 0;
+	}
+
+	/**
+	 * Moves up to {@code batchSize} pending rows of the selected users in flight, leaving pending the rows already
+	 * rejected during the current flush.
+	 */
+	private List<UserExercise> drain(IntPredicate userSelector, Set<UserExercise> skipped) {
+		synchronized (pending) {
+			List<UserExercise> batch = new ArrayList<>(Math.min(batchSize, pendingCount));
+			Iterator<Map.Entry<Integer, Map<Integer, UserExercise>>> users = pending.entrySet().iterator();
+			while (users.hasNext() && batch.size() < batchSize) {
+				Map.Entry<Integer, Map<Integer, UserExercise>> user = users.next();
+				if (!userSelector.test(user.getKey())) {
+					continue;
+				}
+
+				Iterator<UserExercise> userExercises = user.getValue().values().iterator();
+				while (userExercises.hasNext() && batch.size() < batchSize) {
+					UserExercise userExercise = userExercises.next();
+					if (skipped.contains(userExercise)) {
+						continue;
+					}
+					userExercises.remove();
+					inFlight.computeIfAbsent(user.getKey(), userId -> new HashMap<>())
+						.put(userExercise.exercise().id(), userExercise);
+					batch.add(userExercise);
+				}
+				if (user.getValue().isEmpty()) {
+					users.remove();
+				}
+			}
+			pendingCount -= batch.size();
+			inFlightCount += batch.size();
+			return batch;
+		}
+	}
+
+	/**
+	 * Puts rejected rows back in the pending progress. A row rejected while others were stored is suspect and counts an
+	 * attempt; once suspect, every further failure counts, and the row is dropped after {@code maxAttempts}. Rows
+	 * that were never suspect and failed together with everything else are kept without counting, since the
+	 * repository was probably unavailable.
+	 */
+	private List<UserExercise> restoreRejected(
+		List<UserExercise> stored,
+		List<UserExercise> rejected,
+		boolean othersStored
+	) {
+		List<UserExercise> dropped = new ArrayList<>();
+		synchronized (pending) {
+			for (UserExercise userExercise : stored) {
+				failedAttempts.remove(RowKey.of(userExercise));
+			}
+			for (UserExercise userExercise : rejected) {
+				RowKey key = RowKey.of(userExercise);
+				Map<Integer, UserExercise> userExercises =
+					pending.computeIfAbsent(userExercise.userId(), userId -> new HashMap<>());
+				if (userExercises.containsKey(key.exerciseId())) {
+					// Saved again since it was drained; the newer progress gets its own attempts
+					continue;
+				}
+				Integer previousAttempts = failedAttempts.get(key);
+				if (previousAttempts == null && !othersStored) {
+					userExercises.put(key.exerciseId(), userExercise);
+					pendingCount++;
+					continue;
+				}
+
+				int attempts = previousAttempts == null ? 1 : previousAttempts + 1;
+				failedAttempts.put(key, attempts);
+				if (attempts >= maxAttempts) {
+					failedAttempts.remove(key);
+					dropped.add(userExercise);
+				} else {
+					userExercises.put(key.exerciseId(), userExercise);
+					pendingCount++;
+				}
+			}
+			pending.values().removeIf(Map::isEmpty);
+			inFlight.clear();
+			inFlightCount = 0;
+		}
+		return dropped;
+	}
+
+	private void complete(List<UserExercise> batch) {
+		synchronized (pending) {
+			if (!failedAttempts.isEmpty()) {
+				for (UserExercise userExercise : batch) {
+					failedAttempts.remove(RowKey.of(userExercise));
+				}
+			}
+			inFlight.clear();
+			inFlightCount = 0;
+		}
+	}
+
+	private Map<Integer, UserExercise> pendingByExerciseId(int userId) {
+		Map<Integer, UserExercise> result = new HashMap<>();
+		synchronized (pending) {
+			result.putAll(inFlight.getOrDefault(userId, Map.of()));
+			result.putAll(pending.getOrDefault(userId, Map.of()));
+		}
+		return result;
+	}
+
+	/**
+	 * Point-in-time counters of a {@link WriteBehindUserExerciseRepository}.
+	 *
+	 * @param pending        number of exercises whose progress has not been stored yet
+	 * @param flushes        number of batches stored
+	 * @param flushedRows    number of exercises stored through batches
+	 * @param failedFlushes  number of batches that could not be stored as a whole
+	 * @param droppedRows    number of exercises whose progress was dropped after being rejected too many times
+	 * @param flushTimeNanos total time spent storing batches, in nanoseconds
+	 */
+	public record WriteBehindStats(
+		int pending,
+		long flushes,
+		long flushedRows,
+		long failedFlushes,
+		long droppedRows,
+		long flushTimeNanos
+	) {
+	}
+
+	private record RowKey(int userId, int exerciseId) {
+
+		static RowKey of(UserExercise userExercise) {
+			return new RowKey(userExercise.userId(), userExercise.exercise().id());
+		}
+	}
+}
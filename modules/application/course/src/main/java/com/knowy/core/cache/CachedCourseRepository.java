@@ -0,0 +1,136 @@
+package com.knowy.core.cache;
+
+import com.knowy.core.domain.Category;
+import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseQuery;
+import com.knowy.core.domain.CourseUnidentifiedData;
+import com.knowy.core.domain.Pagination;
+import com.knowy.core.domain.Slice;
+import com.knowy.core.exception.KnowyCourseNotFound;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.sampling.CourseIdIndex;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * {@link CourseRepository} decorator that serves courses by ID from a {@link CatalogCache}.
+ * <p>
+ * Random samples are drawn from a cached {@link CourseIdIndex} and hydrated through the cache. Other randomized,
+ * paginated and user-dependent queries are always delegated.
+ */
+public class CachedCourseRepository implements CourseRepository {
+
+	static final String REGION = "course";
+	static final String ID_INDEX_REGION = "course-id-index";
+
+	private final CourseRepository courseRepository;
+	private final CatalogCache catalogCache;
+
+	public CachedCourseRepository(CourseRepository courseRepository, CatalogCache catalogCache) {
+		this.courseRepository = courseRepository;
+		this.catalogCache = catalogCache;
+	}
+
+	@Override
+	public <T extends CourseUnidentifiedData> List<Course> saveAll(List<T> courses) throws KnowyInconsistentDataException {
+		return courseRepository.saveAll(courses);
+	}
+
+	@Override
+	public Set<CourseNaturalKey> findExistingNaturalKeys(Collection<CourseNaturalKey> keys)
+		throws KnowyInconsistentDataException {
+		return courseRepository.findExistingNaturalKeys(keys);
+	}
+
+	@Override
+	public List<Course> findAllById(List<Integer> ids) throws KnowyInconsistentDataException {
+		Map<Integer, Course> courses = new HashMap<>();
+		List<Integer> missingIds = new ArrayList<>();
+		for (Integer id : ids) {
+			Optional<Course> cached = catalogCache.getIfPresent(REGION, id);
+			if (cached == null) {
+				missingIds.add(id);
+			} else {
+				cached.ifPresent(course -> courses.put(id, course));
+			}
+		}
+
+		if (!missingIds.isEmpty()) {
+			for (Course course : courseRepository.findAllById(missingIds)) {
+				catalogCache.put(REGION, course.id(), Optional.of(course));
+				courses.put(course.id(), course);
+			}
+		}
+
+		return ids.stream()
+			.map(courses::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	@Override
+	public List<Course> findAll(Pagination pagination) throws KnowyCourseNotFound {
+		return courseRepository.findAll(pagination);
+	}
+
+	@Override
+	public Slice<Course> findAll(CourseQuery query) throws KnowyInconsistentDataException {
+		return courseRepository.findAll(query);
+	}
+
+	@Override
+	public Set<Course> findInRandomOrder(int numOfRecords) throws KnowyInconsistentDataException {
+		return courseRepository.findInRandomOrder(numOfRecords);
+	}
+
+	@Override
+	public List<Course> findAllRandomOrder() throws KnowyInconsistentDataException {
+		return courseRepository.findAllRandomOrder();
+	}
+
+	@Override
+	public Stream<Course> findAllStreamingInRandomOrder() {
+		return courseRepository.findAllStreamingInRandomOrder();
+	}
+
+	@Override
+	public List<Course> sample(int numOfRecords) throws KnowyInconsistentDataException {
+		return findAllById(findIdIndex().sample(numOfRecords, ThreadLocalRandom.current()));
+	}
+
+	@Override
+	public List<Course> sampleByCategories(int numOfRecords, Collection<Category> categories)
+		throws KnowyInconsistentDataException {
+
+		return findAllById(findIdIndex().sampleByCategories(numOfRecords, categories, ThreadLocalRandom.current()));
+	}
+
+	@Override
+	public CourseIdIndex findIdIndex() throws KnowyInconsistentDataException {
+		return catalogCache.get(ID_INDEX_REGION, ID_INDEX_REGION, courseRepository::findIdIndex);
+	}
+
+	@Override
+	public Set<Course> findAllWhereUserIsSubscribed(int userId) throws KnowyInconsistentDataException {
+		return courseRepository.findAllWhereUserIsSubscribed(userId);
+	}
+
+	@Override
+	public Stream<Course> findByCategoriesStreamingInRandomOrder(Collection<Category> categories) {
+		return courseRepository.findByCategoriesStreamingInRandomOrder(categories);
+	}
+
+	@Override
+	public Optional<Course> findById(Integer id) throws KnowyInconsistentDataException {
+		return catalogCache.get(REGION, id, () -> courseRepository.findById(id));
+	}
+
+	@Override
+	public OptionalInt findCourseIdByLessonId(int lessonId) throws KnowyInconsistentDataException {
+		return courseRepository.findCourseIdByLessonId(lessonId);
+	}
+}
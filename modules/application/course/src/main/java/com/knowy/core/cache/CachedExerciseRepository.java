@@ -0,0 +1,27 @@
+package com.knowy.core.cache;
+
+import com.knowy.core.domain.Exercise;
+import com.knowy.core.port.ExerciseRepository;
+
+import java.util.Optional;
+
+/**
+ * {@link ExerciseRepository} decorator that serves exercises from a {@link CatalogCache}.
+ */
+public class CachedExerciseRepository implements ExerciseRepository {
+
+	static final String REGION = "exercise";
+
+	private final ExerciseRepository exerciseRepository;
+	private final CatalogCache catalogCache;
+
+	public CachedExerciseRepository(ExerciseRepository exerciseRepository, CatalogCache catalogCache) {
+		this.exerciseRepository = exerciseRepository;
+		this.catalogCache = catalogCache;
+	}
+
+	@Override
+	public Optional<Exercise> findById(int id) {
+		return catalogCache.get(REGION, id, () -> exerciseRepository.findById(id));
+	}
+}
@@ -0,0 +1,28 @@
+package com.knowy.core.cache;
+
+import com.knowy.core.domain.LessonInfo;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.port.LessonBaseRepository;
+
+import java.util.Optional;
+
+/**
+ * {@link LessonBaseRepository} decorator that serves lesson summaries from a {@link CatalogCache}.
+ */
+public class CachedLessonBaseRepository implements LessonBaseRepository {
+
+	static final String REGION = "lesson-info";
+
+	private final LessonBaseRepository lessonBaseRepository;
+	private final CatalogCache catalogCache;
+
+	public CachedLessonBaseRepository(LessonBaseRepository lessonBaseRepository, CatalogCache catalogCache) {
+		this.lessonBaseRepository = lessonBaseRepository;
+		this.catalogCache = catalogCache;
+	}
+
+	@Override
+	public Optional<LessonInfo> findById(int lessonId) throws KnowyDataAccessException {
+		return catalogCache.get(REGION, lessonId, () -> lessonBaseRepository.findById(lessonId));
+	}
+}
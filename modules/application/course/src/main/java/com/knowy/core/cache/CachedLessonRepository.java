@@ -0,0 +1,44 @@
+package com.knowy.core.cache;
+
+import com.knowy.core.domain.Lesson;
+import com.knowy.core.port.LessonRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link LessonRepository} decorator that serves lessons by ID and by course from a {@link CatalogCache}.
+ * <p>
+ * User-dependent queries are always delegated.
+ */
+public class CachedLessonRepository implements LessonRepository {
+
+	static final String REGION = "lesson";
+	static final String COURSE_LESSONS_REGION = "course-lessons";
+
+	private final LessonRepository lessonRepository;
+	private final CatalogCache catalogCache;
+
+	public CachedLessonRepository(LessonRepository lessonRepository, CatalogCache catalogCache) {
+		this.lessonRepository = lessonRepository;
+		this.catalogCache = catalogCache;
+	}
+
+	@Override
+	public List<Lesson> findAllByCourseId(Integer courseId) {
+		return catalogCache.get(
+			COURSE_LESSONS_REGION, courseId, () -> List.copyOf(lessonRepository.findAllByCourseId(courseId))
+		);
+	}
+
+	@Override
+	public Optional<Lesson> findById(Integer id) {
+		return catalogCache.get(REGION, id, () -> lessonRepository.findById(id));
+	}
+
+	@Override
+	public Set<Lesson> findAllWhereUserIsSubscribedTo(int userId) {
+		return lessonRepository.findAllWhereUserIsSubscribedTo(userId);
+	}
+}
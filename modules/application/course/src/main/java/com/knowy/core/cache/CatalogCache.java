@@ -0,0 +1,187 @@
+package com.knowy.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, versioned cache for course catalog domain records (courses, lessons and exercises).
+ * <p>
+ * Catalog content only changes when courses are imported, so entries never expire on their own: they are dropped in
+ * least-recently-used order once {@code maxEntries} is exceeded, and all of them at once through
+ * {@link #invalidateAll()}. Every invalidation bumps the cache version; a value loaded while an invalidation happened
+ * is returned to its caller but not stored, so stale content cannot survive an import.
+ * <p>
+ * Absent values, either {@code null} or an empty {@link Optional}, are never stored: a record that does not exist yet
+ * must become visible as soon as it is created, without waiting for the next invalidation.
+ * <p>
+ * Invalidation is local to the JVM that owns the cache. This is only correct while catalog content is written by the
+ * same node that serves it, which is the case for the importer running inside the application; deployments with
+ * several application nodes must disable the cache ({@code maxEntries = 0}) or import on every node.
+ */
+public class CatalogCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 5_000;
+
+	private final int maxEntries;
+	private final Map<Key, Object> entries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private long version;
+
+	/**
+	 * Creates a cache that holds up to {@link #DEFAULT_MAX_ENTRIES} entries.
+	 */
+	public CatalogCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Creates a cache that holds up to {@code maxEntries} entries.
+	 *
+	 * @param maxEntries maximum number of entries kept across all regions; {@code 0} disables caching
+	 */
+	public CatalogCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				if (size() > CatalogCache.this.maxEntries) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached value for the given region and id, loading and storing it on a miss.
+	 *
+	 * @param region name of the kind of record, such as {@code "course"}
+	 * @param id     identifier of the record within its region
+	 * @param loader loads the value from the underlying repository on a miss
+	 * @param <V>    type of the cached value
+	 * @param <E>    type of the exception thrown by the loader
+	 * @return the cached or freshly loaded value
+	 * @throws E if the loader fails
+	 */
+	@SuppressWarnings("unchecked")
+	public <V, E extends Exception> V get(String region, Object id, Loader<V, E> loader) throws E {
+		Key key = new Key(region, id);
+		long loadVersion;
+		synchronized (entries) {
+			Object value = entries.get(key);
+			if (value != null) {
+				hits.increment();
+				return (V) value;
+			}
+			loadVersion = version;
+		}
+
+		misses.increment();
+		V value = loader.load();
+		put(key, value, loadVersion);
+		return value;
+	}
+
+	/**
+	 * Returns the cached value for the given region and id without loading it.
+	 *
+	 * @param region name of the kind of record
+	 * @param id     identifier of the record within its region
+	 * @param <V>    type of the cached value
+	 * @return the cached value, or {@code null} if it is not cached
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V getIfPresent(String region, Object id) {
+		synchronized (entries) {
+			Object value = entries.get(new Key(region, id));
+			if (value == null) {
+				misses.increment();
+			} else {
+				hits.increment();
+			}
+			return (V) value;
+		}
+	}
+
+	/**
+	 * Stores a value loaded outside {@link #get(String, Object, Loader)}, such as one returned by a bulk query.
+	 *
+	 * @param region name of the kind of record
+	 * @param id     identifier of the record within its region
+	 * @param value  the value to store
+	 */
+	public void put(String region, Object id, Object value) {
+		long currentVersion;
+		synchronized (entries) {
+			currentVersion = version;
+		}
+		put(new Key(region, id), value, currentVersion);
+	}
+
+	/**
+	 * Drops every entry and bumps the cache version. Must be called whenever catalog content changes.
+	 */
+	public void invalidateAll() {
+		synchronized (entries) {
+			version++;
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the cache counters.
+	 *
+	 * @return the current hit, miss and eviction counts together with the size and version of the cache
+	 */
+	public CatalogCacheStats stats() {
+		synchronized (entries) {
+			return new CatalogCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), version);
+		}
+	}
+
+	private void put(Key key, Object value, long loadVersion) {
+		if (isAbsent(value) || maxEntries <= 0) {
+			return;
+		}
+		synchronized (entries) {
+			if (loadVersion == version) {
+				entries.put(key, value);
+			}
+		}
+	}
+
+	private static boolean isAbsent(Object value) {
+		return value == null || value instanceof Optional<?> optional && optional.isEmpty();
+	}
+
+	/**
+	 * Loads a value on a cache miss.
+	 *
+	 * @param <V> type of the loaded value
+	 * @param <E> type of the exception thrown while loading
+	 */
+	@FunctionalInterface
+	public interface Loader<V, E extends Exception> {
+		V load() throws E;
+	}
+
+	/**
+	 * Point-in-time counters of a {@link CatalogCache}.
+	 *
+	 * @param hits      number of lookups served from the cache
+	 * @param misses    number of lookups that had to be loaded
+	 * @param evictions number of entries dropped to respect the size bound
+	 * @param size      current number of entries
+	 * @param version   number of invalidations since the cache was created
+	 */
+	public record CatalogCacheStats(long hits, long misses, long evictions, int size, long version) {
+	}
+
+	private record Key(String region, Object id) {
+	}
+}
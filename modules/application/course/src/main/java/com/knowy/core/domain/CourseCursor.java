@@ -0,0 +1,69 @@
+package com.knowy.core.domain;
+
+import com.knowy.core.exception.KnowyIllegalArgumentRuntimeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last course of a slice, used to read the courses that follow it in a {@link CourseSort} order.
+ * <p>
+ * A cursor holds the sort key of the course (its title and ID), so the next slice is read by seeking past it instead
+ * of skipping an offset. It is exchanged with clients as an opaque URL-safe token through {@link #encode()} and
+ * {@link #decode(String)}.
+ *
+ * @param title the title of the last course read
+ * @param id    the ID of the last course read
+ */
+public record CourseCursor(String title, int id) {
+
+	private static final char SEPARATOR = ':';
+
+	public CourseCursor {
+		if (title == null) {
+			throw new KnowyIllegalArgumentRuntimeException("Cursor title cannot be null");
+		}
+	}
+
+	/**
+	 * Creates the cursor positioned on the given course.
+	 *
+	 * @param course the last course read
+	 * @return a cursor to read the courses after it
+	 */
+	public static CourseCursor after(Course course) {
+		return new CourseCursor(course.title(), course.id());
+	}
+
+	/**
+	 * Encodes the cursor as an opaque URL-safe token.
+	 *
+	 * @return the encoded cursor
+	 */
+	public String encode() {
+		String value = id + String.valueOf(SEPARATOR) + title;
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}.
+	 *
+	 * @param token the encoded cursor
+	 * @return the decoded cursor
+	 * @throws KnowyIllegalArgumentRuntimeException if the token is not a valid cursor
+	 */
+	public static CourseCursor decode(String token) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = value.indexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new KnowyIllegalArgumentRuntimeException("Invalid course cursor: " + token);
+			}
+			return new CourseCursor(value.substring(separator + 1), Integer.parseInt(value.substring(0, separator)));
+		} catch (IllegalArgumentException e) {
+			throw new KnowyIllegalArgumentRuntimeException("Invalid course cursor: " + token, e);
+		}
+	}
+}
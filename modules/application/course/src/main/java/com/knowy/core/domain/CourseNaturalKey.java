@@ -0,0 +1,21 @@
+package com.knowy.core.domain;
+
+/**
+ * Identifies a course by the fields an import source gives it, so the same course is recognized across imports even
+ * though it has no ID in the source.
+ *
+ * @param title  the title of the course
+ * @param author the author of the course
+ */
+public record CourseNaturalKey(String title, String author) {
+
+	/**
+	 * Returns the natural key of the given course data.
+	 *
+	 * @param course the course data
+	 * @return its title and author
+	 */
+	public static CourseNaturalKey of(CourseUnidentifiedData course) {
+		return new CourseNaturalKey(course.title(), course.author());
+	}
+}
@@ -0,0 +1,49 @@
+package com.knowy.core.domain;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What the course introduction and lesson pages show of a course for a user: the course header, the outline of its
+ * lessons with the user's progress and, on a lesson page, the content of that single lesson.
+ *
+ * @param courseId      the ID of the course
+ * @param title         the title of the course
+ * @param description   the description of the course
+ * @param image         the image of the course
+ * @param categories    the categories of the course
+ * @param lessons       the lessons the user follows in the course, in course order
+ * @param currentLesson the lesson shown with its explanation, exercises and documentations, or {@code null} on the
+ *                      course introduction
+ */
+public record CourseOutlineView(
+	int courseId,
+	String title,
+	String description,
+	String image,
+	Set<Category> categories,
+	List<LessonOutline> lessons,
+	Lesson currentLesson
+) {
+
+	public CourseOutlineView {
+		categories = Set.copyOf(categories);
+		lessons = List.copyOf(lessons);
+	}
+
+	/**
+	 * A lesson of the outline, without its explanation and exercises.
+	 *
+	 * @param id             the ID of the lesson
+	 * @param title          the title of the lesson
+	 * @param status         the progress of the user in the lesson
+	 * @param documentations the documentation links of the lesson
+	 */
+	public record LessonOutline(
+		int id,
+		String title,
+		UserLesson.ProgressStatus status,
+		Set<Documentation> documentations
+	) {
+	}
+}
@@ -0,0 +1,40 @@
+package com.knowy.core.domain;
+
+/**
+ * Read model with the number of lessons a user has in each status within a subscribed course.
+ *
+ * @param courseId          the ID of the course
+ * @param pendingLessons    number of lessons not started yet
+ * @param inProgressLessons number of lessons started but not completed
+ * @param completedLessons  number of completed lessons
+ */
+public record CourseProgressSummary(
+	int courseId,
+	int pendingLessons,
+	int inProgressLessons,
+	int completedLessons
+) {
+
+	/**
+	 * Returns the number of lessons of the course the user is subscribed to.
+	 *
+	 * @return the sum of pending, in progress and completed lessons
+	 */
+	public int totalLessons() {
+		return pendingLessons + inProgressLessons + completedLessons;
+	}
+
+	/**
+	 * Calculates the progress of the user in the course, counting completed lessons as {@code 1.0}, lessons in progress
+	 * as {@code 0.5} and pending lessons as {@code 0.0}.
+	 *
+	 * @return the average progress of the lessons, or {@code 0.0} if the course has no lessons
+	 */
+	public float progress() {
+		int totalLessons = totalLessons();
+		if (totalLessons == 0) {
+			return 0.0f;
+		}
+		return (float) ((completedLessons + inProgressLessons * 0.5) / totalLessons);
+	}
+}
@@ -0,0 +1,31 @@
+package com.knowy.core.domain;
+
+import com.knowy.core.exception.KnowyIllegalArgumentRuntimeException;
+
+/**
+ * Criteria to browse the catalog one slice at a time.
+ *
+ * @param categoryId           the ID of the category the courses must belong to, or {@code null} for any category
+ * @param sort                 the order of the courses
+ * @param excludedSubscriberId the ID of a user whose subscribed courses are left out, or {@code null} to keep them
+ * @param after                the position of the last course of the previous slice, or {@code null} for the first
+ *                             slice
+ * @param size                 the maximum number of courses of the slice, must be greater than 0
+ */
+public record CourseQuery(
+	Integer categoryId,
+	CourseSort sort,
+	Integer excludedSubscriberId,
+	CourseCursor after,
+	int size
+) {
+
+	public CourseQuery {
+		if (sort == null) {
+			throw new KnowyIllegalArgumentRuntimeException("Sort cannot be null");
+		}
+		if (size <= 0) {
+			throw new KnowyIllegalArgumentRuntimeException("Size must be positive: " + size);
+		}
+	}
+}
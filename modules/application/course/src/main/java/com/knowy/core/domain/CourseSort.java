@@ -0,0 +1,45 @@
+package com.knowy.core.domain;
+
+/**
+ * Orders in which the catalog can be browsed. Every order is made total by breaking ties on the course ID, so it can
+ * be paginated with a {@link CourseCursor}.
+ */
+public enum CourseSort {
+
+	TITLE_ASC(true, true),
+	TITLE_DESC(true, false),
+	/**
+	 * Oldest first. Course IDs are assigned in publication order, so the ID alone is the sort key.
+	 */
+	PUBLICATION_ASC(false, true),
+	/**
+	 * Newest first. Course IDs are assigned in publication order, so the ID alone is the sort key.
+	 */
+	PUBLICATION_DESC(false, false);
+
+	private final boolean byTitle;
+	private final boolean ascending;
+
+	CourseSort(boolean byTitle, boolean ascending) {
+		this.byTitle = byTitle;
+		this.ascending = ascending;
+	}
+
+	/**
+	 * Returns whether courses are sorted by title before their ID.
+	 *
+	 * @return {@code true} if the title is part of the sort key
+	 */
+	public boolean byTitle() {
+		return byTitle;
+	}
+
+	/**
+	 * Returns whether the sort key is ascending.
+	 *
+	 * @return {@code true} for ascending orders, {@code false} for descending ones
+	 */
+	public boolean ascending() {
+		return ascending;
+	}
+}
@@ -0,0 +1,38 @@
+package com.knowy.core.domain;
+
+import java.util.List;
+
+/**
+ * What the exercise page shows of an exercise for a user: the exercise with its options, the title of its course and
+ * the user's rate, without the rest of the lesson and course trees.
+ *
+ * @param exerciseId  the ID of the exercise
+ * @param lessonId    the ID of the lesson of the exercise
+ * @param courseTitle the title of the course of the lesson
+ * @param statement   the statement of the exercise
+ * @param options     the options of the exercise
+ * @param rate        the rate of the user on the exercise, {@code 0} if the user has never answered it
+ */
+public record ExercisePageView(
+	int exerciseId,
+	int lessonId,
+	String courseTitle,
+	String statement,
+	List<Option> options,
+	int rate
+) {
+
+	public ExercisePageView {
+		options = List.copyOf(options);
+	}
+
+	/**
+	 * Returns a copy of this view with another rate.
+	 *
+	 * @param rate the rate of the user on the exercise
+	 * @return the view with the given rate
+	 */
+	public ExercisePageView withRate(int rate) {
+		return new ExercisePageView(exerciseId, lessonId, courseTitle, statement, options, rate);
+	}
+}
@@ -2,10 +2,14 @@ package com.knowy.core.port;
 
 import com.knowy.core.domain.Category;
 import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseQuery;
 import com.knowy.core.domain.CourseUnidentifiedData;
 import com.knowy.core.domain.Pagination;
+import com.knowy.core.domain.Slice;
 import com.knowy.core.exception.KnowyCourseNotFound;
 import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.sampling.CourseIdIndex;
 
 import java.util.*;
 import java.util.stream.Stream;
@@ -14,16 +18,45 @@ public interface CourseRepository {
 
 	<T extends CourseUnidentifiedData> List<Course> saveAll(List<T> courses) throws KnowyInconsistentDataException;
 
+	/**
+	 * Returns the courses with the given IDs in the order of {@code ids}, skipping IDs without a course.
+	 */
 	List<Course> findAllById(List<Integer> ids) throws KnowyInconsistentDataException;
 
+	/**
+	 * Returns the given keys that belong to a stored course, reading all of them in a single query.
+	 */
+	Set<CourseNaturalKey> findExistingNaturalKeys(Collection<CourseNaturalKey> keys)
+		throws KnowyInconsistentDataException;
+
 	List<Course> findAll(Pagination pagination) throws KnowyCourseNotFound;
 
+	/**
+	 * Returns the slice of courses that match the query, in the query order and starting after its cursor. The slice
+	 * is read with keyset pagination, so its cost does not grow with the position in the catalog and no total count is
+	 * computed.
+	 */
+	Slice<Course> findAll(CourseQuery query) throws KnowyInconsistentDataException;
+
 	Set<Course> findInRandomOrder(int numOfRecords) throws KnowyInconsistentDataException;
 
 	List<Course> findAllRandomOrder() throws KnowyInconsistentDataException;
 
 	Stream<Course> findAllStreamingInRandomOrder();
 
+	/**
+	 * Returns up to {@code numOfRecords} distinct random courses without sorting the whole catalog.
+	 */
+	List<Course> sample(int numOfRecords) throws KnowyInconsistentDataException;
+
+	/**
+	 * Returns up to {@code numOfRecords} distinct random courses that belong to any of the given categories.
+	 */
+	List<Course> sampleByCategories(int numOfRecords, Collection<Category> categories)
+		throws KnowyInconsistentDataException;
+
+	CourseIdIndex findIdIndex() throws KnowyInconsistentDataException;
+
 	Set<Course> findAllWhereUserIsSubscribed(int userId) throws KnowyInconsistentDataException;
 
 	Stream<Course> findByCategoriesStreamingInRandomOrder(Collection<Category> categories);
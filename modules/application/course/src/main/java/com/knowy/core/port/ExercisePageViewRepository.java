@@ -0,0 +1,18 @@
+package com.knowy.core.port;
+
+import com.knowy.core.domain.ExercisePageView;
+import com.knowy.core.exception.KnowyDataAccessException;
+
+import java.util.Optional;
+
+public interface ExercisePageViewRepository {
+
+	/**
+	 * Returns the exercise page of a user, read in a single round trip.
+	 *
+	 * @param userId     the ID of the user
+	 * @param exerciseId the ID of the exercise
+	 * @return the page, or empty if the exercise does not exist or the user has not started its lesson
+	 */
+	Optional<ExercisePageView> findByUserIdAndExerciseId(int userId, int exerciseId) throws KnowyDataAccessException;
+}
@@ -3,6 +3,7 @@ package com.knowy.core.port;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,8 @@ public interface UserExerciseRepository {
 
 	UserExercise save(UserExercise userExercise) throws KnowyDataAccessException;
 
+	List<UserExercise> saveAll(Collection<UserExercise> userExercises) throws KnowyDataAccessException;
+
 	Optional<UserExercise> findById(int userId, int exerciseId) throws KnowyDataAccessException;
 
 	List<UserExercise> findAll() throws KnowyDataAccessException;
@@ -19,4 +22,10 @@ public interface UserExerciseRepository {
 	Optional<UserExercise> findNextExerciseByLessonId(int publicUserId, int lessonId) throws KnowyDataAccessException;
 
 	Optional<UserExercise> findNextExerciseByUserId(int userId) throws KnowyDataAccessException;
+
+	/**
+	 * Returns every exercise of the lessons the user has started, with a {@code null} next review date and a rate of
+	 * {@code 0} for those the user has never answered.
+	 */
+	List<UserExercise> findAllReviewCandidatesByUserId(int userId) throws KnowyDataAccessException;
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.knowy.core.port;
 
 
+import com.knowy.core.domain.CourseProgressSummary;
 import com.knowy.core.domain.UserLesson;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserLessonRepository {
@@ -16,8 +18,20 @@ public interface UserLessonRepository {
 
 	List<UserLesson> findAllByUserIdAndCourseId(int userId, int courseId) throws KnowyInconsistentDataException;
 
+	/**
+	 * Returns the progress of the user in each lesson of the course the user follows, keyed by lesson ID, without
+	 * loading the lessons.
+	 */
+	Map<Integer, UserLesson.ProgressStatus> findAllStatusesByUserIdAndCourseId(int userId, int courseId)
+		throws KnowyInconsistentDataException;
+
 	List<UserLesson> findAllWhereUserIsSubscribed(int userId) throws KnowyInconsistentDataException;
 
+	/**
+	 * Returns, for every course the user is subscribed to, the number of lessons in each status.
+	 */
+	List<CourseProgressSummary> findAllCourseProgressSummariesByUserId(int userId) throws KnowyInconsistentDataException;
+
 	UserLesson save(UserLesson userLesson) throws KnowyInconsistentDataException;
 
 	List<UserLesson> saveAll(Collection<UserLesson> userLessons) throws KnowyInconsistentDataException;
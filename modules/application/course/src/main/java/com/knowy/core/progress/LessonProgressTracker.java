@@ -0,0 +1,144 @@
+package com.knowy.core.progress;
+
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.domain.UserLesson;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.UserExerciseRepository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a running aggregate of the rates a user has earned in a lesson so that the lesson progress can be updated in
+ * constant time after every answer.
+ * <p>
+ * The aggregate of a user-lesson is loaded from the {@link UserExerciseRepository} the first time one of its exercises
+ * is answered; from then on each answer only replaces the rate of its exercise and adjusts the sum of rates by the
+ * difference. The progress matches {@link UserLesson#calculateLessonProgressById(List)} over the answered exercises of
+ * the lesson.
+ * <p>
+ * At most {@code maxActiveLessons} user-lessons are kept in memory; the least recently answered one is dropped when the
+ * limit is exceeded. A tracker created with {@code maxActiveLessons <= 0} keeps nothing in memory and reloads the
+ * exercises of the lesson on every answer.
+ */
+public class LessonProgressTracker {
+
+	public static final int DEFAULT_MAX_ACTIVE_LESSONS = 50_000;
+
+	private final UserExerciseRepository userExerciseRepository;
+	private final int maxActiveLessons;
+	private final Map<Key, LessonRates> activeLessons;
+
+	/**
+	 * Creates a tracker that keeps up to {@link #DEFAULT_MAX_ACTIVE_LESSONS} user-lessons in memory.
+	 *
+	 * @param userExerciseRepository repository used to load the answered exercises of a lesson
+	 */
+	public LessonProgressTracker(UserExerciseRepository userExerciseRepository) {
+		this(userExerciseRepository, DEFAULT_MAX_ACTIVE_LESSONS);
+	}
+
+	/**
+	 * Creates a tracker that keeps up to {@code maxActiveLessons} user-lessons in memory.
+	 *
+	 * @param userExerciseRepository repository used to load the answered exercises of a lesson
+	 * @param maxActiveLessons       maximum number of user-lessons whose aggregate is kept in memory; {@code 0} or less
+	 *                               disables the aggregates
+	 */
+	public LessonProgressTracker(UserExerciseRepository userExerciseRepository, int maxActiveLessons) {
+		this.userExerciseRepository = userExerciseRepository;
+		this.maxActiveLessons = maxActiveLessons;
+		this.activeLessons = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, LessonRates> eldest) {
+				return size() > LessonProgressTracker.this.maxActiveLessons;
+			}
+		};
+	}
+
+	/**
+	 * Applies an answered exercise to the progress of its lesson.
+	 * <p>
+	 * Must be called after the exercise has been saved, so that a lesson loaded for the first time already includes it.
+	 *
+	 * @param userExercise the answered exercise with its updated rate
+	 * @return the lesson progress as a double between {@code 0.0} and {@code 1.0}
+	 * @throws KnowyDataAccessException       if the answered exercises of the lesson cannot be loaded
+	 * @throws KnowyInconsistentDataException if the lesson has no answered exercises once loaded
+	 */
+	public double record(UserExercise userExercise) throws KnowyDataAccessException {
+		int userId = userExercise.userId();
+		int lessonId = userExercise.exercise().lessonId();
+		if (!isEnabled()) {
+			return LessonRates.load(userExerciseRepository, userId, lessonId).progress();
+		}
+
+		Key key = new Key(userId, lessonId);
+		LessonRates lessonRates;
+		synchronized (activeLessons) {
+			lessonRates = activeLessons.get(key);
+		}
+
+		if (lessonRates == null) {
+			lessonRates = LessonRates.load(userExerciseRepository, userId, lessonId);
+			synchronized (activeLessons) {
+				LessonRates concurrentlyLoaded = activeLessons.putIfAbsent(key, lessonRates);
+				if (concurrentlyLoaded != null) {
+					lessonRates = concurrentlyLoaded;
+				}
+			}
+		}
+
+		synchronized (lessonRates) {
+			lessonRates.update(userExercise.exercise().id(), userExercise.rate());
+			return lessonRates.progress();
+		}
+	}
+
+	private boolean isEnabled() {
+		return maxActiveLessons > 0;
+	}
+
+	private record Key(int userId, int lessonId) {
+	}
+
+	private static final class LessonRates {
+
+		private final Map<Integer, Integer> ratesByExerciseId;
+		private long rateSum;
+
+		private LessonRates(Map<Integer, Integer> ratesByExerciseId, long rateSum) {
+			this.ratesByExerciseId = ratesByExerciseId;
+			this.rateSum = rateSum;
+		}
+
+		private static LessonRates load(UserExerciseRepository userExerciseRepository, int userId, int lessonId)
+			throws KnowyDataAccessException {
+
+			List<UserExercise> userExercises = userExerciseRepository.findAllByUserIdAndLessonId(userId, lessonId);
+			if (userExercises.isEmpty()) {
+				throw new KnowyInconsistentDataException("Expected user exercises, but list is empty: " + userExercises);
+			}
+
+			Map<Integer, Integer> ratesByExerciseId = new HashMap<>();
+			long rateSum = 0;
+			for (UserExercise userExercise : userExercises) {
+				Integer previousRate = ratesByExerciseId.put(userExercise.exercise().id(), userExercise.rate());
+				rateSum += userExercise.rate() - (previousRate == null ? 0 : previousRate);
+			}
+			return new LessonRates(ratesByExerciseId, rateSum);
+		}
+
+		private void update(int exerciseId, int rate) {
+			Integer previousRate = ratesByExerciseId.put(exerciseId, rate);
+			rateSum += rate - (previousRate == null ? 0 : previousRate);
+		}
+
+		private double progress() {
+			return (double) rateSum / ratesByExerciseId.size() / 100;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+package com.knowy.core.recommendation;
+
+import com.knowy.core.domain.Category;
+import com.knowy.core.domain.Course;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.UserLessonRepository;
+import com.knowy.core.sampling.CourseIdIndex;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Recommends courses to a user by scoring the courses they are not subscribed to by how many of the user's categories
+ * they belong to.
+ * <p>
+ * Candidates are gathered from the category postings of the catalog {@link CourseIdIndex}, so only courses sharing at
+ * least one category with the user are scored, and the best {@code k} are kept in a bounded heap. Ties are broken at
+ * random to keep recommendations varied. When fewer than {@code k} courses share a category with the user, the rest
+ * is filled with random courses of the catalog. Only the recommended courses are loaded.
+ * <p>
+ * The courses each user is subscribed to are kept as a bitset of course IDs, loaded the first time the user asks for
+ * recommendations and updated in place through {@link #subscribed(int, int)}. At most {@code maxActiveUsers} users
+ * are kept in memory; the least recently used one is dropped when the limit is exceeded. A recommender created with
+ * {@code maxActiveUsers <= 0} reloads the subscribed courses on every request.
+ */
+public class CourseRecommender {
+
+	public static final int DEFAULT_MAX_ACTIVE_USERS = 10_000;
+
+	private final CourseRepository courseRepository;
+	private final UserLessonRepository userLessonRepository;
+	private final int maxActiveUsers;
+	private final Map<Integer, BitSet> subscribedCourseIds;
+
+	/**
+	 * Creates a recommender that keeps the subscriptions of up to {@link #DEFAULT_MAX_ACTIVE_USERS} users in memory.
+	 *
+	 * @param courseRepository     repository used to read the catalog index and load the recommended courses
+	 * @param userLessonRepository repository used to load the courses a user is subscribed to
+	 */
+	public CourseRecommender(CourseRepository courseRepository, UserLessonRepository userLessonRepository) {
+		this(courseRepository, userLessonRepository, DEFAULT_MAX_ACTIVE_USERS);
+	}
+
+	/**
+	 * Creates a recommender that keeps the subscriptions of up to {@code maxActiveUsers} users in memory.
+	 *
+	 * @param courseRepository     repository used to read the catalog index and load the recommended courses
+	 * @param userLessonRepository repository used to load the courses a user is subscribed to
+	 * @param maxActiveUsers       maximum number of users whose subscriptions are kept in memory; {@code 0} or less
+	 *                             disables the in-memory subscriptions
+	 */
+	public CourseRecommender(
+		CourseRepository courseRepository,
+		UserLessonRepository userLessonRepository,
+		int maxActiveUsers
+	) {
+		this.courseRepository = courseRepository;
+		this.userLessonRepository = userLessonRepository;
+		this.maxActiveUsers = maxActiveUsers;
+		this.subscribedCourseIds = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, BitSet> eldest) {
+				return size() > CourseRecommender.this.maxActiveUsers;
+			}
+		};
+	}
+
+	/**
+	 * Returns up to {@code k} courses the user is not subscribed to, best category match first.
+	 *
+	 * @param userId     the ID of the user
+	 * @param categories the categories the user is interested in
+	 * @param k          the maximum number of courses to return
+	 * @return the recommended courses
+	 * @throws KnowyInconsistentDataException if the catalog or the user's subscriptions cannot be read
+	 */
+	public List<Course> recommend(int userId, Collection<Category> categories, int k)
+		throws KnowyInconsistentDataException {
+
+		if (k <= 0) {
+			return List.of();
+		}
+
+		CourseIdIndex courseIdIndex = courseRepository.findIdIndex();
+		BitSet subscribed = getSubscribedCourseIds(userId);
+		RandomGenerator random = ThreadLocalRandom.current();
+
+		Map<Integer, Integer> categoryMatches = new HashMap<>();
+		for (Category category : categories) {
+			courseIdIndex.forEachCourseId(category, courseId -> {
+				if (!subscribed.get(courseId)) {
+					categoryMatches.merge(courseId, 1, Integer::sum);
+				}
+			});
+		}
+
+		List<Integer> recommendedIds = topByCategoryMatches(categoryMatches, k, random);
+		if (recommendedIds.size() < k) {
+			fillWithRandomCourses(recommendedIds, courseIdIndex, subscribed, k, random);
+		}
+		return loadInOrder(recommendedIds);
+	}
+
+	/**
+	 * Records a new subscription so that the course is no longer recommended to the user.
+	 *
+	 * @param userId   the ID of the user
+	 * @param courseId the ID of the course the user has subscribed to
+	 */
+	public void subscribed(int userId, int courseId) {
+		BitSet subscribed;
+		synchronized (subscribedCourseIds) {
+			subscribed = subscribedCourseIds.get(userId);
+		}
+		if (subscribed != null) {
+			synchronized (subscribed) {
+				subscribed.set(courseId);
+			}
+		}
+	}
+
+	private BitSet getSubscribedCourseIds(int userId) throws KnowyInconsistentDataException {
+		if (maxActiveUsers <= 0) {
+			return loadSubscribedCourseIds(userId);
+		}
+
+		BitSet subscribed;
+		synchronized (subscribedCourseIds) {
+			subscribed = subscribedCourseIds.get(userId);
+		}
+		if (subscribed == null) {
+			subscribed = loadSubscribedCourseIds(userId);
+			synchronized (subscribedCourseIds) {
+				BitSet concurrentlyLoaded = subscribedCourseIds.putIfAbsent(userId, subscribed);
+				if (concurrentlyLoaded != null) {
+					subscribed = concurrentlyLoaded;
+				}
+			}
+		}
+
+		synchronized (subscribed) {
+			return (BitSet) subscribed.clone();
+		}
+	}
+
+	private BitSet loadSubscribedCourseIds(int userId) throws KnowyInconsistentDataException {
+		BitSet subscribed = new BitSet();
+		for (Integer courseId : userLessonRepository.findCourseIdsByUserId(userId)) {
+			subscribed.set(courseId);
+		}
+		return subscribed;
+	}
+
+	private static List<Integer> topByCategoryMatches(
+		Map<Integer, Integer> categoryMatches,
+		int k,
+		RandomGenerator random
+	) {
+		PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1);
+		categoryMatches.forEach((courseId, matches) -> {
+			best.offer(new Candidate(courseId, matches, random.nextLong()));
+			if (best.size() > k) {
+				best.poll();
+			}
+		});
+
+		List<Integer> recommendedIds = new ArrayList<>(k);
+		while (!best.isEmpty()) {
+			recommendedIds.add(best.poll().courseId());
+		}
+		Collections.reverse(recommendedIds);
+		return recommendedIds;
+	}
+
+	private static void fillWithRandomCourses(
+		List<Integer> recommendedIds,
+		CourseIdIndex courseIdIndex,
+		BitSet subscribed,
+		int k,
+		RandomGenerator random
+	) {
+		Set<Integer> alreadyRecommended = new HashSet<>(recommendedIds);
+		int sampleSize = k + recommendedIds.size() + subscribed.cardinality();
+		for (Integer courseId : courseIdIndex.sample(sampleSize, random)) {
+			if (recommendedIds.size() == k) {
+				return;
+			}
+			if (!subscribed.get(courseId) && alreadyRecommended.add(courseId)) {
+				recommendedIds.add(courseId);
+			}
+		}
+	}
+
+	private List<Course> loadInOrder(List<Integer> courseIds) throws KnowyInconsistentDataException {
+		if (courseIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Integer, Course> coursesById = new HashMap<>();
+		for (Course course : courseRepository.findAllById(courseIds)) {
+			coursesById.put(course.id(), course);
+		}
+		return courseIds.stream()
+			.map(coursesById::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	private record Candidate(int courseId, int categoryMatches, long tieBreak) implements Comparable<Candidate> {
+
+		@Override
+		public int compareTo(Candidate other) {
+			int byMatches = Integer.compare(categoryMatches, other.categoryMatches);
+			return byMatches != 0 ? byMatches : Long.compare(tieBreak, other.tieBreak);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.knowy.core.sampling;
+
+import com.knowy.core.domain.Category;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable index of the course IDs of the catalog, overall and by category, used to pick random courses without
+ * sorting the catalog.
+ * <p>
+ * Samples are drawn with a partial Fisher–Yates shuffle that records the swapped positions in a map instead of copying
+ * the IDs, so drawing {@code k} courses costs {@code O(k)} regardless of the size of the catalog.
+ */
+public class CourseIdIndex {
+
+	private final int[] courseIds;
+	private final Map<Integer, int[]> courseIdsByCategoryId;
+
+	/**
+	 * Creates an index from the IDs of every course and the IDs of the courses of each category.
+	 *
+	 * @param courseIds             the IDs of every course in the catalog
+	 * @param courseIdsByCategoryId the IDs of the courses of each category, by category ID
+	 */
+	public CourseIdIndex(Collection<Integer> courseIds, Map<Integer, ? extends Collection<Integer>> courseIdsByCategoryId) {
+		this.courseIds = toArray(courseIds);
+		this.courseIdsByCategoryId = new HashMap<>();
+		courseIdsByCategoryId.forEach((categoryId, ids) -> this.courseIdsByCategoryId.put(categoryId, toArray(ids)));
+	}
+
+	/**
+	 * Returns the number of courses in the index.
+	 *
+	 * @return the number of indexed courses
+	 */
+	public int size() {
+		return courseIds.length;
+	}
+
+	/**
+	 * Performs the given action for the ID of every course of a category.
+	 *
+	 * @param category the category whose courses are visited
+	 * @param action   the action to perform for each course ID
+	 */
+	public void forEachCourseId(Category category, IntConsumer action) {
+		int[] ids = courseIdsByCategoryId.get(category.id());
+		if (ids != null) {
+			for (int id : ids) {
+				action.accept(id);
+			}
+		}
+	}
+
+	/**
+	 * Draws up to {@code k} distinct random course IDs from the whole catalog.
+	 *
+	 * @param k      the maximum number of IDs to draw
+	 * @param random the source of randomness
+	 * @return the drawn IDs in random order; fewer than {@code k} if the catalog is smaller
+	 */
+	public List<Integer> sample(int k, RandomGenerator random) {
+		return sample(List.<int[]>of(courseIds), k, random);
+	}
+
+	/**
+	 * Draws up to {@code k} distinct random course IDs among the courses that belong to any of the given categories.
+	 *
+	 * @param k          the maximum number of IDs to draw
+	 * @param categories the categories the drawn courses must belong to
+	 * @param random     the source of randomness
+	 * @return the drawn IDs in random order; fewer than {@code k} if the categories have fewer courses
+	 */
+	public List<Integer> sampleByCategories(int k, Collection<Category> categories, RandomGenerator random) {
+		List<int[]> candidates = new ArrayList<>();
+		for (Category category : categories) {
+			int[] ids = courseIdsByCategoryId.get(category.id());
+			if (ids != null) {
+				candidates.add(ids);
+			}
+		}
+		return sample(candidates, k, random);
+	}
+
+	/**
+	 * Draws distinct IDs from the concatenation of the given arrays. A course that belongs to several categories
+	 * appears in several arrays, so repeated IDs are skipped and drawing continues until {@code k} distinct IDs are
+	 * found or every position has been drawn.
+	 */
+	private static List<Integer> sample(List<int[]> candidates, int k, RandomGenerator random) {
+		int total = 0;
+		for (int[] ids : candidates) {
+			total += ids.length;
+		}
+
+		Set<Integer> sample = new LinkedHashSet<>();
+		Map<Integer, Integer> swappedPositions = new HashMap<>();
+		for (int drawn = 0; drawn < total && sample.size() < k; drawn++) {
+			int position = drawn + random.nextInt(total - drawn);
+			int drawnPosition = swappedPositions.getOrDefault(position, position);
+			swappedPositions.put(position, swappedPositions.getOrDefault(drawn, drawn));
+			sample.add(idAt(candidates, drawnPosition));
+		}
+		return List.copyOf(sample);
+	}
+
+	private static int idAt(List<int[]> candidates, int position) {
+		for (int[] ids : candidates) {
+			if (position < ids.length) {
+				return ids[position];
+			}
+			position -= ids.length;
+		}
+		throw new IndexOutOfBoundsException(position);
+	}
+
+	private static int[] toArray(Collection<Integer> ids) {
+		return ids.stream()
+			.mapToInt(Integer::intValue)
+			.distinct()
+			.toArray();
+	}
+}
@@ -0,0 +1,209 @@
+package com.knowy.core.scheduler;
+
+import com.knowy.core.domain.UserExercise;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of {@link UserExercise} ordered by {@code (nextReview, rate, exerciseId)}.
+ * <p>
+ * Keys are kept in parallel primitive arrays so that sift operations never unbox, and every exercise remembers its
+ * slot in the heap so its key can be changed in place in {@code O(log n)}. Those slots live in an open-addressing
+ * table from exercise ID to heap position; every heap entry also remembers its row in that table, so a swap updates
+ * both positions without probing. Exercises that have never been answered
+ * ({@code nextReview == null}) sort before any scheduled exercise, matching the {@code NULLS FIRST} ordering of the
+ * database query this structure replaces.
+ * <p>
+ * Instances are not thread-safe; {@link ReviewScheduler} guards each queue with the lock of its owning user.
+ */
+class ReviewQueue {
+
+	private static final int INITIAL_CAPACITY = 8;
+	private static final int EMPTY = 0;
+	private static final long NEVER_REVIEWED = Long.MIN_VALUE;
+
+	private long[] nextReviews = new long[INITIAL_CAPACITY];
+	private int[] rates = new int[INITIAL_CAPACITY];
+	private int[] exerciseIds = new int[INITIAL_CAPACITY];
+	private UserExercise[] userExercises = new UserExercise[INITIAL_CAPACITY];
+	private int[] tableRows = new int[INITIAL_CAPACITY];
+	private int[] tableIds = new int[INITIAL_CAPACITY << 1];
+	private int[] tablePositions = new int[INITIAL_CAPACITY << 1];
+	private int size;
+
+	/**
+	 * Returns the exercise that is due first without removing it from the queue.
+	 *
+	 * @return the head of the queue, or {@code null} if the queue is empty
+	 */
+	UserExercise peek() {
+		return size == 0 ? null : userExercises[0];
+	}
+
+	/**
+	 * Inserts the exercise or, if it is already queued, replaces it and restores the heap order from its slot.
+	 *
+	 * @param userExercise the exercise to schedule
+	 */
+	void offer(UserExercise userExercise) {
+		int exerciseId = userExercise.exercise().id();
+		int row = findRow(exerciseId);
+		if (tablePositions[row] == EMPTY) {
+			ensureCapacity();
+			row = findRow(exerciseId);
+			tableIds[row] = exerciseId;
+			tableRows[size] = row;
+			set(size, userExercise);
+			size++;
+			siftUp(size - 1);
+			return;
+		}
+
+		int position = tablePositions[row] - 1;
+		set(position, userExercise);
+		siftDown(siftUp(position));
+	}
+
+	/**
+	 * Compares the heads of two queues using the heap ordering.
+	 *
+	 * @param other the queue to compare with
+	 * @return {@code true} if this queue's head is due strictly before the other's head
+	 */
+	boolean headPrecedes(ReviewQueue other) {
+		if (size == 0) {
+			return false;
+		}
+		if (other.size == 0) {
+			return true;
+		}
+		return compare(nextReviews[0], rates[0], exerciseIds[0],
+			other.nextReviews[0], other.rates[0], other.exerciseIds[0]) < 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void set(int index, UserExercise userExercise) {
+		nextReviews[index] = toKey(userExercise.nextReview());
+		rates[index] = userExercise.rate();
+		exerciseIds[index] = userExercise.exercise().id();
+		userExercises[index] = userExercise;
+		tablePositions[tableRows[index]] = index + 1;
+	}
+
+	private int siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (compare(index, parent) >= 0) {
+				break;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+		return index;
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = 2 * index + 1;
+			if (left >= size) {
+				return;
+			}
+			int right = left + 1;
+			int smallest = right < size && compare(right, left) < 0 ? right : left;
+			if (compare(smallest, index) >= 0) {
+				return;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	private int compare(int i, int j) {
+		return compare(nextReviews[i], rates[i], exerciseIds[i], nextReviews[j], rates[j], exerciseIds[j]);
+	}
+
+	private static int compare(long nextReviewA, int rateA, int idA, long nextReviewB, int rateB, int idB) {
+		int result = Long.compare(nextReviewA, nextReviewB);
+		if (result != 0) {
+			return result;
+		}
+		result = Integer.compare(rateA, rateB);
+		return result != 0 ? result : Integer.compare(idA, idB);
+	}
+
+	private void swap(int i, int j) {
+		long nextReview = nextReviews[i];
+		nextReviews[i] = nextReviews[j];
+		nextReviews[j] = nextReview;
+
+		int rate = rates[i];
+		rates[i] = rates[j];
+		rates[j] = rate;
+
+		int exerciseId = exerciseIds[i];
+		exerciseIds[i] = exerciseIds[j];
+		exerciseIds[j] = exerciseId;
+
+		UserExercise userExercise = userExercises[i];
+		userExercises[i] = userExercises[j];
+		userExercises[j] = userExercise;
+
+		int row = tableRows[i];
+		tableRows[i] = tableRows[j];
+		tableRows[j] = row;
+
+		tablePositions[tableRows[i]] = i + 1;
+		tablePositions[tableRows[j]] = j + 1;
+	}
+
+	/**
+	 * Finds the table row holding the given exercise, or the empty row where it would be inserted. Positions are
+	 * stored plus one so that a zeroed row reads as empty.
+	 */
+	private int findRow(int exerciseId) {
+		int mask = tableIds.length - 1;
+		int row = mix(exerciseId) & mask;
+		while (tablePositions[row] != EMPTY && tableIds[row] != exerciseId) {
+			row = (row + 1) & mask;
+		}
+		return row;
+	}
+
+	private static int mix(int exerciseId) {
+		int hash = exerciseId * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private void ensureCapacity() {
+		if (size < exerciseIds.length) {
+			return;
+		}
+		int capacity = exerciseIds.length << 1;
+		nextReviews = Arrays.copyOf(nextReviews, capacity);
+		rates = Arrays.copyOf(rates, capacity);
+		exerciseIds = Arrays.copyOf(exerciseIds, capacity);
+		userExercises = Arrays.copyOf(userExercises, capacity);
+		tableRows = Arrays.copyOf(tableRows, capacity);
+
+		tableIds = new int[capacity << 1];
+		tablePositions = new int[capacity << 1];
+		for (int i = 0; i < size; i++) {
+			int row = findRow(exerciseIds[i]);
+			tableIds[row] = exerciseIds[i];
+			tablePositions[row] = i + 1;
+			tableRows[i] = row;
+		}
+	}
+
+	private static long toKey(LocalDateTime nextReview) {
+		if (nextReview == null) {
+			return NEVER_REVIEWED;
+		}
+		return nextReview.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + nextReview.getNano();
+	}
+}
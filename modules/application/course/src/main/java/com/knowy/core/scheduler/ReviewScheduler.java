@@ -0,0 +1,204 @@
+package com.knowy.core.scheduler;
+
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.port.UserExerciseRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Spaced-repetition scheduler that keeps, for every active user, the exercises of their started lessons in in-memory
+ * priority queues ordered by next review date, rate and exercise ID.
+ * <p>
+ * A user's queues are loaded lazily from the {@link UserExerciseRepository} the first time their next exercise is
+ * requested, and from then on the next exercise is resolved without touching the database. Answers are applied in
+ * place through {@link #reschedule(UserExercise)}. Completing a lesson changes the set of started lessons and must be
+ * signalled with {@link #invalidate(int)}; a lesson that is missing from a loaded user, such as one from a course the
+ * user has just subscribed to, triggers a reload when it is requested.
+ * <p>
+ * At most {@code maxActiveUsers} users are kept in memory; the least recently used one is dropped when the limit is
+ * exceeded. A scheduler created with {@code maxActiveUsers <= 0} keeps nothing in memory and delegates every lookup to
+ * the repository.
+ */
+public class ReviewScheduler {
+
+	public static final int DEFAULT_MAX_ACTIVE_USERS = 10_000;
+
+	private final UserExerciseRepository userExerciseRepository;
+	private final int maxActiveUsers;
+	private final Map<Integer, UserReviews> activeUsers;
+
+	/**
+	 * Creates a scheduler that keeps up to {@link #DEFAULT_MAX_ACTIVE_USERS} users in memory.
+	 *
+	 * @param userExerciseRepository repository used to load the review candidates of a user
+	 */
+	public ReviewScheduler(UserExerciseRepository userExerciseRepository) {
+		this(userExerciseRepository, DEFAULT_MAX_ACTIVE_USERS);
+	}
+
+	/**
+	 * Creates a scheduler that keeps up to {@code maxActiveUsers} users in memory.
+	 *
+	 * @param userExerciseRepository repository used to load the review candidates of a user
+	 * @param maxActiveUsers         maximum number of users whose queues are kept in memory; {@code 0} or less
+	 *                               disables the in-memory queues
+	 */
+	public ReviewScheduler(UserExerciseRepository userExerciseRepository, int maxActiveUsers) {
+		this.userExerciseRepository = userExerciseRepository;
+		this.maxActiveUsers = maxActiveUsers;
+		this.activeUsers = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, UserReviews> eldest) {
+				return size() > ReviewScheduler.this.maxActiveUsers;
+			}
+		};
+	}
+
+	/**
+	 * Returns the exercise of the given lesson that the user should review next.
+	 *
+	 * @param userId   the ID of the user
+	 * @param lessonId the ID of the lesson
+	 * @return the next {@link UserExercise}, or empty if the lesson has not been started or has no exercises
+	 * @throws KnowyDataAccessException if the user's review candidates cannot be loaded
+	 */
+	public Optional<UserExercise> nextByLessonId(int userId, int lessonId) throws KnowyDataAccessException {
+		if (!isEnabled()) {
+			return userExerciseRepository.findNextExerciseByLessonId(userId, lessonId);
+		}
+
+		UserReviews userReviews = getUserReviews(userId);
+		synchronized (userReviews) {
+			boolean justLoaded = userReviews.ensureLoaded();
+			ReviewQueue queue = userReviews.lessons.get(lessonId);
+			if (queue == null && !justLoaded) {
+				userReviews.reload();
+				queue = userReviews.lessons.get(lessonId);
+			}
+			return Optional.ofNullable(queue == null ? null : queue.peek())
+				.map(ReviewScheduler::withReviewDate);
+		}
+	}
+
+	/**
+	 * Returns the exercise the user should review next across all their started lessons.
+	 *
+	 * @param userId the ID of the user
+	 * @return the next {@link UserExercise}, or empty if the user has no exercises to review
+	 * @throws KnowyDataAccessException if the user's review candidates cannot be loaded
+	 */
+	public Optional<UserExercise> nextByUserId(int userId) throws KnowyDataAccessException {
+		if (!isEnabled()) {
+			return userExerciseRepository.findNextExerciseByUserId(userId);
+		}
+
+		UserReviews userReviews = getUserReviews(userId);
+		synchronized (userReviews) {
+			userReviews.ensureLoaded();
+			ReviewQueue first = null;
+			for (ReviewQueue queue : userReviews.lessons.values()) {
+				if (first == null || queue.headPrecedes(first)) {
+					first = queue;
+				}
+			}
+			return Optional.ofNullable(first == null ? null : first.peek())
+				.map(ReviewScheduler::withReviewDate);
+		}
+	}
+
+	/**
+	 * Updates the position of an answered exercise in its user's queue.
+	 * <p>
+	 * Users whose queues are not loaded are left untouched; the change will be read from the repository when they are.
+	 *
+	 * @param userExercise the exercise with its updated rate and next review date
+	 */
+	public void reschedule(UserExercise userExercise) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		UserReviews userReviews;
+		synchronized (activeUsers) {
+			userReviews = activeUsers.get(userExercise.userId());
+		}
+		if (userReviews == null) {
+			return;
+		}
+		synchronized (userReviews) {
+			ReviewQueue queue = userReviews.lessons.get(userExercise.exercise().lessonId());
+			if (queue != null) {
+				queue.offer(userExercise);
+			}
+		}
+	}
+
+	/**
+	 * Drops the queues of a user so they are reloaded on the next request.
+	 *
+	 * @param userId the ID of the user whose started lessons have changed
+	 */
+	public void invalidate(int userId) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		synchronized (activeUsers) {
+			activeUsers.remove(userId);
+		}
+	}
+
+	private boolean isEnabled() {
+		return maxActiveUsers > 0;
+	}
+
+	private UserReviews getUserReviews(int userId) {
+		synchronized (activeUsers) {
+			return activeUsers.computeIfAbsent(userId, UserReviews::new);
+		}
+	}
+
+	private static UserExercise withReviewDate(UserExercise userExercise) {
+		if (userExercise.nextReview() != null) {
+			return userExercise;
+		}
+		return new UserExercise(userExercise.userId(), userExercise.exercise(), userExercise.rate(), LocalDateTime.now());
+	}
+
+	private final class UserReviews {
+
+		private final int userId;
+		private final Map<Integer, ReviewQueue> lessons = new HashMap<>();
+		private boolean loaded;
+
+		private UserReviews(int userId) {
+			this.userId = userId;
+		}
+
+		private boolean ensureLoaded() throws KnowyDataAccessException {
+			if (loaded) {
+				return false;
+			}
+
+			List<UserExercise> candidates = userExerciseRepository.findAllReviewCandidatesByUserId(userId);
+			for (UserExercise candidate : candidates) {
+				lessons.computeIfAbsent(candidate.exercise().lessonId(), lessonId -> new ReviewQueue())
+					.offer(candidate);
+			}
+			loaded = true;
+			return true;
+		}
+
+		private void reload() throws KnowyDataAccessException {
+			lessons.clear();
+			loaded = false;
+			ensureLoaded();
+		}
+	}
+}
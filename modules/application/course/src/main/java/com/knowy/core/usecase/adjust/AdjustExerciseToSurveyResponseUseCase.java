@@ -4,6 +4,7 @@ import com.knowy.core.domain.ExerciseDifficult;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -14,19 +15,26 @@ import java.util.Objects;
  *
  * <p>This use case modifies the user's exercise rate and schedules the next review time
  * according to the difficulty level selected (EASY, MEDIUM, HARD, FAIL). The updated {@link UserExercise} is then
- * persisted via the {@link UserExerciseRepository}.</p>
+ * persisted via the {@link UserExerciseRepository} and moved to its new position in the user's {@link ReviewScheduler}
+ * queue.</p>
  */
 class AdjustExerciseToSurveyResponseUseCase {
 
 	private final UserExerciseRepository userExerciseRepository;
+	private final ReviewScheduler reviewScheduler;
 
 	/**
-	 * Constructs a new {@code AdjustExerciseToSurveyResponseUseCase} with the specified repository.
+	 * Constructs a new {@code AdjustExerciseToSurveyResponseUseCase} that also keeps the given scheduler up to date.
 	 *
 	 * @param userExerciseRepository the repository used to persist updated user exercises
+	 * @param reviewScheduler        the scheduler whose queues are updated with every answer
 	 */
-	public AdjustExerciseToSurveyResponseUseCase(UserExerciseRepository userExerciseRepository) {
+	public AdjustExerciseToSurveyResponseUseCase(
+		UserExerciseRepository userExerciseRepository,
+		ReviewScheduler reviewScheduler
+	) {
 		this.userExerciseRepository = userExerciseRepository;
+		this.reviewScheduler = reviewScheduler;
 	}
 
 	/**
@@ -49,7 +57,9 @@ class AdjustExerciseToSurveyResponseUseCase {
 	 */
 	public UserExercise execute(ExerciseDifficult exerciseDifficult, UserExercise userExercise) throws KnowyDataAccessException {
 		UserExercise updatedUserExercise = difficultSelect(exerciseDifficult, userExercise);
-		return userExerciseRepository.save(updatedUserExercise);
+		UserExercise savedUserExercise = userExerciseRepository.save(updatedUserExercise);
+		reviewScheduler.reschedule(updatedUserExercise);
+		return savedUserExercise;
 	}
 
 	private UserExercise difficultSelect(ExerciseDifficult exerciseDifficult, UserExercise userExercise) {
@@ -7,40 +7,64 @@ import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.UserExerciseRepository;
 import com.knowy.core.port.UserLessonRepository;
-import com.knowy.core.usecase.exercise.GetAllUserExercisesByCourseIdAndLessonIdUseCase;
+import com.knowy.core.progress.LessonProgressTracker;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.lesson.UpdateUserLessonStatusUseCase;
 
-import java.util.List;
-
 /**
  * Use case for updating a lesson's progress after a user answers an exercise.
  *
- * <p>It updates the exercise progress, recalculates the lesson progress,
- * and marks the lesson as COMPLETED if progress ≥ 80%, otherwise keeps it IN_PROGRESS.</p>
+ * <p>It updates the exercise progress, applies the new rate to the lesson progress kept by a
+ * {@link LessonProgressTracker}, and marks the lesson as COMPLETED if progress ≥ 80%, otherwise keeps it
+ * IN_PROGRESS.</p>
  */
 public class AdjustLessonToSurveyResponseUseCase {
 
-	private final GetAllUserExercisesByCourseIdAndLessonIdUseCase getAllUserExercisesByCourseIdAndLessonIdUseCase;
+	private final LessonProgressTracker lessonProgressTracker;
 	private final AdjustExerciseToSurveyResponseUseCase adjustExerciseToSurveyResponseUseCase;
 	private final UpdateUserLessonStatusUseCase updateUserLessonStatusUseCase;
+	private final ReviewScheduler reviewScheduler;
 
 	/**
-	 * Creates a new {@code AdjustLessonToSurveyResponseUseCase} using repository dependencies.
-	 * <p>
-	 * Instantiates the required use cases for adjusting exercises, retrieving user exercises, and updating lesson
-	 * status.
+	 * Creates a new {@code AdjustLessonToSurveyResponseUseCase} that keeps the given review scheduler up to date.
 	 *
 	 * @param userExerciseRepository repository for accessing and saving user exercises
 	 * @param userLessonRepository   repository for accessing and updating user lessons
+	 * @param reviewScheduler        scheduler updated with every answer and invalidated when a lesson is completed
 	 */
 	public AdjustLessonToSurveyResponseUseCase(
 		UserExerciseRepository userExerciseRepository,
-		UserLessonRepository userLessonRepository
+		UserLessonRepository userLessonRepository,
+		ReviewScheduler reviewScheduler
 	) {
 		this(
-			new GetAllUserExercisesByCourseIdAndLessonIdUseCase(userExerciseRepository),
-			new AdjustExerciseToSurveyResponseUseCase(userExerciseRepository),
-			new UpdateUserLessonStatusUseCase(userLessonRepository)
+			userExerciseRepository,
+			userLessonRepository,
+			reviewScheduler,
+			new LessonProgressTracker(userExerciseRepository, 0)
+		);
+	}
+
+	/**
+	 * Creates a new {@code AdjustLessonToSurveyResponseUseCase} that keeps the given review scheduler up to date and
+	 * computes the lesson progress through the given tracker.
+	 *
+	 * @param userExerciseRepository repository for accessing and saving user exercises
+	 * @param userLessonRepository   repository for accessing and updating user lessons
+	 * @param reviewScheduler        scheduler updated with every answer and invalidated when a lesson is completed
+	 * @param lessonProgressTracker  tracker that applies every answer to the progress of its lesson
+	 */
+	public AdjustLessonToSurveyResponseUseCase(
+		UserExerciseRepository userExerciseRepository,
+		UserLessonRepository userLessonRepository,
+		ReviewScheduler reviewScheduler,
+		LessonProgressTracker lessonProgressTracker
+	) {
+		this(
+			lessonProgressTracker,
+			new AdjustExerciseToSurveyResponseUseCase(userExerciseRepository, reviewScheduler),
+			new UpdateUserLessonStatusUseCase(userLessonRepository),
+			reviewScheduler
 		);
 	}
 
@@ -49,18 +73,21 @@ public class AdjustLessonToSurveyResponseUseCase {
 	 * <p>
 	 * Useful for testing or advanced configuration.
 	 *
-	 * @param getAllUserExercisesByCourseIdAndLessonIdUseCase use case for retrieving user exercises of a lesson
-	 * @param adjustExerciseToSurveyResponseUseCase           use case for adjusting a user's exercise answer
-	 * @param updateUserLessonStatusUseCase                   use case for updating lesson status
+	 * @param lessonProgressTracker                 tracker that applies every answer to the progress of its lesson
+	 * @param adjustExerciseToSurveyResponseUseCase use case for adjusting a user's exercise answer
+	 * @param updateUserLessonStatusUseCase         use case for updating lesson status
+	 * @param reviewScheduler                       scheduler invalidated when a lesson is completed
 	 */
 	AdjustLessonToSurveyResponseUseCase(
-		GetAllUserExercisesByCourseIdAndLessonIdUseCase getAllUserExercisesByCourseIdAndLessonIdUseCase,
+		LessonProgressTracker lessonProgressTracker,
 		AdjustExerciseToSurveyResponseUseCase adjustExerciseToSurveyResponseUseCase,
-		UpdateUserLessonStatusUseCase updateUserLessonStatusUseCase
+		UpdateUserLessonStatusUseCase updateUserLessonStatusUseCase,
+		ReviewScheduler reviewScheduler
 	) {
-		this.getAllUserExercisesByCourseIdAndLessonIdUseCase = getAllUserExercisesByCourseIdAndLessonIdUseCase;
+		this.lessonProgressTracker = lessonProgressTracker;
 		this.adjustExerciseToSurveyResponseUseCase = adjustExerciseToSurveyResponseUseCase;
 		this.updateUserLessonStatusUseCase = updateUserLessonStatusUseCase;
+		this.reviewScheduler = reviewScheduler;
 	}
 
 	/**
@@ -68,7 +95,7 @@ public class AdjustLessonToSurveyResponseUseCase {
 	 *
 	 * @param exerciseDifficult difficulty selected by the user (EASY, MEDIUM, HARD, FAIL)
 	 * @param userExercise      the answered exercise
-	 * @return result with updated exercises, progress, and lesson status
+	 * @return result with the updated progress and lesson status
 	 * @throws KnowyDataAccessException       if exercise data cannot be accessed or saved
 	 * @throws KnowyInconsistentDataException if the lesson has no exercises to evaluate
 	 */
@@ -79,32 +106,18 @@ public class AdjustLessonToSurveyResponseUseCase {
 		int lessonId = userExercise.exercise().lessonId();
 		int exerciseId = userExercise.exercise().id();
 
-		adjustExerciseToSurveyResponseUseCase.execute(exerciseDifficult, userExercise);
-
-		List<UserExercise> updatedUserExercises = loadUserExercises(userId, lessonId);
-		double lessonProgress = calculateLessonProgress(updatedUserExercises);
+		UserExercise updatedUserExercise = adjustExerciseToSurveyResponseUseCase.execute(exerciseDifficult, userExercise);
+		double lessonProgress = lessonProgressTracker.record(updatedUserExercise);
 
 		UserLesson.ProgressStatus lessonStatus = updateLessonStatusIfCompleted(userId, lessonId, lessonProgress);
-		return new AdjustLessonToSurveyResponseResult(
-			userId, lessonId, exerciseId, updatedUserExercises, lessonProgress, lessonStatus
-		);
-	}
-
-	private List<UserExercise> loadUserExercises(int userId, int lessonId) throws KnowyDataAccessException {
-		return getAllUserExercisesByCourseIdAndLessonIdUseCase.execute(userId, lessonId);
-	}
-
-	private double calculateLessonProgress(List<UserExercise> userExercises) throws KnowyInconsistentDataException {
-		if (userExercises.isEmpty()) {
-			throw new KnowyInconsistentDataException("Expected user exercises, but list is empty: " + userExercises);
-		}
-		return UserLesson.calculateLessonProgressById(userExercises);
+		return new AdjustLessonToSurveyResponseResult(userId, lessonId, exerciseId, lessonProgress, lessonStatus);
 	}
 
 	private UserLesson.ProgressStatus updateLessonStatusIfCompleted(int userId, int lessonId, double progress) throws KnowyInconsistentDataException {
 		if (progress >= 0.8) {
 			UserLesson userLesson = updateUserLessonStatusUseCase.execute(
 				UserLesson.ProgressStatus.COMPLETED, userId, lessonId);
+			reviewScheduler.invalidate(userId);
 			return userLesson.status();
 		}
 		return UserLesson.ProgressStatus.IN_PROGRESS;
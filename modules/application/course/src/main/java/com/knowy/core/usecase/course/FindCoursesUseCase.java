@@ -0,0 +1,35 @@
+package com.knowy.core.usecase.course;
+
+import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseQuery;
+import com.knowy.core.domain.Slice;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+
+/**
+ * Use case for browsing the catalog filtered, sorted and paginated by a {@link CourseQuery}.
+ */
+public class FindCoursesUseCase {
+
+	private final CourseRepository courseRepository;
+
+	/**
+	 * Constructs a new FindCoursesUseCase with the given course repository.
+	 *
+	 * @param courseRepository the repository used to access course data
+	 */
+	public FindCoursesUseCase(CourseRepository courseRepository) {
+		this.courseRepository = courseRepository;
+	}
+
+	/**
+	 * Executes the use case to retrieve the slice of courses that match the given query.
+	 *
+	 * @param query the filter, order and position of the slice
+	 * @return the matching courses and the cursor of the next slice
+	 * @throws KnowyInconsistentDataException if inconsistencies occur while retrieving course data
+	 */
+	public Slice<Course> execute(CourseQuery query) throws KnowyInconsistentDataException {
+		return courseRepository.findAll(query);
+	}
+}
@@ -0,0 +1,117 @@
+package com.knowy.core.usecase.course;
+
+import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseOutlineView;
+import com.knowy.core.domain.Lesson;
+import com.knowy.core.domain.UserLesson;
+import com.knowy.core.exception.KnowyCourseNotFound;
+import com.knowy.core.exception.KnowyCurrentLessonNotFoundException;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.exception.KnowyUserLessonNotFoundException;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.UserLessonRepository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for retrieving the outline of a course for a user, with the content of one of its lessons.
+ * <p>
+ * The lessons, their documentations and the content of the current lesson are taken from the course, which the
+ * catalog usually serves without querying the database. Only the progress of the user is read, as one status per
+ * lesson, so the user lessons are no longer loaded with every exercise of the course.
+ */
+public class GetCourseOutlineUseCase {
+
+	private final CourseRepository courseRepository;
+	private final UserLessonRepository userLessonRepository;
+
+	/**
+	 * Constructs a new {@code GetCourseOutlineUseCase}.
+	 *
+	 * @param courseRepository     repository to fetch course data
+	 * @param userLessonRepository repository to fetch the user's progress in the lessons
+	 */
+	public GetCourseOutlineUseCase(CourseRepository courseRepository, UserLessonRepository userLessonRepository) {
+		this.courseRepository = courseRepository;
+		this.userLessonRepository = userLessonRepository;
+	}
+
+	/**
+	 * Retrieves the outline of a course without the content of any lesson.
+	 *
+	 * @param userId   the ID of the user
+	 * @param courseId the ID of the course
+	 * @return the {@link CourseOutlineView} of the course, without current lesson
+	 * @throws KnowyUserLessonNotFoundException if the user does not follow any lesson of the course
+	 * @throws KnowyCourseNotFound              if the course with the given ID does not exist
+	 */
+	public CourseOutlineView execute(int userId, int courseId) throws KnowyInconsistentDataException {
+		return outline(userId, courseId, null);
+	}
+
+	/**
+	 * Retrieves the outline of a course with the content of one of its lessons.
+	 *
+	 * @param userId   the ID of the user
+	 * @param courseId the ID of the course
+	 * @param lessonId the ID of the lesson to show
+	 * @return the {@link CourseOutlineView} of the course, with the given lesson as current lesson
+	 * @throws KnowyUserLessonNotFoundException    if the user does not follow any lesson of the course
+	 * @throws KnowyCurrentLessonNotFoundException if the user does not follow the given lesson
+	 * @throws KnowyCourseNotFound                 if the course with the given ID does not exist
+	 */
+	public CourseOutlineView execute(int userId, int courseId, int lessonId) throws KnowyInconsistentDataException {
+		return outline(userId, courseId, lessonId);
+	}
+
+	private CourseOutlineView outline(int userId, int courseId, Integer lessonId) throws KnowyInconsistentDataException {
+		Map<Integer, UserLesson.ProgressStatus> statuses = getStatuses(userId, courseId);
+		Course course = courseRepository.findById(courseId)
+			.orElseThrow(() -> new KnowyCourseNotFound("Course with id " + courseId + " not found"));
+
+		List<Lesson> lessons = course.lessons().stream()
+			.filter(lesson -> statuses.containsKey(lesson.id()))
+			.sorted(Comparator.comparingInt(Lesson::id))
+			.toList();
+
+		Lesson currentLesson = null;
+		if (lessonId != null) {
+			currentLesson = lessons.stream()
+				.filter(lesson -> lesson.id() == lessonId)
+				.findFirst()
+				.orElseThrow(() -> new KnowyCurrentLessonNotFoundException(
+					"Lesson " + lessonId + " not found for userId " + userId + " in courseId " + courseId
+				));
+		}
+
+		return new CourseOutlineView(
+			course.id(),
+			course.title(),
+			course.description(),
+			course.image(),
+			course.categories(),
+			lessons.stream()
+				.map(lesson -> new CourseOutlineView.LessonOutline(
+					lesson.id(), lesson.title(), statuses.get(lesson.id()), lesson.documentations()
+				))
+				.toList(),
+			currentLesson
+		);
+	}
+
+	private Map<Integer, UserLesson.ProgressStatus> getStatuses(int userId, int courseId)
+		throws KnowyInconsistentDataException {
+		Map<Integer, UserLesson.ProgressStatus> statuses = userLessonRepository.findAllStatusesByUserIdAndCourseId(
+			userId, courseId
+		);
+		if (statuses.isEmpty()) {
+			throw new KnowyUserLessonNotFoundException(
+				"No lessons found for userId " + userId + " in courseId " + courseId
+			);
+		}
+
+		return statuses;
+	}
+}
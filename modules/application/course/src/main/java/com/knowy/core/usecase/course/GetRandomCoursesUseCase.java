@@ -0,0 +1,35 @@
+package com.knowy.core.usecase.course;
+
+import com.knowy.core.domain.Course;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+
+import java.util.List;
+
+/**
+ * Use case for retrieving a small random selection of courses, such as the banners of the home page.
+ */
+public class GetRandomCoursesUseCase {
+
+	private final CourseRepository courseRepository;
+
+	/**
+	 * Constructs the use case with the required repository dependency.
+	 *
+	 * @param courseRepository the repository used to sample courses
+	 */
+	public GetRandomCoursesUseCase(CourseRepository courseRepository) {
+		this.courseRepository = courseRepository;
+	}
+
+	/**
+	 * Retrieves up to {@code numOfCourses} distinct random courses.
+	 *
+	 * @param numOfCourses the maximum number of courses to return
+	 * @return a random list of {@link Course} entities
+	 * @throws KnowyInconsistentDataException if inconsistencies occur when fetching course data
+	 */
+	public List<Course> execute(int numOfCourses) throws KnowyInconsistentDataException {
+		return courseRepository.sample(numOfCourses);
+	}
+}
@@ -3,34 +3,35 @@ package com.knowy.core.usecase.course;
 import com.knowy.core.domain.Category;
 import com.knowy.core.domain.Course;
 import com.knowy.core.exception.KnowyInconsistentDataException;
-import com.knowy.core.port.CourseRepository;
+import com.knowy.core.recommendation.CourseRecommender;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 /**
  * Use case for retrieving a recommended list of courses based on a set of categories.
  */
 public class GetRecommendedCoursesByCategoriesUseCase {
 
-	private final CourseRepository courseRepository;
+	private static final int RECOMMENDED_COURSES = 3;
+
+	private final CourseRecommender courseRecommender;
 
 	/**
-	 * Constructs the use case with the given course repository.
+	 * Constructs the use case with the given course recommender.
 	 *
-	 * @param courseRepository the repository used to fetch course data
+	 * @param courseRecommender the recommender that scores and selects the courses
 	 */
-	public GetRecommendedCoursesByCategoriesUseCase(CourseRepository courseRepository) {
-		this.courseRepository = courseRepository;
+	public GetRecommendedCoursesByCategoriesUseCase(CourseRecommender courseRecommender) {
+		this.courseRecommender = courseRecommender;
 	}
 
 	/**
 	 * Retrieves a list of recommended courses for a user based on the provided categories.
 	 *
-	 * <p>This method fetches courses that the user is not already subscribed to, sorts them
-	 * by relevance to the given categories, and returns the top 3 recommended courses.</p>
+	 * <p>This method ranks the courses that the user is not already subscribed to by the number of given
+	 * categories they belong to, and returns the top 3 recommended courses, completed with random courses when not
+	 * enough of them match.</p>
 	 *
 	 * @param userId     the ID of the user for whom the recommendations are generated
 	 * @param categories a set of {@link Category} entities to guide the course recommendations
@@ -38,16 +39,6 @@ public class GetRecommendedCoursesByCategoriesUseCase {
 	 * @throws KnowyInconsistentDataException if inconsistencies occur when retrieving course data
 	 */
 	public List<Course> execute(int userId, Set<Category> categories) throws KnowyInconsistentDataException {
-		Set<Course> coursesWhereUserIsSubscribed = courseRepository.findAllWhereUserIsSubscribed(userId);
-		Stream<Course> candidateCoursesStream = Stream.concat(
-			courseRepository.findByCategoriesStreamingInRandomOrder(categories),
-			courseRepository.findAllStreamingInRandomOrder()
-		);
-
-		return candidateCoursesStream
-			.distinct()
-			.filter(Predicate.not(coursesWhereUserIsSubscribed::contains))
-			.limit(3)
-			.toList();
+		return courseRecommender.recommend(userId, categories, RECOMMENDED_COURSES);
 	}
 }
@@ -0,0 +1,56 @@
+package com.knowy.core.usecase.exercise;
+
+import com.knowy.core.domain.ExercisePageView;
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.exception.KnowyExerciseNotFoundException;
+import com.knowy.core.port.ExercisePageViewRepository;
+
+/**
+ * Use case for retrieving what the exercise page shows of an exercise for a user.
+ * <p>
+ * The page is read as an {@link ExercisePageView} in a single round trip, instead of loading the user exercise, the
+ * user lesson with its whole lesson and the course tree only to show a few of their fields.
+ */
+public class GetExercisePageUseCase {
+
+	private final ExercisePageViewRepository exercisePageViewRepository;
+
+	/**
+	 * Constructs a new {@code GetExercisePageUseCase} with the specified repository.
+	 *
+	 * @param exercisePageViewRepository the repository used to read exercise pages
+	 */
+	public GetExercisePageUseCase(ExercisePageViewRepository exercisePageViewRepository) {
+		this.exercisePageViewRepository = exercisePageViewRepository;
+	}
+
+	/**
+	 * Retrieves the page of an exercise for a user, with the rate the user has stored for it.
+	 *
+	 * @param userId     the ID of the user
+	 * @param exerciseId the ID of the exercise
+	 * @return the {@link ExercisePageView} of the exercise
+	 * @throws KnowyDataAccessException       if an error occurs while accessing the repository
+	 * @throws KnowyExerciseNotFoundException if the exercise does not exist or the user has not started its lesson
+	 */
+	public ExercisePageView execute(int userId, int exerciseId) throws KnowyDataAccessException {
+		return exercisePageViewRepository.findByUserIdAndExerciseId(userId, exerciseId)
+			.orElseThrow(() -> new KnowyExerciseNotFoundException(
+				"Exercise " + exerciseId + " not found for user ID " + userId
+			));
+	}
+
+	/**
+	 * Retrieves the page of an exercise already loaded for a user. The rate is taken from the given exercise, which
+	 * may hold progress that is not stored yet.
+	 *
+	 * @param userExercise the exercise of the user
+	 * @return the {@link ExercisePageView} of the exercise
+	 * @throws KnowyDataAccessException       if an error occurs while accessing the repository
+	 * @throws KnowyExerciseNotFoundException if the user has not started the lesson of the exercise
+	 */
+	public ExercisePageView execute(UserExercise userExercise) throws KnowyDataAccessException {
+		return execute(userExercise.userId(), userExercise.exercise().id()).withRate(userExercise.rate());
+	}
+}
@@ -3,25 +3,25 @@ package com.knowy.core.usecase.exercise;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyExerciseNotFoundException;
-import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
 
 /**
  * Use case for retrieving the next exercise assigned to a user within a specific lesson.
  * <p>
- * This use case queries the {@link UserExerciseRepository} to determine the next {@link UserExercise} that the user
+ * This use case asks the {@link ReviewScheduler} to determine the next {@link UserExercise} that the user
  * should complete. If no exercise is found, a {@link KnowyExerciseNotFoundException} is thrown.
  */
 public class GetNextExerciseByLessonIdUseCase {
 
-	private final UserExerciseRepository userExerciseRepository;
+	private final ReviewScheduler reviewScheduler;
 
 	/**
-	 * Constructs a new {@code GetNextExerciseByLessonIdUseCase} with the specified repository.
+	 * Constructs a new {@code GetNextExerciseByLessonIdUseCase} that resolves the next exercise from the given scheduler.
 	 *
-	 * @param userExerciseRepository the repository used to access user exercises
+	 * @param reviewScheduler the scheduler holding the review queues of active users
 	 */
-	public GetNextExerciseByLessonIdUseCase(UserExerciseRepository userExerciseRepository) {
-		this.userExerciseRepository = userExerciseRepository;
+	public GetNextExerciseByLessonIdUseCase(ReviewScheduler reviewScheduler) {
+		this.reviewScheduler = reviewScheduler;
 	}
 
 
@@ -35,7 +35,7 @@ public class GetNextExerciseByLessonIdUseCase {
 	 * @throws KnowyExerciseNotFoundException if no next exercise exists for the given user and lesson
 	 */
 	public UserExercise execute(int userId, int lessonId) throws KnowyDataAccessException {
-		return userExerciseRepository.findNextExerciseByLessonId(userId, lessonId)
+		return reviewScheduler.nextByLessonId(userId, lessonId)
 			.orElseThrow(() -> new KnowyExerciseNotFoundException(
 				"No next exercise found for user ID " + userId + " in lesson ID " + lessonId
 			));
@@ -3,26 +3,26 @@ package com.knowy.core.usecase.exercise;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyExerciseNotFoundException;
-import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
 
 /**
  * Use case for retrieving the next exercise assigned to a specific user, regardless of the lesson or course.
  * <p>
- * This use case queries the {@link UserExerciseRepository} to find the next {@link UserExercise} pending for the given
+ * This use case asks the {@link ReviewScheduler} to find the next {@link UserExercise} pending for the given
  * user. If no exercise is available, a {@link KnowyExerciseNotFoundException} is thrown.
  */
 public class GetNextExerciseByUserIdUseCase {
 
-	private final UserExerciseRepository userExerciseRepository;
+	private final ReviewScheduler reviewScheduler;
 
 
 	/**
-	 * Constructs a new {@code GetNextExerciseByUserIdUseCase} with the specified repository.
+	 * Constructs a new {@code GetNextExerciseByUserIdUseCase} that resolves the next exercise from the given scheduler.
 	 *
-	 * @param userExerciseRepository the repository used to access user exercises
+	 * @param reviewScheduler the scheduler holding the review queues of active users
 	 */
-	public GetNextExerciseByUserIdUseCase(UserExerciseRepository userExerciseRepository) {
-		this.userExerciseRepository = userExerciseRepository;
+	public GetNextExerciseByUserIdUseCase(ReviewScheduler reviewScheduler) {
+		this.reviewScheduler = reviewScheduler;
 	}
 
 	/**
@@ -34,7 +34,7 @@ public class GetNextExerciseByUserIdUseCase {
 	 * @throws KnowyExerciseNotFoundException if no next exercise exists for the given user
 	 */
 	public UserExercise execute(int userId) throws KnowyDataAccessException {
-		return userExerciseRepository.findNextExerciseByUserId(userId)
+		return reviewScheduler.nextByUserId(userId)
 			.orElseThrow(() -> new KnowyExerciseNotFoundException("No next exercise found for user ID " + userId));
 	}
 }
@@ -0,0 +1,110 @@
+package com.knowy.core.usecase.importer;
+
+import com.knowy.core.ImporterHelper;
+import com.knowy.core.domain.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.knowy.core.Importer.KnowyImporterParseException;
+import static com.knowy.core.ImporterHelper.PropertyExtractor;
+import static com.knowy.core.ImporterHelper.extractorFor;
+
+/**
+ * Converts the course records streamed by a {@link com.knowy.core.port.DataLoader} into {@link CourseUnidentifiedData}
+ * and its related domain entities.
+ */
+final class CourseRecordMapper {
+
+	private static final String TAG_COURSE = "course";
+	private static final String TAG_TITLE = "title";
+
+	/**
+	 * Converts a record of the source root into the courses it holds.
+	 *
+	 * @param name  the name of the record
+	 * @param value the record
+	 * @return the courses of the record
+	 * @throws KnowyImporterParseException if the record is not a course or cannot be parsed
+	 */
+	List<CourseUnidentifiedData> toCourses(String name, Object value) throws KnowyImporterParseException {
+		if (!TAG_COURSE.equals(name)) {
+			throw new KnowyImporterParseException("Unexpected element " + name);
+		}
+
+		List<CourseUnidentifiedData> courses = new ArrayList<>();
+		for (Map<String, Object> courseMap : ImporterHelper.ensureList(value, name)) {
+			courses.add(ImporterHelper.map(courseMap, this::createCourse));
+		}
+		return courses;
+	}
+
+	@SuppressWarnings("unchecked")
+	private CourseUnidentifiedData createCourse(Map<String, Object> courseMap) throws KnowyImporterParseException {
+		String title = ImporterHelper.getRequiredString(courseMap, TAG_TITLE);
+		String description = ImporterHelper.getRequiredString(courseMap, "description");
+		String image = ImporterHelper.getRequiredString(courseMap, "image");
+		String author = ImporterHelper.getRequiredString(courseMap, "author");
+		LocalDateTime creationDate = LocalDateTime.now();
+
+		Map<String, Object> categoriesData = (Map<String, Object>) courseMap.get("categories");
+
+		List<String> categoryData = (List<String>) categoriesData.get("category");
+		Set<CategoryData> categories = categoryData.stream()
+			.map(CategoryData.InmutableCategoryData::new)
+			.collect(Collectors.toSet());
+
+		PropertyExtractor coursePropertyExtractor = extractorFor((Map<String, Object>) courseMap.get("lessons"));
+		Set<LessonUnidentifiedData> lesson = coursePropertyExtractor
+			.extract("lesson", this::createLesson, LinkedHashSet::new);
+
+		return new CourseData.InmutableCourseData(title, description, image, author, creationDate, categories, lesson);
+	}
+
+	@SuppressWarnings("unchecked")
+	private LessonUnidentifiedData createLesson(Map<String, Object> lessonMap) throws KnowyImporterParseException {
+		String title = ImporterHelper.getRequiredString(lessonMap, TAG_TITLE);
+		String explanation = ImporterHelper.getRequiredString(lessonMap, "explanation");
+
+		var documentationData = (Map<String, Object>) lessonMap.get("documentations");
+		Set<DocumentationData> documentations = new HashSet<>();
+		if (documentationData != null) {
+			PropertyExtractor documentationPropertyExtractor = extractorFor(documentationData);
+			documentations = documentationPropertyExtractor.extract(
+				"documentation", this::createDocumentation, HashSet::new
+			);
+		}
+
+		PropertyExtractor exercisePropertyExtractor = extractorFor((Map<String, Object>) lessonMap.get("exercises"));
+		Set<ExerciseUnidentifiedData> exercises = exercisePropertyExtractor.extract(
+			"exercise", this::createExercise, HashSet::new
+		);
+
+		return new LessonData.InmutableLessonData(title, explanation, documentations, exercises);
+	}
+
+	private DocumentationData createDocumentation(Map<String, Object> documentationMap) throws KnowyImporterParseException {
+		String title = ImporterHelper.getRequiredString(documentationMap, TAG_TITLE);
+		String link = ImporterHelper.getRequiredString(documentationMap, "link");
+
+		return new DocumentationData.InmutableDocumentationData(title, link);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ExerciseUnidentifiedData createExercise(Map<String, Object> exerciseMap) throws KnowyImporterParseException {
+		String statement = ImporterHelper.getRequiredString(exerciseMap, "statement");
+
+		PropertyExtractor optionPropertyExtractor = extractorFor((Map<String, Object>) exerciseMap.get("options"));
+		List<OptionData> options = optionPropertyExtractor.extract("option", this::createOption, ArrayList::new);
+
+		return new ExerciseData.InmutableExerciseData(statement, options);
+	}
+
+	private OptionData createOption(Map<String, Object> optionMap) throws KnowyImporterParseException {
+		String value = ImporterHelper.getRequiredString(optionMap, "value");
+		String stringIsValid = ImporterHelper.getRequiredString(optionMap, "isValid");
+
+		return new OptionData.InmutableOptionData(value, Boolean.parseBoolean(stringIsValid));
+	}
+}
@@ -1,8 +1,9 @@
 package com.knowy.core.usecase.importer;
 
 import com.knowy.core.Importer;
-import com.knowy.core.ImporterHelper;
-import com.knowy.core.domain.*;
+import com.knowy.core.cache.CatalogCache;
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseUnidentifiedData;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.exception.KnowyValidationException;
 import com.knowy.core.port.CourseRepository;
@@ -11,23 +12,37 @@ import com.knowy.core.port.DataLoader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.time.LocalDateTime;
-import java.util.*;
-import java.util.stream.Collectors;
-
-import static com.knowy.core.ImporterHelper.PropertyExtractor;
-import static com.knowy.core.ImporterHelper.extractorFor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Use case for importing courses from an {@link InputStream}. Converts raw data into domain entity root and its related
  * domain entities.
+ * <p>
+ * The courses are streamed from the {@link DataLoader} one at a time and saved in batches of {@code batchSize}, so the
+ * memory used by an import does not grow with the size of the source. The batches saved before a course fails to
+ * parse or validate are kept.
+ * <p>
+ * Courses are merged by their {@link CourseNaturalKey}: a course whose title and author match a stored course, or an
+ * earlier course of the same source, is left out, so importing a source again does not duplicate its courses. Stored
+ * courses are never modified, since users may already be subscribed to their lessons.
+ * <p>
+ * Imports that must skip unchanged sources go through {@link ParallelCoursesImporter#importIfChanged}, which records
+ * them in the {@link com.knowy.core.port.ImportLedger} under a single lock.
+ *
+ * @see ParallelCoursesImporter
  */
-public class CoursesImporterUseCase implements Importer<List<Course>> {
+public class CoursesImporterUseCase implements Importer<Integer> {
 
-	private static final String TAG_TITLE = "title";
+	private static final String TAG_COURSE = "course";
 
 	private final DataLoader dataLoader;
 	private final CourseRepository courseRepository;
+	private final CatalogCache catalogCache;
+	private final int batchSize;
+	private final CourseRecordMapper courseRecordMapper = new CourseRecordMapper();
+	private final NewCourseSaver newCourseSaver;
 
 	/**
 	 * Creates a new {@code CoursesImporterUseCase} with the given data loader.
@@ -35,93 +50,96 @@ public class CoursesImporterUseCase implements Importer<List<Course>> {
 	 * @param dataLoader the loader used to parse raw data
 	 */
 	public CoursesImporterUseCase(DataLoader dataLoader, CourseRepository courseRepository) {
+		this(dataLoader, courseRepository, new CatalogCache(0));
+	}
+
+	/**
+	 * Creates a new {@code CoursesImporterUseCase} that invalidates the given catalog cache after every import and saves
+	 * courses in batches of {@link ParallelCoursesImporter#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param dataLoader       the loader used to parse raw data
+	 * @param courseRepository the repository where imported courses are saved
+	 * @param catalogCache     the cache holding the course catalog served to readers
+	 */
+	public CoursesImporterUseCase(DataLoader dataLoader, CourseRepository courseRepository, CatalogCache catalogCache) {
+		this(dataLoader, courseRepository, catalogCache, ParallelCoursesImporter.DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a new {@code CoursesImporterUseCase} that invalidates the given catalog cache after every import.
+	 *
+	 * @param dataLoader       the loader used to parse raw data
+	 * @param courseRepository the repository where imported courses are saved
+	 * @param catalogCache     the cache holding the course catalog served to readers
+	 * @param batchSize        maximum number of courses saved together
+	 */
+	public CoursesImporterUseCase(
+		DataLoader dataLoader, CourseRepository courseRepository, CatalogCache catalogCache, int batchSize
+	) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive");
+		}
 		this.dataLoader = dataLoader;
 		this.courseRepository = courseRepository;
+		this.catalogCache = catalogCache;
+		this.batchSize = batchSize;
+		this.newCourseSaver = new NewCourseSaver(courseRepository);
 	}
 
 	/**
 	 * Imports courses from the provided input stream.
 	 *
 	 * @param inputStream the source of raw course data
-	 * @return a list of course data objects
+	 * @return the number of new courses saved
 	 * @throws KnowyImporterParseException if parsing fails
 	 */
 	@Override
-	public List<Course> execute(InputStream inputStream, URL schema)
+	public Integer execute(InputStream inputStream, URL schema)
 		throws KnowyValidationException, KnowyInconsistentDataException, IOException {
 
-		Map<String, Object> courses = dataLoader.loadData(inputStream, schema);
-
-		PropertyExtractor rootPropertyExtractor = extractorFor(courses);
-		List<CourseUnidentifiedData> courseUnidentifiedDataList = rootPropertyExtractor
-			.extract("course", this::createCourse, ArrayList::new);
-
-		return courseRepository.saveAll(courseUnidentifiedDataList);
-	}
-
-	@SuppressWarnings("unchecked")
-	private CourseUnidentifiedData createCourse(Map<String, Object> courseMap) throws KnowyImporterParseException {
-		String title = ImporterHelper.getRequiredString(courseMap, TAG_TITLE);
-		String description = ImporterHelper.getRequiredString(courseMap, "description");
-		String image = ImporterHelper.getRequiredString(courseMap, "image");
-		String author = ImporterHelper.getRequiredString(courseMap, "author");
-		LocalDateTime creationDate = LocalDateTime.now();
-
-		Map<String, Object> categoriesData = (Map<String, Object>) courseMap.get("categories");
-
-		List<String> categoryData = (List<String>) categoriesData.get("category");
-		Set<CategoryData> categories = categoryData.stream()
-			.map(CategoryData.InmutableCategoryData::new)
-			.collect(Collectors.toSet());
-
-		PropertyExtractor coursePropertyExtractor = extractorFor((Map<String, Object>) courseMap.get("lessons"));
-		Set<LessonUnidentifiedData> lesson = coursePropertyExtractor
-			.extract("lesson", this::createLesson, LinkedHashSet::new);
-
-		return new CourseData.InmutableCourseData(title, description, image, author, creationDate, categories, lesson);
-	}
-
-	private LessonUnidentifiedData createLesson(Map<String, Object> lessonMap) throws KnowyImporterParseException {
-		String title = ImporterHelper.getRequiredString(lessonMap, TAG_TITLE);
-		String explanation = ImporterHelper.getRequiredString(lessonMap, "explanation");
-
-		var documentationData = (Map<String, Object>) lessonMap.get("documentations");
-		Set<DocumentationData> documentations = new HashSet<>();
-		if (documentationData != null) {
-			PropertyExtractor documentationPropertyExtractor = extractorFor(documentationData);
-			documentations = documentationPropertyExtractor.extract(
-				"documentation", this::createDocumentation, HashSet::new
-			);
+		CourseBatchWriter writer = new CourseBatchWriter();
+		try {
+			dataLoader.streamData(inputStream, schema, writer);
+			writer.flush();
+		} finally {
+			catalogCache.invalidateAll();
 		}
 
-		PropertyExtractor exercisePropertyExtractor = extractorFor((Map<String, Object>) lessonMap.get("exercises"));
-		Set<ExerciseUnidentifiedData> exercises = exercisePropertyExtractor.extract(
-			"exercise", this::createExercise, HashSet::new
-		);
-
-		return new LessonData.InmutableLessonData(title, explanation, documentations, exercises);
-	}
-
-	private DocumentationData createDocumentation(Map<String, Object> documentationMap) throws KnowyImporterParseException {
-		String title = ImporterHelper.getRequiredString(documentationMap, TAG_TITLE);
-		String link = ImporterHelper.getRequiredString(documentationMap, "link");
-
-		return new DocumentationData.InmutableDocumentationData(title, link);
+		if (writer.parsed == 0) {
+			throw new KnowyImporterParseException(TAG_COURSE + " cannot be null");
+		}
+		return writer.imported;
 	}
 
-	private ExerciseUnidentifiedData createExercise(Map<String, Object> exerciseMap) throws KnowyImporterParseException {
-		String statement = ImporterHelper.getRequiredString(exerciseMap, "statement");
-
-		PropertyExtractor optionPropertyExtractor = extractorFor((Map<String, Object>) exerciseMap.get("options"));
-		List<OptionData> options = optionPropertyExtractor.extract("option", this::createOption, ArrayList::new);
-
-		return new ExerciseData.InmutableExerciseData(statement, options);
-	}
+	/**
+	 * Collects the streamed courses and saves the new ones each time {@code batchSize} of them have been parsed.
+	 * Courses of earlier batches have already been saved, so the stored keys also leave out repeated courses of the
+	 * source.
+	 */
+	private final class CourseBatchWriter implements DataLoader.RecordHandler {
+
+		private final List<CourseUnidentifiedData> batch = new ArrayList<>(batchSize);
+		private int parsed;
+		private int imported;
+
+		@Override
+		public void handle(String name, Object value) throws KnowyValidationException, KnowyInconsistentDataException {
+			for (CourseUnidentifiedData course : courseRecordMapper.toCourses(name, value)) {
+				batch.add(course);
+				if (batch.size() == batchSize) {
+					flush();
+				}
+			}
+		}
 
-	private OptionData createOption(Map<String, Object> optionMap) throws KnowyImporterParseException {
-		String value = ImporterHelper.getRequiredString(optionMap, "value");
-		String stringIsValid = ImporterHelper.getRequiredString(optionMap, "isValid");
+		private void flush() throws KnowyInconsistentDataException {
+			if (batch.isEmpty()) {
+				return;
+			}
 
-		return new OptionData.InmutableOptionData(value, Boolean.parseBoolean(stringIsValid));
+			imported += newCourseSaver.saveNew(batch, Function.identity()).size();
+			parsed += batch.size();
+			batch.clear();
+		}
 	}
 }
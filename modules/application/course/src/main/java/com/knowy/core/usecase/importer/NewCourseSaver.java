@@ -0,0 +1,48 @@
+package com.knowy.core.usecase.importer;
+
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseUnidentifiedData;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Saves imported courses merged by their {@link CourseNaturalKey}: a course whose title and author match a stored
+ * course, or an earlier course of the same batch, is left out. Stored courses are never modified, since users may
+ * already be subscribed to their lessons.
+ */
+final class NewCourseSaver {
+
+	private final CourseRepository courseRepository;
+
+	NewCourseSaver(CourseRepository courseRepository) {
+		this.courseRepository = courseRepository;
+	}
+
+	/**
+	 * Saves the courses of the batch that are not stored yet, looking up the stored keys in a single query.
+	 *
+	 * @param items  the batch, each item holding a course
+	 * @param course extracts the course of an item
+	 * @param <T>    the type of the items
+	 * @return the items whose course has been saved, in batch order
+	 * @throws KnowyInconsistentDataException if the courses cannot be saved
+	 */
+	<T> List<T> saveNew(List<T> items, Function<T, CourseUnidentifiedData> course)
+		throws KnowyInconsistentDataException {
+
+		Map<CourseNaturalKey, T> newItems = new LinkedHashMap<>();
+		for (T item : items) {
+			newItems.putIfAbsent(CourseNaturalKey.of(course.apply(item)), item);
+		}
+		newItems.keySet().removeAll(courseRepository.findExistingNaturalKeys(newItems.keySet()));
+		if (!newItems.isEmpty()) {
+			courseRepository.saveAll(newItems.values().stream().map(course).toList());
+		}
+		return List.copyOf(newItems.values());
+	}
+}
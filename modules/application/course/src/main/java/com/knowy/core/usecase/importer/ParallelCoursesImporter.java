@@ -0,0 +1,638 @@
+package com.knowy.core.usecase.importer;
+
+import com.knowy.core.ImporterHelper;
+import com.knowy.core.cache.CatalogCache;
+import com.knowy.core.domain.CourseUnidentifiedData;
+import com.knowy.core.domain.LessonUnidentifiedData;
+import com.knowy.core.exception.KnowyException;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.exception.KnowyValidationException;
+import com.knowy.core.ledger.InMemoryImportLedger;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.DataLoader;
+import com.knowy.core.port.ImportLedger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.knowy.core.Importer.KnowyImporterParseException;
+
+/**
+ * Imports many course sources at once: the sources are parsed in parallel and their courses are saved by a single
+ * writer.
+ * <p>
+ * Up to {@code parallelism} sources are streamed from the {@link DataLoader} at the same time. Their courses go
+ * through a queue of at most {@code queueCapacity} courses, so parsers wait when the writer falls behind, to the thread
+ * that called the import, which saves them in batches of up to {@code batchSize} courses merged by natural key as
+ * {@link CoursesImporterUseCase} does. A batch is saved as soon as it is full or the queue is empty, so batches grow
+ * when the database is the bottleneck.
+ * <p>
+ * A source that cannot be read or parsed is reported as failed without stopping the others; the courses it yielded
+ * before the failure are still saved. A batch mixes courses of several sources; if it cannot be saved, the courses of
+ * each source in it are saved again on their own, so only the sources whose courses cannot be saved are reported as
+ * failed. Each source is reported as soon as all its courses have been handled.
+ * <p>
+ * Only new courses are saved: a course whose title and author are already stored, or came earlier in the import, is
+ * skipped, so edits to stored courses are not imported. Skipped courses are counted in the report of their source and
+ * logged.
+ * <p>
+ * {@link #importIfChanged(List, URL)} only imports the sources whose content or schema changed since they were last
+ * imported, as recorded in the {@link ImportLedger}. It holds the ledger lock {@value #LEDGER_LOCK} for the whole
+ * run, so imports started by several nodes at once run one after the other while holding a single lock.
+ */
+public class ParallelCoursesImporter implements AutoCloseable {
+
+	private static final System.Logger LOGGER = System.getLogger(ParallelCoursesImporter.class.getName());
+
+	public static final int DEFAULT_PARALLELISM = 4;
+	public static final int DEFAULT_QUEUE_CAPACITY = 200;
+	public static final int DEFAULT_BATCH_SIZE = 50;
+
+	public static final String LEDGER_LOCK = "course-import";
+
+	private static final String SOURCE_EXTENSION = ".xml";
+
+	private final DataLoader dataLoader;
+	private final CatalogCache catalogCache;
+	private final ImportLedger importLedger;
+	private final int queueCapacity;
+	private final int batchSize;
+	private final ExecutorService parsers;
+	private final CourseRecordMapper courseRecordMapper = new CourseRecordMapper();
+	private final NewCourseSaver newCourseSaver;
+
+	private final LongAdder imports = new LongAdder();
+	private final LongAdder files = new LongAdder();
+	private final LongAdder failedFiles = new LongAdder();
+	private final LongAdder courses = new LongAdder();
+	private final LongAdder exercises = new LongAdder();
+	private final LongAdder importTimeNanos = new LongAdder();
+
+	/**
+	 * Creates an importer with the default parallelism, queue capacity and batch size that records imported sources in
+	 * memory.
+	 *
+	 * @param dataLoader       the loader used to parse the sources
+	 * @param courseRepository the repository where imported courses are saved
+	 * @param catalogCache     the cache holding the course catalog served to readers
+	 */
+	public ParallelCoursesImporter(DataLoader dataLoader, CourseRepository courseRepository, CatalogCache catalogCache) {
+		this(
+			dataLoader,
+			courseRepository,
+			catalogCache,
+			DEFAULT_PARALLELISM,
+			DEFAULT_QUEUE_CAPACITY,
+			DEFAULT_BATCH_SIZE
+		);
+	}
+
+	/**
+	 * Creates an importer that records imported sources in memory and starts its parser threads.
+	 *
+	 * @param dataLoader       the loader used to parse the sources
+	 * @param courseRepository the repository where imported courses are saved
+	 * @param catalogCache     the cache holding the course catalog served to readers
+	 * @param parallelism      number of sources parsed at the same time
+	 * @param queueCapacity    number of parsed courses that may wait for the writer
+	 * @param batchSize        maximum number of courses saved together
+	 */
+	public ParallelCoursesImporter(
+		DataLoader dataLoader,
+		CourseRepository courseRepository,
+		CatalogCache catalogCache,
+		int parallelism,
+		int queueCapacity,
+		int batchSize
+	) {
+		this(
+			dataLoader, courseRepository, catalogCache, new InMemoryImportLedger(), parallelism, queueCapacity, batchSize
+		);
+	}
+
+	/**
+	 * Creates an importer and starts its parser threads.
+	 *
+	 * @param dataLoader       the loader used to parse the sources
+	 * @param courseRepository the repository where imported courses are saved
+	 * @param catalogCache     the cache holding the course catalog served to readers
+	 * @param importLedger     the ledger of the sources already imported
+	 * @param parallelism      number of sources parsed at the same time
+	 * @param queueCapacity    number of parsed courses that may wait for the writer
+	 * @param batchSize        maximum number of courses saved together
+	 */
+	public ParallelCoursesImporter(
+		DataLoader dataLoader,
+		CourseRepository courseRepository,
+		CatalogCache catalogCache,
+		ImportLedger importLedger,
+		int parallelism,
+		int queueCapacity,
+		int batchSize
+	) {
+		if (parallelism <= 0 || queueCapacity <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException(
+				"Parallelism, queue capacity and batch size must be positive: %d, %d, %d"
+					.formatted(parallelism, queueCapacity, batchSize)
+			);
+		}
+
+		this.dataLoader = dataLoader;
+		this.catalogCache = catalogCache;
+		this.importLedger = importLedger;
+		this.queueCapacity = queueCapacity;
+		this.batchSize = batchSize;
+		this.newCourseSaver = new NewCourseSaver(courseRepository);
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.parsers = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "knowy-course-import-parser-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Imports the {@code .xml} files of a directory, in name order.
+	 *
+	 * @param directory the directory holding the sources
+	 * @param schema    the URL of the schema used for validation
+	 * @return the report of every source
+	 * @throws IOException          if the directory cannot be listed
+	 * @throws InterruptedException if the calling thread is interrupted; the parsing sources are then cancelled
+	 */
+	public ImportReport importDirectory(Path directory, URL schema) throws IOException, InterruptedException {
+		return importAll(sourcesIn(directory).stream().map(ImportSource::content).toList(), schema);
+	}
+
+	/**
+	 * Lists the {@code .xml} files of a directory, in name order, as sources named after their file.
+	 *
+	 * @param directory the directory holding the sources
+	 * @return the sources of the directory
+	 * @throws IOException if the directory cannot be listed
+	 */
+	public static List<ImportSource> sourcesIn(Path directory) throws IOException {
+		List<ImportSource> sources = new ArrayList<>();
+		try (Stream<Path> paths = Files.list(directory)) {
+			for (Path path : paths.filter(Files::isRegularFile)
+				.filter(path -> path.getFileName().toString().endsWith(SOURCE_EXTENSION))
+				.sorted()
+				.toList()) {
+				sources.add(new ImportSource(path.getFileName().toString(), path.toUri().toURL()));
+			}
+		}
+		return sources;
+	}
+
+	/**
+	 * Imports the sources whose content or schema changed since the {@link ImportLedger} last recorded them, and
+	 * records the ones that are fully imported. Sources that fail are not recorded, so they are tried again on the next
+	 * import.
+	 *
+	 * @param sources the named locations of the raw course data
+	 * @param schema  the URL of the schema used for validation
+	 * @return the report of every changed source; unchanged sources are left out
+	 * @throws IOException                    if a source or the schema cannot be read to compute its checksum
+	 * @throws KnowyInconsistentDataException if the ledger lock cannot be taken
+	 * @throws InterruptedException           if the calling thread is interrupted; the parsing sources are then
+	 *                                        cancelled
+	 */
+	public ImportReport importIfChanged(List<ImportSource> sources, URL schema)
+		throws IOException, KnowyInconsistentDataException, InterruptedException {
+
+		String schemaVersion = ImporterHelper.checksum(schema);
+		List<String> checksums = new ArrayList<>(sources.size());
+		for (ImportSource source : sources) {
+			checksums.add(ImporterHelper.checksum(source.content()));
+		}
+
+		ImportLedger.Lock lock = importLedger.lock(LEDGER_LOCK);
+		try {
+			List<ImportSource> changed = new ArrayList<>();
+			List<String> changedChecksums = new ArrayList<>();
+			for (int i = 0; i < sources.size(); i++) {
+				ImportSource source = sources.get(i);
+				Optional<ImportLedger.Entry> entry = importLedger.findBySource(source.name());
+				if (entry.isEmpty() || !entry.get().matches(checksums.get(i), schemaVersion)) {
+					changed.add(source);
+					changedChecksums.add(checksums.get(i));
+				}
+			}
+			if (changed.isEmpty()) {
+				return new ImportReport(List.of(), 0, 0, Duration.ZERO);
+			}
+
+			ImportReport report = importAll(changed.stream().map(ImportSource::content).toList(), schema);
+			for (int i = 0; i < changed.size(); i++) {
+				if (report.files().get(i).succeeded()) {
+					importLedger.save(new ImportLedger.Entry(
+						changed.get(i).name(), changedChecksums.get(i), schemaVersion, LocalDateTime.now()
+					));
+				}
+			}
+			return report;
+		} finally {
+			lock.close();
+		}
+	}
+
+	/**
+	 * Imports the given sources.
+	 *
+	 * @param sources the locations of the raw course data
+	 * @param schema  the URL of the schema used for validation
+	 * @return the report of every source
+	 * @throws InterruptedException if the calling thread is interrupted; the parsing sources are then cancelled
+	 */
+	public ImportReport importAll(List<URL> sources, URL schema) throws InterruptedException {
+		return importAll(sources, schema, report -> {
+			// Only the final report is needed
+		});
+	}
+
+	/**
+	 * Imports the given sources, handing the report of each source to the listener, on the calling thread, as soon as
+	 * the source is done.
+	 *
+	 * @param sources          the locations of the raw course data
+	 * @param schema           the URL of the schema used for validation
+	 * @param progressListener receives the report of each source once it is done
+	 * @return the report of every source, in the order of the sources
+	 * @throws InterruptedException if the calling thread is interrupted; the parsing sources are then cancelled
+	 */
+	public ImportReport importAll(List<URL> sources, URL schema, Consumer<FileReport> progressListener)
+		throws InterruptedException {
+
+		long start = System.nanoTime();
+		BlockingQueue<Item> queue = new ArrayBlockingQueue<>(queueCapacity);
+		List<FileProgress> progress = sources.stream().map(FileProgress::new).toList();
+		List<Future<?>> parsing = new ArrayList<>();
+		for (FileProgress file : progress) {
+			parsing.add(parsers.submit(new FileParser(file, schema, queue)));
+		}
+
+		Writer writer = new Writer(progressListener);
+		try {
+			writer.drain(queue, progress.size());
+		} finally {
+			if (writer.endedFiles < progress.size()) {
+				parsing.forEach(future -> future.cancel(true));
+			}
+			catalogCache.invalidateAll();
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		imports.increment();
+		importTimeNanos.add(elapsedNanos);
+		return new ImportReport(
+			progress.stream().map(FileProgress::report).toList(),
+			writer.importedCourses,
+			writer.importedExercises,
+			Duration.ofNanos(elapsedNanos)
+		);
+	}
+
+	/**
+	 * Returns a snapshot of the importer counters.
+	 *
+	 * @return the counters of every import run by the importer
+	 */
+	public ImportStats stats() {
+		return new ImportStats(
+			imports.sum(), files.sum(), failedFiles.sum(), courses.sum(), exercises.sum(), importTimeNanos.sum()
+		);
+	}
+
+	/**
+	 * Stops the parser threads, cancelling the sources being parsed.
+	 */
+	@Override
+	public void close() {
+		parsers.shutdownNow();
+	}
+
+	private static int exercisesOf(CourseUnidentifiedData course) {
+		int count = 0;
+		for (LessonUnidentifiedData lesson : course.lessons()) {
+			count += lesson.exercises().size();
+		}
+		return count;
+	}
+
+	/**
+	 * Streams one source and puts its courses in the queue, followed by the end of the source.
+	 */
+	private final class FileParser implements Runnable, DataLoader.RecordHandler {
+
+		private final FileProgress file;
+		private final URL schema;
+		private final BlockingQueue<Item> queue;
+		private int parsed;
+
+		private FileParser(FileProgress file, URL schema, BlockingQueue<Item> queue) {
+			this.file = file;
+			this.schema = schema;
+			this.queue = queue;
+		}
+
+		/**
+		 * Always ends with the end of the source, even if parsing stops with an error, so the writer never waits for a
+		 * source that will not end.
+		 */
+		@Override
+		public void run() {
+			Exception failure = new IllegalStateException("Parsing of " + file.source + " stopped unexpectedly");
+			try (InputStream inputStream = file.source.openStream()) {
+				dataLoader.streamData(inputStream, schema, this);
+				failure = null;
+			} catch (KnowyException | IOException | RuntimeException e) {
+				failure = e;
+			} finally {
+				putEndOfFile(failure);
+			}
+		}
+
+		private void putEndOfFile(Exception failure) {
+			try {
+				queue.put(new EndOfFile(file, parsed, failure));
+			} catch (InterruptedException e) {
+				// The import has been cancelled, so no one waits for the end of the source
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void handle(String name, Object value) throws KnowyValidationException {
+			for (CourseUnidentifiedData course : courseRecordMapper.toCourses(name, value)) {
+				try {
+					queue.put(new CourseItem(file, course));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new KnowyImporterParseException("Import of " + file.source + " was interrupted", e);
+				}
+				parsed++;
+			}
+		}
+	}
+
+	/**
+	 * Takes the parsed courses from the queue and saves them in batches, on the thread that called the import.
+	 */
+	private final class Writer {
+
+		private final Consumer<FileReport> progressListener;
+		private final List<CourseItem> batch = new ArrayList<>(batchSize);
+		private int endedFiles;
+		private int importedCourses;
+		private int importedExercises;
+
+		private Writer(Consumer<FileReport> progressListener) {
+			this.progressListener = progressListener;
+		}
+
+		private void drain(BlockingQueue<Item> queue, int fileCount) throws InterruptedException {
+			while (endedFiles < fileCount) {
+				Item item = batch.isEmpty() ? queue.take() : queue.poll();
+				if (item == null) {
+					flush();
+					continue;
+				}
+
+				switch (item) {
+					case CourseItem courseItem -> {
+						courseItem.file.pending++;
+						batch.add(courseItem);
+						if (batch.size() == batchSize) {
+							flush();
+						}
+					}
+					case EndOfFile endOfFile -> {
+						endedFiles++;
+						endOfFile.file.end(endOfFile.parsed, endOfFile.failure);
+						reportIfDone(endOfFile.file);
+					}
+				}
+			}
+			flush();
+		}
+
+		private void flush() {
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			Map<FileProgress, List<CourseItem>> batchFiles = new LinkedHashMap<>();
+			for (CourseItem item : batch) {
+				batchFiles.computeIfAbsent(item.file, file -> new ArrayList<>()).add(item);
+			}
+
+			try {
+				save(batch);
+			} catch (KnowyInconsistentDataException | RuntimeException e) {
+				if (batchFiles.size() == 1) {
+					batch.getFirst().file.fail(e);
+				} else {
+					saveEachFile(batchFiles);
+				}
+			}
+
+			for (CourseItem item : batch) {
+				item.file.pending--;
+			}
+			batch.clear();
+			batchFiles.keySet().forEach(this::reportIfDone);
+		}
+
+		/**
+		 * Saves the courses of each source of a failed batch on their own, so a course that cannot be saved only fails
+		 * its own source.
+		 */
+		private void saveEachFile(Map<FileProgress, List<CourseItem>> batchFiles) {
+			for (List<CourseItem> items : batchFiles.values()) {
+				try {
+					save(items);
+				} catch (KnowyInconsistentDataException | RuntimeException e) {
+					items.getFirst().file.fail(e);
+				}
+			}
+		}
+
+		/**
+		 * Saves the new courses of the items and counts the other ones as skipped by their source. Nothing is counted if
+		 * the save fails, so the items can be saved again.
+		 */
+		private void save(List<CourseItem> items) throws KnowyInconsistentDataException {
+			List<CourseItem> savedItems = newCourseSaver.saveNew(items, CourseItem::course);
+			for (CourseItem item : items) {
+				item.file.skippedCourses++;
+			}
+			for (CourseItem saved : savedItems) {
+				int courseExercises = exercisesOf(saved.course);
+				saved.file.skippedCourses--;
+				saved.file.importedCourses++;
+				saved.file.importedExercises += courseExercises;
+				importedCourses++;
+				importedExercises += courseExercises;
+				courses.increment();
+				exercises.add(courseExercises);
+			}
+		}
+
+		private void reportIfDone(FileProgress file) {
+			if (!file.ended || file.pending > 0 || file.reported) {
+				return;
+			}
+
+			file.reported = true;
+			files.increment();
+			if (file.failure != null) {
+				failedFiles.increment();
+			}
+			if (file.skippedCourses > 0) {
+				LOGGER.log(
+					System.Logger.Level.WARNING,
+					"Skipped {0} courses of {1} whose title and author are already stored; changes to stored courses"
+						+ " are not imported",
+					file.skippedCourses,
+					file.source
+				);
+			}
+			progressListener.accept(file.report());
+		}
+	}
+
+	/**
+	 * Progress of one source, only read and written by the writer.
+	 */
+	private static final class FileProgress {
+
+		private final URL source;
+		private int parsedCourses;
+		private int pending;
+		private int importedCourses;
+		private int skippedCourses;
+		private int importedExercises;
+		private Exception failure;
+		private boolean ended;
+		private boolean reported;
+
+		private FileProgress(URL source) {
+			this.source = source;
+		}
+
+		private void end(int parsedCourses, Exception failure) {
+			this.parsedCourses = parsedCourses;
+			this.ended = true;
+			fail(failure);
+		}
+
+		private void fail(Exception failure) {
+			if (this.failure == null) {
+				this.failure = failure;
+			}
+		}
+
+		private FileReport report() {
+			return new FileReport(source, parsedCourses, importedCourses, skippedCourses, importedExercises, failure);
+		}
+	}
+
+	private sealed interface Item permits CourseItem, EndOfFile {
+	}
+
+	private record CourseItem(FileProgress file, CourseUnidentifiedData course) implements Item {
+	}
+
+	private record EndOfFile(FileProgress file, int parsed, Exception failure) implements Item {
+	}
+
+	/**
+	 * Source of course data recorded in the {@link ImportLedger} under its name.
+	 *
+	 * @param name    the name the source is recorded under
+	 * @param content the location of the raw course data
+	 */
+	public record ImportSource(String name, URL content) {
+	}
+
+	/**
+	 * Outcome of the import of one source.
+	 *
+	 * @param source            the location of the source
+	 * @param parsedCourses     number of courses read from the source
+	 * @param importedCourses   number of new courses of the source that were saved
+	 * @param skippedCourses    number of courses of the source that were not saved because a course with the same
+	 *                          title and author was already stored or came earlier in the import
+	 * @param importedExercises number of exercises in the saved courses
+	 * @param failure           why the source could not be fully imported, or {@code null} if it was
+	 */
+	public record FileReport(
+		URL source, int parsedCourses, int importedCourses, int skippedCourses, int importedExercises, Exception failure
+	) {
+
+		public boolean succeeded() {
+			return failure == null;
+		}
+	}
+
+	/**
+	 * Outcome of an import of several sources.
+	 *
+	 * @param files             the report of every source, in the order of the sources
+	 * @param importedCourses   number of new courses saved
+	 * @param importedExercises number of exercises in the saved courses
+	 * @param elapsed           time taken by the import
+	 */
+	public record ImportReport(
+		List<FileReport> files, int importedCourses, int importedExercises, Duration elapsed
+	) {
+
+		public ImportReport {
+			files = List.copyOf(files);
+		}
+
+		public long failedFiles() {
+			return files.stream().filter(file -> !file.succeeded()).count();
+		}
+
+		public double coursesPerSecond() {
+			return perSecond(importedCourses);
+		}
+
+		public double exercisesPerSecond() {
+			return perSecond(importedExercises);
+		}
+
+		private double perSecond(int count) {
+			long nanos = elapsed.toNanos();
+			return nanos == 0 ? 0 : count * 1e9 / nanos;
+		}
+	}
+
+	/**
+	 * Point-in-time counters of a {@link ParallelCoursesImporter}.
+	 *
+	 * @param imports         number of imports run
+	 * @param files           number of sources imported
+	 * @param failedFiles     number of sources that could not be fully imported
+	 * @param courses         number of new courses saved
+	 * @param exercises       number of exercises in the saved courses
+	 * @param importTimeNanos total time spent importing, in nanoseconds
+	 */
+	public record ImportStats(
+		long imports, long files, long failedFiles, long courses, long exercises, long importTimeNanos
+	) {
+	}
+}
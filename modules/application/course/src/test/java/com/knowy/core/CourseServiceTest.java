@@ -3,28 +3,28 @@ package com.knowy.core;
 import com.knowy.core.domain.*;
 import com.knowy.core.exception.KnowyCourseNotFound;
 import com.knowy.core.exception.KnowyCourseSubscriptionException;
+import com.knowy.core.exception.KnowyCurrentLessonNotFoundException;
 import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.exception.KnowyUserLessonNotFoundException;
 import com.knowy.core.port.CategoryRepository;
 import com.knowy.core.port.CourseRepository;
 import com.knowy.core.port.LessonRepository;
 import com.knowy.core.port.UserLessonRepository;
-import com.knowy.core.usecase.course.GetAllCoursesWithProgressResult;
+import com.knowy.core.recommendation.CourseRecommender;
+import com.knowy.core.sampling.CourseIdIndex;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.course.GetCourseWithProgressResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,9 +43,19 @@ class CourseServiceTest {
 	@Mock
 	private CategoryRepository categoryRepository;
 
-	@InjectMocks
 	private CourseService courseService;
 
+	@BeforeEach
+	void setUp() {
+		courseService = new CourseService(
+			courseRepository,
+			lessonRepository,
+			userLessonRepository,
+			new CourseRecommender(courseRepository, userLessonRepository, 0),
+			Mockito.mock(ReviewScheduler.class)
+		);
+	}
+
 	@Nested
 	class GetUserCoursesUseCaseTest {
 
@@ -151,54 +161,47 @@ class CourseServiceTest {
 		}
 	}
 
+	@Nested
+	class GetRandomCoursesUseCase {
+
+		@Test
+		void given_courses_when_findRandom_then_returnSampledCourses() throws KnowyInconsistentDataException {
+			List<Course> courses = List.of(Mockito.mock(Course.class), Mockito.mock(Course.class));
+
+			Mockito.when(courseRepository.sample(4))
+				.thenReturn(courses);
+
+			List<Course> result = assertDoesNotThrow(() -> courseService.findRandom(4));
+			assertEquals(courses, result);
+			Mockito.verify(courseRepository, Mockito.never()).findAllRandomOrder();
+		}
+	}
+
 	@Nested
 	class GetRecommendedCoursesByCategoriesUseCase {
 
+		private final Course course1 = course(1, new Category(1, "Java"), new Category(2, "Spring Boot"));
+		private final Course course2 = course(2, new Category(3, "Photography"));
+		private final Course course3 = course(3, new Category(3, "Photography"), new Category(4, "Economics"));
+		private final Course course4 = course(4, new Category(5, "Physics"), new Category(6, "Mathematics"));
+		private final Course course5 = course(5, new Category(3, "Photography"), new Category(7, "Art"));
+		private final List<Course> catalog = List.of(course1, course2, course3, course4, course5);
+
 		@Test
 		void given_userCategories_when_getUserRecommendedCourses_then_returnFirstPreferenceCourses() throws KnowyInconsistentDataException {
 
 			int userId = 1;
-			Set<Category> categories = Set.of(new Category(3, "Photography"));
-
-			Course course1 = new Course(
-				1, "Title", "Desc", "img", "Autor", LocalDateTime.now(),
-				Set.of(new Category(1, "Java"), new Category(2, "Spring Boot")),
-				new HashSet<>()
-			);
-			Course course2 = new Course(
-				2, "Title", "Desc", "img", "Autor", LocalDateTime.now(),
-				Set.of(new Category(3, "Photography")),
-				new HashSet<>()
-			);
-			Course course3 = new Course(
-				3, "Title", "Desc", "img", "Autor", LocalDateTime.now(),
-				Set.of(new Category(3, "Sociology"), new Category(4, "Economics")),
-				new HashSet<>()
-			);
-			Course course4 = new Course(
-				4, "Title", "Desc", "img", "Autor", LocalDateTime.now(),
-				Set.of(new Category(5, "Physics"), new Category(6, "Mathematics")),
-				new HashSet<>()
-			);
-			Course course5 = new Course(
-				5, "Title", "Desc", "img", "Autor", LocalDateTime.now(),
-				Set.of(new Category(3, "Photography")),
-				new HashSet<>()
-			);
-			Stream<Course> courseStream = Stream.of(course5, course2, course1, course3, course4);
-
-			Mockito.when(courseRepository.findByCategoriesStreamingInRandomOrder(categories))
-				.thenReturn(courseStream);
-			Mockito.when(courseRepository.findAllWhereUserIsSubscribed(userId))
-				.thenReturn(Set.of(course3));
+			Set<Category> categories = Set.of(new Category(3, "Photography"), new Category(7, "Art"));
+			mockCatalog();
+			Mockito.when(userLessonRepository.findCourseIdsByUserId(userId))
+				.thenReturn(List.of(3));
 
 			List<Course> result = assertDoesNotThrow(() -> courseService.getRecommendedCourses(userId, categories));
 			assertAll(
 				() -> assertEquals(3, result.size()),
-				() -> assertIterableEquals(List.of(course5, course2, course1), result),
-				() -> assertTrue(result.getFirst().categories().contains(new Category(3, "Photography"))),
-				() -> assertTrue(result.get(1).categories().contains(new Category(3, "Photography"))),
-				() -> assertFalse(result.get(2).categories().contains(new Category(3, "Photography")))
+				() -> assertEquals(course5, result.getFirst()),
+				() -> assertEquals(course2, result.get(1)),
+				() -> assertTrue(Set.of(course1, course4).contains(result.get(2)))
 			);
 		}
 
@@ -206,23 +209,15 @@ class CourseServiceTest {
 		void given_userWithoutCategories_when_getUserRecommendedCourses_then_returnCourses() throws KnowyInconsistentDataException {
 
 			int userId = 1;
-			Course course1 = Mockito.mock(Course.class);
-			Course course2 = Mockito.mock(Course.class);
-			Course course3 = Mockito.mock(Course.class);
-			Course course4 = Mockito.mock(Course.class);
-			Course course5 = Mockito.mock(Course.class);
-
-			Stream<Course> courseStream = Stream.of(course3, course1, course5, course2, course4);
-
-			Mockito.when(courseRepository.findByCategoriesStreamingInRandomOrder(Set.of()))
-				.thenReturn(courseStream);
-			Mockito.when(courseRepository.findAllWhereUserIsSubscribed(userId))
-				.thenReturn(Set.of(course3));
+			mockCatalog();
+			Mockito.when(userLessonRepository.findCourseIdsByUserId(userId))
+				.thenReturn(List.of(3));
 
 			List<Course> result = assertDoesNotThrow(() -> courseService.getRecommendedCourses(userId, Set.of()));
 			assertAll(
 				() -> assertEquals(3, result.size()),
-				() -> assertIterableEquals(List.of(course1, course5, course2), result)
+				() -> assertEquals(3, new HashSet<>(result).size()),
+				() -> assertFalse(result.contains(course3))
 			);
 		}
 
@@ -233,7 +228,7 @@ class CourseServiceTest {
 			int userId = 1;
 			Set<Category> categories = Set.of(new Category(3, "Photography"));
 
-			Mockito.when(courseRepository.findAllWhereUserIsSubscribed(userId))
+			Mockito.when(userLessonRepository.findCourseIdsByUserId(userId))
 				.thenThrow(new KnowyInconsistentDataException("Inconsistent Data of courses"));
 
 			assertThrows(
@@ -241,6 +236,27 @@ class CourseServiceTest {
 				() -> courseService.getRecommendedCourses(userId, categories)
 			);
 		}
+
+		private void mockCatalog() throws KnowyInconsistentDataException {
+			Map<Integer, List<Integer>> courseIdsByCategoryId = new HashMap<>();
+			for (Course course : catalog) {
+				for (Category category : course.categories()) {
+					courseIdsByCategoryId.computeIfAbsent(category.id(), id -> new ArrayList<>()).add(course.id());
+				}
+			}
+			Mockito.when(courseRepository.findIdIndex())
+				.thenReturn(new CourseIdIndex(catalog.stream().map(Course::id).toList(), courseIdsByCategoryId));
+			Mockito.when(courseRepository.findAllById(Mockito.anyList()))
+				.thenAnswer(invocation -> catalog.stream()
+					.filter(course -> invocation.<List<Integer>>getArgument(0).contains(course.id()))
+					.toList());
+		}
+
+		private static Course course(int id, Category... categories) {
+			return new Course(
+				id, "Title", "Desc", "img", "Autor", LocalDateTime.now(), Set.of(categories), new HashSet<>()
+			);
+		}
 	}
 
 	@Nested
@@ -278,6 +294,30 @@ class CourseServiceTest {
 				.saveAll(userLessons);
 		}
 
+		@Test
+		void given_scheduledUser_when_subscribe_then_invalidateReviewQueues() {
+			int userId = 2;
+			int courseId = 5;
+			Lesson lesson1 = new Lesson(24, 5, 25, "Title 1", "Desc 1");
+			Lesson lesson2 = new Lesson(25, 5, null, "Title 2", "Desc 2");
+			ReviewScheduler reviewScheduler = Mockito.mock(ReviewScheduler.class);
+			CourseService service = new CourseService(
+				courseRepository,
+				lessonRepository,
+				userLessonRepository,
+				new CourseRecommender(courseRepository, userLessonRepository, 0),
+				reviewScheduler
+			);
+
+			Mockito.when(lessonRepository.findAllByCourseId(courseId))
+				.thenReturn(List.of(lesson1, lesson2));
+			Mockito.when(lessonRepository.findAllWhereUserIsSubscribedTo(userId))
+				.thenReturn(Set.of());
+
+			assertDoesNotThrow(() -> service.subscribeUserToCourse(userId, courseId));
+			Mockito.verify(reviewScheduler).invalidate(userId);
+		}
+
 		@Test
 		void given_subscribeToCourse_when_subscribe_then_throwKnowyCourseSubscriptionException() {
 			int userId = 2;
@@ -368,6 +408,28 @@ class CourseServiceTest {
 		}
 	}
 
+	@Nested
+	class FindCoursesUseCase {
+
+		@Test
+		void given_courseQuery_when_findCourses_then_returnSliceFromRepository() throws KnowyInconsistentDataException {
+			CourseQuery query = new CourseQuery(1, CourseSort.TITLE_ASC, 7, null, 2);
+			Slice<Course> slice = new Slice<>(
+				List.of(Mockito.mock(Course.class), Mockito.mock(Course.class)),
+				new CourseCursor("Java", 2).encode()
+			);
+
+			Mockito.when(courseRepository.findAll(query))
+				.thenReturn(slice);
+
+			Slice<Course> result = assertDoesNotThrow(() -> courseService.findCourses(query));
+			assertAll(
+				() -> assertEquals(slice, result),
+				() -> assertTrue(result.hasNext())
+			);
+		}
+	}
+
 	@Nested
 	class GetUSerLessonByCourseIdWithProgressUseCase {
 
@@ -497,35 +559,23 @@ class CourseServiceTest {
 			int courseId1 = 10;
 			int courseId2 = 29;
 
-			Lesson l1 = new Lesson(23, courseId1, 24, "Title1", "Desc1");
-			Lesson l2 = new Lesson(24, courseId1, 25, "Title2", "Desc2");
-			Lesson l3 = new Lesson(25, courseId1, 26, "Title3", "Desc3");
-			Lesson l4 = new Lesson(26, courseId1, null, "Title4", "Desc4");
-			Lesson l5 = new Lesson(30, courseId2, 31, "Title5", "Desc5");
-			Lesson l6 = new Lesson(31, courseId2, null, "Title6", "Desc6");
-
-			List<UserLesson> userLessons = List.of(
-				new UserLesson(userId, l1, LocalDate.now(), UserLesson.ProgressStatus.COMPLETED),
-				new UserLesson(userId, l2, LocalDate.now(), UserLesson.ProgressStatus.COMPLETED),
-				new UserLesson(userId, l3, LocalDate.now(), UserLesson.ProgressStatus.IN_PROGRESS),
-				new UserLesson(userId, l4, LocalDate.now(), UserLesson.ProgressStatus.PENDING),
-				new UserLesson(userId, l5, LocalDate.now(), UserLesson.ProgressStatus.IN_PROGRESS),
-				new UserLesson(userId, l6, LocalDate.now(), UserLesson.ProgressStatus.PENDING)
-			);
-
-			Mockito.when(userLessonRepository.findAllWhereUserIsSubscribed(userId))
-				.thenReturn(userLessons);
+			Mockito.when(userLessonRepository.findAllCourseProgressSummariesByUserId(userId))
+				.thenReturn(List.of(
+					new CourseProgressSummary(courseId1, 1, 1, 2),
+					new CourseProgressSummary(courseId2, 1, 1, 0)
+				));
 
-			List<GetAllCoursesWithProgressResult> results = assertDoesNotThrow(
+			List<CourseProgressSummary> results = assertDoesNotThrow(
 				() -> courseService.getAllCourseProgress(userId)
 			);
 			assertAll(
 				() -> assertEquals(2, results.size()),
-				() -> assertEquals(4, results.getFirst().userLessons().size()),
-				() -> assertEquals(2, results.get(1).userLessons().size()),
+				() -> assertEquals(4, results.getFirst().totalLessons()),
+				() -> assertEquals(2, results.get(1).totalLessons()),
 				() -> assertEquals(0.625f, results.getFirst().progress()),
 				() -> assertEquals(0.25f, results.get(1).progress())
 			);
+			Mockito.verify(userLessonRepository, Mockito.never()).findAllWhereUserIsSubscribed(userId);
 		}
 
 		@Test
@@ -534,7 +584,7 @@ class CourseServiceTest {
 
 			int userId = 100;
 
-			Mockito.when(userLessonRepository.findAllWhereUserIsSubscribed(userId))
+			Mockito.when(userLessonRepository.findAllCourseProgressSummariesByUserId(userId))
 				.thenThrow(new KnowyInconsistentDataException("Inconsistent Data"));
 
 			assertThrows(
@@ -543,4 +593,96 @@ class CourseServiceTest {
 			);
 		}
 	}
+
+	@Nested
+	class GetCourseOutlineUseCaseTest {
+
+		@Test
+		void given_followedLessons_when_getCourseOutline_then_returnOrderedLessonsWithStatus() throws KnowyInconsistentDataException {
+			int userId = 1;
+			int courseId = 10;
+
+			Course course = courseWithLessons(courseId, lesson(2, courseId), lesson(1, courseId), lesson(3, courseId));
+			Mockito.when(userLessonRepository.findAllStatusesByUserIdAndCourseId(userId, courseId))
+				.thenReturn(Map.of(
+					1, UserLesson.ProgressStatus.COMPLETED,
+					2, UserLesson.ProgressStatus.IN_PROGRESS
+				));
+			Mockito.when(courseRepository.findById(courseId))
+				.thenReturn(Optional.of(course));
+
+			CourseOutlineView result = assertDoesNotThrow(() -> courseService.getCourseOutline(userId, courseId));
+			assertAll(
+				() -> assertEquals(List.of(1, 2), result.lessons().stream().map(CourseOutlineView.LessonOutline::id).toList()),
+				() -> assertEquals(UserLesson.ProgressStatus.COMPLETED, result.lessons().getFirst().status()),
+				() -> assertEquals("Course " + courseId, result.title()),
+				() -> assertNull(result.currentLesson()),
+				() -> Mockito.verify(userLessonRepository, Mockito.never()).findAllByUserIdAndCourseId(userId, courseId)
+			);
+		}
+
+		@Test
+		void given_followedLesson_when_getCourseOutlineWithLesson_then_returnLessonContent() throws KnowyInconsistentDataException {
+			int userId = 1;
+			int courseId = 10;
+
+			Lesson currentLesson = lesson(2, courseId);
+			Course course = courseWithLessons(courseId, lesson(1, courseId), currentLesson);
+			Mockito.when(userLessonRepository.findAllStatusesByUserIdAndCourseId(userId, courseId))
+				.thenReturn(Map.of(1, UserLesson.ProgressStatus.COMPLETED, 2, UserLesson.ProgressStatus.IN_PROGRESS));
+			Mockito.when(courseRepository.findById(courseId))
+				.thenReturn(Optional.of(course));
+
+			CourseOutlineView result = assertDoesNotThrow(() -> courseService.getCourseOutline(userId, courseId, 2));
+			assertEquals(currentLesson, result.currentLesson());
+		}
+
+		@Test
+		void given_lessonNotFollowed_when_getCourseOutlineWithLesson_then_throwKnowyCurrentLessonNotFoundException() throws KnowyInconsistentDataException {
+			int userId = 1;
+			int courseId = 10;
+
+			Course course = courseWithLessons(courseId, lesson(1, courseId), lesson(2, courseId));
+			Mockito.when(userLessonRepository.findAllStatusesByUserIdAndCourseId(userId, courseId))
+				.thenReturn(Map.of(1, UserLesson.ProgressStatus.IN_PROGRESS));
+			Mockito.when(courseRepository.findById(courseId))
+				.thenReturn(Optional.of(course));
+
+			assertThrows(
+				KnowyCurrentLessonNotFoundException.class,
+				() -> courseService.getCourseOutline(userId, courseId, 2)
+			);
+		}
+
+		@Test
+		void given_courseNotFollowed_when_getCourseOutline_then_throwKnowyUserLessonNotFoundException() throws KnowyInconsistentDataException {
+			int userId = 1;
+			int courseId = 10;
+
+			Mockito.when(userLessonRepository.findAllStatusesByUserIdAndCourseId(userId, courseId))
+				.thenReturn(Map.of());
+
+			assertThrows(
+				KnowyUserLessonNotFoundException.class,
+				() -> courseService.getCourseOutline(userId, courseId)
+			);
+		}
+
+		private Lesson lesson(int lessonId, int courseId) {
+			return new Lesson(lessonId, courseId, null, "Lesson " + lessonId, "Explanation " + lessonId, Set.of(), Set.of());
+		}
+
+		private Course courseWithLessons(int courseId, Lesson... lessons) {
+			return new Course(
+				courseId,
+				"Course " + courseId,
+				"Description",
+				"image.png",
+				"Author",
+				LocalDateTime.now(),
+				Set.of(),
+				new LinkedHashSet<>(List.of(lessons))
+			);
+		}
+	}
 }
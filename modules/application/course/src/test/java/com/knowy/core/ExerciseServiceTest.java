@@ -1,16 +1,19 @@
 package com.knowy.core;
 
 import com.knowy.core.domain.Exercise;
+import com.knowy.core.domain.ExercisePageView;
 import com.knowy.core.domain.Option;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyExerciseNotFoundException;
+import com.knowy.core.port.ExercisePageViewRepository;
 import com.knowy.core.port.ExerciseRepository;
 import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,9 +33,21 @@ public class ExerciseServiceTest {
 	@Mock
 	private ExerciseRepository exerciseRepository;
 
-	@InjectMocks
+	@Mock
+	private ExercisePageViewRepository exercisePageViewRepository;
+
 	private ExerciseService exerciseService;
 
+	@BeforeEach
+	void setUp() {
+		exerciseService = new ExerciseService(
+			userExerciseRepository,
+			exerciseRepository,
+			exercisePageViewRepository,
+			new ReviewScheduler(userExerciseRepository, 0)
+		);
+	}
+
 	@Nested
 	class GetNextExerciseByLessonIdUseCaseTest {
 
@@ -199,4 +214,61 @@ public class ExerciseServiceTest {
 			);
 		}
 	}
+
+	@Nested
+	class GetExercisePageUseCase {
+
+		@Test
+		void given_startedLesson_when_getExercisePage_then_returnStoredPage() throws KnowyDataAccessException {
+			int userId = 23;
+			int exerciseId = 93;
+
+			ExercisePageView exercisePage = new ExercisePageView(
+				exerciseId, 2334, "Java", "What is Java?", List.of(new Option(1, "A language", true)), 40
+			);
+			Mockito.when(exercisePageViewRepository.findByUserIdAndExerciseId(userId, exerciseId))
+				.thenReturn(Optional.of(exercisePage));
+
+			ExercisePageView result = assertDoesNotThrow(() -> exerciseService.getExercisePage(userId, exerciseId));
+			assertAll(
+				() -> assertEquals(exercisePage, result),
+				() -> Mockito.verifyNoInteractions(userExerciseRepository, exerciseRepository)
+			);
+		}
+
+		@Test
+		void given_missingPage_when_getExercisePage_then_throwKnowyExerciseNotFoundException() throws KnowyDataAccessException {
+			int userId = 23;
+			int exerciseId = 93;
+
+			Mockito.when(exercisePageViewRepository.findByUserIdAndExerciseId(userId, exerciseId))
+				.thenReturn(Optional.empty());
+
+			assertThrows(
+				KnowyExerciseNotFoundException.class,
+				() -> exerciseService.getExercisePage(userId, exerciseId)
+			);
+		}
+
+		@Test
+		void given_nextExercise_when_getNextExercisePageByLessonId_then_returnPageWithScheduledRate() throws KnowyDataAccessException {
+			int userId = 6;
+			int lessonId = 129;
+
+			Exercise exercise = new Exercise(93, lessonId, "What is Java?", List.of(new Option(1, "A language", true)));
+			Mockito.when(userExerciseRepository.findNextExerciseByLessonId(userId, lessonId))
+				.thenReturn(Optional.of(new UserExercise(userId, exercise, 70, LocalDateTime.now())));
+			Mockito.when(exercisePageViewRepository.findByUserIdAndExerciseId(userId, 93))
+				.thenReturn(Optional.of(new ExercisePageView(93, lessonId, "Java", "What is Java?", exercise.options(), 40)));
+
+			ExercisePageView result = assertDoesNotThrow(
+				() -> exerciseService.getNextExercisePageByLessonId(userId, lessonId)
+			);
+			assertAll(
+				() -> assertEquals(93, result.exerciseId()),
+				() -> assertEquals("Java", result.courseTitle()),
+				() -> assertEquals(70, result.rate())
+			);
+		}
+	}
 }
@@ -6,10 +6,11 @@ import com.knowy.core.port.LessonBaseRepository;
 import com.knowy.core.port.LessonRepository;
 import com.knowy.core.port.UserExerciseRepository;
 import com.knowy.core.port.UserLessonRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,9 +36,18 @@ public class LessonServiceTest {
 	@Mock
 	private LessonBaseRepository lessonBaseRepository;
 
-	@InjectMocks
 	private LessonService lessonService;
 
+	@BeforeEach
+	void setUp() {
+		lessonService = new LessonService(
+			userLessonRepository,
+			userExerciseRepository,
+			lessonBaseRepository,
+			new ReviewScheduler(userExerciseRepository, 0)
+		);
+	}
+
 	@Nested
 	class GetUserLessonByIdUseCaseTest {
 
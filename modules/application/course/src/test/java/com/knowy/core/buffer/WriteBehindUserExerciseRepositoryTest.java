@@ -0,0 +1,221 @@
+package com.knowy.core.buffer;
+
+import com.knowy.core.domain.Exercise;
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.port.UserExerciseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindUserExerciseRepositoryTest {
+
+	private static final int USER_ID = 7;
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+	@Mock
+	private UserExerciseRepository userExerciseRepository;
+
+	private WriteBehindUserExerciseRepository writeBehindRepository;
+
+	@BeforeEach
+	void setUp() {
+		writeBehindRepository = new WriteBehindUserExerciseRepository(userExerciseRepository, 100, Duration.ofHours(1), 1_000);
+	}
+
+	@AfterEach
+	void tearDown() throws KnowyDataAccessException {
+		Mockito.reset(userExerciseRepository);
+		writeBehindRepository.close();
+	}
+
+	@Test
+	void given_severalSavesOfSameExercise_when_flush_then_storeOnlyLatest() throws KnowyDataAccessException {
+		writeBehindRepository.save(userExercise(1, 10, 20, NOW));
+		writeBehindRepository.save(userExercise(1, 10, 45, NOW.plusDays(1)));
+		writeBehindRepository.save(userExercise(2, 10, 60, NOW));
+
+		writeBehindRepository.flush();
+
+		List<UserExercise> stored = captureSavedBatch();
+		assertEquals(2, stored.size());
+		assertTrue(stored.contains(userExercise(1, 10, 45, NOW.plusDays(1))));
+		assertTrue(stored.contains(userExercise(2, 10, 60, NOW)));
+		assertEquals(0, writeBehindRepository.stats().pending());
+	}
+
+	@Test
+	void given_pendingProgress_when_findById_then_returnPendingWithoutQueryingRepository() throws KnowyDataAccessException {
+		UserExercise pending = userExercise(1, 10, 45, NOW);
+		writeBehindRepository.save(pending);
+
+		Optional<UserExercise> result = writeBehindRepository.findById(USER_ID, 1);
+
+		assertEquals(Optional.of(pending), result);
+		Mockito.verify(userExerciseRepository, Mockito.never()).findById(Mockito.anyInt(), Mockito.anyInt());
+	}
+
+	@Test
+	void given_pendingProgress_when_findAllByUserIdAndLessonId_then_overlayPendingOnStored() throws KnowyDataAccessException {
+		UserExercise stored = userExercise(1, 10, 20, NOW);
+		UserExercise otherStored = userExercise(2, 10, 30, NOW);
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, 10))
+			.thenReturn(List.of(stored, otherStored));
+		UserExercise updated = userExercise(1, 10, 80, NOW.plusDays(2));
+		UserExercise added = userExercise(3, 10, 10, NOW);
+		writeBehindRepository.save(updated);
+		writeBehindRepository.save(added);
+		writeBehindRepository.save(userExercise(4, 11, 10, NOW));
+
+		List<UserExercise> result = writeBehindRepository.findAllByUserIdAndLessonId(USER_ID, 10);
+
+		assertEquals(List.of(updated, otherStored, added), result);
+	}
+
+	@Test
+	void given_pendingProgress_when_findNextExerciseByUserId_then_flushBeforeDelegating() throws KnowyDataAccessException {
+		writeBehindRepository.save(userExercise(1, 10, 20, NOW));
+
+		writeBehindRepository.findNextExerciseByUserId(USER_ID);
+
+		var inOrder = Mockito.inOrder(userExerciseRepository);
+		inOrder.verify(userExerciseRepository).saveAll(Mockito.anyCollection());
+		inOrder.verify(userExerciseRepository).findNextExerciseByUserId(USER_ID);
+	}
+
+	@Test
+	void given_maxPendingReached_when_save_then_flushSynchronously() throws KnowyDataAccessException {
+		WriteBehindUserExerciseRepository boundedRepository =
+			new WriteBehindUserExerciseRepository(userExerciseRepository, 100, Duration.ofHours(1), 2);
+
+		boundedRepository.save(userExercise(1, 10, 20, NOW));
+		Mockito.verify(userExerciseRepository, Mockito.never()).saveAll(Mockito.anyCollection());
+		boundedRepository.save(userExercise(2, 10, 20, NOW));
+
+		Mockito.verify(userExerciseRepository).saveAll(Mockito.anyCollection());
+		assertEquals(0, boundedRepository.stats().pending());
+		boundedRepository.close();
+	}
+
+	@Test
+	void given_failingRepository_when_flush_then_keepProgressPending() throws KnowyDataAccessException {
+		UserExercise pending = userExercise(1, 10, 20, NOW);
+		Mockito.when(userExerciseRepository.saveAll(Mockito.anyCollection()))
+			.thenThrow(new KnowyDataAccessException("Database unavailable"));
+		writeBehindRepository.save(pending);
+
+		assertThrows(KnowyDataAccessException.class, () -> writeBehindRepository.flush());
+
+		WriteBehindUserExerciseRepository.WriteBehindStats stats = writeBehindRepository.stats();
+		assertEquals(1, stats.pending());
+		assertEquals(1, stats.failedFlushes());
+		assertEquals(Optional.of(pending), writeBehindRepository.findById(USER_ID, 1));
+	}
+
+	@Test
+	void given_rejectedRowInBatch_when_flush_then_storeOthersAndDropRejectedAfterMaxAttempts() throws KnowyDataAccessException {
+		UserExercise rejected = userExercise(1, 10, 20, NOW);
+		UserExercise accepted = userExercise(2, 10, 20, NOW);
+		Mockito.when(userExerciseRepository.saveAll(Mockito.anyCollection())).thenAnswer(invocation -> {
+			Collection<UserExercise> batch = invocation.getArgument(0);
+			if (batch.contains(rejected)) {
+				throw new KnowyDataAccessException("Constraint violated");
+			}
+			return List.copyOf(batch);
+		});
+		WriteBehindUserExerciseRepository retryingRepository =
+			new WriteBehindUserExerciseRepository(userExerciseRepository, 100, Duration.ofHours(1), 1_000, 2);
+		retryingRepository.save(rejected);
+		retryingRepository.save(accepted);
+
+		retryingRepository.flush();
+		WriteBehindUserExerciseRepository.WriteBehindStats afterFirstFlush = retryingRepository.stats();
+		assertThrows(KnowyDataAccessException.class, retryingRepository::flush);
+		WriteBehindUserExerciseRepository.WriteBehindStats afterSecondFlush = retryingRepository.stats();
+
+		Mockito.verify(userExerciseRepository).saveAll(List.of(accepted));
+		assertAll(
+			() -> assertEquals(1, afterFirstFlush.pending()),
+			() -> assertEquals(1, afterFirstFlush.flushedRows()),
+			() -> assertEquals(0, afterSecondFlush.pending()),
+			() -> assertEquals(1, afterSecondFlush.droppedRows())
+		);
+		retryingRepository.close();
+	}
+
+	@Test
+	void given_failedFlushAtMaxPending_when_save_then_keepQueuedAndRejectNextWithoutFlushingAgain()
+		throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.saveAll(Mockito.anyCollection()))
+			.thenThrow(new KnowyDataAccessException("Database unavailable"));
+		WriteBehindUserExerciseRepository boundedRepository =
+			new WriteBehindUserExerciseRepository(userExerciseRepository, 100, Duration.ofHours(1), 1);
+		UserExercise queued = userExercise(1, 10, 20, NOW);
+
+		assertDoesNotThrow(() -> boundedRepository.save(queued));
+		Mockito.clearInvocations(userExerciseRepository);
+		assertThrows(KnowyDataAccessException.class, () -> boundedRepository.save(userExercise(2, 10, 20, NOW)));
+
+		Mockito.verify(userExerciseRepository, Mockito.never()).saveAll(Mockito.anyCollection());
+		assertAll(
+			() -> assertEquals(1, boundedRepository.stats().pending()),
+			() -> assertEquals(Optional.of(queued), boundedRepository.findById(USER_ID, 1)),
+			() -> assertEquals(Optional.empty(), boundedRepository.findById(USER_ID, 2))
+		);
+		Mockito.reset(userExerciseRepository);
+		boundedRepository.close();
+	}
+
+	@Test
+	void given_rejectedRowInFirstBatch_when_flush_then_storeRemainingBatches() throws KnowyDataAccessException {
+		UserExercise rejected = userExercise(1, 10, 20, NOW);
+		UserExercise accepted = userExercise(2, 10, 20, NOW);
+		UserExercise nextBatch = userExercise(3, 10, 20, NOW);
+		Mockito.when(userExerciseRepository.saveAll(Mockito.anyCollection())).thenAnswer(invocation -> {
+			Collection<UserExercise> batch = invocation.getArgument(0);
+			if (batch.contains(rejected)) {
+				throw new KnowyDataAccessException("Constraint violated");
+			}
+			return List.copyOf(batch);
+		});
+		// Reaching maxPending flushes in the saving thread, so the whole flush happens before saveAll returns
+		WriteBehindUserExerciseRepository smallBatchRepository =
+			new WriteBehindUserExerciseRepository(userExerciseRepository, 2, Duration.ofHours(1), 3);
+
+		assertDoesNotThrow(() -> smallBatchRepository.saveAll(List.of(rejected, accepted, nextBatch)));
+
+		Mockito.verify(userExerciseRepository).saveAll(List.of(accepted));
+		Mockito.verify(userExerciseRepository).saveAll(List.of(nextBatch));
+		assertAll(
+			() -> assertEquals(1, smallBatchRepository.stats().pending()),
+			() -> assertEquals(Optional.of(rejected), smallBatchRepository.findById(USER_ID, 1))
+		);
+		Mockito.reset(userExerciseRepository);
+		smallBatchRepository.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<UserExercise> captureSavedBatch() throws KnowyDataAccessException {
+		ArgumentCaptor<Collection<UserExercise>> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(userExerciseRepository).saveAll(captor.capture());
+		return List.copyOf(captor.getValue());
+	}
+
+	private static UserExercise userExercise(int exerciseId, int lessonId, int rate, LocalDateTime nextReview) {
+		return new UserExercise(USER_ID, new Exercise(exerciseId, lessonId, "Statement", List.of()), rate, nextReview);
+	}
+}
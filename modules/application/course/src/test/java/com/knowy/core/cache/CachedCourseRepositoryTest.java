@@ -0,0 +1,53 @@
+package com.knowy.core.cache;
+
+import com.knowy.core.domain.Course;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.sampling.CourseIdIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCourseRepositoryTest {
+
+	@Mock
+	private CourseRepository courseRepository;
+
+	@Test
+	void given_repositoryReturningIdOrder_when_sample_then_keepSampledOrder() throws KnowyInconsistentDataException {
+		List<Integer> courseIds = IntStream.rangeClosed(1, 20).boxed().toList();
+		Mockito.when(courseRepository.findIdIndex()).thenReturn(new CourseIdIndex(courseIds, Map.of()));
+		Mockito.when(courseRepository.findAllById(Mockito.anyList())).thenAnswer(invocation -> {
+			List<Integer> ids = invocation.getArgument(0);
+			return ids.stream()
+				.sorted(Comparator.naturalOrder())
+				.map(CachedCourseRepositoryTest::course)
+				.toList();
+		});
+		CachedCourseRepository cachedCourseRepository = new CachedCourseRepository(courseRepository, new CatalogCache(100));
+
+		List<Course> result = cachedCourseRepository.sample(10);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Integer>> sampledIds = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(courseRepository).findAllById(sampledIds.capture());
+		assertEquals(sampledIds.getValue(), result.stream().map(Course::id).toList());
+	}
+
+	private static Course course(int id) {
+		return new Course(id, "Title " + id, "Description", "Image", "Author", LocalDateTime.now(), Set.of(), Set.of());
+	}
+}
@@ -0,0 +1,106 @@
+package com.knowy.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheTest {
+
+	@Test
+	void given_cachedValue_when_get_then_notLoadAgain() {
+		CatalogCache catalogCache = new CatalogCache(10);
+		AtomicInteger loads = new AtomicInteger();
+
+		catalogCache.get("course", 1, () -> Optional.of("course-" + loads.incrementAndGet()));
+		Optional<String> result = catalogCache.get("course", 1, () -> Optional.of("course-" + loads.incrementAndGet()));
+
+		assertEquals(Optional.of("course-1"), result);
+		assertEquals(1, loads.get());
+		assertAll(
+			() -> assertEquals(1, catalogCache.stats().hits()),
+			() -> assertEquals(1, catalogCache.stats().misses())
+		);
+	}
+
+	@Test
+	void given_emptyResult_when_get_then_loadAgain() {
+		CatalogCache catalogCache = new CatalogCache(10);
+		AtomicInteger loads = new AtomicInteger();
+
+		catalogCache.get("course", 1, () -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		});
+		Optional<String> result = catalogCache.get("course", 1, () -> Optional.of("course-" + loads.incrementAndGet()));
+
+		assertEquals(Optional.of("course-2"), result);
+		assertEquals(2, loads.get());
+		assertEquals(1, catalogCache.stats().size());
+	}
+
+	@Test
+	void given_sameIdInDifferentRegions_when_get_then_keepSeparateEntries() {
+		CatalogCache catalogCache = new CatalogCache(10);
+
+		catalogCache.get("course", 1, () -> "course");
+		String result = catalogCache.get("lesson", 1, () -> "lesson");
+
+		assertEquals("lesson", result);
+		assertEquals(2, catalogCache.stats().size());
+	}
+
+	@Test
+	void given_fullCache_when_get_then_evictLeastRecentlyUsed() {
+		CatalogCache catalogCache = new CatalogCache(2);
+
+		catalogCache.get("course", 1, () -> "first");
+		catalogCache.get("course", 2, () -> "second");
+		catalogCache.get("course", 1, () -> "unused");
+		catalogCache.get("course", 3, () -> "third");
+
+		assertAll(
+			() -> assertEquals(1, catalogCache.stats().evictions()),
+			() -> assertEquals("first", catalogCache.getIfPresent("course", 1)),
+			() -> assertNull(catalogCache.getIfPresent("course", 2))
+		);
+	}
+
+	@Test
+	void given_invalidation_when_get_then_reloadAndBumpVersion() {
+		CatalogCache catalogCache = new CatalogCache(10);
+
+		catalogCache.get("course", 1, () -> "old");
+		catalogCache.invalidateAll();
+		String result = catalogCache.get("course", 1, () -> "new");
+
+		assertEquals("new", result);
+		assertEquals(1, catalogCache.stats().version());
+	}
+
+	@Test
+	void given_invalidationDuringLoad_when_get_then_notStoreStaleValue() {
+		CatalogCache catalogCache = new CatalogCache(10);
+
+		String result = catalogCache.get("course", 1, () -> {
+			catalogCache.invalidateAll();
+			return "stale";
+		});
+
+		assertEquals("stale", result);
+		assertNull(catalogCache.getIfPresent("course", 1));
+	}
+
+	@Test
+	void given_disabledCache_when_get_then_alwaysLoad() {
+		CatalogCache catalogCache = new CatalogCache(0);
+		AtomicInteger loads = new AtomicInteger();
+
+		catalogCache.get("course", 1, loads::incrementAndGet);
+		catalogCache.get("course", 1, loads::incrementAndGet);
+
+		assertEquals(2, loads.get());
+	}
+}
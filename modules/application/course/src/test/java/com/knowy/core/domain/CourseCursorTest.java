@@ -0,0 +1,34 @@
+package com.knowy.core.domain;
+
+import com.knowy.core.exception.KnowyIllegalArgumentRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCursorTest {
+
+	@Test
+	void given_course_when_encodeAndDecodeCursor_then_returnSamePosition() {
+		Course course = new Course(42, "Java: de cero a experto", "Desc", "img", "Author", LocalDateTime.now());
+
+		CourseCursor result = CourseCursor.decode(CourseCursor.after(course).encode());
+
+		assertEquals(new CourseCursor("Java: de cero a experto", 42), result);
+	}
+
+	@Test
+	void given_malformedToken_when_decode_then_throwKnowyIllegalArgumentRuntimeException() {
+		assertThrows(KnowyIllegalArgumentRuntimeException.class, () -> CourseCursor.decode("not a cursor"));
+	}
+
+	@Test
+	void given_tokenWithoutId_when_decode_then_throwKnowyIllegalArgumentRuntimeException() {
+		String token = Base64.getUrlEncoder().encodeToString("Java".getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(KnowyIllegalArgumentRuntimeException.class, () -> CourseCursor.decode(token));
+	}
+}
@@ -0,0 +1,96 @@
+package com.knowy.core.progress;
+
+import com.knowy.core.domain.Exercise;
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.UserExerciseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LessonProgressTrackerTest {
+
+	private static final int USER_ID = 7;
+	private static final int LESSON_ID = 10;
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+	@Mock
+	private UserExerciseRepository userExerciseRepository;
+
+	private LessonProgressTracker lessonProgressTracker;
+
+	@BeforeEach
+	void setUp() {
+		lessonProgressTracker = new LessonProgressTracker(userExerciseRepository);
+	}
+
+	@Test
+	void given_firstAnswerOfLesson_when_record_then_loadLessonAndReturnAverage() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, LESSON_ID))
+			.thenReturn(List.of(userExercise(1, 50), userExercise(2, 96), userExercise(3, 70)));
+
+		double progress = lessonProgressTracker.record(userExercise(2, 96));
+
+		assertEquals(0.72, progress, 1e-9);
+	}
+
+	@Test
+	void given_loadedLesson_when_recordAnsweredExercise_then_applyRateDeltaWithoutQuerying()
+		throws KnowyDataAccessException {
+
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, LESSON_ID))
+			.thenReturn(List.of(userExercise(1, 50), userExercise(2, 70)));
+		lessonProgressTracker.record(userExercise(2, 70));
+
+		double progress = lessonProgressTracker.record(userExercise(1, 90));
+
+		assertEquals(0.8, progress, 1e-9);
+		Mockito.verify(userExerciseRepository, Mockito.times(1)).findAllByUserIdAndLessonId(USER_ID, LESSON_ID);
+	}
+
+	@Test
+	void given_loadedLesson_when_recordNewExercise_then_countIt() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, LESSON_ID))
+			.thenReturn(List.of(userExercise(1, 60)));
+		lessonProgressTracker.record(userExercise(1, 60));
+
+		double progress = lessonProgressTracker.record(userExercise(2, 20));
+
+		assertEquals(0.4, progress, 1e-9);
+	}
+
+	@Test
+	void given_lessonWithoutAnsweredExercises_when_record_then_throwKnowyInconsistentDataException()
+		throws KnowyDataAccessException {
+
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, LESSON_ID)).thenReturn(List.of());
+
+		assertThrows(KnowyInconsistentDataException.class, () -> lessonProgressTracker.record(userExercise(1, 20)));
+	}
+
+	@Test
+	void given_disabledTracker_when_record_then_reloadLessonEveryTime() throws KnowyDataAccessException {
+		LessonProgressTracker disabledTracker = new LessonProgressTracker(userExerciseRepository, 0);
+		Mockito.when(userExerciseRepository.findAllByUserIdAndLessonId(USER_ID, LESSON_ID))
+			.thenReturn(List.of(userExercise(1, 40)))
+			.thenReturn(List.of(userExercise(1, 80)));
+
+		assertEquals(0.4, disabledTracker.record(userExercise(1, 40)), 1e-9);
+		assertEquals(0.8, disabledTracker.record(userExercise(1, 80)), 1e-9);
+		Mockito.verify(userExerciseRepository, Mockito.times(2)).findAllByUserIdAndLessonId(USER_ID, LESSON_ID);
+	}
+
+	private static UserExercise userExercise(int exerciseId, int rate) {
+		return new UserExercise(USER_ID, new Exercise(exerciseId, LESSON_ID, "Statement", List.of()), rate, NOW);
+	}
+}
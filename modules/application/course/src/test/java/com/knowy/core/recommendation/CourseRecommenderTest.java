@@ -0,0 +1,111 @@
+package com.knowy.core.recommendation;
+
+import com.knowy.core.domain.Category;
+import com.knowy.core.domain.Course;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.UserLessonRepository;
+import com.knowy.core.sampling.CourseIdIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseRecommenderTest {
+
+	private static final int USER_ID = 7;
+	private static final Category JAVA = new Category(1, "Java");
+	private static final Category SPRING = new Category(2, "Spring");
+
+	@Mock
+	private CourseRepository courseRepository;
+
+	@Mock
+	private UserLessonRepository userLessonRepository;
+
+	private CourseRecommender courseRecommender;
+
+	@BeforeEach
+	void setUp() throws KnowyInconsistentDataException {
+		courseRecommender = new CourseRecommender(courseRepository, userLessonRepository);
+
+		Mockito.when(courseRepository.findIdIndex()).thenReturn(new CourseIdIndex(
+			List.of(1, 2, 3, 4, 5),
+			Map.of(
+				JAVA.id(), List.of(1, 2, 3),
+				SPRING.id(), List.of(2, 3)
+			)
+		));
+		Mockito.lenient().when(courseRepository.findAllById(Mockito.anyList()))
+			.thenAnswer(invocation -> invocation.<List<Integer>>getArgument(0).stream()
+				.map(CourseRecommenderTest::course)
+				.toList());
+	}
+
+	@Test
+	void given_coursesMatchingSeveralCategories_when_recommend_then_returnThemFirst()
+		throws KnowyInconsistentDataException {
+
+		Mockito.when(userLessonRepository.findCourseIdsByUserId(USER_ID)).thenReturn(List.of());
+
+		List<Course> result = courseRecommender.recommend(USER_ID, Set.of(JAVA, SPRING), 3);
+
+		assertAll(
+			() -> assertEquals(Set.of(2, 3), Set.of(result.get(0).id(), result.get(1).id())),
+			() -> assertEquals(1, result.get(2).id())
+		);
+	}
+
+	@Test
+	void given_subscribedCourses_when_recommend_then_excludeThem() throws KnowyInconsistentDataException {
+		Mockito.when(userLessonRepository.findCourseIdsByUserId(USER_ID)).thenReturn(List.of(2, 4));
+
+		List<Course> result = courseRecommender.recommend(USER_ID, Set.of(JAVA), 5);
+
+		assertEquals(Set.of(1, 3, 5), ids(result));
+	}
+
+	@Test
+	void given_newSubscription_when_recommend_then_excludeCourseWithoutReloading() throws KnowyInconsistentDataException {
+		Mockito.when(userLessonRepository.findCourseIdsByUserId(USER_ID)).thenReturn(List.of());
+		courseRecommender.recommend(USER_ID, Set.of(JAVA), 5);
+
+		courseRecommender.subscribed(USER_ID, 3);
+		List<Course> result = courseRecommender.recommend(USER_ID, Set.of(JAVA), 5);
+
+		assertEquals(Set.of(1, 2, 4, 5), ids(result));
+		Mockito.verify(userLessonRepository, Mockito.times(1)).findCourseIdsByUserId(USER_ID);
+	}
+
+	@Test
+	void given_disabledRecommenderCache_when_recommend_then_reloadSubscriptions() throws KnowyInconsistentDataException {
+		CourseRecommender uncachedRecommender = new CourseRecommender(courseRepository, userLessonRepository, 0);
+		Mockito.when(userLessonRepository.findCourseIdsByUserId(USER_ID)).thenReturn(List.of(1));
+
+		uncachedRecommender.recommend(USER_ID, Set.of(JAVA), 2);
+		uncachedRecommender.recommend(USER_ID, Set.of(JAVA), 2);
+
+		Mockito.verify(userLessonRepository, Mockito.times(2)).findCourseIdsByUserId(USER_ID);
+	}
+
+	private static Set<Integer> ids(List<Course> courses) {
+		Set<Integer> ids = new HashSet<>();
+		courses.forEach(course -> ids.add(course.id()));
+		return ids;
+	}
+
+	private static Course course(int id) {
+		return new Course(id, "Title", "Desc", "img", "Author", LocalDateTime.now(), Set.of(), new HashSet<>());
+	}
+}
@@ -0,0 +1,71 @@
+package com.knowy.core.sampling;
+
+import com.knowy.core.domain.Category;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseIdIndexTest {
+
+	private final CourseIdIndex courseIdIndex = new CourseIdIndex(
+		List.of(1, 2, 3, 4, 5, 6, 7, 8),
+		Map.of(
+			10, List.of(1, 2, 3),
+			20, List.of(3, 4)
+		)
+	);
+
+	@Test
+	void given_largerCatalog_when_sample_then_returnDistinctIdsOfCatalog() {
+		List<Integer> sample = courseIdIndex.sample(4, new Random(42));
+
+		assertAll(
+			() -> assertEquals(4, sample.size()),
+			() -> assertEquals(4, new HashSet<>(sample).size()),
+			() -> assertTrue(Set.of(1, 2, 3, 4, 5, 6, 7, 8).containsAll(sample))
+		);
+	}
+
+	@Test
+	void given_smallerCatalog_when_sample_then_returnWholeCatalog() {
+		List<Integer> sample = courseIdIndex.sample(20, new Random(42));
+
+		assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8), new HashSet<>(sample));
+	}
+
+	@Test
+	void given_overlappingCategories_when_sampleByCategories_then_returnEachCourseOnce() {
+		List<Integer> sample = courseIdIndex.sampleByCategories(
+			10, List.of(new Category(10, "Java"), new Category(20, "Spring")), new Random(42)
+		);
+
+		assertAll(
+			() -> assertEquals(4, sample.size()),
+			() -> assertEquals(Set.of(1, 2, 3, 4), new HashSet<>(sample))
+		);
+	}
+
+	@Test
+	void given_unknownCategory_when_sampleByCategories_then_returnEmpty() {
+		List<Integer> sample = courseIdIndex.sampleByCategories(3, List.of(new Category(99, "Unknown")), new Random(42));
+
+		assertTrue(sample.isEmpty());
+	}
+
+	@Test
+	void given_repeatedSamples_when_sample_then_everyCourseCanBeDrawnFirst() {
+		Random random = new Random(7);
+		Set<Integer> firstIds = new HashSet<>();
+		for (int i = 0; i < 200; i++) {
+			firstIds.add(courseIdIndex.sample(1, random).getFirst());
+		}
+
+		assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8), firstIds);
+	}
+}
@@ -0,0 +1,158 @@
+package com.knowy.core.scheduler;
+
+import com.knowy.core.domain.Exercise;
+import com.knowy.core.domain.UserExercise;
+import com.knowy.core.exception.KnowyDataAccessException;
+import com.knowy.core.port.UserExerciseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSchedulerTest {
+
+	private static final int USER_ID = 7;
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+	@Mock
+	private UserExerciseRepository userExerciseRepository;
+
+	private ReviewScheduler reviewScheduler;
+
+	@BeforeEach
+	void setUp() {
+		reviewScheduler = new ReviewScheduler(userExerciseRepository);
+	}
+
+	@Test
+	void given_unansweredExercise_when_nextByLessonId_then_returnItBeforeScheduledOnes() throws KnowyDataAccessException {
+		UserExercise scheduled = userExercise(1, 10, 20, NOW.minusDays(1));
+		UserExercise unanswered = userExercise(2, 10, 0, null);
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(scheduled, unanswered));
+
+		UserExercise result = reviewScheduler.nextByLessonId(USER_ID, 10).orElseThrow();
+
+		assertEquals(2, result.exercise().id());
+		assertNotNull(result.nextReview());
+	}
+
+	@Test
+	void given_sameNextReview_when_nextByLessonId_then_returnLowestRate() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(
+				userExercise(1, 10, 60, NOW),
+				userExercise(2, 10, 30, NOW),
+				userExercise(3, 10, 90, NOW)
+			));
+
+		UserExercise result = reviewScheduler.nextByLessonId(USER_ID, 10).orElseThrow();
+
+		assertEquals(2, result.exercise().id());
+	}
+
+	@Test
+	void given_answeredHead_when_reschedule_then_nextExerciseChanges() throws KnowyDataAccessException {
+		UserExercise first = userExercise(1, 10, 0, NOW.minusMinutes(5));
+		UserExercise second = userExercise(2, 10, 0, NOW.minusMinutes(1));
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(first, second));
+
+		assertEquals(1, reviewScheduler.nextByLessonId(USER_ID, 10).orElseThrow().exercise().id());
+		reviewScheduler.reschedule(userExercise(1, 10, 45, NOW.plusMinutes(15)));
+
+		assertEquals(2, reviewScheduler.nextByLessonId(USER_ID, 10).orElseThrow().exercise().id());
+		Mockito.verify(userExerciseRepository, Mockito.times(1)).findAllReviewCandidatesByUserId(USER_ID);
+	}
+
+	@Test
+	void given_lessonLargerThanInitialQueue_when_rescheduleEveryHead_then_visitExercisesInDueOrder()
+		throws KnowyDataAccessException {
+		List<UserExercise> candidates = IntStream.rangeClosed(1, 40)
+			.mapToObj(i -> userExercise(i * 64, 10, 0, NOW.minusMinutes(i)))
+			.toList();
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID)).thenReturn(candidates);
+
+		List<Integer> visited = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			UserExercise head = reviewScheduler.nextByLessonId(USER_ID, 10).orElseThrow();
+			visited.add(head.exercise().id());
+			reviewScheduler.reschedule(userExercise(head.exercise().id(), 10, 100, NOW.plusDays(1)));
+		}
+
+		List<Integer> expected = IntStream.iterate(40, i -> i >= 1, i -> i - 1).mapToObj(i -> i * 64).toList();
+		assertEquals(expected, visited);
+	}
+
+	@Test
+	void given_severalLessons_when_nextByUserId_then_returnFirstDueAcrossLessons() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(
+				userExercise(1, 10, 50, NOW.minusMinutes(1)),
+				userExercise(2, 11, 50, NOW.minusMinutes(9)),
+				userExercise(3, 12, 50, NOW.plusDays(1))
+			));
+
+		UserExercise result = reviewScheduler.nextByUserId(USER_ID).orElseThrow();
+
+		assertEquals(2, result.exercise().id());
+	}
+
+	@Test
+	void given_noCandidates_when_nextByUserId_then_returnEmpty() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID)).thenReturn(List.of());
+
+		assertTrue(reviewScheduler.nextByUserId(USER_ID).isEmpty());
+	}
+
+	@Test
+	void given_loadedUser_when_invalidate_then_reloadOnNextRequest() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(userExercise(1, 10, 0, NOW)));
+
+		reviewScheduler.nextByUserId(USER_ID);
+		reviewScheduler.invalidate(USER_ID);
+		reviewScheduler.nextByUserId(USER_ID);
+
+		Mockito.verify(userExerciseRepository, Mockito.times(2)).findAllReviewCandidatesByUserId(USER_ID);
+	}
+
+	@Test
+	void given_lessonMissingFromLoadedUser_when_nextByLessonId_then_reloadCandidates() throws KnowyDataAccessException {
+		Mockito.when(userExerciseRepository.findAllReviewCandidatesByUserId(USER_ID))
+			.thenReturn(List.of(userExercise(1, 10, 0, NOW)))
+			.thenReturn(List.of(userExercise(1, 10, 0, NOW), userExercise(5, 20, 0, null)));
+
+		reviewScheduler.nextByLessonId(USER_ID, 10);
+		Optional<UserExercise> result = reviewScheduler.nextByLessonId(USER_ID, 20);
+
+		assertEquals(5, result.orElseThrow().exercise().id());
+		Mockito.verify(userExerciseRepository, Mockito.times(2)).findAllReviewCandidatesByUserId(USER_ID);
+	}
+
+	@Test
+	void given_disabledScheduler_when_nextExercise_then_delegateToRepository() throws KnowyDataAccessException {
+		ReviewScheduler disabledScheduler = new ReviewScheduler(userExerciseRepository, 0);
+		UserExercise userExercise = userExercise(1, 10, 0, NOW);
+		Mockito.when(userExerciseRepository.findNextExerciseByLessonId(USER_ID, 10))
+			.thenReturn(Optional.of(userExercise));
+
+		assertEquals(Optional.of(userExercise), disabledScheduler.nextByLessonId(USER_ID, 10));
+		Mockito.verify(userExerciseRepository, Mockito.never()).findAllReviewCandidatesByUserId(Mockito.anyInt());
+	}
+
+	private static UserExercise userExercise(int exerciseId, int lessonId, int rate, LocalDateTime nextReview) {
+		return new UserExercise(USER_ID, new Exercise(exerciseId, lessonId, "Statement", List.of()), rate, nextReview);
+	}
+}
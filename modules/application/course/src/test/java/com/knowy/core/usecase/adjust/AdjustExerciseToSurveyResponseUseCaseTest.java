@@ -5,6 +5,7 @@ import com.knowy.core.domain.ExerciseDifficult;
 import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.core.scheduler.ReviewScheduler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -24,6 +25,9 @@ class AdjustExerciseToSurveyResponseUseCaseTest {
 	@Mock
 	private UserExerciseRepository userExerciseRepository;
 
+	@Mock
+	private ReviewScheduler reviewScheduler;
+
 	@InjectMocks
 	private AdjustExerciseToSurveyResponseUseCase adjustExerciseToSurveyResponseUseCase;
 
@@ -81,7 +85,8 @@ class AdjustExerciseToSurveyResponseUseCaseTest {
 			() -> assertEquals(expectedRate, saved.rate()),
 			() -> assertTrue(saved.nextReview().isBefore(LocalDateTime.now().plus(expectedNextReviewDelta)))
 		);
-		Mockito.clearInvocations(userExerciseRepository);
+		Mockito.verify(reviewScheduler, Mockito.times(1)).reschedule(saved);
+		Mockito.clearInvocations(userExerciseRepository, reviewScheduler);
 	}
 
 	@Test
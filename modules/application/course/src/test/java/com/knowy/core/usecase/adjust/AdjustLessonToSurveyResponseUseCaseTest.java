@@ -5,7 +5,8 @@ import com.knowy.core.exception.KnowyDataAccessException;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.UserExerciseRepository;
 import com.knowy.core.port.UserLessonRepository;
-import com.knowy.core.usecase.exercise.GetAllUserExercisesByCourseIdAndLessonIdUseCase;
+import com.knowy.core.progress.LessonProgressTracker;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.usecase.lesson.UpdateUserLessonStatusUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,29 +14,31 @@ import org.mockito.Mockito;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class AdjustLessonToSurveyResponseUseCaseTest {
 
-	private GetAllUserExercisesByCourseIdAndLessonIdUseCase getAllUserExercisesByCourseIdAndLessonIdUseCase;
+	private LessonProgressTracker lessonProgressTracker;
 	private AdjustExerciseToSurveyResponseUseCase adjustExerciseToSurveyResponseUseCase;
 	private UpdateUserLessonStatusUseCase updateUserLessonStatusUseCase;
+	private ReviewScheduler reviewScheduler;
 
 	private AdjustLessonToSurveyResponseUseCase adjustLessonToSurveyResponseUseCase;
 
 	@BeforeEach
 	void setUp() {
-		getAllUserExercisesByCourseIdAndLessonIdUseCase = Mockito.mock(GetAllUserExercisesByCourseIdAndLessonIdUseCase.class);
+		lessonProgressTracker = Mockito.mock(LessonProgressTracker.class);
 		adjustExerciseToSurveyResponseUseCase = Mockito.mock(AdjustExerciseToSurveyResponseUseCase.class);
 		updateUserLessonStatusUseCase = Mockito.mock(UpdateUserLessonStatusUseCase.class);
+		reviewScheduler = Mockito.mock(ReviewScheduler.class);
 
 		adjustLessonToSurveyResponseUseCase = new AdjustLessonToSurveyResponseUseCase(
-			getAllUserExercisesByCourseIdAndLessonIdUseCase,
+			lessonProgressTracker,
 			adjustExerciseToSurveyResponseUseCase,
-			updateUserLessonStatusUseCase
+			updateUserLessonStatusUseCase,
+			reviewScheduler
 		);
 	}
 
@@ -46,7 +49,8 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 
 		AdjustLessonToSurveyResponseUseCase useCase = new AdjustLessonToSurveyResponseUseCase(
 			userExerciseRepository,
-			userLessonRepository
+			userLessonRepository,
+			new ReviewScheduler(userExerciseRepository, 0)
 		);
 		assertNotNull(useCase);
 	}
@@ -58,16 +62,13 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 		int userId = 23;
 		ExerciseDifficult exerciseDifficult = ExerciseDifficult.EASY;
 
-		Exercise exercise1 = Mockito.mock(Exercise.class);
 		Exercise exercise2 = Mockito.mock(Exercise.class);
-		Exercise exercise3 = Mockito.mock(Exercise.class);
-		UserExercise userExercise1 = new UserExercise(userId, exercise1, 50, LocalDateTime.now());
 		UserExercise userExercise2 = new UserExercise(userId, exercise2, 76, LocalDateTime.now());
-		UserExercise userExercise3 = new UserExercise(userId, exercise3, 70, LocalDateTime.now());
-		List<UserExercise> userExercises = List.of(userExercise1, userExercise2, userExercise3);
+		UserExercise updatedUserExercise2 = new UserExercise(userId, exercise2, 96, LocalDateTime.now());
 
-		Mockito.when(getAllUserExercisesByCourseIdAndLessonIdUseCase.execute(userId, exercise2.lessonId()))
-			.thenReturn(userExercises);
+		Mockito.when(adjustExerciseToSurveyResponseUseCase.execute(exerciseDifficult, userExercise2))
+			.thenReturn(updatedUserExercise2);
+		Mockito.when(lessonProgressTracker.record(updatedUserExercise2)).thenReturn(0.65);
 
 		AdjustLessonToSurveyResponseResult result = assertDoesNotThrow(() ->
 			adjustLessonToSurveyResponseUseCase.execute(exerciseDifficult, userExercise2)
@@ -75,13 +76,11 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 
 		Mockito.verify(adjustExerciseToSurveyResponseUseCase, Mockito.times(1))
 			.execute(exerciseDifficult, userExercise2);
-		Mockito.verify(getAllUserExercisesByCourseIdAndLessonIdUseCase, Mockito.times(1))
-			.execute(userId, exercise2.lessonId());
+		Mockito.verify(lessonProgressTracker, Mockito.times(1)).record(updatedUserExercise2);
 		assertAll(
 			() -> assertEquals(userId, result.userId()),
 			() -> assertEquals(exercise2.lessonId(), result.lessonId()),
 			() -> assertEquals(exercise2.id(), result.exerciseId()),
-			() -> assertEquals(userExercises, result.userExercises()),
 			() -> assertEquals("0.65", String.format(Locale.US, "%.2f", result.lessonProgress())),
 			() -> assertEquals(UserLesson.ProgressStatus.IN_PROGRESS, result.lessonStatus())
 		);
@@ -92,20 +91,17 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 		int userId = 23;
 		ExerciseDifficult exerciseDifficult = ExerciseDifficult.EASY;
 
-		Exercise exercise1 = Mockito.mock(Exercise.class);
 		Exercise exercise2 = Mockito.mock(Exercise.class);
-		Exercise exercise3 = Mockito.mock(Exercise.class);
-		UserExercise userExercise1 = new UserExercise(userId, exercise1, 100, LocalDateTime.now());
 		UserExercise userExercise2 = new UserExercise(userId, exercise2, 100, LocalDateTime.now());
-		UserExercise userExercise3 = new UserExercise(userId, exercise3, 100, LocalDateTime.now());
-		List<UserExercise> userExercises = List.of(userExercise1, userExercise2, userExercise3);
+		UserExercise updatedUserExercise2 = new UserExercise(userId, exercise2, 145, LocalDateTime.now());
 
 		UserLesson userLesson = new UserLesson(
 			userId, Mockito.mock(Lesson.class), LocalDate.now(), UserLesson.ProgressStatus.COMPLETED
 		);
 
-		Mockito.when(getAllUserExercisesByCourseIdAndLessonIdUseCase.execute(userId, exercise2.lessonId()))
-			.thenReturn(userExercises);
+		Mockito.when(adjustExerciseToSurveyResponseUseCase.execute(exerciseDifficult, userExercise2))
+			.thenReturn(updatedUserExercise2);
+		Mockito.when(lessonProgressTracker.record(updatedUserExercise2)).thenReturn(1.0);
 		Mockito.when(updateUserLessonStatusUseCase.execute(UserLesson.ProgressStatus.COMPLETED, userId, exercise2.lessonId()))
 			.thenReturn(userLesson);
 
@@ -115,16 +111,15 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 
 		Mockito.verify(adjustExerciseToSurveyResponseUseCase, Mockito.times(1))
 			.execute(exerciseDifficult, userExercise2);
-		Mockito.verify(getAllUserExercisesByCourseIdAndLessonIdUseCase, Mockito.times(1))
-			.execute(userId, exercise2.lessonId());
+		Mockito.verify(lessonProgressTracker, Mockito.times(1)).record(updatedUserExercise2);
 		assertAll(
 			() -> assertEquals(userId, result.userId()),
 			() -> assertEquals(exercise2.lessonId(), result.lessonId()),
 			() -> assertEquals(exercise2.id(), result.exerciseId()),
-			() -> assertEquals(userExercises, result.userExercises()),
 			() -> assertEquals("1.00", String.format(Locale.US, "%.2f", result.lessonProgress())),
 			() -> assertEquals(UserLesson.ProgressStatus.COMPLETED, result.lessonStatus())
 		);
+		Mockito.verify(reviewScheduler, Mockito.times(1)).invalidate(userId);
 	}
 
 	@Test
@@ -136,8 +131,10 @@ class AdjustLessonToSurveyResponseUseCaseTest {
 		Exercise exercise = Mockito.mock(Exercise.class);
 		UserExercise userExercise = new UserExercise(userId, exercise, 50, LocalDateTime.now());
 
-		Mockito.when(getAllUserExercisesByCourseIdAndLessonIdUseCase.execute(Mockito.anyInt(), Mockito.anyInt()))
-			.thenReturn(List.of());
+		Mockito.when(adjustExerciseToSurveyResponseUseCase.execute(exerciseDifficult, userExercise))
+			.thenReturn(userExercise);
+		Mockito.when(lessonProgressTracker.record(userExercise))
+			.thenThrow(new KnowyInconsistentDataException("Expected user exercises, but list is empty: []"));
 
 		assertThrows(
 			KnowyInconsistentDataException.class,
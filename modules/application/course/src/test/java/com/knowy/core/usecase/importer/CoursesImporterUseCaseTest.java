@@ -1,14 +1,15 @@
 package com.knowy.core.usecase.importer;
 
 import com.knowy.core.Importer;
+import com.knowy.core.cache.CatalogCache;
 import com.knowy.core.domain.*;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.exception.KnowyValidationException;
 import com.knowy.core.port.CourseRepository;
 import com.knowy.core.port.DataLoader;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -36,31 +37,84 @@ class CoursesImporterUseCaseTest {
 	@Mock
 	private CourseRepository courseRepository;
 
-	@InjectMocks
+	@Mock
+	private CatalogCache catalogCache;
+
 	private CoursesImporterUseCase coursesImporterUseCase;
 
+	@BeforeEach
+	void setUp() {
+		coursesImporterUseCase = new CoursesImporterUseCase(dataLoader, courseRepository, catalogCache);
+	}
+
 	@Test
 	void given_validCourseData_when_execute_then_mapsToCourseData() throws KnowyInconsistentDataException, IOException, KnowyValidationException {
 		Map<String, Object> mockMap = getMockedMap();
 		Course courseMock = Mockito.mock(Course.class);
 
-		Mockito.when(dataLoader.loadData(Mockito.any(InputStream.class), Mockito.any(URL.class)))
-			.thenReturn(mockMap);
+		streamRecords(mockMap);
 		Mockito.when(courseRepository.saveAll(Mockito.any()))
 			.thenReturn(List.of(courseMock));
 
 		try (MockedStatic<LocalDateTime> mockedNow = Mockito.mockStatic(LocalDateTime.class)) {
 			mockedNow.when(LocalDateTime::now).thenReturn(FIXED_DATE);
 
-			List<Course> result = assertDoesNotThrow(
+			Integer result = assertDoesNotThrow(
 				() -> coursesImporterUseCase.execute(Mockito.mock(InputStream.class), Mockito.mock(URL.class))
 			);
-			assertEquals(List.of(courseMock), result);
+			assertEquals(1, result);
 			Mockito.verify(courseRepository, Mockito.times(1))
 				.saveAll(getMockedCourseUnidentifiedData());
+			Mockito.verify(catalogCache, Mockito.times(1)).invalidateAll();
 		}
 	}
 
+	@Test
+	void given_moreCoursesThanBatchSize_when_execute_then_savesInBatches() throws KnowyInconsistentDataException, IOException, KnowyValidationException {
+		CoursesImporterUseCase batchedImporter = new CoursesImporterUseCase(
+			dataLoader, courseRepository, catalogCache, 2
+		);
+		streamRecords(Map.of("course", List.of(getMockedCourse("A"), getMockedCourse("B"), getMockedCourse("C"))));
+
+		Integer result = batchedImporter.execute(Mockito.mock(InputStream.class), Mockito.mock(URL.class));
+
+		assertEquals(3, result);
+		Mockito.verify(courseRepository).saveAll(Mockito.argThat(courses -> courses.size() == 2));
+		Mockito.verify(courseRepository).saveAll(Mockito.argThat(courses -> courses.size() == 1));
+		Mockito.verify(catalogCache, Mockito.times(1)).invalidateAll();
+	}
+
+	@Test
+	void given_storedAndRepeatedCourses_when_execute_then_savesOnlyNewCourses() throws KnowyInconsistentDataException, IOException, KnowyValidationException {
+		streamRecords(Map.of("course", List.of(getMockedCourse("A"), getMockedCourse("B"), getMockedCourse("B"))));
+		Mockito.when(courseRepository.findExistingNaturalKeys(Mockito.any()))
+			.thenReturn(Set.of(new CourseNaturalKey("A", "Juan Pérez")));
+
+		Integer result = coursesImporterUseCase.execute(Mockito.mock(InputStream.class), Mockito.mock(URL.class));
+
+		assertEquals(1, result);
+		Mockito.verify(courseRepository).saveAll(Mockito.argThat(
+			courses -> courses.size() == 1 && courses.getFirst().title().equals("B")
+		));
+	}
+
+	private void streamRecords(Map<String, Object> records) throws KnowyInconsistentDataException, IOException, KnowyValidationException {
+		Mockito.doAnswer(invocation -> {
+			DataLoader.RecordHandler recordHandler = invocation.getArgument(2);
+			for (Map.Entry<String, Object> entry : records.entrySet()) {
+				recordHandler.handle(entry.getKey(), entry.getValue());
+			}
+			return null;
+		}).when(dataLoader).streamData(Mockito.any(InputStream.class), Mockito.any(URL.class), Mockito.any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> getMockedCourse(String title) {
+		Map<String, Object> course = new HashMap<>((Map<String, Object>) getMockedMap().get("course"));
+		course.put("title", title);
+		return course;
+	}
+
 	private Map<String, Object> getMockedMap() {
 		Map<String, Object> mockMap = new HashMap<>();
 
@@ -140,11 +194,10 @@ class CoursesImporterUseCaseTest {
 	}
 
 	@Test
-	void given_courseDataWithInvalidTags_when_execute_then_throwsKnowySourceParsingException() throws IOException, KnowyValidationException {
+	void given_courseDataWithInvalidTags_when_execute_then_throwsKnowySourceParsingException() throws IOException, KnowyValidationException, KnowyInconsistentDataException {
 		Map<String, Object> mockMap = getMockedInvalidMap();
 
-		Mockito.when(dataLoader.loadData(Mockito.any(InputStream.class), Mockito.any(URL.class)))
-			.thenReturn(mockMap);
+		streamRecords(mockMap);
 
 		try (MockedStatic<LocalDateTime> mockedNow = Mockito.mockStatic(LocalDateTime.class)) {
 			mockedNow.when(LocalDateTime::now).thenReturn(FIXED_DATE);
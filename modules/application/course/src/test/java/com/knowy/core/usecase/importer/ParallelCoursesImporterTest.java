@@ -0,0 +1,256 @@
+package com.knowy.core.usecase.importer;
+
+import com.knowy.core.cache.CatalogCache;
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseUnidentifiedData;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.exception.KnowyValidationException;
+import com.knowy.core.ledger.InMemoryImportLedger;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.DataLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelCoursesImporterTest {
+
+	@Mock
+	private DataLoader dataLoader;
+
+	@Mock
+	private CourseRepository courseRepository;
+
+	@Mock
+	private CatalogCache catalogCache;
+
+	@TempDir
+	private Path tempDir;
+
+	private ParallelCoursesImporter importer;
+
+	@BeforeEach
+	void setUp() throws KnowyInconsistentDataException, IOException, KnowyValidationException {
+		importer = new ParallelCoursesImporter(dataLoader, courseRepository, catalogCache, 2, 1, 2);
+
+		Mockito.lenient().doAnswer(invocation -> {
+			streamCourses(invocation.getArgument(0), invocation.getArgument(2));
+			return null;
+		}).when(dataLoader).streamData(Mockito.any(InputStream.class), Mockito.any(URL.class), Mockito.any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		importer.close();
+	}
+
+	@Test
+	void given_validAndInvalidSources_when_importAll_then_reportEverySourceWithoutAborting() throws IOException, InterruptedException {
+		URL first = source("first.xml", "A,B");
+		URL invalid = source("invalid.xml", "invalid");
+		URL last = source("last.xml", "C");
+		List<ParallelCoursesImporter.FileReport> progress = new CopyOnWriteArrayList<>();
+
+		ParallelCoursesImporter.ImportReport report = importer.importAll(
+			List.of(first, invalid, last), schema(), progress::add
+		);
+
+		List<ParallelCoursesImporter.FileReport> files = report.files();
+		assertAll(
+			() -> assertEquals(List.of(first, invalid, last), files.stream().map(ParallelCoursesImporter.FileReport::source).toList()),
+			() -> assertTrue(files.get(0).succeeded()),
+			() -> assertEquals(2, files.get(0).importedCourses()),
+			() -> assertInstanceOf(KnowyValidationException.class, files.get(1).failure()),
+			() -> assertEquals(1, files.get(2).importedExercises()),
+			() -> assertEquals(3, report.importedCourses()),
+			() -> assertEquals(3, report.importedExercises()),
+			() -> assertEquals(1, report.failedFiles()),
+			() -> assertEquals(3, progress.size()),
+			() -> assertEquals(new ParallelCoursesImporter.ImportStats(1, 3, 1, 3, 3, report.elapsed().toNanos()), importer.stats())
+		);
+		Mockito.verify(catalogCache).invalidateAll();
+	}
+
+	@Test
+	void given_batchThatCannotBeSaved_when_importAll_then_reportItsSourcesAsFailed() throws IOException, InterruptedException, KnowyInconsistentDataException {
+		Mockito.when(courseRepository.saveAll(Mockito.any()))
+			.thenThrow(new KnowyInconsistentDataException("Cannot save courses"));
+
+		ParallelCoursesImporter.ImportReport report = importer.importAll(List.of(source("first.xml", "A")), schema());
+
+		assertAll(
+			() -> assertEquals(0, report.importedCourses()),
+			() -> assertEquals(1, report.files().getFirst().parsedCourses()),
+			() -> assertInstanceOf(KnowyInconsistentDataException.class, report.files().getFirst().failure())
+		);
+	}
+
+	@Test
+	void given_mixedBatchWithUnsavableCourse_when_importAll_then_reportOnlyItsSourceAsFailed() throws IOException, InterruptedException, KnowyInconsistentDataException, KnowyValidationException {
+		CountDownLatch firstBatchSaving = new CountDownLatch(1);
+		CountDownLatch parsedSources = new CountDownLatch(2);
+		Mockito.doAnswer(invocation -> {
+			DataLoader.RecordHandler recordHandler = invocation.getArgument(2);
+			String content = new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8);
+			for (String title : content.split(",")) {
+				recordHandler.handle("course", courseMap(title));
+				// Keep the first batch down to the first course, so the rest of its source is mixed with the next one
+				assertTrue(firstBatchSaving.await(5, TimeUnit.SECONDS));
+			}
+			parsedSources.countDown();
+			return null;
+		}).when(dataLoader).streamData(Mockito.any(InputStream.class), Mockito.any(URL.class), Mockito.any());
+		Mockito.when(courseRepository.findExistingNaturalKeys(Mockito.any())).thenAnswer(invocation -> {
+			// Hold the first batch until both sources are queued, so the next batch mixes their courses
+			firstBatchSaving.countDown();
+			assertTrue(parsedSources.await(5, TimeUnit.SECONDS));
+			return Set.of();
+		});
+		Mockito.when(courseRepository.saveAll(Mockito.any())).thenAnswer(invocation -> {
+			Collection<CourseUnidentifiedData> batch = invocation.getArgument(0);
+			if (batch.stream().anyMatch(course -> course.title().equals("Broken"))) {
+				throw new KnowyInconsistentDataException("Cannot save courses");
+			}
+			return List.of();
+		});
+		ParallelCoursesImporter serialImporter =
+			new ParallelCoursesImporter(dataLoader, courseRepository, catalogCache, 1, 10, 10);
+
+		ParallelCoursesImporter.ImportReport report = serialImporter.importAll(
+			List.of(source("good.xml", "A,B"), source("bad.xml", "Broken")), schema()
+		);
+		serialImporter.close();
+
+		List<ParallelCoursesImporter.FileReport> files = report.files();
+		assertAll(
+			() -> assertTrue(files.get(0).succeeded()),
+			() -> assertEquals(2, files.get(0).importedCourses()),
+			() -> assertInstanceOf(KnowyInconsistentDataException.class, files.get(1).failure()),
+			() -> assertEquals(2, report.importedCourses())
+		);
+		Mockito.verify(courseRepository, Mockito.atLeastOnce()).saveAll(Mockito.argThat(batch ->
+			batch.size() > 1 && batch.stream().anyMatch(course -> course.title().equals("Broken"))
+		));
+	}
+
+	@Test
+	void given_storedCourse_when_importAll_then_reportItAsSkipped() throws IOException, InterruptedException, KnowyInconsistentDataException {
+		Mockito.when(courseRepository.findExistingNaturalKeys(Mockito.any()))
+			.thenReturn(Set.of(new CourseNaturalKey("A", "Juan Pérez")));
+
+		ParallelCoursesImporter.ImportReport report = importer.importAll(List.of(source("first.xml", "A,B")), schema());
+
+		ParallelCoursesImporter.FileReport file = report.files().getFirst();
+		assertAll(
+			() -> assertTrue(file.succeeded()),
+			() -> assertEquals(2, file.parsedCourses()),
+			() -> assertEquals(1, file.importedCourses()),
+			() -> assertEquals(1, file.skippedCourses()),
+			() -> assertEquals(1, report.importedCourses())
+		);
+	}
+
+	@Test
+	void given_importedSources_when_importIfChanged_then_importOnlyChangedOrFailedSources() throws IOException, InterruptedException, KnowyInconsistentDataException, KnowyValidationException {
+		ParallelCoursesImporter ledgerImporter = new ParallelCoursesImporter(
+			dataLoader, courseRepository, catalogCache, new InMemoryImportLedger(), 2, 1, 2
+		);
+		URL unchanged = source("unchanged.xml", "A");
+		URL changed = source("changed.xml", "B");
+		URL invalid = source("invalid.xml", "invalid");
+		List<ParallelCoursesImporter.ImportSource> sources = List.of(
+			new ParallelCoursesImporter.ImportSource("unchanged.xml", unchanged),
+			new ParallelCoursesImporter.ImportSource("changed.xml", changed),
+			new ParallelCoursesImporter.ImportSource("invalid.xml", invalid)
+		);
+
+		ParallelCoursesImporter.ImportReport first = ledgerImporter.importIfChanged(sources, schema());
+		source("changed.xml", "C");
+		ParallelCoursesImporter.ImportReport second = ledgerImporter.importIfChanged(sources, schema());
+		ledgerImporter.close();
+
+		assertAll(
+			() -> assertEquals(3, first.files().size()),
+			() -> assertEquals(2, first.importedCourses()),
+			() -> assertEquals(List.of(changed, invalid), second.files().stream().map(ParallelCoursesImporter.FileReport::source).toList()),
+			() -> assertEquals(1, second.importedCourses()),
+			() -> assertEquals(1, second.failedFiles())
+		);
+		Mockito.verify(dataLoader, Mockito.times(5))
+			.streamData(Mockito.any(InputStream.class), Mockito.any(URL.class), Mockito.any());
+	}
+
+	@Test
+	void given_directory_when_importDirectory_then_importXmlFilesInNameOrder() throws IOException, InterruptedException {
+		URL second = source("b.xml", "B");
+		URL first = source("a.xml", "A");
+		source("notes.txt", "C");
+
+		ParallelCoursesImporter.ImportReport report = importer.importDirectory(tempDir, schema());
+
+		assertEquals(List.of(first, second), report.files().stream().map(ParallelCoursesImporter.FileReport::source).toList());
+	}
+
+	private static void streamCourses(InputStream inputStream, DataLoader.RecordHandler recordHandler)
+		throws IOException, KnowyValidationException, KnowyInconsistentDataException {
+
+		String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		if (content.equals("invalid")) {
+			throw new KnowyValidationException("The XML does not comply with the XSD");
+		}
+		for (String title : content.split(",")) {
+			recordHandler.handle("course", courseMap(title));
+		}
+	}
+
+	private URL source(String name, String content) throws IOException {
+		return Files.writeString(tempDir.resolve(name), content).toUri().toURL();
+	}
+
+	private URL schema() throws IOException {
+		Path schema = tempDir.resolve("course.xsd");
+		if (Files.notExists(schema)) {
+			Files.writeString(schema, "<xs:schema/>");
+		}
+		return schema.toUri().toURL();
+	}
+
+	private static Map<String, Object> courseMap(String title) {
+		Map<String, Object> option = Map.of("value", "Sun Microsystems", "isValid", "true");
+		Map<String, Object> exercise = Map.of("statement", "¿Quién desarrolló Java?", "options", Map.of("option", option));
+		Map<String, Object> lesson = Map.of(
+			"title", "Introducción",
+			"explanation", "Historia de Java",
+			"exercises", Map.of("exercise", exercise)
+		);
+		return Map.of(
+			"title", title,
+			"description", "Curso " + title,
+			"image", "curso.png",
+			"author", "Juan Pérez",
+			"categories", Map.of("category", List.of("Java")),
+			"lessons", Map.of("lesson", lesson)
+		);
+	}
+}
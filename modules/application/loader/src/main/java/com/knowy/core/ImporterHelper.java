@@ -2,7 +2,13 @@ package com.knowy.core;
 
 import com.knowy.core.util.ThrowableFunction;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -16,6 +22,42 @@ public class ImporterHelper {
 		// Private constructor to prevent instantiation
 	}
 
+	/**
+	 * Computes the SHA-256 checksum of the whole content of an input stream.
+	 *
+	 * @param inputStream the content to digest; it is read to the end but not closed
+	 * @return the checksum as a lowercase hexadecimal string
+	 * @throws IOException if an I/O error occurs while reading the input stream
+	 */
+	public static String checksum(InputStream inputStream) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Computes the SHA-256 checksum of the whole content of a URL.
+	 *
+	 * @param url the location of the content to digest
+	 * @return the checksum as a lowercase hexadecimal string
+	 * @throws IOException if an I/O error occurs while reading the content
+	 */
+	public static String checksum(URL url) throws IOException {
+		try (InputStream inputStream = url.openStream()) {
+			return checksum(inputStream);
+		}
+	}
+
 	/**
 	 * Retrieves a required string value from a map by key.
 	 *
@@ -45,12 +87,26 @@ public class ImporterHelper {
 	public static <T, R, A extends Collection<R>> A mapping(
 		Iterable<T> elements, ThrowableFunction<T, R> mapper, Supplier<A> accumulator
 	) throws Importer.KnowyImporterParseException {
+		A result = accumulator.get();
+		for (T element : elements) {
+			result.add(map(element, mapper));
+		}
+		return result;
+	}
+
+	/**
+	 * Maps a single element using a mapper function.
+	 *
+	 * @param element the element to map
+	 * @param mapper  the mapping function that may throw an exception
+	 * @param <T>     the input element type
+	 * @param <R>     the result element type
+	 * @return the mapped element
+	 * @throws Importer.KnowyImporterParseException if mapping fails
+	 */
+	public static <T, R> R map(T element, ThrowableFunction<T, R> mapper) throws Importer.KnowyImporterParseException {
 		try {
-			A result = accumulator.get();
-			for (T element : elements) {
-				result.add(mapper.apply(element));
-			}
-			return result;
+			return mapper.apply(element);
 		} catch (Importer.KnowyImporterParseException e) {
 			throw e;
 		} catch (Exception e) {
@@ -0,0 +1,35 @@
+package com.knowy.core.ledger;
+
+import com.knowy.core.port.ImportLedger;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ImportLedger} kept in memory, for a single process. Its entries are lost on restart, so every source is
+ * imported again once per process.
+ */
+public class InMemoryImportLedger implements ImportLedger {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+	@Override
+	public Optional<Entry> findBySource(String source) {
+		return Optional.ofNullable(entries.get(source));
+	}
+
+	@Override
+	public void save(Entry entry) {
+		entries.put(entry.source(), entry);
+	}
+
+	@Override
+	public Lock lock(String source) {
+		ReentrantLock lock = locks.computeIfAbsent(source, ignored -> new ReentrantLock());
+		lock.lock();
+		return lock::unlock;
+	}
+}
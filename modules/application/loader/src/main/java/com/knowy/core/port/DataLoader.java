@@ -1,5 +1,6 @@
 package com.knowy.core.port;
 
+import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.exception.KnowyValidationException;
 
 import java.io.IOException;
@@ -23,4 +24,41 @@ public interface DataLoader {
 	 */
 	Map<String, Object> loadData(InputStream inputStream, URL schema)
 		throws KnowyValidationException, IOException;
-}
\ No newline at end of file
+
+	/**
+	 * Reads the data from the given input stream and hands each record to the handler as soon as it has been read,
+	 * validating the data against the provided schema in the same pass.
+	 * <p>
+	 * The records are the direct children of the root of the data, in the shape {@link #loadData(InputStream, URL)}
+	 * gives them, so only one record is held in memory at a time. A record is handed over once its own content has
+	 * been validated; if a later record does not conform to the schema, the records already handed over are not
+	 * revoked.
+	 *
+	 * @param inputStream   the input stream containing the data to load
+	 * @param schema        the URL of the schema used for validation
+	 * @param recordHandler the handler that receives each record
+	 * @throws KnowyValidationException       if the data does not conform to the schema, or the handler rejects a
+	 *                                        record
+	 * @throws KnowyInconsistentDataException if the handler cannot process a record
+	 * @throws IOException                    if an I/O error occurs while reading the input stream
+	 */
+	void streamData(InputStream inputStream, URL schema, RecordHandler recordHandler)
+		throws KnowyValidationException, KnowyInconsistentDataException, IOException;
+
+	/**
+	 * Receives the records streamed by {@link #streamData(InputStream, URL, RecordHandler)}.
+	 */
+	@FunctionalInterface
+	interface RecordHandler {
+
+		/**
+		 * Processes one record.
+		 *
+		 * @param name  the name of the record
+		 * @param value the record, as a map of its properties or as a string if it only holds text
+		 * @throws KnowyValidationException       if the record cannot be parsed
+		 * @throws KnowyInconsistentDataException if the record cannot be stored
+		 */
+		void handle(String name, Object value) throws KnowyValidationException, KnowyInconsistentDataException;
+	}
+}
@@ -0,0 +1,69 @@
+package com.knowy.core.port;
+
+import com.knowy.core.exception.KnowyInconsistentDataException;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Records which version of each import source has already been imported, so unchanged sources can be skipped.
+ */
+public interface ImportLedger {
+
+	/**
+	 * Returns the entry of the last successful import of the source.
+	 *
+	 * @param source the name of the import source
+	 * @return the entry of the source, or empty if it has never been imported
+	 */
+	Optional<Entry> findBySource(String source);
+
+	/**
+	 * Records a successful import, replacing the previous entry of its source.
+	 *
+	 * @param entry the entry to record
+	 */
+	void save(Entry entry);
+
+	/**
+	 * Blocks until no one else holds the lock of the source and takes it, so only one import of a source runs at a
+	 * time, even across nodes sharing the ledger.
+	 *
+	 * @param source the name of the import source
+	 * @return the lock, released when closed
+	 * @throws KnowyInconsistentDataException if the lock cannot be taken
+	 */
+	Lock lock(String source) throws KnowyInconsistentDataException;
+
+	/**
+	 * Lock of an import source, released when closed.
+	 */
+	interface Lock extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	/**
+	 * Version of an import source as it was last imported.
+	 *
+	 * @param source        the name of the import source
+	 * @param checksum      the checksum of the content of the source
+	 * @param schemaVersion the checksum of the schema the source was validated against
+	 * @param importedAt    when the source was imported
+	 */
+	record Entry(String source, String checksum, String schemaVersion, LocalDateTime importedAt) {
+
+		/**
+		 * Returns whether the entry records the given version of its source.
+		 *
+		 * @param checksum      the checksum of the content of the source
+		 * @param schemaVersion the checksum of the schema
+		 * @return {@code true} if both checksums are the recorded ones
+		 */
+		public boolean matches(String checksum, String schemaVersion) {
+			return Objects.equals(this.checksum, checksum) && Objects.equals(this.schemaVersion, schemaVersion);
+		}
+	}
+}
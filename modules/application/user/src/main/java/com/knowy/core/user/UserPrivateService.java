@@ -1,10 +1,12 @@
 package com.knowy.core.user;
 
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.port.ExternalNotificationDispatcher;
 import com.knowy.core.user.exception.*;
 import com.knowy.core.exception.KnowyMailDispatchException;
 import com.knowy.core.user.port.*;
 import com.knowy.core.user.usercase.manage.DeactivateAccountCommand;
+import com.knowy.core.user.usercase.manage.AccountDeactivation;
 import com.knowy.core.user.usercase.manage.DeactivateAccountUseCase;
 import com.knowy.core.user.usercase.manage.ReactivateAccountUseCase;
 import com.knowy.core.user.usercase.manage.SendRecoveryPasswordUseCase;
@@ -45,6 +47,7 @@ public class UserPrivateService {
      * @param knowyPasswordEncoder   Password encoder for hashing user passwords.
      * @param knowyTokenTools        Utility for generating and validating security tokens.
      * @param externalNotificationDispatcher   Client for sending system emails.
+     * @param bannedWordsRepository  Repository for checking nicknames against banned words.
      */
     public UserPrivateService(
             UserRepository userRepository,
@@ -52,7 +55,8 @@ public class UserPrivateService {
             ProfileImageRepository profileImageRepository,
             KnowyPasswordEncoder knowyPasswordEncoder,
             KnowyTokenTools knowyTokenTools,
-            ExternalNotificationDispatcher externalNotificationDispatcher
+            ExternalNotificationDispatcher externalNotificationDispatcher,
+            BannedWordsRepository bannedWordsRepository
     ) {
         this(
                 userRepository,
@@ -61,6 +65,7 @@ public class UserPrivateService {
                 knowyPasswordEncoder,
                 knowyTokenTools,
 			externalNotificationDispatcher,
+                bannedWordsRepository,
                 new TokenUserPrivateTool(knowyTokenTools, userPrivateRepository)
         );
     }
@@ -72,10 +77,11 @@ public class UserPrivateService {
             KnowyPasswordEncoder knowyPasswordEncoder,
             KnowyTokenTools knowyTokenTools,
             ExternalNotificationDispatcher externalNotificationDispatcher,
+            BannedWordsRepository bannedWordsRepository,
             TokenUserPrivateTool tokenUserPrivateTool
     ) {
         this.userSignUpUseCase = new UserSignUpUseCase(
-                userRepository, userPrivateRepository, knowyPasswordEncoder, profileImageRepository
+                userRepository, userPrivateRepository, knowyPasswordEncoder, profileImageRepository, bannedWordsRepository
         );
         this.userUpdatePasswordUseCase = new UserUpdatePasswordUseCase(
                 userPrivateRepository, knowyPasswordEncoder, knowyTokenTools
@@ -173,6 +179,32 @@ public class UserPrivateService {
         deactivateAccountUseCase.execute(command);
     }
 
+    /**
+     * Checks the password of a user who wants to deactivate their account and builds the deactivation and its recovery
+     * email, without storing anything.
+     *
+     * @param command The {@link DeactivateAccountCommand} containing the user's email, current password, confirmation
+     *                password, and the base URL for the recovery link.
+     * @return The deactivation to apply with {@link #applyAccountDeactivation(AccountDeactivation)}.
+     * @throws KnowyTokenException         If an error occurs while generating the recovery token.
+     * @throws KnowyWrongPasswordException If the provided password is incorrect or does not match the confirmation.
+     * @throws KnowyUserNotFoundException  If no user exists with the provided email.
+     */
+    public AccountDeactivation prepareAccountDeactivation(DeactivateAccountCommand command)
+            throws KnowyTokenException, KnowyWrongPasswordException, KnowyUserNotFoundException {
+        return deactivateAccountUseCase.prepare(command);
+    }
+
+    /**
+     * Stores a prepared account deactivation and dispatches its recovery email.
+     *
+     * @param deactivation The deactivation built by {@link #prepareAccountDeactivation(DeactivateAccountCommand)}.
+     * @throws KnowyMailDispatchException If the recovery email cannot be sent.
+     */
+    public void applyAccountDeactivation(AccountDeactivation deactivation) throws KnowyMailDispatchException {
+        deactivateAccountUseCase.apply(deactivation);
+    }
+
     /**
      * Reactivates a user's account using the provided token.
      *
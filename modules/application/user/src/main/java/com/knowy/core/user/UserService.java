@@ -7,6 +7,7 @@ import com.knowy.core.user.exception.KnowyInvalidUserNicknameException;
 import com.knowy.core.user.exception.KnowyNicknameAlreadyTakenException;
 import com.knowy.core.user.exception.KnowyUnchangedImageException;
 import com.knowy.core.user.exception.KnowyUnchangedNicknameException;
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.port.CategoryRepository;
 import com.knowy.core.user.port.ProfileImageRepository;
 import com.knowy.core.user.port.UserRepository;
@@ -30,13 +31,15 @@ public class UserService {
 	 * @param userRepository         Repository for accessing and saving user data.
 	 * @param categoryRepository     Repository for accessing and saving category data.
 	 * @param profileImageRepository Repository for accessing profile images.
+	 * @param bannedWordsRepository  Repository for checking nicknames against banned words.
 	 */
 	public UserService(
 		UserRepository userRepository,
 		CategoryRepository categoryRepository,
-		ProfileImageRepository profileImageRepository
+		ProfileImageRepository profileImageRepository,
+		BannedWordsRepository bannedWordsRepository
 	) {
-		this.userUpdateEmailUseCase = new UserUpdateNicknameUseCase(userRepository);
+		this.userUpdateEmailUseCase = new UserUpdateNicknameUseCase(userRepository, bannedWordsRepository);
 		this.userUpdateProfileImageUseCase = new UserUpdateProfileImageUseCase(userRepository, profileImageRepository);
 		this.userUpdateCategoriesUseCase = new UserUpdateCategoriesUseCase(userRepository, categoryRepository);
 	}
@@ -44,8 +47,8 @@ public class UserService {
 	/**
 	 * Updates the nickname of a user.
 	 * <p>
-	 * Validates that the new nickname is not blank, is different from the current one, and is not already in use by
-	 * another user.
+	 * Validates that the new nickname is not blank, contains no banned words, is different from the current one, and is
+	 * not already in use by another user.
 	 *
 	 * @param newNickname The new nickname to assign.
 	 * @param userId      The ID of the user whose nickname will be updated.
@@ -0,0 +1,13 @@
+package com.knowy.core.user.usercase.manage;
+
+import com.knowy.core.port.ExternalNotificationDispatcher.ExternalNotification;
+import com.knowy.core.user.domain.UserPrivate;
+
+/**
+ * Checked account deactivation that has not been stored yet.
+ *
+ * @param deactivatedUser      the user as it is stored once deactivated
+ * @param recoveryNotification the email holding the reactivation link
+ */
+public record AccountDeactivation(UserPrivate deactivatedUser, ExternalNotification recoveryNotification) {
+}
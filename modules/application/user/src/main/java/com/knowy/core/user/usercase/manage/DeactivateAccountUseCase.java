@@ -19,6 +19,11 @@ import com.knowy.core.user.domain.UserPrivate;
  * This process verifies the provided password, deactivates the account, and sends an email containing a reactivation
  * link that is valid for 30 days. If the user does not reactivate the account within this period, it will be
  * permanently deleted.
+ * <p>
+ * The process can also be run in two steps: {@link #prepare(DeactivateAccountCommand)} checks the password and builds
+ * the recovery email without storing anything, and {@link #apply(AccountDeactivation)} stores both. Checking a password
+ * is slow, so callers that store the deactivation and its email in one transaction only need to hold it for the
+ * second step.
  */
 public class DeactivateAccountUseCase {
 
@@ -63,12 +68,40 @@ public class DeactivateAccountUseCase {
 	public void execute(DeactivateAccountCommand command)
 		throws KnowyTokenException, KnowyUserNotFoundException, KnowyMailDispatchException, KnowyWrongPasswordException {
 
-		desactivateUserAccount(command.email(), command.password(), command.confirmPassword());
+		apply(prepare(command));
+	}
+
+	/**
+	 * Verifies that the provided password and confirmation password match the user's password, and builds the
+	 * deactivated user and its recovery email, with a recovery token valid for 30 days. Nothing is stored or sent.
+	 *
+	 * @param command Command containing the email, password, confirmation password, and recovery base URL.
+	 * @return the deactivation to apply
+	 * @throws KnowyTokenException         If there is an error generating the recovery token.
+	 * @throws KnowyUserNotFoundException  If no user exists with the provided email.
+	 * @throws KnowyWrongPasswordException If the provided password is incorrect or does not match the confirmation
+	 *                                     password.
+	 */
+	public AccountDeactivation prepare(DeactivateAccountCommand command)
+		throws KnowyTokenException, KnowyUserNotFoundException, KnowyWrongPasswordException {
+
+		UserPrivate deactivatedUser = deactivatedUser(command.email(), command.password(), command.confirmPassword());
 		ExternalNotification externalNotification = createAccountRecoveryNotification(command.email(), command.recoveryBaseUrl());
-		externalNotificationDispatcher.dispatch(externalNotification);
+		return new AccountDeactivation(deactivatedUser, externalNotification);
+	}
+
+	/**
+	 * Stores the deactivated user and dispatches its recovery email.
+	 *
+	 * @param deactivation the deactivation built by {@link #prepare(DeactivateAccountCommand)}
+	 * @throws KnowyMailDispatchException If the recovery email could not be sent.
+	 */
+	public void apply(AccountDeactivation deactivation) throws KnowyMailDispatchException {
+		userPrivateRepository.save(deactivation.deactivatedUser());
+		externalNotificationDispatcher.dispatch(deactivation.recoveryNotification());
 	}
 
-	private void desactivateUserAccount(Email email, Password password, Password confirmPassword)
+	private UserPrivate deactivatedUser(Email email, Password password, Password confirmPassword)
 		throws KnowyUserNotFoundException, KnowyWrongPasswordException {
 
 		if (!password.equals(confirmPassword)) {
@@ -78,12 +111,11 @@ public class DeactivateAccountUseCase {
 			.orElseThrow(() -> new KnowyUserNotFoundException("User not found"));
 		knowyPasswordEncoder.assertHasPassword(userPrivate, password.value());
 
-		UserPrivate newUserPrivate = new UserPrivate(
+		return new UserPrivate(
 			userPrivate.cropToUser(),
 			userPrivate.email(),
 			userPrivate.password(),
 			false);
-		userPrivateRepository.save(newUserPrivate);
 	}
 
 	private ExternalNotification createAccountRecoveryNotification(Email email, String recoveryBaseUrl)
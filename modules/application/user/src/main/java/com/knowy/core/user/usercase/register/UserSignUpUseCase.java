@@ -1,5 +1,6 @@
 package com.knowy.core.user.usercase.register;
 
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.user.exception.KnowyImageNotFoundException;
 import com.knowy.core.user.exception.KnowyUserEmailFormatException;
 import com.knowy.core.user.exception.KnowyInvalidUserException;
@@ -26,6 +27,7 @@ public class UserSignUpUseCase  implements KnowyUseCase<UserSingUpCommand, UserP
     private final UserPrivateRepository userPrivateRepository;
     private final ProfileImageRepository profileImageRepository;
     private final KnowyPasswordEncoder passwordEncoder;
+    private final BannedWordsRepository bannedWordsRepository;
 
     /**
      * Constructs a new UserSignUpUseCase with the required dependencies.
@@ -34,17 +36,20 @@ public class UserSignUpUseCase  implements KnowyUseCase<UserSingUpCommand, UserP
      * @param userPrivateRepository  Repository for user private data access.
      * @param passwordEncoder        Password encoder for encrypting user passwords.
      * @param profileImageRepository Repository for profile image access.
+     * @param bannedWordsRepository  Repository for checking nicknames against banned words.
      */
     public UserSignUpUseCase(
             UserRepository userRepository,
             UserPrivateRepository userPrivateRepository,
             KnowyPasswordEncoder passwordEncoder,
-            ProfileImageRepository profileImageRepository
+            ProfileImageRepository profileImageRepository,
+            BannedWordsRepository bannedWordsRepository
     ) {
         this.userRepository = userRepository;
         this.userPrivateRepository = userPrivateRepository;
         this.passwordEncoder = passwordEncoder;
         this.profileImageRepository = profileImageRepository;
+        this.bannedWordsRepository = bannedWordsRepository;
     }
 
     /**
@@ -83,6 +88,10 @@ public class UserSignUpUseCase  implements KnowyUseCase<UserSingUpCommand, UserP
             throw new KnowyInvalidUserNicknameException("Invalid nickname");
         }
 
+        if (bannedWordsRepository.isWordBanned(nickname)) {
+            throw new KnowyInvalidUserNicknameException("Nickname contains banned words");
+        }
+
         if (userRepository.findByNickname(nickname).isPresent()) {
             throw new KnowyInvalidUserNicknameException("Nickname already exists");
         }
@@ -1,5 +1,6 @@
 package com.knowy.core.user.usercase.update.nickname;
 
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.user.exception.KnowyUserNotFoundException;
 import com.knowy.core.user.exception.KnowyInvalidUserNicknameException;
 import com.knowy.core.user.exception.KnowyNicknameAlreadyTakenException;
@@ -14,14 +15,17 @@ import com.knowy.core.user.domain.User;
 public class UserUpdateNicknameUseCase {
 
 	private final UserRepository userRepository;
+	private final BannedWordsRepository bannedWordsRepository;
 
 	/**
-	 * Constructs a new {@code UserUpdateNicknameUseCase} with the given repository.
+	 * Constructs a new {@code UserUpdateNicknameUseCase} with the given repositories.
 	 *
-	 * @param userRepository Repository for accessing and updating user data.
+	 * @param userRepository        Repository for accessing and updating user data.
+	 * @param bannedWordsRepository Repository for checking nicknames against banned words.
 	 */
-	public UserUpdateNicknameUseCase(UserRepository userRepository) {
+	public UserUpdateNicknameUseCase(UserRepository userRepository, BannedWordsRepository bannedWordsRepository) {
 		this.userRepository = userRepository;
+		this.bannedWordsRepository = bannedWordsRepository;
 	}
 
 	/**
@@ -31,7 +35,7 @@ public class UserUpdateNicknameUseCase {
 	 * @param userId      The ID of the user whose nickname will be updated.
 	 * @throws KnowyUnchangedNicknameException    If the new nickname is the same as the current one.
 	 * @throws KnowyNicknameAlreadyTakenException If the new nickname is already in use by another user.
-	 * @throws KnowyInvalidUserNicknameException  If the new nickname is blank or invalid.
+	 * @throws KnowyInvalidUserNicknameException  If the new nickname is blank or contains banned words.
 	 * @throws KnowyUserNotFoundException         If no user exists with the given ID.
 	 */
 	public void execute(String newNickname, Integer userId)
@@ -39,6 +43,7 @@ public class UserUpdateNicknameUseCase {
 		KnowyUserNotFoundException {
 
 		assertNotBlankNickname(newNickname);
+		assertNoBannedWords(newNickname);
 		User user = findByIdOrThrow(userId);
 		ensureNicknameIsDifferent(user, newNickname);
 		ensureNicknameIsAvailable(newNickname);
@@ -68,4 +73,10 @@ public class UserUpdateNicknameUseCase {
 			throw new KnowyInvalidUserNicknameException("Blank nicknames are not allowed");
 		}
 	}
+
+	private void assertNoBannedWords(String nickname) throws KnowyInvalidUserNicknameException {
+		if (bannedWordsRepository.isWordBanned(nickname)) {
+			throw new KnowyInvalidUserNicknameException("Nickname contains banned words");
+		}
+	}
 }
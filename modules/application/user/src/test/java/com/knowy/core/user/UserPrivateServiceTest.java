@@ -2,10 +2,12 @@ package com.knowy.core.user;
 
 import com.knowy.core.exception.KnowyException;
 import com.knowy.core.exception.KnowyMailDispatchException;
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.port.ExternalNotificationDispatcher;
 import com.knowy.core.user.domain.*;
 import com.knowy.core.user.exception.*;
 import com.knowy.core.user.port.*;
+import com.knowy.core.user.usercase.manage.AccountDeactivation;
 import com.knowy.core.user.usercase.manage.DeactivateAccountCommand;
 import com.knowy.core.user.usercase.register.UserSingUpCommand;
 import com.knowy.core.user.usercase.update.email.UserUpdateEmailCommand;
@@ -48,6 +50,9 @@ class UserPrivateServiceTest {
     @Mock
     private ExternalNotificationDispatcher externalNotificationDispatcher;
 
+    @Mock
+    private BannedWordsRepository bannedWordsRepository;
+
     @Mock
     private TokenUserPrivateTool tokenUserPrivateTool;
 
@@ -62,7 +67,8 @@ class UserPrivateServiceTest {
                 profileImageRepository,
                 knowyPasswordEncoder,
                 knowyTokenTools,
-			externalNotificationDispatcher
+			externalNotificationDispatcher,
+                bannedWordsRepository
         ));
     }
 
@@ -109,6 +115,22 @@ class UserPrivateServiceTest {
             );
         }
 
+        @Test
+        void given_nicknameWithBannedWord_when_executeSingUp_then_KnowyInvalidUserNicknameException() {
+            UserSingUpCommand userSingUpCommand = new UserSingUpCommand(
+                    "BannedNickname", "test@email.com", "ValidPass123@"
+            );
+
+            Mockito.when(bannedWordsRepository.isWordBanned("BannedNickname"))
+                    .thenReturn(true);
+
+            assertThrows(
+                    KnowyInvalidUserNicknameException.class,
+                    () -> userPrivateService.registerNewUser(userSingUpCommand)
+            );
+            Mockito.verify(userPrivateRepository, Mockito.never()).save(any());
+        }
+
         @Test
         void given_existNickname_when_executeSingUp_then_KnowyInvalidUserNicknameException() {
             String existNickname = "existNickname";
@@ -680,6 +702,63 @@ class UserPrivateServiceTest {
             );
         }
 
+        @Test
+        void given_validEmailAndCorrectPassword_when_prepareAccountDeactivation_then_storeNothing()
+                throws KnowyWrongPasswordException, KnowyUserNotFoundException, KnowyTokenException, KnowyMailDispatchException {
+
+            Email email = new Email("user@mail.com");
+            Password password = new Password("valid.Password123");
+            DeactivateAccountCommand command = new DeactivateAccountCommand(
+                    email, password, password, "http://app.url"
+            );
+            UserPrivate userPrivate = new UserPrivate(
+                    11,
+                    "TestNickname",
+                    new ProfileImage(1, "https://knowy/image.png"),
+                    new HashSet<>(),
+                    email,
+                    new Password("Encoded.Password.123"),
+                    true
+            );
+            Mockito.when(userPrivateRepository.findByEmail(email.value()))
+                    .thenReturn(Optional.of(userPrivate));
+            Mockito.when(tokenUserPrivateTool.createUserTokenByEmail(Mockito.eq(email), Mockito.anyLong()))
+                    .thenReturn("token");
+
+            AccountDeactivation deactivation = userPrivateService.prepareAccountDeactivation(command);
+
+            assertAll(
+                    () -> assertFalse(deactivation.deactivatedUser().active()),
+                    () -> assertEquals(userPrivate.id(), deactivation.deactivatedUser().id()),
+                    () -> assertEquals(email.value(), deactivation.recoveryNotification().to()),
+                    () -> assertTrue(deactivation.recoveryNotification().message().contains("http://app.url?token=token"))
+            );
+            Mockito.verify(userPrivateRepository, Mockito.never()).save(Mockito.any());
+            Mockito.verify(externalNotificationDispatcher, Mockito.never()).dispatch(Mockito.any());
+        }
+
+        @Test
+        void given_preparedDeactivation_when_applyAccountDeactivation_then_saveUserAndDispatchEmail()
+                throws KnowyMailDispatchException {
+
+            UserPrivate deactivatedUser = new UserPrivate(
+                    11,
+                    "TestNickname",
+                    new ProfileImage(1, "https://knowy/image.png"),
+                    new HashSet<>(),
+                    new Email("user@mail.com"),
+                    new Password("Encoded.Password.123"),
+                    false
+            );
+            ExternalNotificationDispatcher.ExternalNotification notification =
+                    new ExternalNotificationDispatcher.ExternalNotification("user@mail.com", "Subject", "Body");
+
+            userPrivateService.applyAccountDeactivation(new AccountDeactivation(deactivatedUser, notification));
+
+            Mockito.verify(userPrivateRepository).save(deactivatedUser);
+            Mockito.verify(externalNotificationDispatcher).dispatch(notification);
+        }
+
         @Test
         void given_nonExistingEmail_when_createDeletedAccountEmail_then_throwsKnowyUserNotFoundException()
                 throws KnowyTokenException, KnowyUserNotFoundException {
@@ -7,6 +7,7 @@ import com.knowy.core.user.exception.KnowyInvalidUserNicknameException;
 import com.knowy.core.user.exception.KnowyNicknameAlreadyTakenException;
 import com.knowy.core.user.exception.KnowyUnchangedImageException;
 import com.knowy.core.user.exception.KnowyUnchangedNicknameException;
+import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.core.port.CategoryRepository;
 import com.knowy.core.user.port.ProfileImageRepository;
 import com.knowy.core.user.port.UserRepository;
@@ -37,6 +38,9 @@ class UserServiceTest {
 	@Mock
 	private CategoryRepository categoryRepository;
 
+	@Mock
+	private BannedWordsRepository bannedWordsRepository;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -168,6 +172,18 @@ class UserServiceTest {
 			);
 		}
 
+		@Test
+		void given_nicknameWithBannedWord_when_updateNickname_then_throwKnowyInvalidUserNicknameException() {
+			Mockito.when(bannedWordsRepository.isWordBanned("BannedNickname"))
+				.thenReturn(true);
+
+			assertThrows(
+				KnowyInvalidUserNicknameException.class,
+				() -> userService.updateNickname("BannedNickname", 1)
+			);
+			Mockito.verify(userRepository, Mockito.never()).updateNickname(Mockito.anyString(), Mockito.anyInt());
+		}
+
 		@Test
 		void given_blankNickname_when_updateUser_then_throwKnowyInvalidUserNicknameException() {
 			List<String> invalidNicknames = Arrays.asList(null, "", "   ");
@@ -1,17 +1,19 @@
 package com.knowy.server;
 
 import com.knowy.core.exception.KnowyInconsistentDataException;
-import com.knowy.core.exception.KnowyValidationException;
-import com.knowy.core.port.CourseRepository;
-import com.knowy.core.port.DataLoader;
-import com.knowy.core.usecase.importer.CoursesImporterUseCase;
+import com.knowy.core.port.ImportLedger;
+import com.knowy.core.usecase.importer.ParallelCoursesImporter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Component responsible for loading initial course data when the application starts.
@@ -20,36 +22,58 @@ import java.io.IOException;
 @Slf4j
 public class KnowyDataLoader {
 
-	private final DataLoader dataLoader;
-	private final CourseRepository courseRepository;
+	private static final String IMPORT_SOURCE = "importdata/example.xml";
+
+	private final ParallelCoursesImporter parallelCoursesImporter;
+	private final String importDirectory;
 
 	/**
 	 * Constructs a new {@code KnowyDataLoader} with the specified dependencies.
 	 *
-	 * @param dataLoader       the {@link DataLoader} used to load XML data
-	 * @param courseRepository the {@link CourseRepository} used to persist courses
+	 * @param parallelCoursesImporter the {@link ParallelCoursesImporter} used to parse and persist the courses
+	 * @param importDirectory         directory whose {@code .xml} files are imported along with the bundled courses;
+	 *                                empty to import only the bundled courses
 	 */
-	public KnowyDataLoader(DataLoader dataLoader, CourseRepository courseRepository) {
-		this.dataLoader = dataLoader;
-		this.courseRepository = courseRepository;
+	public KnowyDataLoader(
+		ParallelCoursesImporter parallelCoursesImporter,
+		@Value("${knowy.course-import.directory:}") String importDirectory
+	) {
+		this.parallelCoursesImporter = parallelCoursesImporter;
+		this.importDirectory = importDirectory;
 	}
 
 	/**
-	 * Loads initial courses from the XML file and persists them when the application is ready.
+	 * Loads the bundled courses, and those of the import directory if one is configured, when the application is ready.
+	 * Only the files that the {@link ImportLedger} shows as changed since their last import are parsed. A file that
+	 * cannot be imported is logged and tried again on the next start, without stopping the others.
 	 * <p>
 	 * This method is triggered by the {@link ApplicationReadyEvent}.
 	 *
-	 * @throws KnowyValidationException       if the XML data does not conform to the schema
-	 * @throws KnowyInconsistentDataException if the data is inconsistent with expected rules
+	 * @throws KnowyInconsistentDataException if the import lock cannot be taken
 	 * @throws IOException                    if an I/O error occurs while reading the files
+	 * @throws InterruptedException           if the application is stopped while the courses are imported
 	 */
 	@EventListener(ApplicationReadyEvent.class)
-	public void loadCourses() throws KnowyValidationException, KnowyInconsistentDataException, IOException {
-		var coursesImporter = new CoursesImporterUseCase(dataLoader, courseRepository);
+	public void loadCourses() throws KnowyInconsistentDataException, IOException, InterruptedException {
+		List<ParallelCoursesImporter.ImportSource> sources = new ArrayList<>();
+		sources.add(new ParallelCoursesImporter.ImportSource(
+			IMPORT_SOURCE, new ClassPathResource(IMPORT_SOURCE).getURL()
+		));
+		if (!importDirectory.isBlank()) {
+			sources.addAll(ParallelCoursesImporter.sourcesIn(Path.of(importDirectory)));
+		}
 
-		coursesImporter.execute(
-			new ClassPathResource("importdata/example.xml").getInputStream(),
-			new ClassPathResource("schemas/course.xsd").getURL()
+		ParallelCoursesImporter.ImportReport report = parallelCoursesImporter.importIfChanged(
+			sources, new ClassPathResource("schemas/course.xsd").getURL()
+		);
+		for (ParallelCoursesImporter.FileReport file : report.files()) {
+			if (!file.succeeded()) {
+				log.error("Could not import courses from {}", file.source(), file.failure());
+			}
+		}
+		log.info(
+			"Imported {} new courses from {} changed files in {} ms",
+			report.importedCourses(), report.files().size(), report.elapsed().toMillis()
 		);
 	}
 }
@@ -5,6 +5,9 @@ import com.knowy.core.CourseService;
 import com.knowy.core.ExerciseService;
 import com.knowy.core.LessonService;
 import com.knowy.core.port.*;
+import com.knowy.core.progress.LessonProgressTracker;
+import com.knowy.core.recommendation.CourseRecommender;
+import com.knowy.core.scheduler.ReviewScheduler;
 import com.knowy.core.user.UserPrivateService;
 import com.knowy.core.user.UserService;
 import com.knowy.core.user.port.*;
@@ -14,6 +17,7 @@ import com.knowy.core.user.usercase.update.email.UserUpdateEmailUseCase;
 import com.knowy.core.user.usercase.update.password.UserUpdatePasswordUseCase;
 import com.knowy.core.user.util.TokenUserPrivateTool;
 import com.knowy.security.adapter.jwt.PasswordEncoderAdapter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,13 +29,15 @@ public class ApplicationConfiguration {
 		UserRepository userRepository,
 		UserPrivateRepository privateUserRepository,
 		KnowyPasswordEncoder knowyPasswordEncoder,
-		ProfileImageRepository profileImageRepository
+		ProfileImageRepository profileImageRepository,
+		BannedWordsRepository bannedWordsRepository
 	) {
 		return new UserSignUpUseCase(
 			userRepository,
 			privateUserRepository,
 			knowyPasswordEncoder,
-			profileImageRepository
+			profileImageRepository,
+			bannedWordsRepository
 		);
 	}
 
@@ -68,31 +74,54 @@ public class ApplicationConfiguration {
 		);
 	}
 
+	@Bean
+	public ReviewScheduler reviewScheduler(
+		UserExerciseRepository userExerciseRepository,
+		@Value("${knowy.review-scheduler.max-active-users:" + ReviewScheduler.DEFAULT_MAX_ACTIVE_USERS + "}") int maxActiveUsers
+	) {
+		return new ReviewScheduler(userExerciseRepository, maxActiveUsers);
+	}
+
+	@Bean
+	public LessonProgressTracker lessonProgressTracker(
+		UserExerciseRepository userExerciseRepository,
+		@Value("${knowy.lesson-progress.max-active-lessons:" + LessonProgressTracker.DEFAULT_MAX_ACTIVE_LESSONS + "}") int maxActiveLessons
+	) {
+		return new LessonProgressTracker(userExerciseRepository, maxActiveLessons);
+	}
+
 	@Bean
 	public ExerciseService exerciseService(
 		UserExerciseRepository userExerciseRepository,
 		UserRepository userRepository,
-		ExerciseRepository exerciseRepository
+		ExerciseRepository exerciseRepository,
+		ExercisePageViewRepository exercisePageViewRepository,
+		ReviewScheduler reviewScheduler
 	) {
-		return new ExerciseService(userExerciseRepository, exerciseRepository);
+		return new ExerciseService(userExerciseRepository, exerciseRepository, exercisePageViewRepository, reviewScheduler);
 	}
 
 	@Bean
 	public LessonService userLessonService(
 		UserLessonRepository userLessonRepository,
 		UserExerciseRepository userExerciseRepository,
-		LessonBaseRepository lessonBaseRepository
+		LessonBaseRepository lessonBaseRepository,
+		ReviewScheduler reviewScheduler,
+		LessonProgressTracker lessonProgressTracker
 	) {
-		return new LessonService(userLessonRepository, userExerciseRepository, lessonBaseRepository);
+		return new LessonService(
+			userLessonRepository, userExerciseRepository, lessonBaseRepository, reviewScheduler, lessonProgressTracker
+		);
 	}
 
 	@Bean
 	public UserService userService(
 		UserRepository userRepository,
 		CategoryRepository categoryRepository,
-		ProfileImageRepository profileImageRepository
+		ProfileImageRepository profileImageRepository,
+		BannedWordsRepository bannedWordsRepository
 	) {
-		return new UserService(userRepository, categoryRepository, profileImageRepository);
+		return new UserService(userRepository, categoryRepository, profileImageRepository, bannedWordsRepository);
 	}
 
 	@Bean
@@ -102,7 +131,8 @@ public class ApplicationConfiguration {
 		ProfileImageRepository profileImageRepository,
 		KnowyPasswordEncoder knowyPasswordEncoder,
 		KnowyTokenTools knowyTokenTools,
-		ExternalNotificationDispatcher externalNotificationDispatcher
+		ExternalNotificationDispatcher externalNotificationDispatcher,
+		BannedWordsRepository bannedWordsRepository
 	) {
 		return new UserPrivateService(
 			userRepository,
@@ -110,7 +140,8 @@ public class ApplicationConfiguration {
 			profileImageRepository,
 			knowyPasswordEncoder,
 			knowyTokenTools,
-			externalNotificationDispatcher
+			externalNotificationDispatcher,
+			bannedWordsRepository
 		);
 	}
 
@@ -124,13 +155,26 @@ public class ApplicationConfiguration {
 		return new CategoryService(categoryRepository);
 	}
 
+	@Bean
+	public CourseRecommender courseRecommender(
+		CourseRepository courseRepository,
+		UserLessonRepository userLessonRepository,
+		@Value("${knowy.recommender.max-active-users:" + CourseRecommender.DEFAULT_MAX_ACTIVE_USERS + "}") int maxActiveUsers
+	) {
+		return new CourseRecommender(courseRepository, userLessonRepository, maxActiveUsers);
+	}
+
 	@Bean
 	public CourseService courseService(
 		CourseRepository courseRepository,
 		LessonRepository lessonRepository,
 		UserLessonRepository userLessonRepository,
-		CategoryRepository categoryRepository
+		CategoryRepository categoryRepository,
+		CourseRecommender courseRecommender,
+		ReviewScheduler reviewScheduler
 	) {
-		return new CourseService(courseRepository, lessonRepository, userLessonRepository);
+		return new CourseService(
+			courseRepository, lessonRepository, userLessonRepository, courseRecommender, reviewScheduler
+		);
 	}
 }
@@ -1,7 +1,12 @@
 package com.knowy.server.infrastructure.config;
 
 import com.knowy.XmlDataLoader;
+import com.knowy.core.cache.CatalogCache;
+import com.knowy.core.port.CourseRepository;
 import com.knowy.core.port.DataLoader;
+import com.knowy.core.port.ImportLedger;
+import com.knowy.core.usecase.importer.ParallelCoursesImporter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,4 +17,19 @@ public class DataLoaderConfiguration {
 	public DataLoader dataLoader() {
 		return new XmlDataLoader();
 	}
+
+	@Bean(destroyMethod = "close")
+	public ParallelCoursesImporter parallelCoursesImporter(
+		DataLoader dataLoader,
+		CourseRepository courseRepository,
+		CatalogCache catalogCache,
+		ImportLedger importLedger,
+		@Value("${knowy.course-import.parallelism:" + ParallelCoursesImporter.DEFAULT_PARALLELISM + "}") int parallelism,
+		@Value("${knowy.course-import.queue-capacity:" + ParallelCoursesImporter.DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+		@Value("${knowy.course-import.batch-size:" + ParallelCoursesImporter.DEFAULT_BATCH_SIZE + "}") int batchSize
+	) {
+		return new ParallelCoursesImporter(
+			dataLoader, courseRepository, catalogCache, importLedger, parallelism, queueCapacity, batchSize
+		);
+	}
 }
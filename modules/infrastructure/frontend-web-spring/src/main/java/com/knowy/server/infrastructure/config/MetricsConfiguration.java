@@ -0,0 +1,192 @@
+package com.knowy.server.infrastructure.config;
+
+import com.knowy.core.buffer.WriteBehindUserExerciseRepository;
+import com.knowy.core.cache.CatalogCache;
+import com.knowy.core.usecase.importer.ParallelCoursesImporter;
+import com.knowy.notification.adapter.mail.OutboxMailSender;
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import com.knowy.server.infrastructure.datasource.ConnectionLimitingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfiguration {
+
+	@Bean
+	public MeterBinder catalogCacheMetrics(CatalogCache catalogCache) {
+		return registry -> {
+			FunctionCounter.builder("knowy.catalog.cache.hits", catalogCache, cache -> cache.stats().hits())
+				.description("Catalog lookups served from the cache")
+				.register(registry);
+			FunctionCounter.builder("knowy.catalog.cache.misses", catalogCache, cache -> cache.stats().misses())
+				.description("Catalog lookups loaded from the database")
+				.register(registry);
+			FunctionCounter.builder("knowy.catalog.cache.evictions", catalogCache, cache -> cache.stats().evictions())
+				.description("Catalog entries dropped to respect the size bound")
+				.register(registry);
+			Gauge.builder("knowy.catalog.cache.size", catalogCache, cache -> cache.stats().size())
+				.description("Catalog entries currently cached")
+				.register(registry);
+			Gauge.builder("knowy.catalog.cache.version", catalogCache, cache -> cache.stats().version())
+				.description("Number of catalog invalidations since startup")
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder userExerciseWriteBehindMetrics(
+		ObjectProvider<WriteBehindUserExerciseRepository> writeBehindUserExerciseRepository
+	) {
+		return registry -> writeBehindUserExerciseRepository.ifAvailable(repository -> {
+			Gauge.builder("knowy.user-exercise.write-behind.pending", repository, buffer -> buffer.stats().pending())
+				.description("Exercise progress acknowledged but not stored yet")
+				.register(registry);
+			FunctionCounter.builder("knowy.user-exercise.write-behind.rows", repository, buffer -> buffer.stats().flushedRows())
+				.description("Exercise progress stored through batches")
+				.register(registry);
+			FunctionCounter.builder("knowy.user-exercise.write-behind.failures", repository, buffer -> buffer.stats().failedFlushes())
+				.description("Exercise progress batches that could not be stored")
+				.register(registry);
+			FunctionCounter.builder("knowy.user-exercise.write-behind.dropped", repository, buffer -> buffer.stats().droppedRows())
+				.description("Exercise progress dropped after being rejected too many times")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.user-exercise.write-behind.flush",
+					repository,
+					buffer -> buffer.stats().flushes(),
+					buffer -> buffer.stats().flushTimeNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time spent storing exercise progress batches")
+				.register(registry);
+		});
+	}
+
+	@Bean
+	public MeterBinder courseImportMetrics(ParallelCoursesImporter parallelCoursesImporter) {
+		return registry -> {
+			FunctionCounter.builder("knowy.course-import.courses", parallelCoursesImporter, importer -> importer.stats().courses())
+				.description("New courses saved by parallel imports")
+				.register(registry);
+			FunctionCounter.builder("knowy.course-import.exercises", parallelCoursesImporter, importer -> importer.stats().exercises())
+				.description("Exercises in the courses saved by parallel imports")
+				.register(registry);
+			FunctionCounter.builder("knowy.course-import.files", parallelCoursesImporter, importer -> importer.stats().files())
+				.description("Sources handled by parallel imports")
+				.register(registry);
+			FunctionCounter.builder("knowy.course-import.failed-files", parallelCoursesImporter, importer -> importer.stats().failedFiles())
+				.description("Sources that could not be fully imported")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.course-import.duration",
+					parallelCoursesImporter,
+					importer -> importer.stats().imports(),
+					importer -> importer.stats().importTimeNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time spent running parallel imports")
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder passwordHashingMetrics(BoundedPasswordEncoder boundedPasswordEncoder) {
+		return registry -> {
+			FunctionTimer.builder(
+					"knowy.password-hashing.duration",
+					boundedPasswordEncoder,
+					encoder -> encoder.stats().hashes(),
+					encoder -> encoder.stats().hashTimeNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time spent hashing and checking passwords")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.password-hashing.queue-wait",
+					boundedPasswordEncoder,
+					encoder -> encoder.stats().hashes(),
+					encoder -> encoder.stats().queueWaitNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time password hashes waited for a hashing thread")
+				.register(registry);
+			FunctionCounter.builder("knowy.password-hashing.rejected", boundedPasswordEncoder, encoder -> encoder.stats().rejected())
+				.description("Password hashes rejected because the hashing pool was saturated")
+				.register(registry);
+			Gauge.builder("knowy.password-hashing.queued", boundedPasswordEncoder, encoder -> encoder.stats().queued())
+				.description("Password hashes waiting for a hashing thread")
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder mailOutboxMetrics(ObjectProvider<OutboxMailSender> outboxMailSender) {
+		return registry -> outboxMailSender.ifAvailable(sender -> {
+			Gauge.builder("knowy.mail-outbox.pending", sender, outbox -> outbox.stats().pending())
+				.description("Notifications waiting in the outbox")
+				.register(registry);
+			Gauge.builder("knowy.mail-outbox.abandoned", sender, outbox -> outbox.stats().abandoned())
+				.description("Notifications that failed every attempt")
+				.register(registry);
+			FunctionCounter.builder("knowy.mail-outbox.sent", sender, outbox -> outbox.stats().sent())
+				.description("Notifications sent from the outbox")
+				.register(registry);
+			FunctionCounter.builder("knowy.mail-outbox.failed-attempts", sender, outbox -> outbox.stats().failedAttempts())
+				.description("Notification attempts that failed and were scheduled again")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.mail-outbox.send",
+					sender,
+					outbox -> outbox.stats().batches(),
+					outbox -> outbox.stats().sendTimeNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time spent sending batches of notifications")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.mail-outbox.delivery-delay",
+					sender,
+					outbox -> outbox.stats().sent(),
+					outbox -> outbox.stats().deliveryDelayNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time sent notifications spent in the outbox")
+				.register(registry);
+		});
+	}
+
+	@Bean
+	public MeterBinder connectionLimitMetrics(ObjectProvider<DataSource> dataSource) {
+		return registry -> dataSource.ifUnique(source -> {
+			if (!(source instanceof ConnectionLimitingDataSource limiter)) {
+				return;
+			}
+			Gauge.builder("knowy.connection-limit.active", limiter, connections -> connections.stats().active())
+				.description("Database connections held by virtual threads")
+				.register(registry);
+			Gauge.builder("knowy.connection-limit.waiting", limiter, connections -> connections.stats().waiting())
+				.description("Virtual threads waiting for a database connection to be free")
+				.register(registry);
+			FunctionCounter.builder("knowy.connection-limit.rejected", limiter, connections -> connections.stats().rejected())
+				.description("Database connections refused after waiting too long")
+				.register(registry);
+			FunctionTimer.builder(
+					"knowy.connection-limit.wait",
+					limiter,
+					connections -> connections.stats().acquired() + connections.stats().rejected(),
+					connections -> connections.stats().waitTimeNanos(),
+					TimeUnit.NANOSECONDS
+				)
+				.description("Time virtual threads waited for a database connection")
+				.register(registry);
+		});
+	}
+}
@@ -1,17 +1,22 @@
 package com.knowy.server.infrastructure.config;
 
+import com.knowy.core.user.domain.Password;
 import com.knowy.core.user.domain.UserPrivate;
 import com.knowy.core.user.port.UserPrivateRepository;
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import com.knowy.server.infrastructure.security.PasswordHashingRejectedFilter;
 import com.knowy.server.infrastructure.security.UserSecurityDetails;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -49,14 +54,43 @@ public class SecurityConfiguration {
 	 * Defines a {@link PasswordEncoder} bean that uses BCrypt hashing algorithm.
 	 * <p>
 	 * This encoder is used by Spring Security to hash passwords securely before storing them and to verify password
-	 * matches during authentication.
+	 * matches during authentication. Hashing runs on a bounded pool of its own, so a burst of logins cannot take every
+	 * request thread, and is rejected with a {@code 503} once that pool is saturated.
 	 * </p>
 	 *
-	 * @return a {@link BCryptPasswordEncoder} instance for password encoding
+	 * @param strength      the BCrypt cost of new hashes; stored hashes with another cost are rehashed on login
+	 * @param threads       the number of hashing threads, or {@code 0} for one per available processor
+	 * @param queueCapacity the number of hashes that may wait for a thread
+	 * @return a {@link BoundedPasswordEncoder} instance for password encoding
+	 */
+	@Bean(destroyMethod = "close")
+	public BoundedPasswordEncoder passwordEncoder(
+		@Value("${knowy.password-hashing.strength:" + BoundedPasswordEncoder.DEFAULT_STRENGTH + "}") int strength,
+		@Value("${knowy.password-hashing.threads:0}") int threads,
+		@Value("${knowy.password-hashing.queue-capacity:" + BoundedPasswordEncoder.DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity
+	) {
+		return new BoundedPasswordEncoder(strength, threads, queueCapacity);
+	}
+
+	/**
+	 * Provides a {@link UserDetailsPasswordService} that stores the new hash of a user whose stored hash was made with
+	 * another BCrypt cost, right after the user logs in with the right password.
+	 *
+	 * @return a lambda-based {@link UserDetailsPasswordService} that updates users by email
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public UserDetailsPasswordService userDetailsPasswordService() {
+		return (user, newPassword) -> {
+			UserPrivate userPrivate = userPrivateRepository.findByEmail(user.getUsername())
+				.orElseThrow(() -> new UsernameNotFoundException("User not found"));
+			UserPrivate rehashedUser = new UserPrivate(
+				userPrivate.cropToUser(),
+				userPrivate.email(),
+				new Password(newPassword),
+				userPrivate.active()
+			);
+			return new UserSecurityDetails(userPrivateRepository.save(rehashedUser));
+		};
 	}
 
 	/**
@@ -93,6 +127,8 @@ public class SecurityConfiguration {
 			.deleteCookies("JSESSIONID")
 			.permitAll());
 
+		http.addFilterBefore(new PasswordHashingRejectedFilter(), UsernamePasswordAuthenticationFilter.class);
+
 		http.sessionManagement(session -> session
 			.maximumSessions(1)
 		);
@@ -0,0 +1,53 @@
+package com.knowy.server.infrastructure.config;
+
+import com.knowy.server.infrastructure.datasource.ConnectionLimitingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Settings applied when the application runs on virtual threads, enabled with {@code spring.threads.virtual.enabled}.
+ * <p>
+ * Spring Boot then handles Tomcat requests, {@code @Async} methods and {@code @Scheduled} jobs on virtual threads. The
+ * executors of the application itself keep their platform threads, as they run CPU-bound or single background work.
+ * <p>
+ * No load test comparing both modes on the exercise flow has been recorded yet, as it needs the whole stack running
+ * against PostgreSQL. To compare them, run the application once with each value of {@code VIRTUAL_THREADS_ENABLED} and
+ * the same {@code DB_POOL_SIZE}, drive the exercise pages with the same load, and compare throughput, p99 latency and
+ * the {@code knowy.connection-limit.*} meters.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+	/**
+	 * Wraps the pooled data source so that virtual threads cannot take every connection of the pool.
+	 *
+	 * @param maximumPoolSize     the maximum number of connections of the pool
+	 * @param reservedConnections the connections of the pool left to background work
+	 * @param maxWait             the time a virtual thread may wait for a connection before it is rejected
+	 * @return the post processor wrapping the data source
+	 */
+	@Bean
+	public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+		@Value("${knowy.connection-limit.reserved-connections:" + ConnectionLimitingDataSource.DEFAULT_RESERVED_CONNECTIONS + "}") int reservedConnections,
+		@Value("${knowy.connection-limit.max-wait:5s}") Duration maxWait
+	) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+					return new ConnectionLimitingDataSource(dataSource, maximumPoolSize, reservedConnections, maxWait);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -4,8 +4,11 @@ import com.knowy.core.CategoryService;
 import com.knowy.core.CourseService;
 import com.knowy.core.domain.Category;
 import com.knowy.core.domain.Course;
-import com.knowy.core.domain.Pagination;
-import com.knowy.core.exception.KnowyCourseNotFound;
+import com.knowy.core.domain.CourseCursor;
+import com.knowy.core.domain.CourseQuery;
+import com.knowy.core.domain.CourseSort;
+import com.knowy.core.domain.Slice;
+import com.knowy.core.exception.KnowyIllegalArgumentRuntimeException;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.user.exception.KnowyUserNotFoundException;
 import com.knowy.server.infrastructure.controller.dto.CourseCardDTO;
@@ -20,14 +23,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Controller
 @RequestMapping("/store")
 public class CoursesStoreController {
 
 	private static final String TOAST_MODEL_ATTRIBUTE = "toast";
+	private static final int PAGE_SIZE = 8;
 
 	private final CourseService courseService;
 	private final CategoryService categoryService;
@@ -42,86 +46,78 @@ public class CoursesStoreController {
 		Model model,
 		@RequestParam(name = "category", required = false) String category,
 		@RequestParam(name = "order", required = false) String order,
-		@RequestParam(name = "page", defaultValue = "1") int page,
+		@RequestParam(name = "after", required = false) String after,
 		@AuthenticationPrincipal UserSecurityDetails userDetails
 	) throws KnowyInconsistentDataException {
 
-		try {
-			List<Course> allCourses = courseService.getAllCourses(new Pagination(page, 8));
-
-			List<Integer> myCourseIds = courseService.findAllByUserId(userDetails.getUser().id())
-				.stream()
-				.map(Course::id)
-				.toList();
-
-			List<Course> availableCourses = allCourses.stream()
-				.filter(course -> !myCourseIds.contains(course.id()))
-				.toList();
-
-			List<CourseCardDTO> storeCourses = new ArrayList<>();
-			for (Course course : availableCourses) {
-				CourseCardDTO courseCardDTO = CourseCardDTO.fromDomain(
-					course,
-					0.0f,
-					CourseCardDTO.ActionType.ACQUIRE
-				);
-				storeCourses.add(courseCardDTO);
-			}
+		List<Category> categories = categoryService.findAll();
+		Slice<Course> storeCourses = findStoreCourses(
+			categories,
+			category,
+			order,
+			after,
+			userDetails.getUser().id()
+		);
+
+		List<CourseCardDTO> courseCards = new ArrayList<>();
+		for (Course course : storeCourses.items()) {
+			courseCards.add(CourseCardDTO.fromDomain(course, 0.0f, CourseCardDTO.ActionType.ACQUIRE));
+		}
 
-			//Filters
-			if (category != null && !category.isEmpty()) {
-				storeCourses = storeCourses.stream()
-					.filter(card -> card.categories() != null && card.categories().contains(category))
-					.toList();
-			}
-			if (order != null) {
-				switch (order) {
-					case "alpha_desc" -> storeCourses = storeCourses.stream()
-						.sorted(Comparator.comparing(CourseCardDTO::name, String.CASE_INSENSITIVE_ORDER).reversed())
-						.toList();
-					case "date_asc" -> storeCourses = storeCourses.stream()
-						.sorted(Comparator.comparing(CourseCardDTO::id))
-						.toList();
-					case "date_desc" -> storeCourses = storeCourses.stream()
-						.sorted(Comparator.comparing(CourseCardDTO::id).reversed())
-						.toList();
-					default -> storeCourses = storeCourses.stream()
-						.sorted(Comparator.comparing(CourseCardDTO::name, String.CASE_INSENSITIVE_ORDER))
-						.toList();
-				}
+		model.addAttribute("courses", courseCards);
+		model.addAttribute("allLanguages", categories.stream().map(Category::name));
+		model.addAttribute("order", order);
+		model.addAttribute("category", category);
+		model.addAttribute("isFirstPage", after == null || after.isEmpty());
+		model.addAttribute("nextCursor", storeCourses.nextCursor());
+		model.addAttribute("acquireAction", "/store/subscribe");
+		return "pages/courses-store";
+	}
+
+	private Slice<Course> findStoreCourses(
+		List<Category> categories,
+		String category,
+		String order,
+		String after,
+		int userId
+	) throws KnowyInconsistentDataException {
+
+		Integer categoryId = null;
+		if (category != null && !category.isEmpty()) {
+			Optional<Category> selectedCategory = categories.stream()
+				.filter(candidate -> candidate.name().equalsIgnoreCase(category))
+				.findFirst();
+			if (selectedCategory.isEmpty()) {
+				return Slice.empty();
 			}
+			categoryId = selectedCategory.get().id();
+		}
+
+		CourseQuery query = new CourseQuery(categoryId, toCourseSort(order), userId, toCourseCursor(after), PAGE_SIZE);
+		return courseService.findCourses(query);
+	}
+
+	private static CourseCursor toCourseCursor(String after) {
+		if (after == null || after.isEmpty()) {
+			return null;
+		}
+		try {
+			return CourseCursor.decode(after);
+		} catch (KnowyIllegalArgumentRuntimeException e) {
+			return null;
+		}
+	}
 
-			// PAGINACIÓN
-			int pageSize = 8;
-			int totalPages = (int) Math.ceil((double) storeCourses.size() / pageSize);
-			if (totalPages == 0) totalPages = 1; // mínimo 1 página
-
-			if (page < 1) page = 1;
-			if (page > totalPages) page = totalPages;
-
-			int fromIndex = (page - 1) * pageSize;
-			int toIndex = Math.min(fromIndex + pageSize, storeCourses.size());
-
-			List<CourseCardDTO> paginatedStoreCourses = fromIndex >= storeCourses.size() ? List.of() : storeCourses.subList(fromIndex, toIndex);
-
-			model.addAttribute("courses", paginatedStoreCourses);
-			model.addAttribute("allLanguages", categoryService.findAll().stream().map(Category::name));
-			model.addAttribute("order", order);
-			model.addAttribute("currentPage", page);
-			model.addAttribute("totalPages", totalPages);
-			model.addAttribute("category", category);
-			model.addAttribute("acquireAction", "/store/subscribe");
-			return "pages/courses-store";
-		} catch (KnowyCourseNotFound e) {
-			model.addAttribute("courses", List.of());
-			model.addAttribute("allLanguages", categoryService.findAll().stream().map(Category::name));
-			model.addAttribute("order", order);
-			model.addAttribute("currentPage", page);
-			model.addAttribute("totalPages", 0);
-			model.addAttribute("category", category);
-			model.addAttribute("acquireAction", "/store/subscribe");
-			return "pages/courses-store";
+	private static CourseSort toCourseSort(String order) {
+		if (order == null) {
+			return CourseSort.TITLE_ASC;
 		}
+		return switch (order) {
+			case "alpha_desc" -> CourseSort.TITLE_DESC;
+			case "date_asc" -> CourseSort.PUBLICATION_ASC;
+			case "date_desc" -> CourseSort.PUBLICATION_DESC;
+			default -> CourseSort.TITLE_ASC;
+		};
 	}
 
 	@PostMapping("/subscribe")
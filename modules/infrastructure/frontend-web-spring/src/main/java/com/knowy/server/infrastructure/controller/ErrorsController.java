@@ -1,6 +1,10 @@
 package com.knowy.server.infrastructure.controller;
 
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import com.knowy.server.infrastructure.datasource.ConnectionLimitingDataSource;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,8 +28,22 @@ public class ErrorsController {
 		return mv;
 	}
 
+	@ExceptionHandler(BoundedPasswordEncoder.PasswordHashingRejectedException.class)
+	public ModelAndView handlePasswordHashingRejected(
+		BoundedPasswordEncoder.PasswordHashingRejectedException ex,
+		HttpServletResponse response
+	) {
+		log.warn(ex.getMessage());
+		return serviceUnavailable(response);
+	}
+
 	@ExceptionHandler(Exception.class)
-	public ModelAndView handleServerError(Exception ex) {
+	public ModelAndView handleServerError(Exception ex, HttpServletResponse response) {
+		if (isCausedByConnectionLimit(ex)) {
+			log.warn(ex.getMessage());
+			return serviceUnavailable(response);
+		}
+
 		String errorCode = UUID.randomUUID().toString();
 
 		log.error("Error Code: {}\n{}", errorCode, ex.getMessage(), ex);
@@ -36,4 +54,24 @@ public class ErrorsController {
 		mv.addObject("errorMessage", errorCode);
 		return mv;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Connections refused by the limit reach here wrapped by the persistence layer, so the whole cause chain is checked.
+	 */
+	private static boolean isCausedByConnectionLimit(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConnectionLimitingDataSource.ConnectionLimitExceededException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static ModelAndView serviceUnavailable(HttpServletResponse response) {
+		response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+		ModelAndView mv = new ModelAndView("error/error");
+		mv.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+		mv.addObject("statusCode", 503);
+		return mv;
+	}
+}
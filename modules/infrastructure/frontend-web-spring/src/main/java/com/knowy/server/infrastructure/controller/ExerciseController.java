@@ -1,6 +1,5 @@
 package com.knowy.server.infrastructure.controller;
 
-import com.knowy.core.CourseService;
 import com.knowy.core.ExerciseService;
 import com.knowy.core.LessonService;
 import com.knowy.core.domain.*;
@@ -32,17 +31,15 @@ public class ExerciseController {
 
 	private final ExerciseService exerciseService;
 	private final LessonService lessonService;
-	private final CourseService courseService;
 
 	/**
 	 * The constructor
 	 *
 	 * @param exerciseService the publicUserExerciseService
 	 */
-	public ExerciseController(ExerciseService exerciseService, LessonService lessonService, CourseService courseService) {
+	public ExerciseController(ExerciseService exerciseService, LessonService lessonService) {
 		this.exerciseService = exerciseService;
 		this.lessonService = lessonService;
-		this.courseService = courseService;
 	}
 
 	/**
@@ -60,14 +57,10 @@ public class ExerciseController {
 		Model model
 	) {
 		try {
-			UserExercise userExercise = exerciseService
-				.getNextExerciseByLessonId(userDetails.getUser().id(), lessonId);
+			ExercisePageView exercisePage = exerciseService
+				.getNextExercisePageByLessonId(userDetails.getUser().id(), lessonId);
 
-			UserLesson userLesson = lessonService.getUserLessonById(userDetails.getUser().id(), lessonId);
-
-			Course course = courseService.getById(userLesson.lesson().courseId());
-
-			model.addAttribute(EXERCISE_MODEL_ATTRIBUTE, ExerciseDto.fromDomain(userExercise, course));
+			model.addAttribute(EXERCISE_MODEL_ATTRIBUTE, ExerciseDto.fromDomain(exercisePage));
 			model.addAttribute("mode", "ANSWERING");
 			model.addAttribute("formReviewUrl", "/course/exercise/review");
 			return EXERCISE_HTML_URL;
@@ -95,14 +88,8 @@ public class ExerciseController {
 		Model model
 	) throws KnowyDataAccessException {
 
-		UserExercise userExercise = exerciseService.getByIdOrCreate(userDetails.getUser().id(),
-			exerciseId);
-
-		UserLesson userLesson = lessonService
-			.getUserLessonById(userDetails.getUser().id(), userExercise.exercise().lessonId());
-
-		Course course = courseService.getById(userLesson.lesson().courseId());
-		ExerciseDto exerciseDto = ExerciseDto.fromDomain(userExercise, course, answerId);
+		ExercisePageView exercisePage = exerciseService.getExercisePage(userDetails.getUser().id(), exerciseId);
+		ExerciseDto exerciseDto = ExerciseDto.fromDomain(exercisePage, answerId);
 
 		if (!isCorrectAnswer(exerciseDto.options(), answerId)) {
 			model.addAttribute("mode", "FAILING");
@@ -162,15 +149,10 @@ public class ExerciseController {
 		Model model
 	) {
 		try {
-			UserExercise userExercise = exerciseService
-				.getNextExerciseByUserId(userDetails.getUser().id());
-
-			UserLesson userLesson = lessonService
-				.getUserLessonById(userDetails.getUser().id(), userExercise.exercise().lessonId());
+			ExercisePageView exercisePage = exerciseService
+				.getNextExercisePageByUserId(userDetails.getUser().id());
 
-			Course course = courseService.getById(userLesson.lesson().courseId());
-
-			model.addAttribute(EXERCISE_MODEL_ATTRIBUTE, ExerciseDto.fromDomain(userExercise, course));
+			model.addAttribute(EXERCISE_MODEL_ATTRIBUTE, ExerciseDto.fromDomain(exercisePage));
 			model.addAttribute("mode", "ANSWERING");
 			model.addAttribute("formReviewUrl", "/exercise/review");
 			return EXERCISE_HTML_URL;
@@ -198,19 +180,10 @@ public class ExerciseController {
 		Model model
 	) throws KnowyDataAccessException {
 
-		UserExercise userExercise = exerciseService
-			.getByIdOrCreate(userDetails.getUser().id(), exerciseId);
-
-		UserLesson userLesson = lessonService
-			.getUserLessonById(userDetails.getUser().id(), userExercise.exercise().lessonId());
-
-		Course course = courseService.getById(userLesson.lesson().courseId());
+		ExercisePageView exercisePage = exerciseService
+			.getExercisePage(userDetails.getUser().id(), exerciseId);
 
-		ExerciseDto exerciseDto = ExerciseDto.fromDomain(
-			userExercise,
-			course,
-			answerId
-		);
+		ExerciseDto exerciseDto = ExerciseDto.fromDomain(exercisePage, answerId);
 
 		if (!isCorrectAnswer(exerciseDto.options(), answerId)) {
 			model.addAttribute("mode", "FAILING");
@@ -1,10 +1,10 @@
 package com.knowy.server.infrastructure.controller;
 
+import com.knowy.core.domain.CourseOutlineView;
 import com.knowy.core.domain.Documentation;
-import com.knowy.core.domain.UserLesson;
+import com.knowy.core.domain.Lesson;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.CourseService;
-import com.knowy.core.LessonService;
 import com.knowy.server.infrastructure.security.UserSecurityDetails;
 import com.knowy.server.infrastructure.controller.dto.CourseDto;
 import com.knowy.server.infrastructure.controller.dto.LessonDto;
@@ -20,18 +20,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 @Controller
 @RequestMapping("/course")
 public class LessonController {
 
-	private final LessonService lessonService;
 	private final CourseService courseService;
 
-	public LessonController(LessonService lessonService, CourseService courseService) {
-		this.lessonService = lessonService;
+	public LessonController(CourseService courseService) {
 		this.courseService = courseService;
 	}
 
@@ -53,14 +50,11 @@ public class LessonController {
 		@PathVariable("courseId") Integer courseId,
 		Model model
 	) throws KnowyInconsistentDataException {
-		List<UserLesson> userLessons = getAllPublicUserLessons(userDetails.getUser().id(), courseId);
-		List<LessonDto> lessonsDto = LessonDto.fromDomains(userLessons).reversed();
-		List<LinksLessonDto> documentationDto = LinksLessonDto.fromDomains(getAllLessonDocumentations(userLessons));
+		CourseOutlineView courseOutline = courseService.getCourseOutline(userDetails.getUser().id(), courseId);
+		List<LessonDto> lessonsDto = LessonDto.fromDomains(courseOutline.lessons()).reversed();
+		List<LinksLessonDto> documentationDto = LinksLessonDto.fromDomains(getAllLessonDocumentations(courseOutline));
 
-		CourseDto courseDto = CourseDto.fromDomain(
-			courseService.getById(userLessons.getFirst().lesson().courseId()),
-			lessonsDto
-		);
+		CourseDto courseDto = CourseDto.fromDomain(courseOutline, lessonsDto);
 
 		populateCourseIntro(model, courseDto, lessonsDto, documentationDto);
 		return "pages/lesson-explanation";
@@ -80,9 +74,9 @@ public class LessonController {
 		model.addAttribute("LinksList", documentationDto);
 	}
 
-	private List<Documentation> getAllLessonDocumentations(List<UserLesson> userLessons) {
-		return userLessons.stream()
-			.map(userLesson -> userLesson.lesson().documentations())
+	private List<Documentation> getAllLessonDocumentations(CourseOutlineView courseOutline) {
+		return courseOutline.lessons().stream()
+			.map(CourseOutlineView.LessonOutline::documentations)
 			.flatMap(Collection::stream)
 			.toList();
 	}
@@ -114,44 +108,46 @@ public class LessonController {
 		@PathVariable("lessonId") Integer lessonId,
 		Model model
 	) throws KnowyInconsistentDataException {
-		List<UserLesson> userLessons = getAllPublicUserLessons(userDetails.getUser().id(), courseId);
-		List<LessonDto> lessonsDto = LessonDto.fromDomains(userLessons).reversed();
-
-		UserLesson currentUserLesson = getCurrentPublicUserLesson(userLessons, lessonId);
-		List<LinksLessonDto> documentationDto = LinksLessonDto.fromDomains(currentUserLesson.lesson().documentations());
-		List<SolutionDto> solutionsDto = SolutionDto.fromDomains(currentUserLesson.lesson().exercises());
-
-		CourseDto courseDto = CourseDto.fromDomain(
-			courseService.getById(userLessons.getFirst().lesson().courseId()),
-			lessonsDto
+		CourseOutlineView courseOutline = courseService.getCourseOutline(userDetails.getUser().id(), courseId, lessonId);
+		List<LessonDto> lessonsDto = LessonDto.fromDomains(courseOutline.lessons()).reversed();
+
+		Lesson currentLesson = courseOutline.currentLesson();
+		List<LinksLessonDto> documentationDto = LinksLessonDto.fromDomains(currentLesson.documentations());
+		List<SolutionDto> solutionsDto = SolutionDto.fromDomains(currentLesson.exercises());
+
+		CourseDto courseDto = CourseDto.fromDomain(courseOutline, lessonsDto);
+
+		populateLesson(
+			model,
+			getCurrentLesson(lessonsDto, lessonId),
+			currentLesson,
+			courseDto,
+			lessonsDto,
+			documentationDto,
+			solutionsDto
 		);
-
-		populateLesson(model, currentUserLesson, courseDto, lessonsDto, documentationDto, solutionsDto);
 		return "pages/lesson-explanation";
 	}
 
-	private List<UserLesson> getAllPublicUserLessons(int userId, int courseId) throws KnowyInconsistentDataException {
-		return lessonService.getUserLessonAllByCourseId(userId, courseId);
-	}
-
-	private UserLesson getCurrentPublicUserLesson(List<UserLesson> userLessons, int currentLessonId) throws KnowyCurrentLessonNotFoundException {
-		return userLessons.stream()
-			.filter(userLesson -> Objects.equals(userLesson.lesson().id(), currentLessonId))
+	private LessonDto getCurrentLesson(List<LessonDto> lessons, int currentLessonId) throws KnowyCurrentLessonNotFoundException {
+		return lessons.stream()
+			.filter(lesson -> lesson.id() == currentLessonId)
 			.findFirst()
 			.orElseThrow(() -> new KnowyCurrentLessonNotFoundException("Lección actual no encontrada"));
 	}
 
 	private void populateLesson(
 		Model model,
-		UserLesson currentUserLesson,
+		LessonDto currentLessonDto,
+		Lesson currentLesson,
 		CourseDto courseDto,
 		List<LessonDto> lessonsDto,
 		List<LinksLessonDto> documentationDto,
 		List<SolutionDto> solutions
 	) {
 		model.addAttribute("course", courseDto);
-		model.addAttribute("lesson", LessonDto.fromDomain(currentUserLesson));
-		model.addAttribute("lessonContent", currentUserLesson.lesson().explanation());
+		model.addAttribute("lesson", currentLessonDto);
+		model.addAttribute("lessonContent", currentLesson.explanation());
 		model.addAttribute("lastLesson", getLastCompletedIndex(lessonsDto));
 		model.addAttribute("courseId", courseDto.id());
 		model.addAttribute("isIntro", false);
@@ -6,6 +6,7 @@ import com.knowy.core.user.UserPrivateService;
 import com.knowy.core.user.UserService;
 import com.knowy.core.exception.KnowyException;
 import com.knowy.core.exception.KnowyMailDispatchException;
+import com.knowy.core.user.usercase.manage.AccountDeactivation;
 import com.knowy.core.user.usercase.manage.DeactivateAccountCommand;
 import com.knowy.core.user.usercase.update.email.UserUpdateEmailCommand;
 import com.knowy.core.user.domain.Email;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.ui.Model;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -41,23 +43,27 @@ public class UserConfigController {
 	private final UserPrivateService userPrivateService;
 	private final CategoryService categoryService;
 	private final UserSecurityDetailsHelper userSecurityDetailsHelper;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * The constructor
 	 *
 	 * @param categoryService           the languageService
 	 * @param userSecurityDetailsHelper the userSecurityDetailsHelper
+	 * @param transactionTemplate       the template running the account deactivation in a transaction
 	 */
 	public UserConfigController(
 		UserService userService,
 		UserPrivateService userPrivateService,
 		CategoryService categoryService,
-		UserSecurityDetailsHelper userSecurityDetailsHelper
+		UserSecurityDetailsHelper userSecurityDetailsHelper,
+		TransactionTemplate transactionTemplate
 	) {
 		this.userService = userService;
 		this.userPrivateService = userPrivateService;
 		this.categoryService = categoryService;
 		this.userSecurityDetailsHelper = userSecurityDetailsHelper;
+		this.transactionTemplate = transactionTemplate;
 	}
 
 	/**
@@ -148,6 +154,10 @@ public class UserConfigController {
 	 * deactivates the user account if valid, and initiates the recovery email process. On success, redirects to the
 	 * deletion advice page with a success message. On failure, redirects back to the confirmation page with an
 	 * appropriate error message.
+	 * <p>
+	 * The password is checked before any transaction starts, so no database connection is held while the check waits
+	 * for the password hashing pool. The deactivation and the recovery email are then stored in the same transaction,
+	 * which is rolled back on any failure, so the account is not deactivated if the email cannot be queued.
 	 *
 	 * @param userDetails        the authenticated user's security details
 	 * @param password           the password provided by the user for confirmation
@@ -169,10 +179,11 @@ public class UserConfigController {
 		String recoveryBaseUrl = domainUrl + "/reactivate-account";
 
 		try {
-			userPrivateService.desactivateUserAccount(new DeactivateAccountCommand(
+			AccountDeactivation deactivation = userPrivateService.prepareAccountDeactivation(new DeactivateAccountCommand(
 					new Email(email), new Password(password), new Password(confirmPassword), recoveryBaseUrl
 				)
 			);
+			applyInTransaction(deactivation);
 			redirectAttributes.addFlashAttribute(SUCCESS_MODEL_ATTRIBUTE, "Tu cuenta ha sido desactivada correctamente. Dispones de 30 días para recuperarla.");
 			return "redirect:delete-advise";
 
@@ -191,6 +202,24 @@ public class UserConfigController {
 		}
 	}
 
+	/**
+	 * Stores the deactivation and its recovery email in one transaction, rolled back if either cannot be stored.
+	 */
+	private void applyInTransaction(AccountDeactivation deactivation) throws KnowyMailDispatchException {
+		KnowyMailDispatchException failure = transactionTemplate.execute(status -> {
+			try {
+				userPrivateService.applyAccountDeactivation(deactivation);
+				return null;
+			} catch (KnowyMailDispatchException e) {
+				status.setRollbackOnly();
+				return e;
+			}
+		});
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
 	private String getDomainUrl(HttpServletRequest request) {
 		String scheme = request.getScheme();
 		String serverName = request.getServerName();
@@ -1,7 +1,7 @@
 package com.knowy.server.infrastructure.controller.dto;
 
 import com.knowy.core.domain.Category;
-import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseOutlineView;
 
 import java.util.List;
 
@@ -15,7 +15,7 @@ public record CourseDto(
 	List<String> languages
 ) {
 
-	public static CourseDto fromDomain(Course course, List<LessonDto> lessons) {
+	public static CourseDto fromDomain(CourseOutlineView course, List<LessonDto> lessons) {
 		long completedLesson = lessons.stream()
 			.filter(lesson -> lesson.status() == LessonDto.LessonStatus.COMPLETE)
 			.count();
@@ -25,7 +25,7 @@ public record CourseDto(
 			: (int) ((completedLesson * 100.0) / lessons.size());
 
 		return new CourseDto(
-			course.id(),
+			course.courseId(),
 			course.title(),
 			courseProgress,
 			lessons,
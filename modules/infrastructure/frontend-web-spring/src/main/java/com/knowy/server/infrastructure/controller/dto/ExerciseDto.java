@@ -1,7 +1,6 @@
 package com.knowy.server.infrastructure.controller.dto;
 
-import com.knowy.core.domain.Course;
-import com.knowy.core.domain.UserExercise;
+import com.knowy.core.domain.ExercisePageView;
 
 import java.util.List;
 
@@ -15,33 +14,33 @@ public record ExerciseDto(
 	List<ExerciseOptionDto> options
 ) {
 
-	public static ExerciseDto fromDomain(UserExercise userExercise, Course course) {
+	public static ExerciseDto fromDomain(ExercisePageView exercisePage) {
 		return new ExerciseDto(
-			userExercise.exercise().lessonId(),
-			userExercise.exercise().id(),
-			course.title(),
-			userExercise.rate(),
-			userExercise.exercise().statement(),
+			exercisePage.lessonId(),
+			exercisePage.exerciseId(),
+			exercisePage.courseTitle(),
+			exercisePage.rate(),
+			exercisePage.statement(),
 			"TODO",
-			userExercise.exercise().options()
+			exercisePage.options()
 				.stream()
 				.map(ExerciseOptionDto::fromDomain)
 				.toList()
 		);
 	}
 
-	public static ExerciseDto fromDomain(UserExercise userExercise, Course course, int answerId) {
-		List<ExerciseOptionDto> options = userExercise.exercise().options()
+	public static ExerciseDto fromDomain(ExercisePageView exercisePage, int answerId) {
+		List<ExerciseOptionDto> options = exercisePage.options()
 			.stream()
 			.map(option -> ExerciseOptionDto.fromDomain(option, answerId))
 			.toList();
 
 		return new ExerciseDto(
-			userExercise.exercise().lessonId(),
-			userExercise.exercise().id(),
-			course.title(),
-			userExercise.rate(),
-			userExercise.exercise().statement(),
+			exercisePage.lessonId(),
+			exercisePage.exerciseId(),
+			exercisePage.courseTitle(),
+			exercisePage.rate(),
+			exercisePage.statement(),
 			"TODO",
 			options
 		);
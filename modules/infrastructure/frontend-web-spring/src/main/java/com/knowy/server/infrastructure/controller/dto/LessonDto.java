@@ -1,5 +1,6 @@
 package com.knowy.server.infrastructure.controller.dto;
 
+import com.knowy.core.domain.CourseOutlineView;
 import com.knowy.core.domain.UserLesson;
 
 import java.util.List;
@@ -12,19 +13,19 @@ public record LessonDto(
 	LessonStatus status
 ) {
 
-	public static List<LessonDto> fromDomains(List<UserLesson> userLessons) {
-		return userLessons.stream()
+	public static List<LessonDto> fromDomains(List<CourseOutlineView.LessonOutline> lessons) {
+		return lessons.stream()
 			.map(LessonDto::fromDomain)
 			.toList();
 	}
 
-	public static LessonDto fromDomain(UserLesson userLesson) {
+	public static LessonDto fromDomain(CourseOutlineView.LessonOutline lesson) {
 		return new LessonDto(
-			userLesson.lesson().id(),
-			userLesson.lesson().title(),
+			lesson.id(),
+			lesson.title(),
 			null,
 			null,
-			LessonStatus.fromString(userLesson.status())
+			LessonStatus.fromString(lesson.status())
 		);
 	}
 
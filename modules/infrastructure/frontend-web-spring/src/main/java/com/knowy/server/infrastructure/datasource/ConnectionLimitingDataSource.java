@@ -0,0 +1,201 @@
+package com.knowy.server.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of connections virtual threads hold at once to the connections of the database pool that are not
+ * reserved to background work.
+ * <p>
+ * With virtual threads Tomcat no longer caps the number of concurrent requests, so a burst could leave most of them
+ * waiting inside the pool until its connection timeout and failing with a server error. Here a virtual thread waits
+ * for a permit when it takes a connection, for up to {@code maxWait}, and gets a
+ * {@link ConnectionLimitExceededException} once that time is over. The permit is given back when the connection is
+ * closed. Requests that never take a connection, or that are waiting for a password hash, do not hold a permit.
+ * <p>
+ * Background work runs on the platform threads of the application executors: the mail outbox sender, the banned words
+ * refresher, the write-behind flusher of exercise progress and the course import. Their connections are not limited,
+ * and {@code reservedConnections} leaves room for them in the pool, so that requests holding every other connection do
+ * not make that work wait for the pool, nor the other way round.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+	public static final int DEFAULT_RESERVED_CONNECTIONS = 4;
+
+	private final int maxLimitedConnections;
+	private final long maxWaitNanos;
+	private final Semaphore permits;
+	private final LongAdder acquired = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder waitTimeNanos = new LongAdder();
+
+	/**
+	 * Creates a data source that reserves the default number of connections to background work.
+	 *
+	 * @param targetDataSource the pooled data source to take connections from
+	 * @param poolSize         the maximum number of connections of the pool
+	 * @param maxWait          the time a virtual thread may wait for a connection before it is rejected
+	 */
+	public ConnectionLimitingDataSource(DataSource targetDataSource, int poolSize, Duration maxWait) {
+		this(targetDataSource, poolSize, DEFAULT_RESERVED_CONNECTIONS, maxWait);
+	}
+
+	/**
+	 * Creates a data source that lets virtual threads hold as many connections as the pool has not reserved to
+	 * background work.
+	 *
+	 * @param targetDataSource    the pooled data source to take connections from
+	 * @param poolSize            the maximum number of connections of the pool
+	 * @param reservedConnections the connections of the pool left to background work
+	 * @param maxWait             the time a virtual thread may wait for a connection before it is rejected
+	 */
+	public ConnectionLimitingDataSource(
+		DataSource targetDataSource,
+		int poolSize,
+		int reservedConnections,
+		Duration maxWait
+	) {
+		super(targetDataSource);
+		if (reservedConnections < 0 || reservedConnections >= poolSize) {
+			throw new IllegalArgumentException(
+				"The reserved connections must leave at least one of the %d connections of the pool: %d"
+					.formatted(poolSize, reservedConnections)
+			);
+		}
+
+		this.maxLimitedConnections = poolSize - reservedConnections;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.permits = new Semaphore(maxLimitedConnections, true);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!Thread.currentThread().isVirtual()) {
+			return obtainTargetDataSource().getConnection();
+		}
+
+		acquirePermit();
+		try {
+			return releasingPermitOnClose(obtainTargetDataSource().getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		if (!Thread.currentThread().isVirtual()) {
+			return obtainTargetDataSource().getConnection(username, password);
+		}
+
+		acquirePermit();
+		try {
+			return releasingPermitOnClose(obtainTargetDataSource().getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void acquirePermit() throws SQLException {
+		long startedAt = System.nanoTime();
+		boolean permitted;
+		try {
+			permitted = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+		} finally {
+			waitTimeNanos.add(System.nanoTime() - startedAt);
+		}
+
+		if (!permitted) {
+			rejected.increment();
+			throw new ConnectionLimitExceededException(
+				"No database connection was free after waiting %d ms".formatted(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos))
+			);
+		}
+		acquired.increment();
+	}
+
+	/**
+	 * Wraps the connection so that closing it gives the permit back, once however many times it is closed.
+	 */
+	private Connection releasingPermitOnClose(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[]{Connection.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "close" -> {
+					try {
+						connection.close();
+					} finally {
+						if (released.compareAndSet(false, true)) {
+							permits.release();
+						}
+					}
+					yield null;
+				}
+				default -> {
+					try {
+						yield method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				}
+			}
+		);
+	}
+
+	/**
+	 * Returns a snapshot of the limiter counters.
+	 *
+	 * @return the counters of every connection taken by a virtual thread
+	 */
+	public LimiterStats stats() {
+		return new LimiterStats(
+			maxLimitedConnections - permits.availablePermits(),
+			permits.getQueueLength(),
+			acquired.sum(),
+			rejected.sum(),
+			waitTimeNanos.sum()
+		);
+	}
+
+	/**
+	 * Cumulative limiter counters.
+	 *
+	 * @param active        connections held by virtual threads
+	 * @param waiting       virtual threads waiting for a connection
+	 * @param acquired      number of connections taken by virtual threads
+	 * @param rejected      number of connections refused after waiting too long
+	 * @param waitTimeNanos total time virtual threads waited for a connection, in nanoseconds
+	 */
+	public record LimiterStats(long active, long waiting, long acquired, long rejected, long waitTimeNanos) {
+	}
+
+	/**
+	 * Thrown when a virtual thread waited too long for a database connection.
+	 */
+	public static class ConnectionLimitExceededException extends SQLTransientConnectionException {
+
+		public ConnectionLimitExceededException(String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.knowy.server.infrastructure.security;
+
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers {@code 503 Service Unavailable} when a password cannot be hashed because the hashing pool is saturated.
+ * <p>
+ * Passwords checked by the login filter are hashed outside any controller, so this filter is placed before it to turn
+ * the rejection into a response the client can retry, instead of a server error.
+ */
+public class PasswordHashingRejectedFilter extends OncePerRequestFilter {
+
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		try {
+			filterChain.doFilter(request, response);
+		} catch (BoundedPasswordEncoder.PasswordHashingRejectedException e) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+		}
+	}
+}
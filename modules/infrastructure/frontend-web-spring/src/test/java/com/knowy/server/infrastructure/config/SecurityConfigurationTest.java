@@ -0,0 +1,117 @@
+package com.knowy.server.infrastructure.config;
+
+import com.knowy.core.user.domain.Email;
+import com.knowy.core.user.domain.Password;
+import com.knowy.core.user.domain.ProfileImage;
+import com.knowy.core.user.domain.UserPrivate;
+import com.knowy.core.user.port.UserPrivateRepository;
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import com.knowy.server.infrastructure.security.UserSecurityDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityConfigurationTest {
+
+	private static final String EMAIL = "user@knowy.com";
+	private static final String PASSWORD = "ValidPass123@";
+
+	@Mock
+	private UserPrivateRepository userPrivateRepository;
+
+	private SecurityConfiguration securityConfiguration;
+	private BoundedPasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void setUp() {
+		securityConfiguration = new SecurityConfiguration(userPrivateRepository);
+		passwordEncoder = securityConfiguration.passwordEncoder(5, 1, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordEncoder.close();
+	}
+
+	@Test
+	void given_hashWithOtherCost_when_login_then_storeHashWithConfiguredCost() {
+		UserPrivate userPrivate = userPrivate(new BCryptPasswordEncoder(4).encode(PASSWORD));
+		Mockito.when(userPrivateRepository.findByEmail(EMAIL)).thenReturn(Optional.of(userPrivate));
+		Mockito.when(userPrivateRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		assertDoesNotThrow(() -> authenticationProvider().authenticate(
+			UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD)
+		));
+
+		ArgumentCaptor<UserPrivate> saved = ArgumentCaptor.forClass(UserPrivate.class);
+		Mockito.verify(userPrivateRepository).save(saved.capture());
+		String rehashed = saved.getValue().password().value();
+		assertAll(
+			() -> assertTrue(rehashed.startsWith("$2a$05$")),
+			() -> assertTrue(passwordEncoder.matches(PASSWORD, rehashed)),
+			() -> assertEquals(userPrivate.id(), saved.getValue().id()),
+			() -> assertEquals(userPrivate.email(), saved.getValue().email()),
+			() -> assertTrue(saved.getValue().active())
+		);
+	}
+
+	@Test
+	void given_hashWithConfiguredCost_when_login_then_keepStoredHash() {
+		UserPrivate userPrivate = userPrivate(passwordEncoder.encode(PASSWORD));
+		Mockito.when(userPrivateRepository.findByEmail(EMAIL)).thenReturn(Optional.of(userPrivate));
+
+		assertDoesNotThrow(() -> authenticationProvider().authenticate(
+			UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD)
+		));
+
+		Mockito.verify(userPrivateRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void given_unknownUser_when_updatePassword_then_throwUsernameNotFoundException() {
+		UserDetailsPasswordService userDetailsPasswordService = securityConfiguration.userDetailsPasswordService();
+		UserDetails user = new UserSecurityDetails(userPrivate(passwordEncoder.encode(PASSWORD)));
+		Mockito.when(userPrivateRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+		assertThrows(
+			UsernameNotFoundException.class,
+			() -> userDetailsPasswordService.updatePassword(user, "$2a$05$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")
+		);
+	}
+
+	private DaoAuthenticationProvider authenticationProvider() {
+		DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+		authenticationProvider.setUserDetailsService(securityConfiguration.userDetailsService());
+		authenticationProvider.setUserDetailsPasswordService(securityConfiguration.userDetailsPasswordService());
+		return authenticationProvider;
+	}
+
+	private static UserPrivate userPrivate(String passwordHash) {
+		return new UserPrivate(
+			11,
+			"TestNickname",
+			new ProfileImage(1, "https://knowy/image.png"),
+			new HashSet<>(),
+			new Email(EMAIL),
+			new Password(passwordHash),
+			true
+		);
+	}
+}
@@ -0,0 +1,150 @@
+package com.knowy.server.infrastructure.controller;
+
+import com.knowy.core.CategoryService;
+import com.knowy.core.exception.KnowyMailDispatchException;
+import com.knowy.core.port.ExternalNotificationDispatcher.ExternalNotification;
+import com.knowy.core.user.UserPrivateService;
+import com.knowy.core.user.UserService;
+import com.knowy.core.user.domain.Email;
+import com.knowy.core.user.domain.Password;
+import com.knowy.core.user.domain.ProfileImage;
+import com.knowy.core.user.domain.UserPrivate;
+import com.knowy.core.user.exception.KnowyWrongPasswordException;
+import com.knowy.core.user.usercase.manage.AccountDeactivation;
+import com.knowy.server.infrastructure.security.UserSecurityDetails;
+import com.knowy.server.infrastructure.security.UserSecurityDetailsHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserConfigControllerTest {
+
+	private static final String PASSWORD = "ValidPass123@";
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private UserPrivateService userPrivateService;
+
+	@Mock
+	private CategoryService categoryService;
+
+	@Mock
+	private UserSecurityDetailsHelper userSecurityDetailsHelper;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private UserConfigController userConfigController;
+	private UserSecurityDetails userDetails;
+
+	@BeforeEach
+	void setUp() {
+		userConfigController = new UserConfigController(
+			userService,
+			userPrivateService,
+			categoryService,
+			userSecurityDetailsHelper,
+			new TransactionTemplate(transactionManager)
+		);
+		userDetails = new UserSecurityDetails(userPrivate(true));
+	}
+
+	@Test
+	void given_rightPassword_when_deleteAccount_then_applyDeactivationInCommittedTransaction() throws Exception {
+		AccountDeactivation deactivation = deactivation();
+		SimpleTransactionStatus status = new SimpleTransactionStatus();
+		Mockito.when(userPrivateService.prepareAccountDeactivation(Mockito.any())).thenReturn(deactivation);
+		Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(status);
+
+		String view = deleteAccount();
+
+		assertAll(
+			() -> assertEquals("redirect:delete-advise", view),
+			() -> assertFalse(status.isRollbackOnly())
+		);
+		Mockito.verify(userPrivateService).applyAccountDeactivation(deactivation);
+		Mockito.verify(transactionManager).commit(status);
+	}
+
+	@Test
+	void given_wrongPassword_when_deleteAccount_then_startNoTransaction() throws Exception {
+		Mockito.when(userPrivateService.prepareAccountDeactivation(Mockito.any()))
+			.thenThrow(new KnowyWrongPasswordException("Wrong password"));
+
+		String view = deleteAccount();
+
+		assertEquals("redirect:delete-account-confirm", view);
+		Mockito.verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	void given_undispatchableEmail_when_deleteAccount_then_rollBackDeactivation() throws Exception {
+		AccountDeactivation deactivation = deactivation();
+		SimpleTransactionStatus status = new SimpleTransactionStatus();
+		Mockito.when(userPrivateService.prepareAccountDeactivation(Mockito.any())).thenReturn(deactivation);
+		Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(status);
+		Mockito.doThrow(new KnowyMailDispatchException("Cannot queue email"))
+			.when(userPrivateService).applyAccountDeactivation(deactivation);
+
+		String view = deleteAccount();
+
+		assertAll(
+			() -> assertEquals("redirect:delete-account-confirm", view),
+			() -> assertTrue(status.isRollbackOnly())
+		);
+	}
+
+	@Test
+	void given_failingSave_when_deleteAccount_then_rollBackAndPropagate() throws Exception {
+		AccountDeactivation deactivation = deactivation();
+		SimpleTransactionStatus status = new SimpleTransactionStatus();
+		Mockito.when(userPrivateService.prepareAccountDeactivation(Mockito.any())).thenReturn(deactivation);
+		Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(status);
+		Mockito.doThrow(new IllegalStateException("Cannot save user"))
+			.when(userPrivateService).applyAccountDeactivation(deactivation);
+
+		assertThrows(IllegalStateException.class, this::deleteAccount);
+		Mockito.verify(transactionManager).rollback(status);
+		Mockito.verify(transactionManager, Mockito.never()).commit(Mockito.any());
+	}
+
+	private String deleteAccount() {
+		return userConfigController.deleteAccount(
+			userDetails, PASSWORD, PASSWORD, new RedirectAttributesModelMap(), new MockHttpServletRequest()
+		);
+	}
+
+	private static AccountDeactivation deactivation() {
+		return new AccountDeactivation(
+			userPrivate(false),
+			new ExternalNotification("user@knowy.com", "Subject", "Message")
+		);
+	}
+
+	private static UserPrivate userPrivate(boolean active) {
+		return new UserPrivate(
+			11,
+			"TestNickname",
+			new ProfileImage(1, "https://knowy/image.png"),
+			new HashSet<>(),
+			new Email("user@knowy.com"),
+			new Password("Encoded.Password.123"),
+			active
+		);
+	}
+}
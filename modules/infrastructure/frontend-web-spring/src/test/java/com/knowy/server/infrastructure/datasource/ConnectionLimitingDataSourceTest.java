@@ -0,0 +1,161 @@
+package com.knowy.server.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+	private static final Duration SHORT_WAIT = Duration.ofMillis(50);
+
+	private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+	@Mock
+	private DataSource pool;
+
+	@AfterEach
+	void tearDown() {
+		virtualThreads.shutdownNow();
+	}
+
+	@Nested
+	class Construction {
+
+		@Test
+		void given_reservedConnectionsTakingWholePool_when_create_then_throwIllegalArgumentException() {
+			assertThrows(IllegalArgumentException.class, () -> new ConnectionLimitingDataSource(pool, 4, 4, SHORT_WAIT));
+		}
+
+		@Test
+		void given_negativeReservedConnections_when_create_then_throwIllegalArgumentException() {
+			assertThrows(IllegalArgumentException.class, () -> new ConnectionLimitingDataSource(pool, 4, -1, SHORT_WAIT));
+		}
+
+		@Test
+		void given_poolSizeOnly_when_create_then_reserveDefaultConnections() throws Exception {
+			int poolSize = ConnectionLimitingDataSource.DEFAULT_RESERVED_CONNECTIONS + 1;
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, poolSize, SHORT_WAIT);
+			givenPoolWithFreeConnections();
+			onVirtualThread(dataSource::getConnection);
+
+			assertLimitExceeded(dataSource);
+		}
+	}
+
+	@Nested
+	class Limiting {
+
+		@Test
+		void given_virtualThreadsHoldingUnreservedConnections_when_getConnection_then_throwConnectionLimitExceeded()
+			throws Exception {
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 3, 1, SHORT_WAIT);
+			givenPoolWithFreeConnections();
+			onVirtualThread(dataSource::getConnection);
+			onVirtualThread(dataSource::getConnection);
+
+			assertLimitExceeded(dataSource);
+			assertAll(
+				() -> assertEquals(2, dataSource.stats().active()),
+				() -> assertEquals(2, dataSource.stats().acquired()),
+				() -> assertEquals(1, dataSource.stats().rejected())
+			);
+			Mockito.verify(pool, Mockito.times(2)).getConnection();
+		}
+
+		@Test
+		void given_connectionClosedWhileOtherWaits_when_getConnection_then_handItToWaitingThread() throws Exception {
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, 1, Duration.ofSeconds(10));
+			givenPoolWithFreeConnections();
+			Connection held = onVirtualThread(dataSource::getConnection);
+
+			Callable<Connection> takeConnection = dataSource::getConnection;
+			Future<Connection> waiting = virtualThreads.submit(takeConnection);
+			while (dataSource.stats().waiting() == 0) {
+				Thread.onSpinWait();
+			}
+			held.close();
+
+			assertAll(
+				() -> assertNotNull(waiting.get(10, TimeUnit.SECONDS)),
+				() -> assertEquals(1, dataSource.stats().active()),
+				() -> assertEquals(0, dataSource.stats().rejected())
+			);
+		}
+
+		@Test
+		void given_connectionClosedTwice_when_close_then_releaseOnePermit() throws Exception {
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 3, 1, SHORT_WAIT);
+			givenPoolWithFreeConnections();
+			Connection connection = onVirtualThread(dataSource::getConnection);
+			onVirtualThread(dataSource::getConnection);
+
+			connection.close();
+			connection.close();
+
+			assertEquals(1, dataSource.stats().active());
+		}
+
+		@Test
+		void given_allConnectionsHeld_when_getConnectionOnPlatformThread_then_takeItWithoutWaiting() throws Exception {
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, 1, SHORT_WAIT);
+			givenPoolWithFreeConnections();
+			onVirtualThread(dataSource::getConnection);
+
+			assertNotNull(dataSource.getConnection());
+			assertAll(
+				() -> assertEquals(1, dataSource.stats().acquired()),
+				() -> assertEquals(0, dataSource.stats().rejected())
+			);
+		}
+
+		@Test
+		void given_failingPool_when_getConnection_then_releasePermit() throws Exception {
+			ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, 1, SHORT_WAIT);
+			Mockito.when(pool.getConnection()).thenThrow(new SQLException("Pool is closed"));
+
+			ExecutionException exception = assertThrows(
+				ExecutionException.class,
+				() -> onVirtualThread(dataSource::getConnection)
+			);
+
+			assertAll(
+				() -> assertInstanceOf(SQLException.class, exception.getCause()),
+				() -> assertEquals(0, dataSource.stats().active())
+			);
+		}
+	}
+
+	private void givenPoolWithFreeConnections() throws SQLException {
+		Mockito.when(pool.getConnection()).thenAnswer(invocation -> Mockito.mock(Connection.class));
+	}
+
+	private void assertLimitExceeded(ConnectionLimitingDataSource dataSource) {
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> onVirtualThread(dataSource::getConnection)
+		);
+		assertInstanceOf(ConnectionLimitingDataSource.ConnectionLimitExceededException.class, exception.getCause());
+	}
+
+	private <T> T onVirtualThread(Callable<T> task) throws Exception {
+		return virtualThreads.submit(task).get(10, TimeUnit.SECONDS);
+	}
+}
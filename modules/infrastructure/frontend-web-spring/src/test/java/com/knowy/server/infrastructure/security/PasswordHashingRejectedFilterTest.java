@@ -0,0 +1,63 @@
+package com.knowy.server.infrastructure.security;
+
+import com.knowy.security.adapter.jwt.BoundedPasswordEncoder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingRejectedFilterTest {
+
+	private final PasswordHashingRejectedFilter filter = new PasswordHashingRejectedFilter();
+
+	@Test
+	void given_rejectedHash_when_doFilter_then_answerServiceUnavailableWithRetryAfter() throws ServletException, IOException {
+		FilterChain rejectingChain = (request, response) -> {
+			throw new BoundedPasswordEncoder.PasswordHashingRejectedException(
+				"Too many passwords are being hashed", new RejectedExecutionException()
+			);
+		};
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, rejectingChain);
+
+		assertAll(
+			() -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus()),
+			() -> assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER))
+		);
+	}
+
+	@Test
+	void given_acceptedHash_when_doFilter_then_passRequestOn() throws ServletException, IOException {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, chain);
+
+		assertAll(
+			() -> assertNotNull(chain.getRequest()),
+			() -> assertEquals(HttpStatus.OK.value(), response.getStatus()),
+			() -> assertNull(response.getHeader(HttpHeaders.RETRY_AFTER))
+		);
+	}
+
+	@Test
+	void given_otherFailure_when_doFilter_then_propagateIt() {
+		FilterChain failingChain = (request, response) -> {
+			throw new IllegalStateException("Request failed");
+		};
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, failingChain));
+	}
+}
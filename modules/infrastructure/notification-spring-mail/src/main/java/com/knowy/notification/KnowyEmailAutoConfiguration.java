@@ -2,16 +2,52 @@ package com.knowy.notification;
 
 import com.knowy.core.port.ExternalNotificationDispatcher;
 import com.knowy.notification.adapter.mail.EmailDispatcher;
+import com.knowy.notification.adapter.mail.OutboxMailSender;
+import com.knowy.notification.adapter.mail.OutboxNotificationDispatcher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 @AutoConfiguration
 public class KnowyEmailAutoConfiguration {
 
+	private static final String OUTBOX_ENABLED = "knowy.mail-outbox.enabled";
+
 	@Bean
+	@ConditionalOnProperty(name = OUTBOX_ENABLED, havingValue = "false")
 	public ExternalNotificationDispatcher emailDispatcher(JavaMailSender javaMailSender) {
 		return new EmailDispatcher(javaMailSender);
 	}
 
+	@Bean(initMethod = "start", destroyMethod = "close")
+	@ConditionalOnProperty(name = OUTBOX_ENABLED, havingValue = "true", matchIfMissing = true)
+	@ConditionalOnMissingBean
+	public OutboxMailSender outboxMailSender(
+		DataSource dataSource,
+		JavaMailSender javaMailSender,
+		@Value("${knowy.mail-outbox.batch-size:" + OutboxMailSender.DEFAULT_BATCH_SIZE + "}") int batchSize,
+		@Value("${knowy.mail-outbox.poll-interval:5s}") Duration pollInterval,
+		@Value("${knowy.mail-outbox.max-attempts:" + OutboxMailSender.DEFAULT_MAX_ATTEMPTS + "}") int maxAttempts,
+		@Value("${knowy.mail-outbox.retry-backoff:30s}") Duration retryBackoff
+	) {
+		return new OutboxMailSender(
+			new JdbcTemplate(dataSource), javaMailSender, batchSize, pollInterval, maxAttempts, retryBackoff
+		);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = OUTBOX_ENABLED, havingValue = "true", matchIfMissing = true)
+	public ExternalNotificationDispatcher outboxNotificationDispatcher(
+		DataSource dataSource,
+		OutboxMailSender outboxMailSender
+	) {
+		return new OutboxNotificationDispatcher(new JdbcTemplate(dataSource), outboxMailSender);
+	}
 }
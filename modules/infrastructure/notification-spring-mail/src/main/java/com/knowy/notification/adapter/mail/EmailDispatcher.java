@@ -19,15 +19,18 @@ public class EmailDispatcher implements ExternalNotificationDispatcher {
 	@Override
 	public void dispatch(ExternalNotification notification) throws KnowyMailDispatchException {
 		try {
-			SimpleMailMessage message = new SimpleMailMessage();
-			message.setFrom("knowy-learn@knowy.com");
-			message.setTo(notification.to());
-			message.setSubject(notification.subject());
-			message.setText(notification.message());
-
-			mailSender.send(message);
+			mailSender.send(createMessage(notification));
 		} catch (MailException e) {
 			throw new KnowyMailDispatchException("Fail to send email to " + notification.to(), e);
 		}
 	}
+
+	static SimpleMailMessage createMessage(ExternalNotification notification) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom("knowy-learn@knowy.com");
+		message.setTo(notification.to());
+		message.setSubject(notification.subject());
+		message.setText(notification.message());
+		return message;
+	}
 }
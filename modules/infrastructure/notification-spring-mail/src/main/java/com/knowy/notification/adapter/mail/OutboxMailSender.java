@@ -0,0 +1,305 @@
+package com.knowy.notification.adapter.mail;
+
+import com.knowy.core.port.ExternalNotificationDispatcher.ExternalNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background sender of the notifications stored in the {@code notification_outbox} table by
+ * {@link OutboxNotificationDispatcher}.
+ * <p>
+ * Once {@link #start() started}, a single daemon thread drains the outbox every {@code pollInterval}, and as soon as it is woken up after a
+ * notification is committed. Each round claims up to {@code batchSize} due notifications and sends them through one
+ * {@link JavaMailSender#send(SimpleMailMessage...)} call, which delivers the whole batch over a single SMTP connection.
+ * Sent notifications are deleted. Failed ones are retried with an exponential backoff starting at {@code retryBackoff},
+ * and are kept in the table without further attempts once they have failed {@code maxAttempts} times.
+ * <p>
+ * Claiming a notification moves its next attempt {@link #CLAIM_LEASE} ahead with {@code FOR UPDATE SKIP LOCKED}, so
+ * several nodes can drain the same outbox, and a notification claimed by a node that stops is sent again once the
+ * lease is over. A notification may therefore be sent twice, but it is never lost.
+ */
+public class OutboxMailSender implements AutoCloseable {
+
+	public static final int DEFAULT_BATCH_SIZE = 50;
+	public static final int DEFAULT_MAX_ATTEMPTS = 8;
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+	public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxMailSender.class);
+
+	private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+	private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(6);
+	private static final String CLAIM_NOTIFICATIONS = """
+		UPDATE notification_outbox o
+		SET next_attempt_at = localtimestamp + make_interval(secs => ?)
+		FROM (
+		    SELECT id
+		    FROM notification_outbox
+		    WHERE attempts < ? AND next_attempt_at <= localtimestamp
+		    ORDER BY next_attempt_at, id
+		    LIMIT ?
+		    FOR UPDATE SKIP LOCKED
+		) claimed
+		WHERE o.id = claimed.id
+		RETURNING o.id, o.recipient, o.subject, o.message, o.attempts,
+		    (extract(epoch FROM localtimestamp - o.created_at) * 1000)::bigint AS queued_millis
+		""";
+	private static final String DELETE_NOTIFICATION = "DELETE FROM notification_outbox WHERE id = ?";
+	private static final String RESCHEDULE_NOTIFICATION = """
+		UPDATE notification_outbox
+		SET attempts = attempts + 1,
+		    last_error = ?,
+		    next_attempt_at = localtimestamp + make_interval(secs => ?)
+		WHERE id = ?
+		""";
+	private static final String COUNT_NOTIFICATIONS = """
+		SELECT count(*) FILTER (WHERE attempts < ?) AS pending,
+		       count(*) FILTER (WHERE attempts >= ?) AS abandoned
+		FROM notification_outbox
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JavaMailSender mailSender;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration pollInterval;
+	private final Duration retryBackoff;
+	private final ScheduledExecutorService sender;
+	private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder failedAttempts = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder sendTimeNanos = new LongAdder();
+	private final LongAdder deliveryDelayMillis = new LongAdder();
+	private volatile long pending;
+	private volatile long abandoned;
+
+	/**
+	 * Creates a sender with the default batch size, poll interval, attempts and backoff.
+	 *
+	 * @param jdbcTemplate the template used to read and update the outbox
+	 * @param mailSender   the sender used to deliver the notifications
+	 */
+	public OutboxMailSender(JdbcTemplate jdbcTemplate, JavaMailSender mailSender) {
+		this(jdbcTemplate, mailSender, DEFAULT_BATCH_SIZE, DEFAULT_POLL_INTERVAL, DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_BACKOFF);
+	}
+
+	/**
+	 * Creates a sender. The outbox is not drained until {@link #start()} is called.
+	 *
+	 * @param jdbcTemplate the template used to read and update the outbox
+	 * @param mailSender   the sender used to deliver the notifications
+	 * @param batchSize    the maximum number of notifications sent over one SMTP connection
+	 * @param pollInterval the time between two rounds when the sender is not woken up
+	 * @param maxAttempts  the number of failed attempts after which a notification is abandoned
+	 * @param retryBackoff the delay before the first retry, doubled on each further failure
+	 */
+	public OutboxMailSender(
+		JdbcTemplate jdbcTemplate,
+		JavaMailSender mailSender,
+		int batchSize,
+		Duration pollInterval,
+		int maxAttempts,
+		Duration retryBackoff
+	) {
+		if (batchSize <= 0 || maxAttempts <= 0) {
+			throw new IllegalArgumentException(
+				"Batch size and max attempts must be positive: %d, %d".formatted(batchSize, maxAttempts)
+			);
+		}
+
+		this.jdbcTemplate = jdbcTemplate;
+		this.mailSender = mailSender;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.pollInterval = pollInterval;
+		this.retryBackoff = retryBackoff;
+		this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "knowy-mail-outbox-sender");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts draining the outbox every {@code pollInterval}.
+	 */
+	public void start() {
+		sender.scheduleWithFixedDelay(
+			this::drain, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Drains the outbox as soon as possible instead of waiting for the next round. Calls made while a wake-up is
+	 * already pending are merged into it.
+	 */
+	public void wakeUp() {
+		if (wakeUpPending.compareAndSet(false, true)) {
+			sender.execute(() -> {
+				wakeUpPending.set(false);
+				drain();
+			});
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the sender counters.
+	 *
+	 * @return the counters of every notification handled by the sender
+	 */
+	public OutboxStats stats() {
+		return new OutboxStats(
+			pending,
+			abandoned,
+			sent.sum(),
+			failedAttempts.sum(),
+			batches.sum(),
+			sendTimeNanos.sum(),
+			TimeUnit.MILLISECONDS.toNanos(deliveryDelayMillis.sum())
+		);
+	}
+
+	/**
+	 * Stops the sender thread. Notifications that are not sent yet stay in the outbox.
+	 */
+	@Override
+	public void close() {
+		sender.shutdownNow();
+	}
+
+	/**
+	 * Sends every due notification in rounds of {@code batchSize} until the outbox has no more due notifications, and
+	 * refreshes the pending and abandoned counters. Runs on the sender thread.
+	 */
+	void drain() {
+		try {
+			List<OutboxNotification> notifications;
+			do {
+				notifications = claim();
+				if (!notifications.isEmpty()) {
+					send(notifications);
+				}
+			} while (notifications.size() == batchSize && !Thread.currentThread().isInterrupted());
+			count();
+		} catch (RuntimeException e) {
+			log.warn("The notification outbox could not be drained: {}", e.getMessage(), e);
+		}
+	}
+
+	private List<OutboxNotification> claim() {
+		return jdbcTemplate.query(
+			CLAIM_NOTIFICATIONS,
+			(row, rowNum) -> new OutboxNotification(
+				row.getLong("id"),
+				new ExternalNotification(row.getString("recipient"), row.getString("subject"), row.getString("message")),
+				row.getInt("attempts"),
+				row.getLong("queued_millis")
+			),
+			CLAIM_LEASE.toSeconds(),
+			maxAttempts,
+			batchSize
+		);
+	}
+
+	private void send(List<OutboxNotification> notifications) {
+		SimpleMailMessage[] messages = notifications.stream()
+			.map(notification -> EmailDispatcher.createMessage(notification.notification()))
+			.toArray(SimpleMailMessage[]::new);
+
+		Map<Object, Exception> failures = new IdentityHashMap<>();
+		long startedAt = System.nanoTime();
+		try {
+			mailSender.send(messages);
+		} catch (MailSendException e) {
+			failures.putAll(e.getFailedMessages());
+			if (failures.isEmpty()) {
+				failAll(messages, failures, e);
+			}
+		} catch (MailException e) {
+			failAll(messages, failures, e);
+		}
+		long sendTime = System.nanoTime() - startedAt;
+		sendTimeNanos.add(sendTime);
+		batches.increment();
+
+		List<Object[]> sentIds = new ArrayList<>();
+		List<Object[]> reschedules = new ArrayList<>();
+		for (int i = 0; i < notifications.size(); i++) {
+			OutboxNotification notification = notifications.get(i);
+			Exception failure = failures.get(messages[i]);
+			if (failure == null) {
+				sentIds.add(new Object[]{notification.id()});
+				deliveryDelayMillis.add(notification.queuedMillis() + TimeUnit.NANOSECONDS.toMillis(sendTime));
+			} else {
+				reschedules.add(new Object[]{
+					String.valueOf(failure.getMessage()), backoff(notification.attempts()).toSeconds(), notification.id()
+				});
+			}
+		}
+		if (!sentIds.isEmpty()) {
+			jdbcTemplate.batchUpdate(DELETE_NOTIFICATION, sentIds);
+		}
+		if (!reschedules.isEmpty()) {
+			jdbcTemplate.batchUpdate(RESCHEDULE_NOTIFICATION, reschedules);
+		}
+		sent.add(sentIds.size());
+		failedAttempts.add(reschedules.size());
+	}
+
+	private static void failAll(SimpleMailMessage[] messages, Map<Object, Exception> failures, Exception e) {
+		for (SimpleMailMessage message : messages) {
+			failures.put(message, e);
+		}
+	}
+
+	private Duration backoff(int previousAttempts) {
+		Duration backoff = retryBackoff.multipliedBy(1L << Math.min(previousAttempts, 20));
+		return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+	}
+
+	private void count() {
+		jdbcTemplate.query(COUNT_NOTIFICATIONS, row -> {
+			pending = row.getLong("pending");
+			abandoned = row.getLong("abandoned");
+		}, maxAttempts, maxAttempts);
+	}
+
+	private record OutboxNotification(long id, ExternalNotification notification, int attempts, long queuedMillis) {
+	}
+
+	/**
+	 * Cumulative outbox counters.
+	 *
+	 * @param pending            notifications waiting to be sent, as of the last round
+	 * @param abandoned          notifications that failed every attempt, as of the last round
+	 * @param sent               number of notifications sent
+	 * @param failedAttempts     number of attempts that failed
+	 * @param batches            number of batches sent
+	 * @param sendTimeNanos      total time spent sending batches, in nanoseconds
+	 * @param deliveryDelayNanos total time sent notifications spent in the outbox, in nanoseconds
+	 */
+	public record OutboxStats(
+		long pending,
+		long abandoned,
+		long sent,
+		long failedAttempts,
+		long batches,
+		long sendTimeNanos,
+		long deliveryDelayNanos
+	) {
+	}
+}
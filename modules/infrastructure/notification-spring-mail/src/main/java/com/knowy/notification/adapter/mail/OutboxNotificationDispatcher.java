@@ -0,0 +1,52 @@
+package com.knowy.notification.adapter.mail;
+
+import com.knowy.core.exception.KnowyMailDispatchException;
+import com.knowy.core.port.ExternalNotificationDispatcher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link ExternalNotificationDispatcher} that stores notifications in the {@code notification_outbox} table instead of
+ * sending them, leaving the SMTP round-trip to an {@link OutboxMailSender}.
+ * <p>
+ * The notification is inserted through the connection of the current transaction, if there is one, so it is only
+ * sent if the change it announces is committed, and is never lost once that change is committed. The sender is woken
+ * up right after the commit, or right away when there is no transaction.
+ */
+public class OutboxNotificationDispatcher implements ExternalNotificationDispatcher {
+
+	private static final String INSERT_NOTIFICATION = """
+		INSERT INTO notification_outbox (recipient, subject, message)
+		VALUES (?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final OutboxMailSender outboxMailSender;
+
+	public OutboxNotificationDispatcher(JdbcTemplate jdbcTemplate, OutboxMailSender outboxMailSender) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.outboxMailSender = outboxMailSender;
+	}
+
+	@Override
+	public void dispatch(ExternalNotification notification) throws KnowyMailDispatchException {
+		try {
+			jdbcTemplate.update(INSERT_NOTIFICATION, notification.to(), notification.subject(), notification.message());
+		} catch (DataAccessException e) {
+			throw new KnowyMailDispatchException("Fail to queue email to " + notification.to(), e);
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			outboxMailSender.wakeUp();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				outboxMailSender.wakeUp();
+			}
+		});
+	}
+}
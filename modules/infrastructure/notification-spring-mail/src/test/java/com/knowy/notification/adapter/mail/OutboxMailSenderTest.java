@@ -0,0 +1,233 @@
+package com.knowy.notification.adapter.mail;
+
+import jakarta.mail.SendFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Testcontainers
+class OutboxMailSenderTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final Duration RETRY_BACKOFF = Duration.ofSeconds(30);
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	private static JdbcTemplate jdbcTemplate;
+
+	private JavaMailSender mailSender;
+	private OutboxMailSender outboxMailSender;
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		));
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("TRUNCATE notification_outbox");
+		mailSender = mock(JavaMailSender.class);
+		outboxMailSender = new OutboxMailSender(
+			jdbcTemplate, mailSender, BATCH_SIZE, Duration.ofHours(1), MAX_ATTEMPTS, RETRY_BACKOFF
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxMailSender.close();
+	}
+
+	@Test
+	void given_dueNotifications_when_drain_then_sendInBatchesAndDelete() {
+		insertNotification("user1@knowy.com");
+		insertNotification("user2@knowy.com");
+		insertNotification("user3@knowy.com");
+
+		outboxMailSender.drain();
+
+		ArgumentCaptor<SimpleMailMessage[]> batches = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+		verify(mailSender, times(2)).send(batches.capture());
+		List<String> recipients = batches.getAllValues().stream()
+			.flatMap(Arrays::stream)
+			.map(message -> Objects.requireNonNull(message.getTo())[0])
+			.sorted()
+			.toList();
+		assertAll(
+			() -> assertEquals(List.of("user1@knowy.com", "user2@knowy.com", "user3@knowy.com"), recipients),
+			() -> assertEquals(0, countNotifications()),
+			() -> assertEquals(3, outboxMailSender.stats().sent()),
+			() -> assertEquals(2, outboxMailSender.stats().batches()),
+			() -> assertEquals(0, outboxMailSender.stats().pending())
+		);
+	}
+
+	@Test
+	void given_notificationClaimedByAnotherSender_when_drain_then_skipUntilLeaseIsOver() {
+		insertNotification("user1@knowy.com");
+		JavaMailSender otherMailSender = mock(JavaMailSender.class);
+		try (OutboxMailSender otherSender = new OutboxMailSender(
+			jdbcTemplate, otherMailSender, BATCH_SIZE, Duration.ofHours(1), MAX_ATTEMPTS, RETRY_BACKOFF
+		)) {
+			doAnswer(invocation -> {
+				otherSender.drain();
+				return null;
+			}).when(mailSender).send(any(SimpleMailMessage[].class));
+
+			outboxMailSender.drain();
+		}
+
+		verify(mailSender).send(any(SimpleMailMessage[].class));
+		verifyNoInteractions(otherMailSender);
+		assertEquals(0, countNotifications());
+	}
+
+	@Test
+	void given_claimedNotification_when_roundIsInterrupted_then_leaseDelaysNextAttempt() {
+		insertNotification("user1@knowy.com");
+		doAnswer(invocation -> {
+			Double leaseSeconds = jdbcTemplate.queryForObject(
+				"SELECT extract(epoch FROM next_attempt_at - localtimestamp) FROM notification_outbox", Double.class
+			);
+			assertTrue(Objects.requireNonNull(leaseSeconds) > Duration.ofMinutes(4).toSeconds());
+			throw new IllegalStateException("The sender stopped");
+		}).when(mailSender).send(any(SimpleMailMessage[].class));
+
+		outboxMailSender.drain();
+
+		assertAll(
+			() -> assertEquals(1, countNotifications()),
+			() -> assertEquals(0, attemptsOf("user1@knowy.com"), "An interrupted round must not count as an attempt")
+		);
+	}
+
+	@Test
+	void given_failingNotification_when_drainTwice_then_doubleBackoffAndCountAttempts() {
+		insertNotification("user1@knowy.com");
+		doThrow(new MailSendException("SMTP server unavailable")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+		outboxMailSender.drain();
+		double firstBackoff = secondsUntilNextAttempt("user1@knowy.com");
+		outboxMailSender.drain();
+		int attemptsBeforeDue = attemptsOf("user1@knowy.com");
+
+		jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = localtimestamp");
+		outboxMailSender.drain();
+		double secondBackoff = secondsUntilNextAttempt("user1@knowy.com");
+
+		assertAll(
+			() -> assertEquals(RETRY_BACKOFF.toSeconds(), firstBackoff, 5),
+			() -> assertEquals(1, attemptsBeforeDue, "A notification must not be retried before its backoff is over"),
+			() -> assertEquals(RETRY_BACKOFF.multipliedBy(2).toSeconds(), secondBackoff, 5),
+			() -> assertEquals(2, attemptsOf("user1@knowy.com")),
+			() -> assertEquals("SMTP server unavailable", lastErrorOf("user1@knowy.com")),
+			() -> assertEquals(2, outboxMailSender.stats().failedAttempts())
+		);
+	}
+
+	@Test
+	void given_partialSendFailure_when_drain_then_rescheduleOnlyFailedNotifications() {
+		insertNotification("user1@knowy.com");
+		insertNotification("invalid@knowy.com");
+		doAnswer(invocation -> {
+			SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+			SimpleMailMessage failed = Arrays.stream(messages)
+				.filter(message -> "invalid@knowy.com".equals(Objects.requireNonNull(message.getTo())[0]))
+				.findFirst()
+				.orElseThrow();
+			throw new MailSendException(Map.<Object, Exception>of(failed, new SendFailedException("Invalid address")));
+		}).when(mailSender).send(any(SimpleMailMessage[].class));
+
+		outboxMailSender.drain();
+
+		List<String> recipients = jdbcTemplate.queryForList("SELECT recipient FROM notification_outbox", String.class);
+		assertAll(
+			() -> assertEquals(List.of("invalid@knowy.com"), recipients),
+			() -> assertEquals(1, attemptsOf("invalid@knowy.com")),
+			() -> assertEquals("Invalid address", lastErrorOf("invalid@knowy.com")),
+			() -> assertEquals(1, outboxMailSender.stats().sent()),
+			() -> assertEquals(1, outboxMailSender.stats().failedAttempts())
+		);
+	}
+
+	@Test
+	void given_notificationThatFailedEveryAttempt_when_drain_then_keepItWithoutSending() {
+		insertNotification("user1@knowy.com");
+		jdbcTemplate.update("UPDATE notification_outbox SET attempts = ?", MAX_ATTEMPTS);
+
+		outboxMailSender.drain();
+
+		verifyNoInteractions(mailSender);
+		assertAll(
+			() -> assertEquals(1, countNotifications()),
+			() -> assertEquals(0, outboxMailSender.stats().pending()),
+			() -> assertEquals(1, outboxMailSender.stats().abandoned())
+		);
+	}
+
+	private void insertNotification(String recipient) {
+		jdbcTemplate.update(
+			"INSERT INTO notification_outbox (recipient, subject, message, next_attempt_at) "
+				+ "VALUES (?, 'Subject', 'Message', localtimestamp - interval '1 second')",
+			recipient
+		);
+	}
+
+	private int countNotifications() {
+		return Objects.requireNonNull(
+			jdbcTemplate.queryForObject("SELECT count(*) FROM notification_outbox", Integer.class)
+		);
+	}
+
+	private int attemptsOf(String recipient) {
+		return Objects.requireNonNull(jdbcTemplate.queryForObject(
+			"SELECT attempts FROM notification_outbox WHERE recipient = ?", Integer.class, recipient
+		));
+	}
+
+	private String lastErrorOf(String recipient) {
+		return jdbcTemplate.queryForObject(
+			"SELECT last_error FROM notification_outbox WHERE recipient = ?", String.class, recipient
+		);
+	}
+
+	private double secondsUntilNextAttempt(String recipient) {
+		return Objects.requireNonNull(jdbcTemplate.queryForObject(
+			"SELECT extract(epoch FROM next_attempt_at - localtimestamp) FROM notification_outbox WHERE recipient = ?",
+			Double.class,
+			recipient
+		));
+	}
+}
@@ -0,0 +1,108 @@
+package com.knowy.notification.adapter.mail;
+
+import com.knowy.core.port.ExternalNotificationDispatcher.ExternalNotification;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Testcontainers
+class OutboxNotificationDispatcherTest {
+
+	private static final ExternalNotification NOTIFICATION =
+		new ExternalNotification("user@knowy.com", "Subject", "Message");
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	private static DataSource dataSource;
+	private static JdbcTemplate jdbcTemplate;
+
+	private OutboxMailSender outboxMailSender;
+	private OutboxNotificationDispatcher dispatcher;
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		dataSource = new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("TRUNCATE notification_outbox");
+		outboxMailSender = mock(OutboxMailSender.class);
+		dispatcher = new OutboxNotificationDispatcher(jdbcTemplate, outboxMailSender);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+	}
+
+	@Test
+	void given_noTransaction_when_dispatch_then_storeNotificationAndWakeUpSender() {
+		assertDoesNotThrow(() -> dispatcher.dispatch(NOTIFICATION));
+
+		Map<String, Object> stored = jdbcTemplate.queryForMap(
+			"SELECT recipient, subject, message, attempts FROM notification_outbox"
+		);
+		assertAll(
+			() -> assertEquals(Map.of(
+				"recipient", "user@knowy.com",
+				"subject", "Subject",
+				"message", "Message",
+				"attempts", 0
+			), stored),
+			() -> verify(outboxMailSender).wakeUp()
+		);
+	}
+
+	@Test
+	void given_transaction_when_dispatch_then_wakeUpSenderOnlyAfterCommit() {
+		transactionTemplate.executeWithoutResult(status -> {
+			assertDoesNotThrow(() -> dispatcher.dispatch(NOTIFICATION));
+			verify(outboxMailSender, never()).wakeUp();
+		});
+
+		verify(outboxMailSender).wakeUp();
+		assertEquals(1, countNotifications());
+	}
+
+	@Test
+	void given_rolledBackTransaction_when_dispatch_then_discardNotification() {
+		transactionTemplate.executeWithoutResult(status -> {
+			assertDoesNotThrow(() -> dispatcher.dispatch(NOTIFICATION));
+			status.setRollbackOnly();
+		});
+
+		verifyNoInteractions(outboxMailSender);
+		assertEquals(0, countNotifications());
+	}
+
+	private int countNotifications() {
+		return Objects.requireNonNull(
+			jdbcTemplate.queryForObject("SELECT count(*) FROM notification_outbox", Integer.class)
+		);
+	}
+}
@@ -1,108 +1,205 @@
 package com.knowy.persistence;
 
+import com.knowy.core.buffer.WriteBehindUserExerciseRepository;
+import com.knowy.core.cache.*;
+import com.knowy.core.moderation.InMemoryBannedWordsRepository;
 import com.knowy.core.port.*;
 import com.knowy.core.user.port.ProfileImageRepository;
 import com.knowy.core.user.port.UserPrivateRepository;
 import com.knowy.core.user.port.UserRepository;
 import com.knowy.persistence.adapter.jpa.*;
 import com.knowy.persistence.adapter.jpa.dao.*;
+import com.knowy.persistence.adapter.jpa.mapper.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
-@AutoConfiguration
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@AutoConfiguration(after = KnowyJpaMapperAutoConfiguration.class)
 @EntityScan("com.knowy.persistence.adapter.jpa.entity")
 @EnableJpaRepositories("com.knowy.persistence.adapter.jpa.dao")
 public class KnowyJpaRepositoryAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
+	public CatalogCache catalogCache(
+		@Value("${knowy.catalog-cache.max-entries:" + CatalogCache.DEFAULT_MAX_ENTRIES + "}") int maxEntries
+	) {
+		return new CatalogCache(maxEntries);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "jpaBannedWordsRepository")
 	public BannedWordsRepository jpaBannedWordsRepository(JpaBannedWordsDao jpaBannedWordsDao) {
 		return new JpaBannedWordsRepository(jpaBannedWordsDao);
 	}
 
+	@Bean(initMethod = "start", destroyMethod = "close")
+	@Primary
+	@ConditionalOnMissingBean(name = "inMemoryBannedWordsRepository")
+	public InMemoryBannedWordsRepository inMemoryBannedWordsRepository(
+		@Qualifier("jpaBannedWordsRepository") BannedWordsRepository jpaBannedWordsRepository,
+		@Value("${knowy.banned-words.refresh-interval:1m}") Duration refreshInterval
+	) {
+		return new InMemoryBannedWordsRepository(jpaBannedWordsRepository, refreshInterval);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
-	public CategoryRepository jpaCategoryRepository(JpaCategoryDao jpaCategoryDao) {
-		return new JpaCategoryRepository(jpaCategoryDao);
+	public CategoryRepository jpaCategoryRepository(JpaCategoryDao jpaCategoryDao, JpaCategoryMapper jpaCategoryMapper) {
+		return new JpaCategoryRepository(jpaCategoryDao, jpaCategoryMapper);
 	}
 
 	@Bean
-	@ConditionalOnMissingBean
-	public CourseRepository jpaCourseRepository(
-		JpaCourseDao jpaCourseDao,
-		JpaUserLessonDao jpaUserLessonDao,
-		JpaCategoryDao jpaCategoryDao,
-		JpaLessonDao jpaLessonDao,
-		JpaExerciseDao jpaExerciseDao
+	@ConditionalOnMissingBean(name = "jpaCourseRepository")
+	public CourseRepository jpaCourseRepository(JpaCourseDao jpaCourseDao, JpaCourseMapper jpaCourseMapper) {
+		return new JpaCourseRepository(jpaCourseDao, jpaCourseMapper);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnMissingBean(name = "cachedCourseRepository")
+	public CourseRepository cachedCourseRepository(
+		@Qualifier("jpaCourseRepository") CourseRepository jpaCourseRepository,
+		CatalogCache catalogCache
 	) {
-		return new JpaCourseRepository(jpaCourseDao, jpaUserLessonDao, jpaCategoryDao, jpaLessonDao, jpaExerciseDao);
+		return new CachedCourseRepository(jpaCourseRepository, catalogCache);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
-	public ExerciseRepository jpaExerciseRepository(JpaExerciseDao jpaExerciseDao, JpaLessonDao jpaLessonDao) {
-		return new JpaExerciseRepository(jpaExerciseDao, jpaLessonDao);
+	public ImportLedger jpaImportLedger(JpaImportLedgerDao jpaImportLedgerDao, DataSource dataSource) {
+		return new JpaImportLedger(jpaImportLedgerDao, dataSource);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "jpaExerciseRepository")
+	public ExerciseRepository jpaExerciseRepository(JpaExerciseDao jpaExerciseDao, JpaExerciseMapper jpaExerciseMapper) {
+		return new JpaExerciseRepository(jpaExerciseDao, jpaExerciseMapper);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnMissingBean(name = "cachedExerciseRepository")
+	public ExerciseRepository cachedExerciseRepository(
+		@Qualifier("jpaExerciseRepository") ExerciseRepository jpaExerciseRepository,
+		CatalogCache catalogCache
+	) {
+		return new CachedExerciseRepository(jpaExerciseRepository, catalogCache);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
+	public ExercisePageViewRepository jpaExercisePageViewRepository(JpaExerciseDao jpaExerciseDao) {
+		return new JpaExercisePageViewRepository(jpaExerciseDao);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "jpaLessonRepository")
 	public LessonRepository jpaLessonRepository(
-		JpaLessonDao jpaLessonDao, JpaUserLessonDao jpaUserLessonDao, JpaExerciseDao jpaExerciseDao, JpaCourseDao jpaCourseDao
+		JpaLessonDao jpaLessonDao,
+		JpaUserLessonDao jpaUserLessonDao,
+		JpaLessonMapper jpaLessonMapper
 	) {
-		return new JpaLessonRepository(jpaLessonDao, jpaUserLessonDao, jpaExerciseDao, jpaCourseDao);
+		return new JpaLessonRepository(jpaLessonDao, jpaUserLessonDao, jpaLessonMapper);
 	}
 
 	@Bean
-	@ConditionalOnMissingBean
+	@Primary
+	@ConditionalOnMissingBean(name = "cachedLessonRepository")
+	public LessonRepository cachedLessonRepository(
+		@Qualifier("jpaLessonRepository") LessonRepository jpaLessonRepository,
+		CatalogCache catalogCache
+	) {
+		return new CachedLessonRepository(jpaLessonRepository, catalogCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "jpaLessonBaseRepository")
 	public LessonBaseRepository jpaLessonBaseRepository(
-		JpaLessonDao jpaLessonDao
+		JpaLessonDao jpaLessonDao,
+		JpaLessonBaseMapper jpaLessonBaseMapper
 	) {
-		return new JpaLessonBaseRepository(jpaLessonDao);
+		return new JpaLessonBaseRepository(jpaLessonDao, jpaLessonBaseMapper);
 	}
 
 	@Bean
-	@ConditionalOnMissingBean
-	public ProfileImageRepository jpaProfileImageRepository(JpaProfileImageDao jpaProfileImageDao) {
-		return new JpaProfileImageRepository(jpaProfileImageDao);
+	@Primary
+	@ConditionalOnMissingBean(name = "cachedLessonBaseRepository")
+	public LessonBaseRepository cachedLessonBaseRepository(
+		@Qualifier("jpaLessonBaseRepository") LessonBaseRepository jpaLessonBaseRepository,
+		CatalogCache catalogCache
+	) {
+		return new CachedLessonBaseRepository(jpaLessonBaseRepository, catalogCache);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
+	public ProfileImageRepository jpaProfileImageRepository(
+		JpaProfileImageDao jpaProfileImageDao,
+		JpaProfileImageMapper jpaProfileImageMapper
+	) {
+		return new JpaProfileImageRepository(jpaProfileImageDao, jpaProfileImageMapper);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "jpaUserExerciseRepository")
 	public UserExerciseRepository jpaUserExerciseRepository(
 		JpaUserExerciseDao jpaUserExerciseDao,
-		JpaUserDao jpaUserDao,
 		JpaExerciseDao jpaExerciseDao,
-		JpaLessonDao jpaLessonDao
+		JpaUserExerciseMapper jpaUserExerciseMapper,
+		JpaExerciseMapper jpaExerciseMapper
 	) {
-		return new JpaUserExerciseRepository(jpaUserExerciseDao, jpaUserDao, jpaExerciseDao, jpaLessonDao);
+		return new JpaUserExerciseRepository(
+			jpaUserExerciseDao, jpaExerciseDao, jpaUserExerciseMapper, jpaExerciseMapper
+		);
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	@Primary
+	@ConditionalOnProperty(name = "knowy.write-behind.enabled", havingValue = "true")
+	@ConditionalOnMissingBean(name = "writeBehindUserExerciseRepository")
+	public WriteBehindUserExerciseRepository writeBehindUserExerciseRepository(
+		@Qualifier("jpaUserExerciseRepository") UserExerciseRepository jpaUserExerciseRepository,
+		@Value("${knowy.write-behind.batch-size:" + WriteBehindUserExerciseRepository.DEFAULT_BATCH_SIZE + "}") int batchSize,
+		@Value("${knowy.write-behind.flush-interval:200ms}") Duration flushInterval,
+		@Value("${knowy.write-behind.max-pending:" + WriteBehindUserExerciseRepository.DEFAULT_MAX_PENDING + "}") int maxPending,
+		@Value("${knowy.write-behind.max-attempts:" + WriteBehindUserExerciseRepository.DEFAULT_MAX_ATTEMPTS + "}") int maxAttempts
+	) {
+		return new WriteBehindUserExerciseRepository(
+			jpaUserExerciseRepository, batchSize, flushInterval, maxPending, maxAttempts
+		);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public UserLessonRepository jpaUserLessonRepository(
 		JpaUserLessonDao jpaUserLessonDao,
-		JpaLessonDao jpaLessonDao,
-		JpaExerciseDao jpaExerciseDao,
-		JpaCourseDao jpaCourseDao, JpaUserDao jpaUserDao
+		JpaUserLessonMapper jpaUserLessonMapper
 	) {
-		return new JpaUserLessonRepository(jpaUserLessonDao, jpaLessonDao, jpaExerciseDao, jpaCourseDao, jpaUserDao);
+		return new JpaUserLessonRepository(jpaUserLessonDao, jpaUserLessonMapper);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public UserPrivateRepository jpaUserPrivateRepository(
-		JpaUserPrivateDao jpaUserPrivateDao, JpaCategoryDao jpaCategoryDao
+		JpaUserPrivateDao jpaUserPrivateDao, JpaUserPrivateMapper jpaUserPrivateMapper
 	) {
-		return new JpaUserPrivateRepository(jpaUserPrivateDao, jpaCategoryDao);
+		return new JpaUserPrivateRepository(jpaUserPrivateDao, jpaUserPrivateMapper);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
-	public UserRepository jpaUserRepository(JpaUserDao jpaUserDao, JpaCategoryDao jpaCategoryDao) {
-		return new JpaUserRepository(jpaUserDao, jpaCategoryDao);
+	public UserRepository jpaUserRepository(JpaUserDao jpaUserDao, JpaUserMapper jpaUserMapper) {
+		return new JpaUserRepository(jpaUserDao, jpaUserMapper);
 	}
 }
 
@@ -3,6 +3,8 @@ package com.knowy.persistence.adapter.jpa;
 import com.knowy.core.port.BannedWordsRepository;
 import com.knowy.persistence.adapter.jpa.dao.JpaBannedWordsDao;
 
+import java.util.List;
+
 public class JpaBannedWordsRepository implements BannedWordsRepository {
 
 	private final JpaBannedWordsDao jpaBannedWordsDao;
@@ -15,4 +17,14 @@ public class JpaBannedWordsRepository implements BannedWordsRepository {
 	public boolean isWordBanned(String word) {
 		return jpaBannedWordsDao.isWordBanned(word);
 	}
+
+	@Override
+	public List<String> findAllWords() {
+		return jpaBannedWordsDao.findAllWords();
+	}
+
+	@Override
+	public String findVersion() {
+		return jpaBannedWordsDao.findVersion();
+	}
 }
@@ -2,51 +2,44 @@ package com.knowy.persistence.adapter.jpa;
 
 import com.knowy.core.domain.Category;
 import com.knowy.core.domain.Course;
+import com.knowy.core.domain.CourseCursor;
+import com.knowy.core.domain.CourseNaturalKey;
+import com.knowy.core.domain.CourseQuery;
 import com.knowy.core.domain.CourseUnidentifiedData;
 import com.knowy.core.domain.Pagination;
+import com.knowy.core.domain.Slice;
 import com.knowy.core.exception.KnowyCourseNotFound;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.CourseRepository;
-import com.knowy.persistence.adapter.jpa.dao.*;
+import com.knowy.core.sampling.CourseIdIndex;
+import com.knowy.persistence.adapter.jpa.dao.JpaCourseDao;
 import com.knowy.persistence.adapter.jpa.entity.CourseEntity;
-import com.knowy.persistence.adapter.jpa.entity.LessonEntity;
-import com.knowy.persistence.adapter.jpa.entity.PublicUserLessonEntity;
 import com.knowy.persistence.adapter.jpa.mapper.JpaCourseMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class JpaCourseRepository implements CourseRepository {
 
 	private final JpaCourseDao jpaCourseDao;
-	private final JpaUserLessonDao jpaUserLessonDao;
-	private final JpaCategoryDao jpaCategoryDao;
-	private final JpaLessonDao jpaLessonDao;
-	private final JpaExerciseDao jpaExerciseDao;
-
-	public JpaCourseRepository(
-		JpaCourseDao jpaCourseDao,
-		JpaUserLessonDao jpaUserLessonDao,
-		JpaCategoryDao jpaCategoryDao,
-		JpaLessonDao jpaLessonDao,
-		JpaExerciseDao jpaExerciseDao
-	) {
+	private final JpaCourseMapper jpaCourseMapper;
+
+	public JpaCourseRepository(JpaCourseDao jpaCourseDao, JpaCourseMapper jpaCourseMapper) {
 		this.jpaCourseDao = jpaCourseDao;
-		this.jpaUserLessonDao = jpaUserLessonDao;
-		this.jpaCategoryDao = jpaCategoryDao;
-		this.jpaLessonDao = jpaLessonDao;
-		this.jpaExerciseDao = jpaExerciseDao;
+		this.jpaCourseMapper = jpaCourseMapper;
 	}
 
 	/**
 	 * Saves a list of course data objects into the database.
 	 * <p>
-	 * Each input object is mapped to a {@link CourseEntity} using {@link JpaCourseMapper}, persisted via
-	 * {@code jpaCourseDao}, and then mapped back to the domain {@link Course} object.
+	 * The input objects are mapped to {@link CourseEntity} objects using {@link JpaCourseMapper}, which resolves the
+	 * categories of the whole batch at once. The batch is then inserted through {@link JpaCourseDao#insertAll(List)}
+	 * with one JDBC batch per table, and each entity is mapped back to the domain {@link Course} object.
 	 *
 	 * @param courses the list of course data objects to save; must extend {@link CourseUnidentifiedData}
 	 * @param <T>     the type of the input course objects
@@ -56,29 +49,62 @@ public class JpaCourseRepository implements CourseRepository {
 	@Override
 	@Transactional
 	public <T extends CourseUnidentifiedData> List<Course> saveAll(List<T> courses) throws KnowyInconsistentDataException {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
-
-		List<CourseEntity> courseEntities = new ArrayList<>();
-		for (T course : courses) {
-			courseEntities.add(jpaCourseMapper.toEntity(course));
-		}
+		List<CourseEntity> courseEntities = jpaCourseMapper.toEntities(courses);
+		jpaCourseDao.insertAll(courseEntities);
 		return courseEntities.stream()
-			.map(jpaCourseDao::saveAndFlush)
 			.map(jpaCourseMapper::toDomain)
 			.toList();
 	}
 
+	/**
+	 * Reads the title and author of the stored courses with any of the given titles and keeps the pairs that match a
+	 * given key.
+	 *
+	 * @param keys the natural keys to look up
+	 * @return the given keys that belong to a stored course
+	 */
 	@Override
-	public List<Course> findAllById(List<Integer> ids) {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
+	@Transactional(readOnly = true)
+	public Set<CourseNaturalKey> findExistingNaturalKeys(Collection<CourseNaturalKey> keys) {
+		if (keys.isEmpty()) {
+			return Set.of();
+		}
 
-		return jpaCourseDao.findAllById(ids)
-			.stream()
-			.map(jpaCourseMapper::toDomain)
+		Set<String> titles = keys.stream()
+			.map(CourseNaturalKey::title)
+			.collect(Collectors.toSet());
+		Set<CourseNaturalKey> existingKeys = new HashSet<>();
+		for (JpaCourseDao.TitleAuthorRow row : jpaCourseDao.findTitleAndAuthorByTitleIn(titles)) {
+			CourseNaturalKey key = new CourseNaturalKey(row.getTitle(), row.getAuthor());
+			if (keys.contains(key)) {
+				existingKeys.add(key);
+			}
+		}
+		return existingKeys;
+	}
+
+	/**
+	 * Loads the courses with the given IDs and returns them in the order of {@code ids}, since the database returns
+	 * them in ID order and random samples depend on the order they were drawn in.
+	 *
+	 * @param ids the IDs of the courses, in the order they must be returned
+	 * @return the courses found, in the order of their IDs in {@code ids}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Course> findAllById(List<Integer> ids) {
+		Map<Integer, Course> coursesById = new HashMap<>();
+		for (Course course : jpaCourseMapper.toDomainAggregates(jpaCourseDao.findAllById(ids))) {
+			coursesById.put(course.id(), course);
+		}
+		return ids.stream()
+			.map(coursesById::get)
+			.filter(Objects::nonNull)
 			.toList();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Course> findAll(Pagination pagination) throws KnowyCourseNotFound {
 		List<Course> courses = fetchCourses(pagination);
 		validateCourses(courses, pagination.page());
@@ -86,13 +112,8 @@ public class JpaCourseRepository implements CourseRepository {
 	}
 
 	private List<Course> fetchCourses(Pagination pagination) {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
-
 		Pageable pageRequest = PageRequest.of(pagination.page(), pagination.size());
-		return jpaCourseDao.findAll(pageRequest)
-			.stream()
-			.map(jpaCourseMapper::toDomain)
-			.toList();
+		return jpaCourseMapper.toDomainAggregates(jpaCourseDao.findAll(pageRequest).getContent());
 	}
 
 	private void validateCourses(List<Course> courses, int page) throws KnowyCourseNotFound {
@@ -102,6 +123,27 @@ public class JpaCourseRepository implements CourseRepository {
 		}
 	}
 
+	/**
+	 * Reads one more course than the slice size to know whether there is a next slice without counting the matching
+	 * courses.
+	 *
+	 * @param query the filter, order and position of the slice
+	 * @return the matching courses and the cursor of the next slice
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Course> findAll(CourseQuery query) {
+		List<CourseEntity> courseEntities = jpaCourseDao.findAll(query, query.size() + 1);
+		boolean hasNext = courseEntities.size() > query.size();
+		if (hasNext) {
+			courseEntities = courseEntities.subList(0, query.size());
+		}
+
+		List<Course> courses = jpaCourseMapper.toDomainAggregates(courseEntities);
+		String nextCursor = hasNext ? CourseCursor.after(courses.getLast()).encode() : null;
+		return new Slice<>(courses, nextCursor);
+	}
+
 	@Override
 	public Set<Course> findInRandomOrder(int numOfRecords) {
 		return findAllStreamingInRandomOrder()
@@ -110,34 +152,57 @@ public class JpaCourseRepository implements CourseRepository {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Course> findAllRandomOrder() {
-		return findAllStreamingInRandomOrder()
-			.toList();
+		try (Stream<CourseEntity> courses = jpaCourseDao.findAllRandom()) {
+			return jpaCourseMapper.toDomainAggregates(courses.toList());
+		}
 	}
 
 	@Override
 	public Stream<Course> findAllStreamingInRandomOrder() {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
-
 		return jpaCourseDao.findAllRandom()
 			.map(jpaCourseMapper::toDomain);
 	}
 
 	@Override
-	public Set<Course> findAllWhereUserIsSubscribed(int userId) {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
+	@Transactional(readOnly = true)
+	public List<Course> sample(int numOfRecords) {
+		return findAllById(findIdIndex().sample(numOfRecords, ThreadLocalRandom.current()));
+	}
 
-		return jpaUserLessonDao.findByUserId(userId).stream()
-			.map(PublicUserLessonEntity::getLessonEntity)
-			.map(LessonEntity::getCourse)
-			.map(jpaCourseMapper::toDomain)
-			.collect(Collectors.toSet());
+	@Override
+	@Transactional(readOnly = true)
+	public List<Course> sampleByCategories(int numOfRecords, Collection<Category> categories) {
+		return findAllById(findIdIndex().sampleByCategories(numOfRecords, categories, ThreadLocalRandom.current()));
 	}
 
+	/**
+	 * Builds an index of the course IDs, overall and by category, from two ID-only queries.
+	 *
+	 * @return the {@link CourseIdIndex} of the current catalog
+	 */
 	@Override
-	public Stream<Course> findByCategoriesStreamingInRandomOrder(Collection<Category> categories) {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
+	@Transactional(readOnly = true)
+	public CourseIdIndex findIdIndex() {
+		Map<Integer, List<Integer>> courseIdsByCategoryId = new HashMap<>();
+		for (JpaCourseDao.CategoryCourseRow row : jpaCourseDao.findAllCategoryCourseIds()) {
+			courseIdsByCategoryId.computeIfAbsent(row.getCategoryId(), categoryId -> new ArrayList<>())
+				.add(row.getCourseId());
+		}
+		return new CourseIdIndex(jpaCourseDao.findAllIds(), courseIdsByCategoryId);
+	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Set<Course> findAllWhereUserIsSubscribed(int userId) {
+		return new HashSet<>(
+			jpaCourseMapper.toDomainAggregates(jpaCourseDao.findAllWhereUserIsSubscribed(userId))
+		);
+	}
+
+	@Override
+	public Stream<Course> findByCategoriesStreamingInRandomOrder(Collection<Category> categories) {
 		List<Integer> categoriesIds = categories.stream()
 			.map(Category::id)
 			.toList();
@@ -146,14 +211,10 @@ public class JpaCourseRepository implements CourseRepository {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Optional<Course> findById(Integer id) {
-		JpaCourseMapper jpaCourseMapper = getJpaCourseMapper();
-
-		return jpaCourseDao.findById(id).map(jpaCourseMapper::toDomain);
-	}
-
-	private JpaCourseMapper getJpaCourseMapper() {
-		return new JpaCourseMapper(jpaCategoryDao, jpaLessonDao, jpaCourseDao, jpaExerciseDao);
+		return jpaCourseDao.findById(id)
+			.map(course -> jpaCourseMapper.toDomainAggregates(List.of(course)).getFirst());
 	}
 
 	@Override
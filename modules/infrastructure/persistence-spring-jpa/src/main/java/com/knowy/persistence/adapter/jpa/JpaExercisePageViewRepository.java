@@ -0,0 +1,46 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.domain.ExercisePageView;
+import com.knowy.core.domain.Option;
+import com.knowy.core.port.ExercisePageViewRepository;
+import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads the exercise page with one native query returning a row per option, with the columns of the exercise, its
+ * course title and the user's rate repeated on each of them.
+ */
+public class JpaExercisePageViewRepository implements ExercisePageViewRepository {
+
+	private final JpaExerciseDao jpaExerciseDao;
+
+	public JpaExercisePageViewRepository(JpaExerciseDao jpaExerciseDao) {
+		this.jpaExerciseDao = jpaExerciseDao;
+	}
+
+	@Override
+	public Optional<ExercisePageView> findByUserIdAndExerciseId(int userId, int exerciseId) {
+		List<JpaExerciseDao.ExercisePageRow> rows = jpaExerciseDao.findPageRowsByUserIdAndExerciseId(userId, exerciseId);
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+
+		JpaExerciseDao.ExercisePageRow first = rows.getFirst();
+		List<Option> options = rows.stream()
+			.filter(row -> Objects.nonNull(row.getOptionId()))
+			.map(row -> new Option(row.getOptionId(), row.getOptionText(), row.getOptionCorrect()))
+			.toList();
+
+		return Optional.of(new ExercisePageView(
+			first.getExerciseId(),
+			first.getLessonId(),
+			first.getCourseTitle(),
+			first.getStatement(),
+			options,
+			first.getRate()
+		));
+	}
+}
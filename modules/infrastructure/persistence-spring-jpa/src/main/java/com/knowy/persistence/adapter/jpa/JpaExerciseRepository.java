@@ -3,7 +3,6 @@ package com.knowy.persistence.adapter.jpa;
 import com.knowy.core.domain.Exercise;
 import com.knowy.core.port.ExerciseRepository;
 import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.mapper.JpaExerciseMapper;
 
 import java.util.Optional;
@@ -11,17 +10,15 @@ import java.util.Optional;
 public class JpaExerciseRepository implements ExerciseRepository {
 
 	private final JpaExerciseDao jpaExerciseDao;
-	private final JpaLessonDao jpaLessonDao;
+	private final JpaExerciseMapper jpaExerciseMapper;
 
-	public JpaExerciseRepository(JpaExerciseDao jpaExerciseDao, JpaLessonDao jpaLessonDao) {
+	public JpaExerciseRepository(JpaExerciseDao jpaExerciseDao, JpaExerciseMapper jpaExerciseMapper) {
 		this.jpaExerciseDao = jpaExerciseDao;
-		this.jpaLessonDao = jpaLessonDao;
+		this.jpaExerciseMapper = jpaExerciseMapper;
 	}
 
 	@Override
 	public Optional<Exercise> findById(int id) {
-		JpaExerciseMapper jpaExerciseMapper = new JpaExerciseMapper(jpaExerciseDao, jpaLessonDao);
-
 		return jpaExerciseDao.findById(id).map(jpaExerciseMapper::toDomain);
 	}
 }
@@ -0,0 +1,98 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.core.port.ImportLedger;
+import com.knowy.persistence.adapter.jpa.dao.JpaImportLedgerDao;
+import com.knowy.persistence.adapter.jpa.entity.ImportLedgerEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * {@link ImportLedger} stored in the {@code import_ledger} table and locked with PostgreSQL advisory locks, so it is
+ * shared by every node of the application.
+ * <p>
+ * The lock of a source is a session-level advisory lock keyed by the hash of its name. It is held on a connection of
+ * its own, outside the transactions of the import, and released before that connection is given back to the pool.
+ */
+public class JpaImportLedger implements ImportLedger {
+
+	private static final String LOCK = "SELECT pg_advisory_lock(hashtext(?))";
+	private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext(?))";
+
+	private final JpaImportLedgerDao jpaImportLedgerDao;
+	private final DataSource dataSource;
+
+	public JpaImportLedger(JpaImportLedgerDao jpaImportLedgerDao, DataSource dataSource) {
+		this.jpaImportLedgerDao = jpaImportLedgerDao;
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Entry> findBySource(String source) {
+		return jpaImportLedgerDao.findById(source)
+			.map(entity -> new Entry(
+				entity.getSource(),
+				entity.getChecksum(),
+				entity.getSchemaVersion(),
+				entity.getImportedAt()
+			));
+	}
+
+	@Override
+	@Transactional
+	public void save(Entry entry) {
+		jpaImportLedgerDao.save(new ImportLedgerEntity(
+			entry.source(),
+			entry.checksum(),
+			entry.schemaVersion(),
+			entry.importedAt()
+		));
+	}
+
+	@Override
+	public Lock lock(String source) throws KnowyInconsistentDataException {
+		Connection connection = null;
+		try {
+			connection = dataSource.getConnection();
+			execute(connection, LOCK, source);
+		} catch (SQLException e) {
+			closeQuietly(connection);
+			throw new KnowyInconsistentDataException("Cannot lock import source " + source, e);
+		}
+
+		Connection lockConnection = connection;
+		return () -> {
+			try {
+				execute(lockConnection, UNLOCK, source);
+			} catch (SQLException e) {
+				// The unlock only fails on a broken connection, whose session and lock are already gone
+			} finally {
+				closeQuietly(lockConnection);
+			}
+		};
+	}
+
+	private static void execute(Connection connection, String sql, String source) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, source);
+			statement.execute();
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			// The connection is discarded by the pool
+		}
+	}
+}
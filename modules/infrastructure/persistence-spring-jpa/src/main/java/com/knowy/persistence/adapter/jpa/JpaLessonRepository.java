@@ -2,8 +2,6 @@ package com.knowy.persistence.adapter.jpa;
 
 import com.knowy.core.domain.Lesson;
 import com.knowy.core.port.LessonRepository;
-import com.knowy.persistence.adapter.jpa.dao.JpaCourseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaUserLessonDao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserLessonEntity;
@@ -18,33 +16,26 @@ public class JpaLessonRepository implements LessonRepository {
 
 	private final JpaLessonDao jpaLessonDao;
 	private final JpaUserLessonDao jpaUserLessonDao;
-	private final JpaExerciseDao jpaExerciseDao;
-	private final JpaCourseDao jpaCourseDao;
+	private final JpaLessonMapper jpaLessonMapper;
 
 	public JpaLessonRepository(
 		JpaLessonDao jpaLessonDao,
 		JpaUserLessonDao jpaUserLessonDao,
-		JpaExerciseDao jpaExerciseDao,
-		JpaCourseDao jpaCourseDao
+		JpaLessonMapper jpaLessonMapper
 	) {
 		this.jpaLessonDao = jpaLessonDao;
 		this.jpaUserLessonDao = jpaUserLessonDao;
-		this.jpaExerciseDao = jpaExerciseDao;
-		this.jpaCourseDao = jpaCourseDao;
+		this.jpaLessonMapper = jpaLessonMapper;
 	}
 
 	@Override
 	public Optional<Lesson> findById(Integer id) {
-		JpaLessonMapper jpaLessonMapper = jpaLessonMapper();
-
 		return jpaLessonDao.findById(id).map(jpaLessonMapper::toDomain);
 	}
 
 
 	@Override
 	public Set<Lesson> findAllWhereUserIsSubscribedTo(int userId) {
-		JpaLessonMapper jpaLessonMapper = jpaLessonMapper();
-
 		return jpaUserLessonDao.findByUserId(userId).stream()
 			.map(PublicUserLessonEntity::getLessonEntity)
 			.map(jpaLessonMapper::toDomain)
@@ -53,14 +44,8 @@ public class JpaLessonRepository implements LessonRepository {
 
 	@Override
 	public List<Lesson> findAllByCourseId(Integer courseId) {
-		JpaLessonMapper jpaLessonMapper = jpaLessonMapper();
-
 		return jpaLessonDao.findByCourseId(courseId).stream()
 			.map(jpaLessonMapper::toDomain)
 			.toList();
 	}
-
-	private JpaLessonMapper jpaLessonMapper() {
-		return new JpaLessonMapper(jpaCourseDao, jpaLessonDao, jpaExerciseDao);
-	}
 }
@@ -4,55 +4,90 @@ import com.knowy.core.domain.UserExercise;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.UserExerciseRepository;
 import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaUserDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaUserExerciseDao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseEntity;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseId;
+import com.knowy.persistence.adapter.jpa.mapper.JpaExerciseMapper;
 import com.knowy.persistence.adapter.jpa.mapper.JpaUserExerciseMapper;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class JpaUserExerciseRepository implements UserExerciseRepository {
 
 	private final JpaUserExerciseDao jpaUserExerciseDao;
-	private final JpaUserDao jpaUserDao;
 	private final JpaExerciseDao jpaExerciseDao;
-	private final JpaLessonDao jpaLessonDao;
+	private final JpaUserExerciseMapper jpaUserExerciseMapper;
+	private final JpaExerciseMapper jpaExerciseMapper;
 
 	public JpaUserExerciseRepository(
 		JpaUserExerciseDao jpaUserExerciseDao,
-		JpaUserDao jpaUserDao,
 		JpaExerciseDao jpaExerciseDao,
-		JpaLessonDao jpaLessonDao
+		JpaUserExerciseMapper jpaUserExerciseMapper,
+		JpaExerciseMapper jpaExerciseMapper
 	) {
 		this.jpaUserExerciseDao = jpaUserExerciseDao;
-		this.jpaUserDao = jpaUserDao;
 		this.jpaExerciseDao = jpaExerciseDao;
-		this.jpaLessonDao = jpaLessonDao;
+		this.jpaUserExerciseMapper = jpaUserExerciseMapper;
+		this.jpaExerciseMapper = jpaExerciseMapper;
 	}
 
+	/**
+	 * Inserts or updates the progress of a user on an exercise with a single statement.
+	 * <p>
+	 * The row is written by its composite key, without loading the user, the exercise or any previous progress, and
+	 * the given domain object is returned as is, since it already holds everything that was stored. A progress entity
+	 * loaded earlier in the session is detached, so the next read fetches the stored row.
+	 *
+	 * @param userExercise the progress to store
+	 * @return the stored progress
+	 * @throws KnowyInconsistentDataException if the progress cannot be stored
+	 */
 	@Override
 	public UserExercise save(UserExercise userExercise) throws KnowyInconsistentDataException {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
+		jpaUserExerciseDao.upsert(
+			userExercise.userId(),
+			userExercise.exercise().id(),
+			userExercise.rate(),
+			userExercise.nextReview()
+		);
+		jpaUserExerciseDao.detachAll(List.of(
+			new PublicUserExerciseId(userExercise.userId(), userExercise.exercise().id())
+		));
+		return userExercise;
+	}
 
-		PublicUserExerciseEntity userSaved = jpaUserExerciseDao.save(jpaUserExerciseMapper.toEntity(userExercise));
-		return jpaUserExerciseMapper.toDomain(userSaved);
+	/**
+	 * Inserts or updates the progress of several exercises in a single JDBC batch.
+	 *
+	 * @param userExercises the progress to store
+	 * @return the stored progress
+	 */
+	@Override
+	public List<UserExercise> saveAll(Collection<UserExercise> userExercises) {
+		jpaUserExerciseDao.upsertAll(userExercises.stream()
+			.map(userExercise -> new PublicUserExerciseEntity(
+				new PublicUserExerciseId(userExercise.userId(), userExercise.exercise().id()),
+				userExercise.rate(),
+				userExercise.nextReview(),
+				null,
+				null
+			))
+			.toList());
+		return List.copyOf(userExercises);
 	}
 
 	@Override
 	public Optional<UserExercise> findById(int userId, int exerciseId) {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
-
 		return jpaUserExerciseDao.findById(new PublicUserExerciseId(userId, exerciseId))
 			.map(jpaUserExerciseMapper::toDomain);
 	}
 
 	@Override
 	public List<UserExercise> findAll() {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
-
 		return jpaUserExerciseDao.findAll()
 			.stream()
 			.map(jpaUserExerciseMapper::toDomain)
@@ -61,8 +96,6 @@ public class JpaUserExerciseRepository implements UserExerciseRepository {
 
 	@Override
 	public List<UserExercise> findAllByUserIdAndLessonId(int userId, int lessonId) {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
-
 		return jpaUserExerciseDao.findAllByUserIdAndLessonId(userId, lessonId).stream()
 			.map(jpaUserExerciseMapper::toDomain)
 			.toList();
@@ -70,21 +103,33 @@ public class JpaUserExerciseRepository implements UserExerciseRepository {
 
 	@Override
 	public Optional<UserExercise> findNextExerciseByLessonId(int userId, int lessonId) {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
-
 		return jpaUserExerciseDao.findNextExerciseByLessonId(userId, lessonId)
 			.map(jpaUserExerciseMapper::toDomain);
 	}
 
 	@Override
 	public Optional<UserExercise> findNextExerciseByUserId(int userId) {
-		JpaUserExerciseMapper jpaUserExerciseMapper = jpaUserExerciseMapper();
-
 		return jpaUserExerciseDao.findNextExerciseByUserId(userId)
 			.map(jpaUserExerciseMapper::toDomain);
 	}
 
-	private JpaUserExerciseMapper jpaUserExerciseMapper() {
-		return new JpaUserExerciseMapper(jpaUserDao, jpaExerciseDao, jpaLessonDao);
+	@Override
+	public List<UserExercise> findAllReviewCandidatesByUserId(int userId) {
+		Map<Integer, PublicUserExerciseEntity> answered = new HashMap<>();
+		for (PublicUserExerciseEntity userExercise : jpaUserExerciseDao.findAllInStartedLessonsByUserId(userId)) {
+			answered.put(userExercise.getId().getIdExercise(), userExercise);
+		}
+
+		return jpaExerciseDao.findAllInStartedLessonsByUserId(userId).stream()
+			.map(exercise -> {
+				PublicUserExerciseEntity userExercise = answered.get(exercise.getId());
+				return new UserExercise(
+					userId,
+					jpaExerciseMapper.toDomain(exercise),
+					userExercise == null ? 0 : userExercise.getRate(),
+					userExercise == null ? null : userExercise.getNextReview()
+				);
+			})
+			.toList();
 	}
 }
@@ -1,9 +1,10 @@
 package com.knowy.persistence.adapter.jpa;
 
+import com.knowy.core.domain.CourseProgressSummary;
 import com.knowy.core.domain.UserLesson;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.port.UserLessonRepository;
-import com.knowy.persistence.adapter.jpa.dao.*;
+import com.knowy.persistence.adapter.jpa.dao.JpaUserLessonDao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserLessonEntity;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserLessonIdEntity;
 import com.knowy.persistence.adapter.jpa.mapper.JpaUserLessonMapper;
@@ -11,27 +12,18 @@ import com.knowy.persistence.adapter.jpa.mapper.JpaUserLessonMapper;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class JpaUserLessonRepository implements UserLessonRepository {
 
 	private final JpaUserLessonDao jpaUserLessonDao;
-	private final JpaLessonDao jpaLessonDao;
-	private final JpaExerciseDao jpaExerciseDao;
-	private final JpaCourseDao jpaCourseDao;
-	private final JpaUserDao jpaUserDao;
+	private final JpaUserLessonMapper jpaUserLessonMapper;
 
-	public JpaUserLessonRepository(
-		JpaUserLessonDao jpaUserLessonDao,
-		JpaLessonDao jpaLessonDao,
-		JpaExerciseDao jpaExerciseDao,
-		JpaCourseDao jpaCourseDao, JpaUserDao jpaUserDao
-	) {
+	public JpaUserLessonRepository(JpaUserLessonDao jpaUserLessonDao, JpaUserLessonMapper jpaUserLessonMapper) {
 		this.jpaUserLessonDao = jpaUserLessonDao;
-		this.jpaLessonDao = jpaLessonDao;
-		this.jpaExerciseDao = jpaExerciseDao;
-		this.jpaCourseDao = jpaCourseDao;
-		this.jpaUserDao = jpaUserDao;
+		this.jpaUserLessonMapper = jpaUserLessonMapper;
 	}
 
 	@Override
@@ -41,16 +33,12 @@ public class JpaUserLessonRepository implements UserLessonRepository {
 
 	@Override
 	public UserLesson save(UserLesson userLesson) throws KnowyInconsistentDataException {
-		JpaUserLessonMapper jpaUserLessonMapper = getJpaUserLessonMapper();
-
 		PublicUserLessonEntity publicUserLessonEntity = jpaUserLessonDao.save(jpaUserLessonMapper.toEntity(userLesson));
 		return jpaUserLessonMapper.toDomain(publicUserLessonEntity);
 	}
 
 	@Override
 	public List<UserLesson> saveAll(Collection<UserLesson> userLessons) throws KnowyInconsistentDataException {
-		JpaUserLessonMapper jpaUserLessonMapper = getJpaUserLessonMapper();
-
 		List<PublicUserLessonEntity> lessonEntities = new ArrayList<>();
 		for (UserLesson userLesson : userLessons) {
 			lessonEntities.add(jpaUserLessonMapper.toEntity(userLesson));
@@ -63,31 +51,42 @@ public class JpaUserLessonRepository implements UserLessonRepository {
 
 	@Override
 	public Optional<UserLesson> findById(int userId, int lessonId) {
-		JpaUserLessonMapper jpaUserLessonMapper = getJpaUserLessonMapper();
-
 		return jpaUserLessonDao.findById(new PublicUserLessonIdEntity(userId, lessonId))
 			.map(jpaUserLessonMapper::toDomain);
 	}
 
 	@Override
 	public List<UserLesson> findAllByUserIdAndCourseId(int userId, int courseId) {
-		JpaUserLessonMapper jpaUserLessonMapper = getJpaUserLessonMapper();
-
 		return jpaUserLessonDao.findAllByUserIdAndCourseId(userId, courseId).stream()
 			.map(jpaUserLessonMapper::toDomain)
 			.toList();
 	}
 
 	@Override
-	public List<UserLesson> findAllWhereUserIsSubscribed(int userId) {
-		JpaUserLessonMapper jpaUserLessonMapper = getJpaUserLessonMapper();
+	public Map<Integer, UserLesson.ProgressStatus> findAllStatusesByUserIdAndCourseId(int userId, int courseId) {
+		return jpaUserLessonDao.findAllLessonStatusesByUserIdAndCourseId(userId, courseId).stream()
+			.collect(Collectors.toMap(
+				JpaUserLessonDao.LessonStatusRow::getLessonId,
+				row -> UserLesson.ProgressStatus.valueOf(row.getStatus().toUpperCase())
+			));
+	}
 
+	@Override
+	public List<UserLesson> findAllWhereUserIsSubscribed(int userId) {
 		return jpaUserLessonDao.findAllWhereUserIsSubscribed(userId).stream()
 			.map(jpaUserLessonMapper::toDomain)
 			.toList();
 	}
 
-	private JpaUserLessonMapper getJpaUserLessonMapper() {
-		return new JpaUserLessonMapper(jpaUserDao, jpaLessonDao, jpaCourseDao, jpaExerciseDao);
+	@Override
+	public List<CourseProgressSummary> findAllCourseProgressSummariesByUserId(int userId) {
+		return jpaUserLessonDao.findAllCourseProgressByUserId(userId).stream()
+			.map(row -> new CourseProgressSummary(
+				row.getCourseId(),
+				row.getPendingLessons().intValue(),
+				row.getInProgressLessons().intValue(),
+				row.getCompletedLessons().intValue()
+			))
+			.toList();
 	}
 }
@@ -2,7 +2,6 @@ package com.knowy.persistence.adapter.jpa;
 
 import com.knowy.core.user.domain.User;
 import com.knowy.core.user.port.UserRepository;
-import com.knowy.persistence.adapter.jpa.dao.JpaCategoryDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaUserDao;
 import com.knowy.persistence.adapter.jpa.mapper.JpaUserMapper;
 
@@ -11,17 +10,15 @@ import java.util.Optional;
 public class JpaUserRepository implements UserRepository {
 
 	private final JpaUserDao jpaUserDao;
-	private final JpaCategoryDao jpaCategoryDao;
+	private final JpaUserMapper jpaUserMapper;
 
-	public JpaUserRepository(JpaUserDao jpaUserDao, JpaCategoryDao jpaCategoryDao) {
+	public JpaUserRepository(JpaUserDao jpaUserDao, JpaUserMapper jpaUserMapper) {
 		this.jpaUserDao = jpaUserDao;
-		this.jpaCategoryDao = jpaCategoryDao;
+		this.jpaUserMapper = jpaUserMapper;
 	}
 
 	@Override
 	public Optional<User> findById(Integer id) {
-		JpaUserMapper jpaUserMapper = new JpaUserMapper(jpaCategoryDao);
-
 		return jpaUserDao.findById(id).map(jpaUserMapper::toDomain);
 	}
 
@@ -32,16 +29,12 @@ public class JpaUserRepository implements UserRepository {
 
 	@Override
 	public User save(User user) {
-		JpaUserMapper jpaUserMapper = new JpaUserMapper(jpaCategoryDao);
-
 		jpaUserDao.save(jpaUserMapper.toEntity(user));
 		return user;
 	}
 
 	@Override
 	public Optional<User> findByNickname(String nickname) {
-		JpaUserMapper jpaUserMapper = new JpaUserMapper(jpaCategoryDao);
-
 		return jpaUserDao.findByNickname(nickname).map(jpaUserMapper::toDomain);
 	}
 
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface JpaBannedWordsDao extends JpaRepository<BannedWordsEntity, Integer> {
 
@@ -22,4 +24,13 @@ public interface JpaBannedWordsDao extends JpaRepository<BannedWordsEntity, Inte
 		    END AS is_banned
 		""", nativeQuery = true)
 	boolean isWordBanned(@Param("word") String word);
+
+	@Query("SELECT bw.word FROM BannedWordsEntity bw")
+	List<String> findAllWords();
+
+	@Query(value = """
+		SELECT md5(COALESCE(string_agg(bw.id || ':' || bw.word, ',' ORDER BY bw.id), ''))
+		FROM banned_word bw
+		""", nativeQuery = true)
+	String findVersion();
 }
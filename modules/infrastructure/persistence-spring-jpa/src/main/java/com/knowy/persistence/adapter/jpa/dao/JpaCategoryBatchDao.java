@@ -0,0 +1,11 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.CategoryEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaCategoryBatchDao {
+
+	List<CategoryEntity> insertMissingByName(Collection<String> names);
+}
@@ -0,0 +1,92 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.CategoryEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Resolves categories by name with set-based statements, bypassing the persistence context.
+ * <p>
+ * Names are compared exactly, as the unique constraint on {@code name} does, so the conflict target of the insert
+ * agrees with the lookup. The categories that are not stored yet are inserted by the same statement that
+ * reads the stored ones, with {@code ON CONFLICT DO NOTHING} so that a category inserted at the same time by another
+ * transaction is not an error; such categories are read again with a second query once that statement has finished.
+ */
+public class JpaCategoryBatchDaoImpl implements JpaCategoryBatchDao {
+
+	private static final String INSERT_MISSING_CATEGORIES = """
+		WITH input AS (
+		    SELECT DISTINCT name
+		    FROM unnest(?::varchar[]) AS name
+		),
+		existing AS (
+		    SELECT l.id, l.name
+		    FROM language l
+		        JOIN input i ON l.name = i.name
+		),
+		inserted AS (
+		    INSERT INTO language (name)
+		    SELECT i.name
+		    FROM input i
+		    WHERE NOT EXISTS (SELECT 1 FROM existing e WHERE e.name = i.name)
+		    ON CONFLICT (name) DO NOTHING
+		    RETURNING id, name
+		)
+		SELECT id, name FROM existing
+		UNION ALL
+		SELECT id, name FROM inserted
+		""";
+	private static final String FIND_CATEGORIES = "SELECT id, name FROM language WHERE name = ANY (?::varchar[])";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Inserts the categories whose names are not stored yet and returns the stored category of each given name.
+	 *
+	 * @param names the names of the categories
+	 * @return the stored categories
+	 */
+	@Override
+	@Transactional
+	public List<CategoryEntity> insertMissingByName(Collection<String> names) {
+		if (names.isEmpty()) {
+			return List.of();
+		}
+
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			List<CategoryEntity> categories = query(connection, INSERT_MISSING_CATEGORIES, names);
+
+			Set<String> missingNames = new HashSet<>(names);
+			for (CategoryEntity category : categories) {
+				missingNames.remove(category.getName());
+			}
+			if (!missingNames.isEmpty()) {
+				categories.addAll(query(connection, FIND_CATEGORIES, missingNames));
+			}
+			return categories;
+		});
+	}
+
+	private List<CategoryEntity> query(Connection connection, String sql, Collection<String> names)
+		throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setArray(1, connection.createArrayOf("varchar", names.toArray()));
+			try (ResultSet rows = statement.executeQuery()) {
+				List<CategoryEntity> categories = new ArrayList<>();
+				while (rows.next()) {
+					CategoryEntity category = new CategoryEntity();
+					category.setId(rows.getInt("id"));
+					category.setName(rows.getString("name"));
+					categories.add(category);
+				}
+				return categories;
+			}
+		}
+	}
+}
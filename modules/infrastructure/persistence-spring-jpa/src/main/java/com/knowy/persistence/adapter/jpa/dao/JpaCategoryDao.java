@@ -11,7 +11,7 @@ import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface JpaCategoryDao extends JpaRepository<CategoryEntity, Integer> {
+public interface JpaCategoryDao extends JpaRepository<CategoryEntity, Integer>, JpaCategoryBatchDao {
 
 	@Query(value = "SELECT c FROM CategoryEntity c WHERE c.name = :name")
 	Optional<CategoryEntity> findByName(@Param("name") String name) throws KnowyInconsistentDataException;
@@ -0,0 +1,10 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.CourseEntity;
+
+import java.util.List;
+
+public interface JpaCourseBatchDao {
+
+	void insertAll(List<CourseEntity> courses);
+}
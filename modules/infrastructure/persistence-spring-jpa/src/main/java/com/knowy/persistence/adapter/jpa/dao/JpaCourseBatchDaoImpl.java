@@ -0,0 +1,268 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Inserts whole course trees through JDBC batches, bypassing the persistence context.
+ * <p>
+ * The IDs of every new row are taken from the sequences of the {@code serial} columns up front, one query per table, so
+ * each table of the tree is then written with a single batch whatever the number of courses. Categories that already
+ * have an ID are only linked. The IDs are set on the given entities.
+ */
+public class JpaCourseBatchDaoImpl implements JpaCourseBatchDao {
+
+	private static final String NEXT_IDS = """
+		SELECT nextval(pg_get_serial_sequence(?, 'id'))
+		FROM generate_series(1, ?)
+		""";
+	private static final String INSERT_CATEGORY = "INSERT INTO language (id, name) VALUES (?, ?)";
+	private static final String INSERT_COURSE = """
+		INSERT INTO course (id, title, description, image, author, creation_date)
+		VALUES (?, ?, ?, ?, ?, ?)
+		""";
+	private static final String INSERT_COURSE_CATEGORY = """
+		INSERT INTO course_language (id_course, id_language)
+		VALUES (?, ?)
+		""";
+	private static final String INSERT_LESSON = """
+		INSERT INTO lesson (id, id_course, id_next_lesson, title, explanation)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+	private static final String INSERT_DOCUMENTATION = "INSERT INTO documentation (id, title, link) VALUES (?, ?, ?)";
+	private static final String INSERT_LESSON_DOCUMENTATION = """
+		INSERT INTO lesson_documentation (id_lesson, id_documentation)
+		VALUES (?, ?)
+		""";
+	private static final String INSERT_EXERCISE = "INSERT INTO exercise (id, id_lesson, statement) VALUES (?, ?, ?)";
+	private static final String INSERT_OPTION = """
+		INSERT INTO option (id, id_exercise, option_text, is_correct)
+		VALUES (?, ?, ?, ?)
+		""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public void insertAll(List<CourseEntity> courses) {
+		if (courses.isEmpty()) {
+			return;
+		}
+
+		CourseTree tree = new CourseTree(courses);
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			assignIds(connection, "public.language", tree.newCategories, CategoryEntity::setId);
+			assignIds(connection, "public.course", tree.courses, CourseEntity::setId);
+			assignIds(connection, "public.lesson", tree.lessons, LessonEntity::setId);
+			assignIds(connection, "public.documentation", tree.documentations, DocumentationEntity::setId);
+			assignIds(connection, "public.exercise", tree.exercises, ExerciseEntity::setId);
+			assignIds(connection, "public.option", tree.options, OptionEntity::setId);
+
+			insertCategories(connection, tree.newCategories);
+			insertCourses(connection, tree.courses);
+			insertLessons(connection, tree.lessons);
+			insertDocumentations(connection, tree.lessons, tree.documentations);
+			insertExercises(connection, tree.exercises);
+			insertOptions(connection, tree.options);
+		});
+	}
+
+	private <T> void assignIds(Connection connection, String table, List<T> entities, IdSetter<T> idSetter)
+		throws SQLException {
+		if (entities.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(NEXT_IDS)) {
+			statement.setString(1, table);
+			statement.setInt(2, entities.size());
+			try (ResultSet ids = statement.executeQuery()) {
+				for (T entity : entities) {
+					ids.next();
+					idSetter.setId(entity, ids.getInt(1));
+				}
+			}
+		}
+	}
+
+	private void insertCategories(Connection connection, List<CategoryEntity> categories) throws SQLException {
+		if (categories.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_CATEGORY)) {
+			for (CategoryEntity category : categories) {
+				statement.setInt(1, category.getId());
+				statement.setString(2, category.getName());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private void insertCourses(Connection connection, List<CourseEntity> courses) throws SQLException {
+		try (PreparedStatement courseStatement = connection.prepareStatement(INSERT_COURSE);
+			 PreparedStatement categoryStatement = connection.prepareStatement(INSERT_COURSE_CATEGORY)) {
+			for (CourseEntity course : courses) {
+				courseStatement.setInt(1, course.getId());
+				courseStatement.setString(2, course.getTitle());
+				courseStatement.setString(3, course.getDescription());
+				courseStatement.setString(4, course.getImage());
+				courseStatement.setString(5, course.getAuthor());
+				courseStatement.setTimestamp(
+					6, course.getCreationDate() == null ? null : Timestamp.valueOf(course.getCreationDate())
+				);
+				courseStatement.addBatch();
+
+				for (CategoryEntity category : course.getLanguages()) {
+					categoryStatement.setInt(1, course.getId());
+					categoryStatement.setInt(2, category.getId());
+					categoryStatement.addBatch();
+				}
+			}
+			courseStatement.executeBatch();
+			categoryStatement.executeBatch();
+		}
+	}
+
+	/**
+	 * Lessons are inserted in the order they hold in their course, which the mapper builds from the last lesson to the
+	 * first, so the lesson referenced by {@code id_next_lesson} always exists when a lesson is inserted.
+	 */
+	private void insertLessons(Connection connection, List<LessonEntity> lessons) throws SQLException {
+		if (lessons.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_LESSON)) {
+			for (LessonEntity lesson : lessons) {
+				statement.setInt(1, lesson.getId());
+				statement.setInt(2, lesson.getCourse().getId());
+				if (lesson.getNextLesson() == null) {
+					statement.setNull(3, Types.INTEGER);
+				} else {
+					statement.setInt(3, lesson.getNextLesson().getId());
+				}
+				statement.setString(4, lesson.getTitle());
+				statement.setString(5, lesson.getExplanation());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private void insertDocumentations(
+		Connection connection, List<LessonEntity> lessons, List<DocumentationEntity> documentations
+	) throws SQLException {
+		if (documentations.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement documentationStatement = connection.prepareStatement(INSERT_DOCUMENTATION);
+			 PreparedStatement lessonStatement = connection.prepareStatement(INSERT_LESSON_DOCUMENTATION)) {
+			for (DocumentationEntity documentation : documentations) {
+				documentationStatement.setInt(1, documentation.getId());
+				documentationStatement.setString(2, documentation.getTitle());
+				documentationStatement.setString(3, documentation.getLink());
+				documentationStatement.addBatch();
+			}
+			for (LessonEntity lesson : lessons) {
+				for (DocumentationEntity documentation : nullToEmpty(lesson.getDocumentations())) {
+					lessonStatement.setInt(1, lesson.getId());
+					lessonStatement.setInt(2, documentation.getId());
+					lessonStatement.addBatch();
+				}
+			}
+			documentationStatement.executeBatch();
+			lessonStatement.executeBatch();
+		}
+	}
+
+	private void insertExercises(Connection connection, List<ExerciseEntity> exercises) throws SQLException {
+		if (exercises.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_EXERCISE)) {
+			for (ExerciseEntity exercise : exercises) {
+				statement.setInt(1, exercise.getId());
+				statement.setInt(2, exercise.getLesson().getId());
+				statement.setString(3, exercise.getQuestion());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private void insertOptions(Connection connection, List<OptionEntity> options) throws SQLException {
+		if (options.isEmpty()) {
+			return;
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_OPTION)) {
+			for (OptionEntity option : options) {
+				statement.setInt(1, option.getId());
+				statement.setInt(2, option.getExercise().getId());
+				statement.setString(3, option.getOptionText());
+				statement.setBoolean(4, option.isCorrect());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private static <T> List<T> nullToEmpty(List<T> list) {
+		return list == null ? List.of() : list;
+	}
+
+	@FunctionalInterface
+	private interface IdSetter<T> {
+		void setId(T entity, Integer id);
+	}
+
+	/**
+	 * The rows of every table of the given courses, in insertion order.
+	 */
+	private static final class CourseTree {
+
+		private final List<CourseEntity> courses;
+		private final List<CategoryEntity> newCategories = new ArrayList<>();
+		private final List<LessonEntity> lessons = new ArrayList<>();
+		private final List<DocumentationEntity> documentations = new ArrayList<>();
+		private final List<ExerciseEntity> exercises = new ArrayList<>();
+		private final List<OptionEntity> options = new ArrayList<>();
+
+		private CourseTree(List<CourseEntity> courses) {
+			this.courses = courses;
+
+			Set<CategoryEntity> seenCategories = Collections.newSetFromMap(new IdentityHashMap<>());
+			Set<DocumentationEntity> seenDocumentations = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (CourseEntity course : courses) {
+				for (CategoryEntity category : course.getLanguages()) {
+					if (category.getId() == null && seenCategories.add(category)) {
+						newCategories.add(category);
+					}
+				}
+				for (LessonEntity lesson : course.getLessons()) {
+					lessons.add(lesson);
+					for (DocumentationEntity documentation : nullToEmpty(lesson.getDocumentations())) {
+						if (seenDocumentations.add(documentation)) {
+							documentations.add(documentation);
+						}
+					}
+					for (ExerciseEntity exercise : lesson.getExercises()) {
+						exercises.add(exercise);
+						options.addAll(nullToEmpty(exercise.getOptions()));
+					}
+				}
+			}
+		}
+	}
+}
@@ -7,11 +7,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
-public interface JpaCourseDao extends JpaRepository<CourseEntity, Integer> {
+public interface JpaCourseDao extends JpaRepository<CourseEntity, Integer>, JpaCourseQueryDao, JpaCourseBatchDao {
 	@NonNull
 	List<CourseEntity> findAll();
 
@@ -27,7 +28,61 @@ public interface JpaCourseDao extends JpaRepository<CourseEntity, Integer> {
 		""")
 	Stream<CourseEntity> findByCategoryIdsInRandomOrder(@Param("categoriesIds") List<Integer> categoriesIds);
 
+	@Query("SELECT c.id FROM CourseEntity c")
+	List<Integer> findAllIds();
+
+	@Query("""
+		SELECT lang.id AS categoryId, c.id AS courseId
+		FROM CourseEntity c
+		    JOIN c.languages lang
+		""")
+	List<CategoryCourseRow> findAllCategoryCourseIds();
+
+	@Query("""
+		SELECT c.title AS title, c.author AS author
+		FROM CourseEntity c
+		WHERE c.title IN (:titles)
+		""")
+	List<TitleAuthorRow> findTitleAndAuthorByTitleIn(@Param("titles") Collection<String> titles);
+
 	@Query("SELECT l.course FROM LessonEntity l WHERE l.id = :lessonId")
 	CourseEntity findCourseIdByLessonId(@Param("lessonId") int lessonId);
+
+	@Query("""
+		SELECT DISTINCT c
+		FROM PublicUserLessonEntity pl
+		    JOIN pl.lessonEntity l
+		    JOIN l.course c
+		WHERE pl.userId = :userId
+		""")
+	List<CourseEntity> findAllWhereUserIsSubscribed(@Param("userId") int userId);
+
+	@Query("""
+		SELECT DISTINCT c
+		FROM CourseEntity c
+		    LEFT JOIN FETCH c.languages
+		WHERE c.id IN (:ids)
+		""")
+	List<CourseEntity> fetchLanguagesByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("""
+		SELECT DISTINCT c
+		FROM CourseEntity c
+		    LEFT JOIN FETCH c.lessons
+		WHERE c.id IN (:ids)
+		""")
+	List<CourseEntity> fetchLessonsByIdIn(@Param("ids") Collection<Integer> ids);
+
+	interface CategoryCourseRow {
+		Integer getCategoryId();
+
+		Integer getCourseId();
+	}
+
+	interface TitleAuthorRow {
+		String getTitle();
+
+		String getAuthor();
+	}
 }
 
@@ -0,0 +1,11 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.core.domain.CourseQuery;
+import com.knowy.persistence.adapter.jpa.entity.CourseEntity;
+
+import java.util.List;
+
+public interface JpaCourseQueryDao {
+
+	List<CourseEntity> findAll(CourseQuery query, int limit);
+}
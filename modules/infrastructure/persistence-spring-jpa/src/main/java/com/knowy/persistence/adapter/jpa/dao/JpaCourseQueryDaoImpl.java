@@ -0,0 +1,89 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.core.domain.CourseCursor;
+import com.knowy.core.domain.CourseQuery;
+import com.knowy.core.domain.CourseSort;
+import com.knowy.persistence.adapter.jpa.entity.CourseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a slice of the catalog with a single query built from a {@link CourseQuery}.
+ * <p>
+ * Only the predicates the query needs are added, so each combination of filters gets a plain, index-friendly plan:
+ * the category and the subscriptions of the user are checked with {@code EXISTS} / {@code NOT EXISTS} subqueries, and
+ * the slice starts with a row comparison on the sort key and the ID instead of an offset.
+ */
+public class JpaCourseQueryDaoImpl implements JpaCourseQueryDao {
+
+	private static final String HAS_CATEGORY = """
+		EXISTS (
+		    SELECT 1
+		    FROM c.languages lang
+		    WHERE lang.id = :categoryId
+		)""";
+
+	private static final String NOT_SUBSCRIBED = """
+		NOT EXISTS (
+		    SELECT 1
+		    FROM PublicUserLessonEntity pul
+		        JOIN pul.lessonEntity l
+		    WHERE pul.userId = :userId
+		        AND l.course = c
+		)""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<CourseEntity> findAll(CourseQuery query, int limit) {
+		CourseSort sort = query.sort();
+		CourseCursor after = query.after();
+
+		List<String> conditions = new ArrayList<>();
+		if (query.categoryId() != null) {
+			conditions.add(HAS_CATEGORY);
+		}
+		if (query.excludedSubscriberId() != null) {
+			conditions.add(NOT_SUBSCRIBED);
+		}
+		if (after != null) {
+			String comparison = sort.ascending() ? ">" : "<";
+			conditions.add(sort.byTitle()
+				? "(c.title, c.id) " + comparison + " (:afterTitle, :afterId)"
+				: "c.id " + comparison + " :afterId");
+		}
+
+		StringBuilder jpql = new StringBuilder("SELECT c FROM CourseEntity c");
+		if (!conditions.isEmpty()) {
+			jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+		}
+
+		String direction = sort.ascending() ? "ASC" : "DESC";
+		jpql.append(" ORDER BY ");
+		if (sort.byTitle()) {
+			jpql.append("c.title ").append(direction).append(", ");
+		}
+		jpql.append("c.id ").append(direction);
+
+		TypedQuery<CourseEntity> typedQuery = entityManager.createQuery(jpql.toString(), CourseEntity.class)
+			.setMaxResults(limit);
+		if (query.categoryId() != null) {
+			typedQuery.setParameter("categoryId", query.categoryId());
+		}
+		if (query.excludedSubscriberId() != null) {
+			typedQuery.setParameter("userId", query.excludedSubscriberId());
+		}
+		if (after != null) {
+			typedQuery.setParameter("afterId", after.id());
+			if (sort.byTitle()) {
+				typedQuery.setParameter("afterTitle", after.title());
+			}
+		}
+		return typedQuery.getResultList();
+	}
+}
@@ -1,11 +1,14 @@
 package com.knowy.persistence.adapter.jpa.dao;
 
 import com.knowy.persistence.adapter.jpa.entity.ExerciseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +21,73 @@ public interface JpaExerciseDao extends JpaRepository<ExerciseEntity, Integer> {
 		WHERE o.id = :optionId
 		""")
 	Optional<ExerciseEntity> findByOptionId(@Param("optionId") int optionId);
+
+	@Query("""
+		SELECT DISTINCT e
+		FROM PublicUserLessonEntity pl
+		JOIN pl.lessonEntity l
+		JOIN l.exercises e
+		LEFT JOIN FETCH e.options
+		WHERE pl.userId = :userId AND pl.status <> 'pending'
+		""")
+	List<ExerciseEntity> findAllInStartedLessonsByUserId(@Param("userId") int userId);
+
+	@Query("""
+		SELECT DISTINCT e
+		FROM ExerciseEntity e
+		LEFT JOIN FETCH e.options
+		WHERE e.lesson.course.id IN (:courseIds)
+		""")
+	List<ExerciseEntity> fetchOptionsByCourseIdIn(@Param("courseIds") Collection<Integer> courseIds);
+
+	@Query(value = """
+		SELECT e.id AS exercise_id,
+		       e.id_lesson AS lesson_id,
+		       c.title AS course_title,
+		       e.statement AS statement,
+		       coalesce(pue.rate, 0) AS rate,
+		       o.id AS option_id,
+		       o.option_text AS option_text,
+		       o.is_correct AS option_correct
+		FROM exercise e
+		    JOIN lesson l ON l.id = e.id_lesson
+		    JOIN course c ON c.id = l.id_course
+		    JOIN public_user_lesson pul ON pul.id_lesson = l.id AND pul.id_public_user = :userId
+		    LEFT JOIN public_user_exercise pue ON pue.id_exercise = e.id AND pue.id_public_user = :userId
+		    LEFT JOIN option o ON o.id_exercise = e.id
+		WHERE e.id = :exerciseId
+		ORDER BY o.id
+		""", nativeQuery = true)
+	List<ExercisePageRow> findPageRowsByUserIdAndExerciseId(
+		@Param("userId") int userId,
+		@Param("exerciseId") int exerciseId
+	);
+
+	/**
+	 * A row of {@link #findPageRowsByUserIdAndExerciseId(int, int)}. The columns are read by their snake_case alias, as
+	 * PostgreSQL folds unquoted aliases to lower case.
+	 */
+	interface ExercisePageRow {
+		@Value("#{target.exercise_id}")
+		Integer getExerciseId();
+
+		@Value("#{target.lesson_id}")
+		Integer getLessonId();
+
+		@Value("#{target.course_title}")
+		String getCourseTitle();
+
+		String getStatement();
+
+		Integer getRate();
+
+		@Value("#{target.option_id}")
+		Integer getOptionId();
+
+		@Value("#{target.option_text}")
+		String getOptionText();
+
+		@Value("#{target.option_correct}")
+		Boolean getOptionCorrect();
+	}
 }
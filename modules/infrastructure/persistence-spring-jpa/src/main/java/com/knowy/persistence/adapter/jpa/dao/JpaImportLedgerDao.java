@@ -0,0 +1,9 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.ImportLedgerEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaImportLedgerDao extends JpaRepository<ImportLedgerEntity, String> {
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -31,4 +32,20 @@ public interface JpaLessonDao extends JpaRepository<LessonEntity, Integer> {
 	List<LessonEntity> findAllByDocumentationId(@Param("id") int documentationId);
 
 	int countByCourseId(Integer courseId);
+
+	@Query("""
+		SELECT DISTINCT l
+		FROM LessonEntity l
+		    LEFT JOIN FETCH l.documentations
+		WHERE l.course.id IN (:courseIds)
+		""")
+	List<LessonEntity> fetchDocumentationsByCourseIdIn(@Param("courseIds") Collection<Integer> courseIds);
+
+	@Query("""
+		SELECT DISTINCT l
+		FROM LessonEntity l
+		    LEFT JOIN FETCH l.exercises
+		WHERE l.course.id IN (:courseIds)
+		""")
+	List<LessonEntity> fetchExercisesByCourseIdIn(@Param("courseIds") Collection<Integer> courseIds);
 }
@@ -0,0 +1,13 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseEntity;
+import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseId;
+
+import java.util.Collection;
+
+public interface JpaUserExerciseBatchDao {
+
+	void upsertAll(Collection<PublicUserExerciseEntity> userExercises);
+
+	void detachAll(Collection<PublicUserExerciseId> ids);
+}
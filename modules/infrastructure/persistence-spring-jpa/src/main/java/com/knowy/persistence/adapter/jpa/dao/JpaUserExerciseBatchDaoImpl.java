@@ -0,0 +1,72 @@
+package com.knowy.persistence.adapter.jpa.dao;
+
+import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseEntity;
+import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+
+/**
+ * Writes user exercise progress through a single JDBC batch, bypassing the persistence context. Progress without a next
+ * review is stored as due now, as the column default does for plain inserts. The written rows are detached afterwards
+ * so that later reads in the same session see the stored values.
+ */
+public class JpaUserExerciseBatchDaoImpl implements JpaUserExerciseBatchDao {
+
+	private static final String UPSERT = """
+		INSERT INTO public_user_exercise (id_public_user, id_exercise, rate, next_review)
+		VALUES (?, ?, ?, COALESCE(?, current_timestamp))
+		ON CONFLICT (id_public_user, id_exercise)
+		DO UPDATE SET
+		    rate = EXCLUDED.rate,
+		    next_review = EXCLUDED.next_review
+		""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public void upsertAll(Collection<PublicUserExerciseEntity> userExercises) {
+		if (userExercises.isEmpty()) {
+			return;
+		}
+
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+				for (PublicUserExerciseEntity userExercise : userExercises) {
+					statement.setInt(1, userExercise.getId().getIdPublicUser());
+					statement.setInt(2, userExercise.getId().getIdExercise());
+					statement.setInt(3, userExercise.getRate());
+					if (userExercise.getNextReview() == null) {
+						statement.setNull(4, Types.TIMESTAMP);
+					} else {
+						statement.setTimestamp(4, Timestamp.valueOf(userExercise.getNextReview()));
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		});
+		detachAll(userExercises.stream().map(PublicUserExerciseEntity::getId).toList());
+	}
+
+	/**
+	 * Detaches the progress entities with the given IDs, if the persistence context holds them, without loading any
+	 * of them. Only those rows are dropped; every other entity of the session stays managed.
+	 *
+	 * @param ids the IDs of the rows written behind the persistence context
+	 */
+	@Override
+	public void detachAll(Collection<PublicUserExerciseId> ids) {
+		for (PublicUserExerciseId id : ids) {
+			entityManager.detach(entityManager.getReference(PublicUserExerciseEntity.class, id));
+		}
+	}
+}
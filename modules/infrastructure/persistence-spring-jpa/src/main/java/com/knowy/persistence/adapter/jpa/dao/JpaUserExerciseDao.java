@@ -3,20 +3,41 @@ package com.knowy.persistence.adapter.jpa.dao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseEntity;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JpaUserExerciseDao extends JpaRepository<PublicUserExerciseEntity, PublicUserExerciseId> {
+public interface JpaUserExerciseDao extends JpaRepository<PublicUserExerciseEntity, PublicUserExerciseId>,
+	JpaUserExerciseBatchDao {
 
 	@NonNull
 	<S extends PublicUserExerciseEntity> S save(@NonNull S publicUserExerciseEntity);
 
+	@Modifying(flushAutomatically = true)
+	@Transactional
+	@Query(value = """
+		INSERT INTO public_user_exercise (id_public_user, id_exercise, rate, next_review)
+		VALUES (:userId, :exerciseId, :rate, :nextReview)
+		ON CONFLICT (id_public_user, id_exercise)
+		DO UPDATE SET
+		    rate = EXCLUDED.rate,
+		    next_review = EXCLUDED.next_review
+		""", nativeQuery = true)
+	void upsert(
+		@Param("userId") int userId,
+		@Param("exerciseId") int exerciseId,
+		@Param("rate") int rate,
+		@Param("nextReview") LocalDateTime nextReview
+	);
+
 	@NonNull
 	Optional<PublicUserExerciseEntity> findById(@NonNull PublicUserExerciseId id);
 
@@ -32,6 +53,16 @@ public interface JpaUserExerciseDao extends JpaRepository<PublicUserExerciseEnti
 		""")
 	List<PublicUserExerciseEntity> findAllByUserIdAndLessonId(@Param("userId") int userId, @Param("lessonId") int lessonId);
 
+	@Query("""
+		SELECT pue
+		FROM PublicUserExerciseEntity pue
+		    JOIN pue.exerciseEntity e
+		    JOIN PublicUserLessonEntity pl
+		        ON pl.lessonId = e.lesson.id AND pl.userId = pue.id.idPublicUser
+		WHERE pue.id.idPublicUser = :userId AND pl.status <> 'pending'
+		""")
+	List<PublicUserExerciseEntity> findAllInStartedLessonsByUserId(@Param("userId") int userId);
+
 	@Query(value = """
 		SELECT
 		    pl.id_public_user AS id_public_user,
@@ -58,6 +58,18 @@ public interface JpaUserLessonDao extends JpaRepository<PublicUserLessonEntity,
 		""")
 	List<PublicUserLessonEntity> findAllByUserIdAndCourseId(@Param("userId") int userId, @Param("courseId") int courseId);
 
+	@Query("""
+		SELECT pul.lessonId AS lessonId, pul.status AS status
+		FROM PublicUserLessonEntity pul
+		    JOIN pul.lessonEntity l
+		WHERE pul.userId = :userId
+		    AND l.course.id = :courseId
+		""")
+	List<LessonStatusRow> findAllLessonStatusesByUserIdAndCourseId(
+		@Param("userId") int userId,
+		@Param("courseId") int courseId
+	);
+
 	@Query("""
 		SELECT pul
 		FROM PublicUserLessonEntity pul
@@ -65,4 +77,33 @@ public interface JpaUserLessonDao extends JpaRepository<PublicUserLessonEntity,
 		WHERE pul.userId = :userId
 		""")
 	List<PublicUserLessonEntity> findAllWhereUserIsSubscribed(@Param("userId") int userId);
+
+	@Query("""
+		SELECT l.course.id AS courseId,
+		    SUM(CASE WHEN pul.status = 'pending' THEN 1 ELSE 0 END) AS pendingLessons,
+		    SUM(CASE WHEN pul.status = 'in_progress' THEN 1 ELSE 0 END) AS inProgressLessons,
+		    SUM(CASE WHEN pul.status = 'completed' THEN 1 ELSE 0 END) AS completedLessons
+		FROM PublicUserLessonEntity pul
+		    JOIN pul.lessonEntity l
+		WHERE pul.userId = :userId
+		GROUP BY l.course.id
+		ORDER BY l.course.id
+		""")
+	List<CourseProgressRow> findAllCourseProgressByUserId(@Param("userId") int userId);
+
+	interface CourseProgressRow {
+		Integer getCourseId();
+
+		Long getPendingLessons();
+
+		Long getInProgressLessons();
+
+		Long getCompletedLessons();
+	}
+
+	interface LessonStatusRow {
+		Integer getLessonId();
+
+		String getStatus();
+	}
 }
@@ -0,0 +1,34 @@
+package com.knowy.persistence.adapter.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_ledger")
+public class ImportLedgerEntity {
+
+	@Id
+	@Column(name = "source", nullable = false)
+	private String source;
+
+	@Column(name = "checksum", length = 64, nullable = false)
+	private String checksum;
+
+	@Column(name = "schema_version", length = 64, nullable = false)
+	private String schemaVersion;
+
+	@Column(name = "imported_at", nullable = false)
+	private LocalDateTime importedAt;
+}
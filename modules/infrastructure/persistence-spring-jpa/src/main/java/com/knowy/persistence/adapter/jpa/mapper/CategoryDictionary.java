@@ -0,0 +1,88 @@
+package com.knowy.persistence.adapter.jpa.mapper;
+
+import com.knowy.core.domain.Category;
+import com.knowy.core.exception.KnowyInconsistentDataException;
+import com.knowy.persistence.adapter.jpa.dao.JpaCategoryDao;
+import com.knowy.persistence.adapter.jpa.entity.CategoryEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The stored categories by name, shared by every batch of courses that is saved. Names are matched exactly, as the
+ * unique constraint on the stored names does.
+ * <p>
+ * Only the names that are not known yet are resolved against the database, all of them with a single statement that
+ * also inserts the missing ones. Categories read or inserted within a transaction are only added to the dictionary once
+ * it commits, so a rolled back insert never leaves an unknown ID behind. Categories are never removed from it, as the
+ * application does not delete them.
+ */
+final class CategoryDictionary {
+
+	private final JpaCategoryDao jpaCategoryDao;
+	private final Map<String, Category> categories = new ConcurrentHashMap<>();
+
+	CategoryDictionary(JpaCategoryDao jpaCategoryDao) {
+		this.jpaCategoryDao = jpaCategoryDao;
+	}
+
+	/**
+	 * Resolves the given category names, inserting the ones that are not stored yet.
+	 *
+	 * @param names the category names, possibly repeated
+	 * @return a new, unshared category entity for each distinct name, by name
+	 * @throws KnowyInconsistentDataException if a category can neither be read nor inserted
+	 */
+	Map<String, CategoryEntity> resolveAll(Collection<String> names) throws KnowyInconsistentDataException {
+		Map<String, CategoryEntity> resolved = new HashMap<>();
+		Set<String> unknownNames = new HashSet<>();
+		for (String name : names) {
+			Category category = categories.get(name);
+			if (category != null) {
+				resolved.putIfAbsent(name, new CategoryEntity(category.id(), category.name(), null));
+			} else {
+				unknownNames.add(name);
+			}
+		}
+		if (unknownNames.isEmpty()) {
+			return resolved;
+		}
+
+		List<Category> stored = new ArrayList<>();
+		for (CategoryEntity entity : jpaCategoryDao.insertMissingByName(unknownNames)) {
+			if (unknownNames.contains(entity.getName()) && resolved.putIfAbsent(entity.getName(), entity) == null) {
+				stored.add(new Category(entity.getId(), entity.getName()));
+			}
+		}
+		for (String name : unknownNames) {
+			if (!resolved.containsKey(name)) {
+				throw new KnowyInconsistentDataException("The category cannot be stored: " + name);
+			}
+		}
+
+		addAfterCommit(stored);
+		return resolved;
+	}
+
+	private void addAfterCommit(List<Category> stored) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			add(stored);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				add(stored);
+			}
+		});
+	}
+
+	private void add(List<Category> stored) {
+		for (Category category : stored) {
+			categories.putIfAbsent(category.name(), category);
+		}
+	}
+}
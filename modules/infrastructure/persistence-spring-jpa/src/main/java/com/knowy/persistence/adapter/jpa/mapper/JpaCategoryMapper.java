@@ -6,16 +6,16 @@ import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.persistence.adapter.jpa.dao.JpaCategoryDao;
 import com.knowy.persistence.adapter.jpa.entity.CategoryEntity;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public class JpaCategoryMapper implements EntityMapper<Category, CategoryEntity> {
 
-	private final JpaCategoryDao jpaCategoryDao;
-	private final Map<CategoryEntity, CategoryEntity> categories;
+	private final CategoryDictionary categoryDictionary;
 
 	public JpaCategoryMapper(JpaCategoryDao jpaCategoryDao) {
-		this.jpaCategoryDao = jpaCategoryDao;
-		this.categories = new HashMap<>();
+		this.categoryDictionary = new CategoryDictionary(jpaCategoryDao);
 	}
 
 	@Override
@@ -31,20 +31,37 @@ public class JpaCategoryMapper implements EntityMapper<Category, CategoryEntity>
 		return categoryEntity;
 	}
 
-	public <T extends CategoryData> CategoryEntity toEntity(T domain) throws KnowyInconsistentDataException {
-		CategoryEntity newCategory = new CategoryEntity();
-		newCategory.setName(domain.name());
-
-		if (categories.containsKey(newCategory)) {
-			return categories.get(newCategory);
-		}
+	/**
+	 * Resolves the given categories by name, inserting the ones that are not stored yet with a single
+	 * statement. Names resolved before, by this or an earlier call, are taken from a dictionary shared by every call.
+	 *
+	 * @param domains the categories to resolve, possibly repeated
+	 * @return the stored categories by name, to be passed to {@link #toEntity(CategoryData, Map)}
+	 * @throws KnowyInconsistentDataException if a category can neither be read nor inserted
+	 */
+	public Map<String, CategoryEntity> resolveAll(Collection<? extends CategoryData> domains)
+		throws KnowyInconsistentDataException {
+		List<String> names = domains.stream()
+			.map(CategoryData::name)
+			.toList();
+		return categoryDictionary.resolveAll(names);
+	}
 
-		Optional<CategoryEntity> databaseCategory = jpaCategoryDao.findByName(domain.name());
-		if (databaseCategory.isPresent()) {
-			return databaseCategory.get();
+	/**
+	 * Takes the stored category with the name of the given one.
+	 *
+	 * @param domain     the category data to map
+	 * @param categories the categories returned by {@link #resolveAll(Collection)} for a collection holding this one
+	 * @param <T>        the type of the category data
+	 * @return the stored category
+	 * @throws KnowyInconsistentDataException if the category has not been resolved
+	 */
+	public <T extends CategoryData> CategoryEntity toEntity(T domain, Map<String, CategoryEntity> categories)
+		throws KnowyInconsistentDataException {
+		CategoryEntity category = categories.get(domain.name());
+		if (category == null) {
+			throw new KnowyInconsistentDataException("The category has not been resolved: " + domain.name());
 		}
-
-		categories.put(newCategory, newCategory);
-		return newCategory;
+		return category;
 	}
 }
@@ -2,7 +2,6 @@ package com.knowy.persistence.adapter.jpa.mapper;
 
 import com.knowy.core.domain.*;
 import com.knowy.core.exception.KnowyInconsistentDataException;
-import com.knowy.persistence.adapter.jpa.dao.JpaCategoryDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaCourseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
@@ -13,21 +12,29 @@ import com.knowy.persistence.adapter.jpa.entity.LessonEntity;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class JpaCourseMapper implements EntityMapper<Course, CourseEntity> {
 
 	private final JpaCategoryMapper jpaCategoryMapper;
 	private final JpaLessonMapper jpaLessonMapper;
+	private final JpaCourseDao jpaCourseDao;
+	private final JpaLessonDao jpaLessonDao;
+	private final JpaExerciseDao jpaExerciseDao;
 
 	public JpaCourseMapper(
-		JpaCategoryDao jpaCategoryDao,
-		JpaLessonDao jpaLessonDao,
+		JpaCategoryMapper jpaCategoryMapper,
+		JpaLessonMapper jpaLessonMapper,
 		JpaCourseDao jpaCourseDao,
+		JpaLessonDao jpaLessonDao,
 		JpaExerciseDao jpaExerciseDao
 	) {
-		this.jpaCategoryMapper = new JpaCategoryMapper(jpaCategoryDao);
-		this.jpaLessonMapper = new JpaLessonMapper(jpaCourseDao, jpaLessonDao, jpaExerciseDao);
+		this.jpaCategoryMapper = jpaCategoryMapper;
+		this.jpaLessonMapper = jpaLessonMapper;
+		this.jpaCourseDao = jpaCourseDao;
+		this.jpaLessonDao = jpaLessonDao;
+		this.jpaExerciseDao = jpaExerciseDao;
 	}
 
 	@Override
@@ -44,8 +51,38 @@ public class JpaCourseMapper implements EntityMapper<Course, CourseEntity> {
 		);
 	}
 
+	/**
+	 * Maps a list of courses together with their whole lesson, documentation, exercise and option tree.
+	 * <p>
+	 * Rather than letting {@link #toDomain(CourseEntity)} initialize every lazy collection on its own, the collections
+	 * of all the given courses are fetched one level at a time, so the whole tree is read with a fixed number of
+	 * queries whatever its size. Must be called inside a transaction, so that the fetched collections are attached to
+	 * the given entities.
+	 *
+	 * @param entities the course entities to map
+	 * @return the mapped courses, in the same order as the given entities
+	 */
+	public List<Course> toDomainAggregates(List<CourseEntity> entities) {
+		if (entities.isEmpty()) {
+			return List.of();
+		}
+
+		List<Integer> courseIds = entities.stream()
+			.map(CourseEntity::getId)
+			.toList();
+		jpaCourseDao.fetchLanguagesByIdIn(courseIds);
+		jpaCourseDao.fetchLessonsByIdIn(courseIds);
+		jpaLessonDao.fetchDocumentationsByCourseIdIn(courseIds);
+		jpaLessonDao.fetchExercisesByCourseIdIn(courseIds);
+		jpaExerciseDao.fetchOptionsByCourseIdIn(courseIds);
+
+		return entities.stream()
+			.map(this::toDomain)
+			.toList();
+	}
+
 	@Override
-	public CourseEntity toEntity(Course domain) throws KnowyInconsistentDataException {
+	public CourseEntity toEntity(Course domain) {
 		List<LessonEntity> lessonEntities = new ArrayList<>();
 		for (Lesson lesson : domain.lessons()) {
 			LessonEntity entity = jpaLessonMapper.toEntity(lesson);
@@ -66,13 +103,38 @@ public class JpaCourseMapper implements EntityMapper<Course, CourseEntity> {
 		);
 	}
 
-	public <T extends CourseUnidentifiedData> CourseEntity toEntity(T domain) throws KnowyInconsistentDataException {
+	/**
+	 * Maps a batch of new courses, resolving the distinct categories of the whole batch at once through
+	 * {@link JpaCategoryMapper#resolveAll(Collection)} rather than one by one.
+	 *
+	 * @param domains the courses to map
+	 * @param <T>     the type of the course data
+	 * @return the unsaved course entities, in the same order as the given courses
+	 * @throws KnowyInconsistentDataException if a category cannot be resolved
+	 */
+	public <T extends CourseUnidentifiedData> List<CourseEntity> toEntities(List<T> domains)
+		throws KnowyInconsistentDataException {
+		List<CategoryData> categoryData = new ArrayList<>();
+		for (T domain : domains) {
+			categoryData.addAll(domain.categories());
+		}
+		Map<String, CategoryEntity> categories = jpaCategoryMapper.resolveAll(categoryData);
+
+		List<CourseEntity> courses = new ArrayList<>();
+		for (T domain : domains) {
+			courses.add(toEntity(domain, categories));
+		}
+		return courses;
+	}
+
+	public <T extends CourseUnidentifiedData> CourseEntity toEntity(T domain, Map<String, CategoryEntity> categories)
+		throws KnowyInconsistentDataException {
 		CourseEntity course = new CourseEntity();
 
-		List<CategoryEntity> categories = new ArrayList<>();
+		List<CategoryEntity> courseCategories = new ArrayList<>();
 		for (CategoryData categoryData : domain.categories()) {
-			CategoryEntity entity = jpaCategoryMapper.toEntity(categoryData);
-			categories.add(entity);
+			CategoryEntity entity = jpaCategoryMapper.toEntity(categoryData, categories);
+			courseCategories.add(entity);
 		}
 
 		course.setId(null);
@@ -81,7 +143,7 @@ public class JpaCourseMapper implements EntityMapper<Course, CourseEntity> {
 		course.setImage(domain.image());
 		course.setAuthor(domain.author());
 		course.setCreationDate(domain.creationDate());
-		course.setLanguages(categories);
+		course.setLanguages(courseCategories);
 		course.setLessons(mapLessonsInReverse(domain.lessons(), course));
 
 		return course;
@@ -4,8 +4,6 @@ import com.knowy.core.domain.Exercise;
 import com.knowy.core.domain.ExerciseUnidentifiedData;
 import com.knowy.core.domain.Option;
 import com.knowy.core.domain.OptionData;
-import com.knowy.core.exception.KnowyInconsistentDataException;
-import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.entity.ExerciseEntity;
 import com.knowy.persistence.adapter.jpa.entity.LessonEntity;
@@ -19,8 +17,8 @@ public class JpaExerciseMapper implements EntityMapper<Exercise, ExerciseEntity>
 	private final JpaOptionMapper jpaOptionMapper;
 	private final JpaLessonDao jpaLessonDao;
 
-	public JpaExerciseMapper(JpaExerciseDao jpaExerciseDao, JpaLessonDao jpaLessonDao) {
-		this.jpaOptionMapper = new JpaOptionMapper(jpaExerciseDao);
+	public JpaExerciseMapper(JpaOptionMapper jpaOptionMapper, JpaLessonDao jpaLessonDao) {
+		this.jpaOptionMapper = jpaOptionMapper;
 		this.jpaLessonDao = jpaLessonDao;
 	}
 
@@ -37,22 +35,19 @@ public class JpaExerciseMapper implements EntityMapper<Exercise, ExerciseEntity>
 	}
 
 	@Override
-	public ExerciseEntity toEntity(Exercise domain) throws KnowyInconsistentDataException {
+	public ExerciseEntity toEntity(Exercise domain) {
+		ExerciseEntity exercise = new ExerciseEntity();
+		exercise.setId(domain.id());
+		exercise.setLesson(jpaLessonDao.getReferenceById(domain.lessonId()));
+		exercise.setQuestion(domain.statement());
+
 		List<OptionEntity> optionEntities = new ArrayList<>();
 		for (Option option : domain.options()) {
-			OptionEntity entity = jpaOptionMapper.toEntity(option);
-			optionEntities.add(entity);
+			optionEntities.add(jpaOptionMapper.toEntity(option, exercise));
 		}
+		exercise.setOptions(optionEntities);
 
-		return new ExerciseEntity(
-			domain.id(),
-			jpaLessonDao.findById(domain.lessonId())
-				.orElseThrow(() -> new KnowyInconsistentDataException(
-					"Lesson with ID " + domain.lessonId() + " not found")
-				),
-			domain.statement(),
-			optionEntities
-		);
+		return exercise;
 	}
 
 	public <T extends ExerciseUnidentifiedData> ExerciseEntity toEntity(T domain, LessonEntity lesson) {
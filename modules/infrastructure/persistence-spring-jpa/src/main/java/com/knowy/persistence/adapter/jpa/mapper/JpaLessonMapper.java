@@ -3,7 +3,6 @@ package com.knowy.persistence.adapter.jpa.mapper;
 import com.knowy.core.domain.*;
 import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.persistence.adapter.jpa.dao.JpaCourseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.entity.CourseEntity;
 import com.knowy.persistence.adapter.jpa.entity.DocumentationEntity;
@@ -23,12 +22,13 @@ public class JpaLessonMapper implements EntityMapper<Lesson, LessonEntity> {
 	private final JpaLessonDao jpaLessonDao;
 
 	public JpaLessonMapper(
+		JpaDocumentationMapper jpaDocumentationMapper,
+		JpaExerciseMapper jpaExerciseMapper,
 		JpaCourseDao jpaCourseDao,
-		JpaLessonDao jpaLessonDao,
-		JpaExerciseDao jpaExerciseDao
+		JpaLessonDao jpaLessonDao
 	) {
-		this.jpaDocumentationMapper = new JpaDocumentationMapper(jpaLessonDao);
-		this.jpaExerciseMapper = new JpaExerciseMapper(jpaExerciseDao, jpaLessonDao);
+		this.jpaDocumentationMapper = jpaDocumentationMapper;
+		this.jpaExerciseMapper = jpaExerciseMapper;
 		this.jpaCourseDao = jpaCourseDao;
 		this.jpaLessonDao = jpaLessonDao;
 	}
@@ -53,7 +53,7 @@ public class JpaLessonMapper implements EntityMapper<Lesson, LessonEntity> {
 	}
 
 	@Override
-	public LessonEntity toEntity(Lesson domain) throws KnowyInconsistentDataException {
+	public LessonEntity toEntity(Lesson domain) {
 		List<ExerciseEntity> exerciseEntities = new ArrayList<>();
 		for (Exercise exercise : domain.exercises()) {
 			ExerciseEntity entity = jpaExerciseMapper.toEntity(exercise);
@@ -62,12 +62,10 @@ public class JpaLessonMapper implements EntityMapper<Lesson, LessonEntity> {
 
 		return new LessonEntity(
 			domain.id(),
-			jpaCourseDao.findById(domain.courseId()).orElseThrow(
-				() -> new KnowyInconsistentDataException("Course with ID " + domain.courseId() + " not found")),
-			jpaLessonDao.findById(domain.nextLessonId()).orElseThrow(
-				() -> new KnowyInconsistentDataException(
-					"Next Lesson with ID " + domain.nextLessonId() + " not found")
-			),
+			jpaCourseDao.getReferenceById(domain.courseId()),
+			Optional.ofNullable(domain.nextLessonId())
+				.map(jpaLessonDao::getReferenceById)
+				.orElse(null),
 			domain.title(),
 			domain.explanation(),
 			domain.documentations().stream()
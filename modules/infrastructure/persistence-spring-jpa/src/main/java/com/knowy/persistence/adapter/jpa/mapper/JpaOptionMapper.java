@@ -37,6 +37,10 @@ public class JpaOptionMapper implements EntityMapper<Option, OptionEntity> {
 		);
 	}
 
+	public OptionEntity toEntity(Option domain, ExerciseEntity exercise) {
+		return new OptionEntity(domain.id(), exercise, domain.value(), domain.isValid());
+	}
+
 	public <T extends OptionData> OptionEntity toEntity(T domain, ExerciseEntity exercise) {
 		OptionEntity option = new OptionEntity();
 		option.setId(null);
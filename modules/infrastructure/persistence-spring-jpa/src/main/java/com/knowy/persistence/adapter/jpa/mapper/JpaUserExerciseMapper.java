@@ -1,23 +1,20 @@
 package com.knowy.persistence.adapter.jpa.mapper;
 
 import com.knowy.core.domain.UserExercise;
-import com.knowy.core.exception.KnowyExerciseNotFoundException;
-import com.knowy.core.user.exception.KnowyUserNotFoundException;
 import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaUserDao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseEntity;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserExerciseId;
 
 public class JpaUserExerciseMapper implements EntityMapper<UserExercise, PublicUserExerciseEntity> {
+	private final JpaExerciseMapper jpaExerciseMapper;
 	private final JpaUserDao jpaUserDao;
 	private final JpaExerciseDao jpaExerciseDao;
-	private final JpaExerciseMapper jpaExerciseMapper;
 
-	public JpaUserExerciseMapper(JpaUserDao jpaUserDao, JpaExerciseDao jpaExerciseDao, JpaLessonDao jpaLessonDao) {
+	public JpaUserExerciseMapper(JpaExerciseMapper jpaExerciseMapper, JpaUserDao jpaUserDao, JpaExerciseDao jpaExerciseDao) {
+		this.jpaExerciseMapper = jpaExerciseMapper;
 		this.jpaUserDao = jpaUserDao;
 		this.jpaExerciseDao = jpaExerciseDao;
-		this.jpaExerciseMapper = new JpaExerciseMapper(jpaExerciseDao, jpaLessonDao);
 	}
 
 	@Override
@@ -31,17 +28,13 @@ public class JpaUserExerciseMapper implements EntityMapper<UserExercise, PublicU
 	}
 
 	@Override
-	public PublicUserExerciseEntity toEntity(UserExercise domain) throws KnowyUserNotFoundException,
-		KnowyExerciseNotFoundException {
+	public PublicUserExerciseEntity toEntity(UserExercise domain) {
 		return new PublicUserExerciseEntity(
 			new PublicUserExerciseId(domain.userId(), domain.exercise().id()),
 			domain.rate(),
 			domain.nextReview(),
-			jpaUserDao.findById(domain.userId())
-				.orElseThrow(() -> new KnowyUserNotFoundException("User with ID " + domain.userId() + " not found")),
-			jpaExerciseDao.findById(domain.exercise().id())
-				.orElseThrow(() -> new KnowyExerciseNotFoundException("Exercise with ID: " + domain.exercise().id() +
-					" not found"))
+			jpaUserDao.getReferenceById(domain.userId()),
+			jpaExerciseDao.getReferenceById(domain.exercise().id())
 		);
 	}
 }
@@ -1,10 +1,6 @@
 package com.knowy.persistence.adapter.jpa.mapper;
 
 import com.knowy.core.domain.UserLesson;
-import com.knowy.core.exception.KnowyLessonNotFoundException;
-import com.knowy.core.user.exception.KnowyUserNotFoundException;
-import com.knowy.persistence.adapter.jpa.dao.JpaCourseDao;
-import com.knowy.persistence.adapter.jpa.dao.JpaExerciseDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaLessonDao;
 import com.knowy.persistence.adapter.jpa.dao.JpaUserDao;
 import com.knowy.persistence.adapter.jpa.entity.PublicUserLessonEntity;
@@ -15,13 +11,8 @@ public class JpaUserLessonMapper implements EntityMapper<UserLesson, PublicUserL
 	private final JpaUserDao jpaUserDao;
 	private final JpaLessonDao jpaLessonDao;
 
-	public JpaUserLessonMapper(
-		JpaUserDao jpaUserDao,
-		JpaLessonDao jpaLessonDao,
-		JpaCourseDao jpaCourseDao,
-		JpaExerciseDao jpaExerciseDao
-	) {
-		this.jpaLessonMapper = new JpaLessonMapper(jpaCourseDao, jpaLessonDao, jpaExerciseDao);
+	public JpaUserLessonMapper(JpaLessonMapper jpaLessonMapper, JpaUserDao jpaUserDao, JpaLessonDao jpaLessonDao) {
+		this.jpaLessonMapper = jpaLessonMapper;
 		this.jpaUserDao = jpaUserDao;
 		this.jpaLessonDao = jpaLessonDao;
 	}
@@ -38,17 +29,14 @@ public class JpaUserLessonMapper implements EntityMapper<UserLesson, PublicUserL
 	}
 
 	@Override
-	public PublicUserLessonEntity toEntity(UserLesson domain) throws KnowyUserNotFoundException, KnowyLessonNotFoundException {
+	public PublicUserLessonEntity toEntity(UserLesson domain) {
 		return new PublicUserLessonEntity(
 			domain.userId(),
 			domain.lesson().id(),
 			domain.startDate(),
 			domain.status().name().toLowerCase(),
-			jpaUserDao.findById(domain.userId())
-				.orElseThrow(() -> new KnowyUserNotFoundException("User with ID: " + domain.userId() + " not found")),
-			jpaLessonDao.findById(domain.lesson().id())
-				.orElseThrow(() -> new KnowyLessonNotFoundException("Lesson with ID: " + domain.lesson().id() +
-					" not found"))
+			jpaUserDao.getReferenceById(domain.userId()),
+			jpaLessonDao.getReferenceById(domain.lesson().id())
 		);
 	}
 }
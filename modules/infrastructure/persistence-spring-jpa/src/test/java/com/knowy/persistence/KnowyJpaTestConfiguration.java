@@ -2,7 +2,7 @@ package com.knowy.persistence;
 
 import org.springframework.context.annotation.Import;
 
-@Import(KnowyJpaRepositoryAutoConfiguration.class)
+@Import({KnowyJpaMapperAutoConfiguration.class, KnowyJpaRepositoryAutoConfiguration.class})
 public class KnowyJpaTestConfiguration {
 
 }
@@ -20,12 +20,9 @@ import javax.sql.DataSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 
+import static com.knowy.persistence.adapter.jpa.CourseTreeFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -33,8 +30,6 @@ import static org.junit.jupiter.api.Assertions.*;
 @ContextConfiguration(classes = KnowyJpaTestConfiguration.class)
 class JpaCourseRepositoryTest {
 
-	private static final LocalDateTime FIXED_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
-
 	@Container
 	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
 
@@ -80,52 +75,6 @@ class JpaCourseRepositoryTest {
 		);
 	}
 
-	private ExerciseUnidentifiedData createInputExercise(int num) {
-		OptionData option1 = new OptionData.InmutableOptionData("Option value " + num, true);
-		OptionData option2 = new OptionData.InmutableOptionData("Option value " + (num + 1), false);
-
-		return new ExerciseData.InmutableExerciseData(
-			"Exercise statement " + num,
-			List.of(option1, option2)
-		);
-	}
-
-	private LessonUnidentifiedData createInputLesson(int num) {
-		DocumentationData documentation1 = new DocumentationData.InmutableDocumentationData(
-			"Documentation title " + num,
-			"Documentation link " + num
-		);
-		DocumentationData documentation2 = new DocumentationData.InmutableDocumentationData(
-			"Documentation title " + (num + 1),
-			"Documentation link " + (num + 1)
-		);
-		Set<DocumentationData> documentations = new LinkedHashSet<>();
-		documentations.add(documentation1);
-		documentations.add(documentation2);
-
-		return new LessonData.InmutableLessonData(
-			"Lesson title " + num,
-			"Lesson explanation " + num,
-			documentations,
-			Set.of(createInputExercise(num))
-		);
-	}
-
-	private CourseUnidentifiedData createInputCourse(int courseId, List<Integer> lessonsId) {
-		CategoryData category1 = new CategoryData.InmutableCategoryData("Category " + courseId);
-		CategoryData category2 = new CategoryData.InmutableCategoryData("Category " + (courseId + 1));
-
-		return new CourseData.InmutableCourseData(
-			"Course Title " + courseId,
-			"Course Description " + courseId,
-			"Course Image " + courseId,
-			"Course Author " + courseId,
-			FIXED_DATE,
-			Set.of(category1, category2),
-			Set.of(createInputLesson(lessonsId.getFirst()), createInputLesson(lessonsId.getLast()))
-		);
-	}
-
 	private void assertCourse(List<Course> courses, int expectedId, List<Integer> expectedLessonsId) {
 		Course course = courses.stream()
 			.filter(c -> c.title().equals("Course Title " + expectedId))
@@ -139,70 +88,4 @@ class JpaCourseRepositoryTest {
 			() -> assertLesson(course, expectedLessonsId.getLast())
 		);
 	}
-
-	private void assertCategory(Course course) {
-		Set<Category> categories = course.categories();
-
-		assertAll(
-			() -> assertEquals(2, course.categories().size()),
-			() -> assertTrue(categories.stream()
-					.allMatch(cat -> cat != null && cat.id() >= 0),
-				"All categories must be non-null and have a valid ID"
-			)
-		);
-	}
-
-	private void assertLesson(Course course, int expectedId) {
-		String expectedTitle = "Lesson title " + expectedId;
-
-		Lesson lesson = course.lessons().stream()
-			.filter(l -> expectedTitle.equals(l.title()))
-			.findFirst()
-			.orElseThrow(() -> new AssertionError("Lesson " + expectedId + " not found in course " + course.id()));
-
-		assertEquals(2, course.lessons().size(), "Course should have exactly 2 lessons");
-
-		assertAll("Validating lesson of course " + course.id(),
-			() -> assertEquals(course.id(), lesson.courseId(), "Lesson must belong to the course"),
-			() -> assertEquals(expectedTitle, lesson.title(), "Lesson title must match expected value"),
-			() -> assertLessonDocumentations(lesson),
-			() -> assertExercise(lesson)
-		);
-	}
-
-	private void assertLessonDocumentations(Lesson lesson) {
-		Set<Documentation> documentations = lesson.documentations();
-
-		assertAll("Documentation for lesson " + lesson.id(),
-			() -> assertEquals(2, documentations.size(), "Lesson must have exactly 2 documentations"),
-			() -> assertTrue(
-				documentations.stream().allMatch(doc -> doc != null && doc.id() >= 0),
-				"All documentations must be non-null and have a valid ID"
-			)
-		);
-	}
-
-	private void assertExercise(Lesson lesson) {
-		Exercise exercise = lesson.exercises().stream()
-			.findFirst()
-			.orElseThrow(() -> new AssertionError("Exercise not found"));
-
-		assertAll("Exercise of Lesson of Course " + lesson.courseId(),
-			() -> assertEquals(1, lesson.exercises().size(), "There must be 1 exercise"),
-			() -> assertTrue(exercise != null && exercise.id() >= 0),
-			() -> assertOptions(Objects.requireNonNull(exercise))
-		);
-	}
-
-	private void assertOptions(Exercise exercise) {
-		List<Option> options = exercise.options();
-
-		assertAll("Options of Exercise of Lesson " + exercise.lessonId(),
-			() -> assertEquals(2, options.size(), "There must be 2 options"),
-			() -> assertTrue(
-				options.stream().allMatch(opt -> opt != null && opt.id() >= 0),
-				"All options must be non-null and have a valid ID"
-			)
-		);
-	}
 }
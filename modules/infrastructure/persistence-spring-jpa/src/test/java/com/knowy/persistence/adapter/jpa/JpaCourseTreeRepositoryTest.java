@@ -0,0 +1,153 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.domain.*;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.persistence.KnowyJpaTestConfiguration;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static com.knowy.persistence.adapter.jpa.CourseTreeFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = KnowyJpaTestConfiguration.class)
+class JpaCourseTreeRepositoryTest {
+
+	private static final long MAX_COURSE_TREE_STATEMENTS = 6;
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	@Autowired
+	private CourseRepository jpaCourseRepository;
+
+	@Autowired
+	@Qualifier("jpaCourseRepository")
+	private CourseRepository uncachedCourseRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@DynamicPropertySource
+	static void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+	}
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		DataSource ds = new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@Test
+	void given_savedCourse_when_findById_then_loadWholeTreeWithConstantStatementCount() {
+		List<Course> saved = assertDoesNotThrow(
+			() -> jpaCourseRepository.saveAll(List.of(createInputCourse(5, List.of(10, 11))))
+		);
+		int courseId = saved.getFirst().id();
+
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.clear();
+
+		Course course = assertDoesNotThrow(() -> uncachedCourseRepository.findById(courseId)).orElseThrow();
+
+		assertAll(
+			() -> assertTrue(
+				statistics.getPrepareStatementCount() <= MAX_COURSE_TREE_STATEMENTS,
+				"Loading a course tree must not issue more than " + MAX_COURSE_TREE_STATEMENTS + " statements"
+			),
+			() -> assertCategory(course),
+			() -> assertLesson(course, 10),
+			() -> assertLesson(course, 11)
+		);
+	}
+
+	@Test
+	void given_categoryNames_when_saveInSeparateBatches_then_shareOnlyExactlyNamedCategory() {
+		CourseUnidentifiedData courseInput1 = createInputCourse(7, List.of(12, 13));
+		CourseUnidentifiedData courseInput2 = new CourseData.InmutableCourseData(
+			"Course Title 9",
+			"Course Description 9",
+			"Course Image 9",
+			"Course Author 9",
+			FIXED_DATE,
+			Set.of(
+				new CategoryData.InmutableCategoryData("Category 7"),
+				new CategoryData.InmutableCategoryData("CATEGORY 7")
+			),
+			Set.of(createInputLesson(14))
+		);
+
+		List<Course> first = assertDoesNotThrow(() -> jpaCourseRepository.saveAll(List.of(courseInput1)));
+		List<Course> second = assertDoesNotThrow(() -> jpaCourseRepository.saveAll(List.of(courseInput2)));
+
+		Category storedCategory = findCategory(first.getFirst(), "Category 7");
+		Category upperCaseCategory = findCategory(second.getFirst(), "CATEGORY 7");
+		assertAll(
+			() -> assertEquals(storedCategory, findCategory(second.getFirst(), "Category 7")),
+			() -> assertNotEquals(storedCategory.id(), upperCaseCategory.id(), "Names differing in case are distinct")
+		);
+	}
+
+	@Test
+	void given_idsOutOfOrder_when_findAllById_then_returnCoursesInRequestedOrder() {
+		List<Course> saved = assertDoesNotThrow(() -> jpaCourseRepository.saveAll(List.of(
+			createInputCourse(20, List.of(20, 21)),
+			createInputCourse(22, List.of(22, 23)),
+			createInputCourse(24, List.of(24, 25))
+		)));
+		List<Integer> ids = saved.stream()
+			.map(Course::id)
+			.sorted(Comparator.reverseOrder())
+			.toList();
+
+		List<Course> result = assertDoesNotThrow(() -> uncachedCourseRepository.findAllById(ids));
+
+		assertEquals(ids, result.stream().map(Course::id).toList());
+	}
+
+	private Category findCategory(Course course, String name) {
+		return course.categories().stream()
+			.filter(category -> category.name().equals(name))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("Category " + name + " not found in course " + course.id()));
+	}
+}
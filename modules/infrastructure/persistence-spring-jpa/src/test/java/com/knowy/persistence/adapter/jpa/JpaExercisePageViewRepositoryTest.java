@@ -0,0 +1,181 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.domain.*;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.ExercisePageViewRepository;
+import com.knowy.persistence.KnowyJpaTestConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = KnowyJpaTestConfiguration.class)
+class JpaExercisePageViewRepositoryTest {
+
+	private static final LocalDateTime FIXED_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	@Autowired
+	private ExercisePageViewRepository jpaExercisePageViewRepository;
+
+	@Autowired
+	private CourseRepository jpaCourseRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private int userId;
+	private Exercise exercise;
+
+	@DynamicPropertySource
+	static void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+	}
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		DataSource ds = new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@BeforeEach
+	void setUp() {
+		Integer imageId = jdbcTemplate.queryForObject(
+			"INSERT INTO profile_image (url) VALUES ('Image url') RETURNING id", Integer.class
+		);
+		userId = assertDoesNotThrow(() -> jdbcTemplate.queryForObject(
+			"INSERT INTO public_user (id_profile_image, nickname) VALUES (?, ?) RETURNING id",
+			Integer.class,
+			imageId,
+			"Nickname " + System.nanoTime()
+		));
+
+		List<Course> courses = assertDoesNotThrow(() -> jpaCourseRepository.saveAll(List.of(createInputCourse())));
+		exercise = courses.getFirst().lessons().iterator().next().exercises().iterator().next();
+		entityManager.clear();
+	}
+
+	@Test
+	void given_subscribedUserWithProgress_when_findByUserIdAndExerciseId_then_returnWholePage() {
+		subscribe(exercise.lessonId());
+		jdbcTemplate.update(
+			"INSERT INTO public_user_exercise (id_public_user, id_exercise, rate) VALUES (?, ?, ?)",
+			userId,
+			exercise.id(),
+			45
+		);
+
+		ExercisePageView page = assertDoesNotThrow(
+			() -> jpaExercisePageViewRepository.findByUserIdAndExerciseId(userId, exercise.id())
+		).orElseThrow();
+
+		List<Option> expectedOptions = exercise.options().stream()
+			.sorted(Comparator.comparingInt(Option::id))
+			.toList();
+		assertAll(
+			() -> assertEquals(exercise.id(), page.exerciseId()),
+			() -> assertEquals(exercise.lessonId(), page.lessonId()),
+			() -> assertEquals("Course Title", page.courseTitle()),
+			() -> assertEquals("Exercise statement", page.statement()),
+			() -> assertEquals(expectedOptions, page.options()),
+			() -> assertEquals(45, page.rate())
+		);
+	}
+
+	@Test
+	void given_subscribedUserWithoutProgress_when_findByUserIdAndExerciseId_then_returnZeroRate() {
+		subscribe(exercise.lessonId());
+
+		ExercisePageView page = assertDoesNotThrow(
+			() -> jpaExercisePageViewRepository.findByUserIdAndExerciseId(userId, exercise.id())
+		).orElseThrow();
+
+		assertAll(
+			() -> assertEquals(0, page.rate()),
+			() -> assertEquals(2, page.options().size())
+		);
+	}
+
+	@Test
+	void given_unsubscribedUser_when_findByUserIdAndExerciseId_then_returnEmpty() {
+		Optional<ExercisePageView> page = assertDoesNotThrow(
+			() -> jpaExercisePageViewRepository.findByUserIdAndExerciseId(userId, exercise.id())
+		);
+
+		assertTrue(page.isEmpty());
+	}
+
+	private void subscribe(int lessonId) {
+		jdbcTemplate.update(
+			"INSERT INTO public_user_lesson (id_public_user, id_lesson, status) VALUES (?, ?, 'in_progress')",
+			userId,
+			lessonId
+		);
+	}
+
+	private CourseUnidentifiedData createInputCourse() {
+		ExerciseUnidentifiedData exerciseData = new ExerciseData.InmutableExerciseData(
+			"Exercise statement",
+			List.of(
+				new OptionData.InmutableOptionData("Right option", true),
+				new OptionData.InmutableOptionData("Wrong option", false)
+			)
+		);
+		LessonUnidentifiedData lessonData = new LessonData.InmutableLessonData(
+			"Lesson title",
+			"Lesson explanation",
+			Set.of(),
+			Set.of(exerciseData)
+		);
+
+		return new CourseData.InmutableCourseData(
+			"Course Title",
+			"Course Description",
+			"Course Image",
+			"Course Author",
+			FIXED_DATE,
+			Set.of(new CategoryData.InmutableCategoryData("Category " + System.nanoTime())),
+			Set.of(lessonData)
+		);
+	}
+}
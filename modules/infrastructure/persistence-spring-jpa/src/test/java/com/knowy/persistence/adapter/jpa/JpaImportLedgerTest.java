@@ -0,0 +1,129 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.port.ImportLedger;
+import com.knowy.persistence.KnowyJpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = KnowyJpaTestConfiguration.class)
+class JpaImportLedgerTest {
+
+	private static final LocalDateTime FIXED_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	@Autowired
+	private ImportLedger jpaImportLedger;
+
+	private final ExecutorService lockers = Executors.newSingleThreadExecutor();
+
+	@DynamicPropertySource
+	static void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+	}
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		DataSource ds = new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@AfterEach
+	void tearDown() {
+		lockers.shutdownNow();
+	}
+
+	@Test
+	void given_savedEntry_when_findBySource_then_returnEntry() {
+		ImportLedger.Entry entry = new ImportLedger.Entry("courses.xml", "checksum", "schema", FIXED_DATE);
+
+		jpaImportLedger.save(entry);
+
+		assertEquals(Optional.of(entry), jpaImportLedger.findBySource("courses.xml"));
+	}
+
+	@Test
+	void given_savedEntry_when_saveSameSource_then_replaceEntry() {
+		jpaImportLedger.save(new ImportLedger.Entry("courses.xml", "old", "schema", FIXED_DATE));
+		ImportLedger.Entry entry = new ImportLedger.Entry("courses.xml", "new", "schema", FIXED_DATE.plusDays(1));
+
+		jpaImportLedger.save(entry);
+
+		ImportLedger.Entry stored = jpaImportLedger.findBySource("courses.xml").orElseThrow();
+		assertAll(
+			() -> assertEquals(entry, stored),
+			() -> assertTrue(stored.matches("new", "schema")),
+			() -> assertFalse(stored.matches("old", "schema"))
+		);
+	}
+
+	@Test
+	void given_unknownSource_when_findBySource_then_returnEmpty() {
+		assertTrue(jpaImportLedger.findBySource("unknown.xml").isEmpty());
+	}
+
+	@Test
+	void given_heldLock_when_lockSameSource_then_waitUntilReleased() throws Exception {
+		ImportLedger.Lock lock = jpaImportLedger.lock("course-import");
+		Future<?> second = lockers.submit(() -> {
+			jpaImportLedger.lock("course-import").close();
+			return null;
+		});
+
+		assertThrows(TimeoutException.class, () -> second.get(500, TimeUnit.MILLISECONDS));
+		lock.close();
+
+		assertDoesNotThrow(() -> second.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void given_heldLock_when_lockOtherSource_then_takeItWithoutWaiting() throws Exception {
+		try (ImportLedger.Lock lock = jpaImportLedger.lock("course-import")) {
+			Future<?> other = lockers.submit(() -> {
+				jpaImportLedger.lock("other-import").close();
+				return null;
+			});
+
+			assertDoesNotThrow(() -> other.get(10, TimeUnit.SECONDS));
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.knowy.persistence.adapter.jpa;
+
+import com.knowy.core.domain.*;
+import com.knowy.core.port.CourseRepository;
+import com.knowy.core.port.UserExerciseRepository;
+import com.knowy.persistence.KnowyJpaTestConfiguration;
+import com.knowy.persistence.adapter.jpa.entity.ExerciseEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers
+@ContextConfiguration(classes = KnowyJpaTestConfiguration.class)
+class JpaUserExerciseRepositoryTest {
+
+	private static final LocalDateTime FIXED_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17");
+
+	@Autowired
+	private UserExerciseRepository jpaUserExerciseRepository;
+
+	@Autowired
+	private CourseRepository jpaCourseRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private int userId;
+	private Exercise exercise;
+
+	@DynamicPropertySource
+	static void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+	}
+
+	@BeforeAll
+	static void setupDatabase() throws IOException {
+		DataSource ds = new DriverManagerDataSource(
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword()
+		);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+
+		Path sqlFile = Path.of("../../../scripts/init-postgresql/sql/00-create-table.sql");
+		String sql = Files.readString(sqlFile);
+		jdbcTemplate.execute(sql);
+	}
+
+	@BeforeEach
+	void setUp() {
+		Integer imageId = jdbcTemplate.queryForObject(
+			"INSERT INTO profile_image (url) VALUES ('Image url') RETURNING id", Integer.class
+		);
+		userId = assertDoesNotThrow(() -> jdbcTemplate.queryForObject(
+			"INSERT INTO public_user (id_profile_image, nickname) VALUES (?, ?) RETURNING id",
+			Integer.class,
+			imageId,
+			"Nickname " + System.nanoTime()
+		));
+
+		List<Course> courses = assertDoesNotThrow(() -> jpaCourseRepository.saveAll(List.of(createInputCourse())));
+		exercise = courses.getFirst().lessons().iterator().next().exercises().iterator().next();
+		entityManager.clear();
+	}
+
+	@Test
+	void given_newProgress_when_save_then_insertWithSingleStatement() {
+		UserExercise userExercise = new UserExercise(userId, exercise, 20, FIXED_DATE);
+
+		Statistics statistics = getStatistics();
+		statistics.clear();
+		UserExercise result = assertDoesNotThrow(() -> jpaUserExerciseRepository.save(userExercise));
+		long statements = statistics.getPrepareStatementCount();
+
+		UserExercise stored = assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id()))
+			.orElseThrow();
+		assertAll(
+			() -> assertEquals(1, statements, "Saving new progress must issue a single statement"),
+			() -> assertEquals(userExercise, result),
+			() -> assertEquals(20, stored.rate()),
+			() -> assertEquals(FIXED_DATE, stored.nextReview())
+		);
+	}
+
+	@Test
+	void given_existingProgress_when_save_then_updateWithSingleStatement() {
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(new UserExercise(userId, exercise, 20, FIXED_DATE)));
+		UserExercise updated = new UserExercise(userId, exercise, 45, FIXED_DATE.plusDays(3));
+
+		Statistics statistics = getStatistics();
+		statistics.clear();
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(updated));
+		long statements = statistics.getPrepareStatementCount();
+
+		UserExercise stored = assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id()))
+			.orElseThrow();
+		assertAll(
+			() -> assertEquals(1, statements, "Updating progress must issue a single statement"),
+			() -> assertEquals(45, stored.rate()),
+			() -> assertEquals(FIXED_DATE.plusDays(3), stored.nextReview())
+		);
+	}
+
+	@Test
+	void given_loadedProgress_when_save_then_readUpdatedProgress() {
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(new UserExercise(userId, exercise, 20, FIXED_DATE)));
+		UserExercise loaded = assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id()))
+			.orElseThrow();
+
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(new UserExercise(userId, exercise, 45, FIXED_DATE)));
+		UserExercise reloaded = assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id()))
+			.orElseThrow();
+
+		assertAll(
+			() -> assertEquals(20, loaded.rate()),
+			() -> assertEquals(45, reloaded.rate(), "A save must not leave a stale entity in the persistence context")
+		);
+	}
+
+	@Test
+	void given_otherManagedEntity_when_save_then_keepItManaged() {
+		ExerciseEntity exerciseEntity = entityManager.find(ExerciseEntity.class, exercise.id());
+
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(new UserExercise(userId, exercise, 20, FIXED_DATE)));
+
+		assertTrue(entityManager.contains(exerciseEntity), "A save must only detach the progress it wrote");
+	}
+
+	@Test
+	void given_loadedProgress_when_saveAll_then_readUpdatedProgress() {
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.save(new UserExercise(userId, exercise, 20, FIXED_DATE)));
+		assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id())).orElseThrow();
+
+		assertDoesNotThrow(
+			() -> jpaUserExerciseRepository.saveAll(List.of(new UserExercise(userId, exercise, 45, FIXED_DATE)))
+		);
+		UserExercise reloaded = assertDoesNotThrow(() -> jpaUserExerciseRepository.findById(userId, exercise.id()))
+			.orElseThrow();
+
+		assertEquals(45, reloaded.rate());
+	}
+
+	private Statistics getStatistics() {
+		return entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+	}
+
+	private CourseUnidentifiedData createInputCourse() {
+		ExerciseUnidentifiedData exerciseData = new ExerciseData.InmutableExerciseData(
+			"Exercise statement",
+			List.of(
+				new OptionData.InmutableOptionData("Right option", true),
+				new OptionData.InmutableOptionData("Wrong option", false)
+			)
+		);
+		LessonUnidentifiedData lessonData = new LessonData.InmutableLessonData(
+			"Lesson title",
+			"Lesson explanation",
+			Set.of(),
+			Set.of(exerciseData)
+		);
+
+		return new CourseData.InmutableCourseData(
+			"Course Title",
+			"Course Description",
+			"Course Image",
+			"Course Author",
+			FIXED_DATE,
+			Set.of(new CategoryData.InmutableCategoryData("Category " + System.nanoTime())),
+			Set.of(lessonData)
+		);
+	}
+}
@@ -11,6 +11,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @AutoConfiguration
 public class KnowyJwtAutoConfiguration {
 
@@ -18,9 +20,11 @@ public class KnowyJwtAutoConfiguration {
 	@ConditionalOnMissingBean
 	public KnowyTokenTools jwtTools(
 		@Value("${spring.jwt.key}") String secretKey,
-		ObjectMapper objectMapper
+		ObjectMapper objectMapper,
+		@Value("${knowy.token-key-cache.max-entries:" + JwtTools.DEFAULT_KEY_CACHE_MAX_ENTRIES + "}") int keyCacheMaxEntries,
+		@Value("${knowy.token-key-cache.ttl:10m}") Duration keyCacheTtl
 	) {
-		return new JwtTools(secretKey, objectMapper);
+		return new JwtTools(secretKey, objectMapper, keyCacheMaxEntries, keyCacheTtl);
 	}
 
 	@Bean
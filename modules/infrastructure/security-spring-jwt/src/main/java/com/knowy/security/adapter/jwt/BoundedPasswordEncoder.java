@@ -0,0 +1,192 @@
+package com.knowy.security.adapter.jwt;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt {@link PasswordEncoder} that hashes on a dedicated pool of threads instead of the threads of its callers.
+ * <p>
+ * Hashing is CPU-bound, so the pool has one thread per available processor by default, and the hashes waiting for a
+ * thread are held in a bounded queue. Once that queue is full new hashes are rejected at once with a
+ * {@link PasswordHashingRejectedException}, rather than letting a burst of logins pile up on every request thread.
+ * <p>
+ * Hashes stored with a cost other than the configured strength are reported by {@link #upgradeEncoding(String)}, so
+ * they are hashed again with the current strength the next time their user logs in.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	public static final int DEFAULT_STRENGTH = 10;
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+	private final int strength;
+	private final BCryptPasswordEncoder bCryptPasswordEncoder;
+	private final ThreadPoolExecutor hashers;
+	private final LongAdder hashes = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder hashTimeNanos = new LongAdder();
+	private final LongAdder queueWaitNanos = new LongAdder();
+
+	/**
+	 * Creates an encoder with {@link #DEFAULT_STRENGTH}, one thread per available processor and
+	 * {@link #DEFAULT_QUEUE_CAPACITY}.
+	 */
+	public BoundedPasswordEncoder() {
+		this(DEFAULT_STRENGTH, 0, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Creates an encoder that hashes with the given strength on a pool of the given size.
+	 *
+	 * @param strength      the log rounds of new hashes, between 4 and 31
+	 * @param threads       the number of hashing threads, or {@code 0} for one per available processor
+	 * @param queueCapacity the number of hashes that may wait for a thread before new ones are rejected
+	 */
+	public BoundedPasswordEncoder(int strength, int threads, int queueCapacity) {
+		if (threads < 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException(
+				"Threads cannot be negative and queue capacity must be positive: %d, %d".formatted(threads, queueCapacity)
+			);
+		}
+
+		this.strength = strength;
+		this.bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+
+		int poolSize = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.hashers = new ThreadPoolExecutor(
+			poolSize,
+			poolSize,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "knowy-password-hasher-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	/**
+	 * Hashes the password on the hashing pool.
+	 *
+	 * @throws PasswordHashingRejectedException if too many hashes are already waiting for a thread
+	 */
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return hash(() -> bCryptPasswordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * Checks the password against the stored hash on the hashing pool.
+	 *
+	 * @throws PasswordHashingRejectedException if too many hashes are already waiting for a thread
+	 */
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return hash(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * Tells whether the stored hash was made with a cost other than the configured strength, either lower or higher.
+	 *
+	 * @param encodedPassword the stored hash
+	 * @return {@code true} if the password should be hashed again
+	 */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+	}
+
+	/**
+	 * Returns a snapshot of the hashing counters.
+	 *
+	 * @return the counters of every hash run by the encoder
+	 */
+	public HashingStats stats() {
+		return new HashingStats(
+			hashes.sum(), rejected.sum(), hashers.getQueue().size(), hashTimeNanos.sum(), queueWaitNanos.sum()
+		);
+	}
+
+	/**
+	 * Stops the hashing threads. Hashes that have not started yet are cancelled.
+	 */
+	@Override
+	public void close() {
+		hashers.shutdownNow();
+	}
+
+	private <T> T hash(Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = hashers.submit(() -> {
+				long startedAt = System.nanoTime();
+				queueWaitNanos.add(startedAt - submittedAt);
+				try {
+					return task.get();
+				} finally {
+					hashTimeNanos.add(System.nanoTime() - startedAt);
+					hashes.increment();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new PasswordHashingRejectedException("Too many passwords are being hashed", e);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to hash a password", e.getCause());
+		}
+	}
+
+	/**
+	 * Thrown when a password cannot be hashed because the hashing pool and its queue are full.
+	 */
+	public static class PasswordHashingRejectedException extends RejectedExecutionException {
+
+		public PasswordHashingRejectedException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	/**
+	 * Cumulative hashing counters.
+	 *
+	 * @param hashes         number of hashes and checks run
+	 * @param rejected       number of hashes rejected because the queue was full
+	 * @param queued         number of hashes currently waiting for a thread
+	 * @param hashTimeNanos  total time spent hashing, in nanoseconds
+	 * @param queueWaitNanos total time hashes waited for a thread, in nanoseconds
+	 */
+	public record HashingStats(long hashes, long rejected, long queued, long hashTimeNanos, long queueWaitNanos) {
+	}
+}
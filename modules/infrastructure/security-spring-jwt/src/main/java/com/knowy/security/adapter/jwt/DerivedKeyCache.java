@@ -0,0 +1,72 @@
+package com.knowy.security.adapter.jwt;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded, expiring cache of the signing keys derived by {@link JwtTools}, keyed by the secondary key they were
+ * derived from. Hashing the secondary key would cost as much as deriving its key again; it is the stored password
+ * hash, never the password itself.
+ * <p>
+ * Entries are dropped in least-recently-used order once {@code maxEntries} is exceeded, and ignored once they are
+ * older than {@code timeToLive}. A secondary key that changes, such as a new password, simply stops being looked up.
+ */
+class DerivedKeyCache {
+
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Creates a cache that holds up to {@code maxEntries} keys for {@code timeToLive} each.
+	 *
+	 * @param maxEntries maximum number of keys kept; {@code 0} disables caching
+	 * @param timeToLive time after which a cached key is derived again
+	 */
+	DerivedKeyCache(int maxEntries, Duration timeToLive) {
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > DerivedKeyCache.this.maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached key derived from the given secondary key, if it has not expired.
+	 *
+	 * @param secondaryKey the secondary key the key was derived from
+	 * @return the derived key, or {@code null} if it is not cached
+	 */
+	SecretKey get(String secondaryKey) {
+		long now = System.nanoTime();
+		synchronized (entries) {
+			Entry entry = entries.get(secondaryKey);
+			if (entry == null) {
+				return null;
+			}
+			if (now - entry.createdAt >= timeToLiveNanos) {
+				entries.remove(secondaryKey);
+				return null;
+			}
+			return entry.key;
+		}
+	}
+
+	void put(String secondaryKey, SecretKey key) {
+		if (maxEntries == 0) {
+			return;
+		}
+
+		synchronized (entries) {
+			entries.put(secondaryKey, new Entry(key, System.nanoTime()));
+		}
+	}
+
+	private record Entry(SecretKey key, long createdAt) {
+	}
+}
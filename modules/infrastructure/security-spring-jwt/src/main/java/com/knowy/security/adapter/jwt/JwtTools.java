@@ -13,20 +13,58 @@ import io.jsonwebtoken.security.Keys;
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Objects;
 
+/**
+ * {@link KnowyTokenTools} that signs tokens with a key derived from a server-side secret and a user-specific secondary
+ * key.
+ * <p>
+ * Deriving a key takes an HMAC of the secondary key, so the derived keys are kept in a {@link DerivedKeyCache} keyed by
+ * their secondary key. A key that is not cached is derived with a clone of a {@link Mac} initialized once with the
+ * server-side secret, so no call looks up the algorithm or initializes a {@code Mac}, and no instance is tied to the
+ * thread, which would be useless under virtual threads.
+ */
 public class JwtTools implements KnowyTokenTools {
 
+	public static final int DEFAULT_KEY_CACHE_MAX_ENTRIES = 1_000;
+	public static final Duration DEFAULT_KEY_CACHE_TTL = Duration.ofMinutes(10);
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
 	private final SecretKey key;
 	private final ObjectMapper objectMapper;
+	private final DerivedKeyCache derivedKeys;
+	private final Mac macPrototype;
 
 	public JwtTools(String secretKey, ObjectMapper objectMapper) {
+		this(secretKey, objectMapper, DEFAULT_KEY_CACHE_MAX_ENTRIES, DEFAULT_KEY_CACHE_TTL);
+	}
+
+	/**
+	 * Creates the token tools with a cache of derived keys of the given size and time to live.
+	 *
+	 * @param secretKey          the server-side secret the signing keys are derived from
+	 * @param objectMapper       the mapper used to read the payload of unverified tokens
+	 * @param keyCacheMaxEntries maximum number of derived keys kept; {@code 0} disables caching
+	 * @param keyCacheTtl        time after which a cached derived key is derived again
+	 */
+	public JwtTools(String secretKey, ObjectMapper objectMapper, int keyCacheMaxEntries, Duration keyCacheTtl) {
+		if (keyCacheMaxEntries < 0) {
+			throw new IllegalArgumentException("The key cache size cannot be negative: " + keyCacheMaxEntries);
+		}
+
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
 		this.objectMapper = objectMapper;
+		this.derivedKeys = new DerivedKeyCache(keyCacheMaxEntries, keyCacheTtl);
+		try {
+			this.macPrototype = newMac();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalArgumentException("The secret key cannot be used to derive token keys", e);
+		}
 	}
 
 	/**
@@ -125,18 +163,37 @@ public class JwtTools implements KnowyTokenTools {
 	}
 
 	private SecretKey keyCalculator(String secondaryKey) throws KnowyTokenException {
+		SecretKey superSecretKey = derivedKeys.get(secondaryKey);
+		if (superSecretKey == null) {
+			superSecretKey = Keys.hmacShaKeyFor(mac().doFinal(secondaryKey.getBytes(StandardCharsets.UTF_8)));
+			derivedKeys.put(secondaryKey, superSecretKey);
+		}
+		return superSecretKey;
+	}
+
+	/**
+	 * Returns a {@link Mac} of its own to the caller. The prototype is never used directly, so cloning it is safe from
+	 * any thread.
+	 */
+	private Mac mac() throws KnowyTokenException {
 		try {
-			Mac mac = Mac.getInstance("HmacSHA256");
-			mac.init(key);
-			byte[] secondaryKeySign = mac.doFinal(
-				secondaryKey.getBytes(StandardCharsets.UTF_8)
-			);
-			return Keys.hmacShaKeyFor(secondaryKeySign);
-		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
-			throw new KnowyTokenException("Failed to encrypt token", e);
+			return (Mac) macPrototype.clone();
+		} catch (CloneNotSupportedException e) {
+			// The provider cannot clone its MACs, so a new one is initialized instead
+			try {
+				return newMac();
+			} catch (GeneralSecurityException ex) {
+				throw new KnowyTokenException("Failed to encrypt token", ex);
+			}
 		}
 	}
 
+	private Mac newMac() throws GeneralSecurityException {
+		Mac mac = Mac.getInstance(MAC_ALGORITHM);
+		mac.init(key);
+		return mac;
+	}
+
 	/**
 	 * Decodes a JWT token *without verifying its signature* and extracts the "data" claim from the payload, mapping it
 	 * to an instance of the specified class.
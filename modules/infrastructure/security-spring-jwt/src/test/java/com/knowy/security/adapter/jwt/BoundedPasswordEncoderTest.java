@@ -0,0 +1,155 @@
+package com.knowy.security.adapter.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+	private static final String PASSWORD = "ValidPass123@";
+
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private BoundedPasswordEncoder encoder;
+
+	@BeforeEach
+	void setUp() {
+		encoder = new BoundedPasswordEncoder(4, 1, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		callers.shutdownNow();
+		encoder.close();
+	}
+
+	@Test
+	void given_encodedPassword_when_matches_then_checkPassword() {
+		String encoded = encoder.encode(PASSWORD);
+
+		assertAll(
+			() -> assertTrue(encoder.matches(PASSWORD, encoded)),
+			() -> assertFalse(encoder.matches("OtherPass123@", encoded)),
+			() -> assertEquals(3, encoder.stats().hashes())
+		);
+	}
+
+	@Test
+	void given_busyThreadAndFullQueue_when_matches_then_rejectAtOnce() throws Exception {
+		String encoded = encoder.encode(PASSWORD);
+		CountDownLatch started = new CountDownLatch(1);
+		Future<Boolean> running = callers.submit(() -> encoder.matches(blockingPassword(started), encoded));
+		assertTrue(started.await(10, TimeUnit.SECONDS), "The first check must take the hashing thread");
+		Future<Boolean> queued = callers.submit(() -> encoder.matches(PASSWORD, encoded));
+		while (encoder.stats().queued() == 0) {
+			Thread.onSpinWait();
+		}
+
+		assertThrows(
+			BoundedPasswordEncoder.PasswordHashingRejectedException.class,
+			() -> encoder.matches(PASSWORD, encoded)
+		);
+		release.countDown();
+
+		assertAll(
+			() -> assertTrue(running.get(10, TimeUnit.SECONDS)),
+			() -> assertTrue(queued.get(10, TimeUnit.SECONDS)),
+			() -> assertEquals(1, encoder.stats().rejected())
+		);
+	}
+
+	@Test
+	void given_failingHash_when_encode_then_throwOriginalException() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+
+		assertEquals("rawPassword cannot be null", exception.getMessage());
+	}
+
+	@Test
+	void given_errorWhileHashing_when_matches_then_throwOriginalError() {
+		String encoded = encoder.encode(PASSWORD);
+		CharSequence failingPassword = new TestPassword() {
+			@Override
+			public String toString() {
+				throw new LinkageError("Failing password");
+			}
+		};
+
+		assertThrows(LinkageError.class, () -> encoder.matches(failingPassword, encoded));
+	}
+
+	@Test
+	void given_storedHashes_when_upgradeEncoding_then_upgradeOnlyOtherCosts() {
+		BoundedPasswordEncoder strongEncoder = new BoundedPasswordEncoder(10, 1, 1);
+		strongEncoder.close();
+
+		assertAll(
+			() -> assertTrue(strongEncoder.upgradeEncoding("$2a$04$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")),
+			() -> assertTrue(strongEncoder.upgradeEncoding("$2y$12$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")),
+			() -> assertFalse(strongEncoder.upgradeEncoding("$2b$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")),
+			() -> assertFalse(strongEncoder.upgradeEncoding("plain-password")),
+			() -> assertFalse(strongEncoder.upgradeEncoding(null))
+		);
+	}
+
+	@Test
+	void given_negativeThreads_when_create_then_throwIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> new BoundedPasswordEncoder(4, -1, 1));
+	}
+
+	@Test
+	void given_emptyQueue_when_create_then_throwIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> new BoundedPasswordEncoder(4, 1, 0));
+	}
+
+	/**
+	 * Password that holds the hashing thread until the test releases it, since BCrypt reads it with {@code toString}.
+	 */
+	private CharSequence blockingPassword(CountDownLatch started) {
+		return new TestPassword() {
+			@Override
+			public String toString() {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return PASSWORD;
+			}
+		};
+	}
+
+	private static class TestPassword implements CharSequence {
+
+		@Override
+		public int length() {
+			return PASSWORD.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return PASSWORD.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return PASSWORD.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return PASSWORD;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.knowy.security.adapter.jwt;
+
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedKeyCacheTest {
+
+	private static final SecretKey KEY = Keys.hmacShaKeyFor(
+		"a-derived-key-of-at-least-256-bits-long".getBytes(StandardCharsets.UTF_8)
+	);
+
+	@Test
+	void given_cachedKey_when_get_then_returnKey() {
+		DerivedKeyCache cache = new DerivedKeyCache(10, Duration.ofMinutes(1));
+
+		cache.put("secondary", KEY);
+
+		assertAll(
+			() -> assertSame(KEY, cache.get("secondary")),
+			() -> assertNull(cache.get("other"))
+		);
+	}
+
+	@Test
+	void given_expiredKey_when_get_then_returnNull() {
+		DerivedKeyCache cache = new DerivedKeyCache(10, Duration.ZERO);
+
+		cache.put("secondary", KEY);
+
+		assertNull(cache.get("secondary"));
+	}
+
+	@Test
+	void given_fullCache_when_put_then_evictLeastRecentlyUsedKey() {
+		DerivedKeyCache cache = new DerivedKeyCache(2, Duration.ofMinutes(1));
+		cache.put("first", KEY);
+		cache.put("second", KEY);
+		cache.get("first");
+
+		cache.put("third", KEY);
+
+		assertAll(
+			() -> assertSame(KEY, cache.get("first")),
+			() -> assertNull(cache.get("second")),
+			() -> assertSame(KEY, cache.get("third"))
+		);
+	}
+
+	@Test
+	void given_disabledCache_when_put_then_keepNothing() {
+		DerivedKeyCache cache = new DerivedKeyCache(0, Duration.ofMinutes(1));
+
+		cache.put("secondary", KEY);
+
+		assertNull(cache.get("secondary"));
+	}
+}
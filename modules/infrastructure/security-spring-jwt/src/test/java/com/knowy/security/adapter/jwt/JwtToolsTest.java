@@ -0,0 +1,100 @@
+package com.knowy.security.adapter.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knowy.core.user.exception.KnowyTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtToolsTest {
+
+	private static final String SECRET_KEY = "a-server-side-secret-of-at-least-256-bits";
+	private static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+	private static final Payload PAYLOAD = new Payload(7, "user@knowy.com");
+
+	private JwtTools jwtTools;
+
+	@BeforeEach
+	void setUp() {
+		jwtTools = new JwtTools(SECRET_KEY, new ObjectMapper());
+	}
+
+	@Test
+	void given_encodedToken_when_decodeWithSameKey_then_returnPayload() throws KnowyTokenException {
+		String token = jwtTools.encode(PAYLOAD, PASSWORD_HASH);
+
+		assertEquals(PAYLOAD, jwtTools.decode(PASSWORD_HASH, token, Payload.class));
+	}
+
+	@Test
+	void given_encodedToken_when_decodeWithOtherKey_then_throwKnowyTokenException() throws KnowyTokenException {
+		String token = jwtTools.encode(PAYLOAD, PASSWORD_HASH);
+
+		assertThrows(KnowyTokenException.class, () -> jwtTools.decode("other-password-hash", token, Payload.class));
+	}
+
+	@Test
+	void given_cachedKey_when_secondaryKeyChanges_then_rejectOldToken() throws KnowyTokenException {
+		String token = jwtTools.encode(PAYLOAD, PASSWORD_HASH);
+		jwtTools.decode(PASSWORD_HASH, token, Payload.class);
+
+		assertThrows(KnowyTokenException.class, () -> jwtTools.decode(PASSWORD_HASH + "x", token, Payload.class));
+	}
+
+	@Test
+	void given_tokenEncodedWithCache_when_decodeWithoutCache_then_returnPayload() throws KnowyTokenException {
+		JwtTools uncachedJwtTools = new JwtTools(SECRET_KEY, new ObjectMapper(), 0, Duration.ZERO);
+
+		String token = jwtTools.encode(PAYLOAD, PASSWORD_HASH);
+
+		assertAll(
+			() -> assertEquals(PAYLOAD, uncachedJwtTools.decode(PASSWORD_HASH, token, Payload.class)),
+			() -> assertEquals(PAYLOAD, uncachedJwtTools.decode(PASSWORD_HASH, token, Payload.class))
+		);
+	}
+
+	@Test
+	void given_expiredToken_when_decode_then_throwKnowyTokenException() throws KnowyTokenException {
+		String token = jwtTools.encode(PAYLOAD, PASSWORD_HASH, -1_000);
+
+		assertThrows(KnowyTokenException.class, () -> jwtTools.decode(PASSWORD_HASH, token, Payload.class));
+	}
+
+	@Test
+	void given_manyVirtualThreads_when_encodeAndDecode_then_everyTokenRoundTrips() throws Exception {
+		List<Future<Payload>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 200; i++) {
+				Payload payload = new Payload(i, "user" + i + "@knowy.com");
+				String secondaryKey = PASSWORD_HASH + (i % 10);
+				results.add(executor.submit(
+					() -> jwtTools.decode(secondaryKey, jwtTools.encode(payload, secondaryKey), Payload.class)
+				));
+			}
+		}
+
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS).userId());
+		}
+	}
+
+	@Test
+	void given_negativeKeyCacheSize_when_create_then_throwIllegalArgumentException() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		Duration ttl = Duration.ofMinutes(1);
+
+		assertThrows(IllegalArgumentException.class, () -> new JwtTools(SECRET_KEY, objectMapper, -1, ttl));
+	}
+
+	record Payload(int userId, String email) {
+	}
+}
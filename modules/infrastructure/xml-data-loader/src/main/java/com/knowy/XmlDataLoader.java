@@ -1,33 +1,47 @@
 package com.knowy;
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.knowy.core.exception.KnowyIllegalArgumentRuntimeException;
+import com.knowy.core.exception.KnowyException;
+import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.exception.KnowyValidationException;
 import com.knowy.core.port.DataLoader;
-
-import java.io.*;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.validation.ValidatorHandler;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Implementation of {@link DataLoader} for loading and validating XML data.
  * <p>
- * Uses an {@link XmlValidation} instance to validate the input stream against a schema, then reads the XML into a
- * {@link Map} representation.
+ * The XML is read with a SAX parser whose events go through a {@link ValidatorHandler} before reaching an
+ * {@link XmlRecordReader}, so it is validated against its schema and parsed in a single pass without buffering the
+ * input.
  */
 public class XmlDataLoader implements DataLoader {
 
+	private static final String DISALLOW_DOCTYPE_FEATURE = "http://apache.org/xml/features/disallow-doctype-decl";
+
 	private final XmlValidation xmlValidation;
+	private final SAXParserFactory parserFactory;
 
 	/**
 	 * Creates a new {@code XmlDataLoader} instance with a default {@link XmlValidation} validator.
 	 */
 	public XmlDataLoader() {
 		this.xmlValidation = new XmlValidation();
+		this.parserFactory = createParserFactory();
 	}
 
-
 	/**
 	 * Loads XML data from the given input stream and validates it against the provided schema.
 	 *
@@ -38,84 +52,76 @@ public class XmlDataLoader implements DataLoader {
 	 * @throws IOException              if an I/O error occurs while reading the input stream
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public Map<String, Object> loadData(InputStream inputStream, URL schema) throws KnowyValidationException,
 		IOException {
-		try (InputStream markedStream = mark(inputStream)) {
-			xmlValidation.validate(markedStream, schema);
-			markedStream.reset();
-			return readXml(markedStream);
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		try {
+			streamData(inputStream, schema, (name, value) -> result.merge(name, value, (previous, next) -> {
+				if (previous instanceof ArrayList<?> values) {
+					((List<Object>) values).add(next);
+					return values;
+				}
+				return new ArrayList<>(List.of(previous, next));
+			}));
+		} catch (KnowyInconsistentDataException e) {
+			throw new KnowyValidationException(e.getMessage(), e);
 		}
+		return result;
 	}
 
 	/**
-	 * Reads XML data from the given input stream into a map.
+	 * Streams the children of the root element of the XML to the handler while validating it against the provided
+	 * schema.
 	 *
-	 * @param inputStream the input stream containing XML data
-	 * @return a map representing the XML structure
-	 * @throws IOException if an I/O error occurs during parsing
+	 * @param inputStream   the input stream containing the XML data
+	 * @param schema        the URL of the XML schema for validation
+	 * @param recordHandler the handler that receives each child of the root element
+	 * @throws KnowyValidationException       if the XML does not conform to the schema, or the handler rejects a
+	 *                                        record
+	 * @throws KnowyInconsistentDataException if the handler cannot process a record
+	 * @throws IOException                    if an I/O error occurs while reading the input stream
 	 */
-	@SuppressWarnings("unchecked")
-	public Map<String, Object> readXml(InputStream inputStream) throws IOException {
-		XmlMapper xmlMapper = new XmlMapper();
-
-		Map<String, Object> result = xmlMapper.readValue(inputStream, Map.class);
-		result.remove("noNamespaceSchemaLocation");
-
-		return result;
-	}
-
-	InputStream mark(InputStream is) {
-		if (is.markSupported() && !(is instanceof BufferedInputStream)) {
-			is.mark(100 * 1024 * 1024);
-			return is;
-		}
-		try {
-			File cache = File.createTempFile("xmlloader", UUID.randomUUID().toString());
-			try (FileOutputStream cacheOutputStream = new FileOutputStream(cache)) {
-				is.transferTo(cacheOutputStream);
-				cacheOutputStream.flush();
-			}
-			return new ResettableFileInputStream(cache);
-		} catch (IOException e) {
-			throw new KnowyIllegalArgumentRuntimeException(e);
+	@Override
+	public void streamData(InputStream inputStream, URL schema, RecordHandler recordHandler)
+		throws KnowyValidationException, KnowyInconsistentDataException, IOException {
+
+		try (XmlValidation.PooledValidatorHandler pooledValidatorHandler = xmlValidation.acquireValidatorHandler(schema)) {
+			ValidatorHandler validatorHandler = pooledValidatorHandler.validatorHandler();
+			validatorHandler.setContentHandler(new XmlRecordReader(recordHandler));
+
+			XMLReader reader = parserFactory.newSAXParser().getXMLReader();
+			reader.setContentHandler(validatorHandler);
+			reader.parse(new InputSource(inputStream));
+		} catch (XmlRecordReader.RecordHandlerException e) {
+			rethrow(e.getCause());
+		} catch (SAXException e) {
+			throw new KnowyValidationException("The XML does not comply with the XSD: " + e.getMessage(), e);
+		} catch (ParserConfigurationException e) {
+			throw new KnowyValidationException("The XML parser cannot be configured: " + e.getMessage(), e);
 		}
 	}
 
-	static class ResettableFileInputStream extends InputStream {
-
-		private final File cache;
-		private InputStream current;
-
-		ResettableFileInputStream(File cache) throws IOException {
-			this.cache = cache;
-			this.current = new FileInputStream(cache);
+	private static void rethrow(KnowyException e) throws KnowyValidationException, KnowyInconsistentDataException {
+		if (e instanceof KnowyInconsistentDataException inconsistentDataException) {
+			throw inconsistentDataException;
 		}
-
-		@Override
-		public int read() throws IOException {
-			return current.read();
-		}
-
-		@Override
-		public int read(byte[] b, int off, int len) throws IOException {
-			return current.read(b, off, len);
-		}
-
-		@Override
-		public boolean markSupported() {
-			return true;
-		}
-
-		@Override
-		public void reset() throws IOException {
-			current.close();
-			current = new FileInputStream(cache);
+		if (e instanceof KnowyValidationException validationException) {
+			throw validationException;
 		}
+		throw new KnowyValidationException(e.getMessage(), e);
+	}
 
-		@Override
-		public void close() throws IOException {
-			current.close();
-			super.close();
+	private static SAXParserFactory createParserFactory() {
+		SAXParserFactory factory = SAXParserFactory.newInstance();
+		factory.setNamespaceAware(true);
+		try {
+			factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+			factory.setFeature(DISALLOW_DOCTYPE_FEATURE, true);
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new IllegalStateException("The XML parser does not support secure processing", e);
 		}
+		return factory;
 	}
 }
@@ -0,0 +1,121 @@
+package com.knowy;
+
+import com.knowy.core.exception.KnowyException;
+import com.knowy.core.port.DataLoader;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import java.util.*;
+
+/**
+ * SAX handler that rebuilds each direct child of the root element as a record and hands it to a
+ * {@link DataLoader.RecordHandler} as soon as its end tag is read.
+ * <p>
+ * An element with child elements or attributes becomes a {@link Map} from their names to their values, where repeated
+ * children are gathered in a {@link List}; an element with only text becomes its text. Attributes of the
+ * {@code xsi} namespace are left out. Only the elements of the record being read are kept in memory.
+ */
+class XmlRecordReader extends DefaultHandler {
+
+	private final DataLoader.RecordHandler recordHandler;
+	private final Deque<Element> openElements = new ArrayDeque<>();
+	private int depth;
+
+	XmlRecordReader(DataLoader.RecordHandler recordHandler) {
+		this.recordHandler = recordHandler;
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes) {
+		depth++;
+		if (depth == 1) {
+			return;
+		}
+
+		Element element = new Element(localName);
+		for (int i = 0; i < attributes.getLength(); i++) {
+			if (!XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(attributes.getURI(i))) {
+				element.addChild(attributes.getLocalName(i), attributes.getValue(i));
+			}
+		}
+		openElements.push(element);
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) {
+		Element element = openElements.peek();
+		if (element != null) {
+			element.text.append(ch, start, length);
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) throws SAXException {
+		depth--;
+		if (depth == 0) {
+			return;
+		}
+
+		Element element = openElements.pop();
+		Element parent = openElements.peek();
+		if (parent != null) {
+			parent.addChild(element.name, element.value());
+			return;
+		}
+
+		try {
+			recordHandler.handle(element.name, element.value());
+		} catch (KnowyException e) {
+			throw new RecordHandlerException(e);
+		}
+	}
+
+	/**
+	 * Carries an exception thrown by the record handler through the SAX pipeline.
+	 */
+	static class RecordHandlerException extends SAXException {
+
+		private final transient KnowyException cause;
+
+		RecordHandlerException(KnowyException cause) {
+			super(cause);
+			this.cause = cause;
+		}
+
+		@Override
+		public KnowyException getCause() {
+			return cause;
+		}
+	}
+
+	private static final class Element {
+
+		private final String name;
+		private final StringBuilder text = new StringBuilder();
+		private Map<String, Object> children;
+
+		private Element(String name) {
+			this.name = name;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void addChild(String name, Object value) {
+			if (children == null) {
+				children = new LinkedHashMap<>();
+			}
+			children.merge(name, value, (previous, next) -> {
+				if (previous instanceof ArrayList<?> values) {
+					((List<Object>) values).add(next);
+					return values;
+				}
+				return new ArrayList<>(List.of(previous, next));
+			});
+		}
+
+		private Object value() {
+			return children == null ? text.toString() : children;
+		}
+	}
+}
@@ -10,19 +10,34 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * Utility class for validating XML input streams against an XSD schema.
  * <p>
- * This class is used internally by {@link XmlDataLoader} to ensure that XML data conforms to its schema before
- * parsing.
+ * This class is used internally by {@link XmlDataLoader} to ensure that XML data conforms to its schema while it is
+ * parsed.
+ * <p>
+ * Each schema is compiled once and kept by URL. Before a cached schema is used, the last modification time of its URL
+ * is compared with the one it was compiled from and the schema is compiled again if it has changed; schemas included
+ * or imported by it are not checked. Since validators are not thread-safe, every thread reuses its own idle
+ * {@link Validator} and {@link ValidatorHandler} of each schema instead of creating new ones on every call.
  */
 class XmlValidation {
 
+	private final Map<String, CompiledSchema> schemas = new ConcurrentHashMap<>();
+
 	/**
 	 * Validates the given XML input stream against the provided XSD schema.
 	 *
@@ -32,18 +47,65 @@ class XmlValidation {
 	 * @throws IOException              if an I/O error occurs while reading the XML or schema
 	 */
 	public void validate(InputStream xml, URL xsd) throws KnowyValidationException, IOException {
+		CompiledSchema compiledSchema = compiledSchema(xsd);
+		Validator validator = compiledSchema.acquireValidator();
 		try {
-			Schema schema = createSchema(xsd);
-			Validator validator = schema.newValidator();
 			validator.validate(new StreamSource(xml));
 		} catch (SAXException e) {
 			throw new KnowyValidationException("The XML does not comply with the XSD: " + e.getMessage(), e);
+		} finally {
+			compiledSchema.releaseValidator(validator);
+		}
+	}
+
+	/**
+	 * Takes a handler that validates the SAX events it receives against the provided XSD schema before passing them on
+	 * to its content handler. Closing the returned {@link PooledValidatorHandler} gives the handler back so the current
+	 * thread can reuse it.
+	 *
+	 * @param xsd the URL of the XSD schema for validation
+	 * @return a validator handler for the schema that no one else is using
+	 * @throws KnowyValidationException if the schema cannot be compiled
+	 * @throws IOException              if an I/O error occurs while reading the schema
+	 */
+	public PooledValidatorHandler acquireValidatorHandler(URL xsd) throws KnowyValidationException, IOException {
+		CompiledSchema compiledSchema = compiledSchema(xsd);
+		return new PooledValidatorHandler(compiledSchema, compiledSchema.acquireValidatorHandler());
+	}
+
+	/**
+	 * Returns the compiled schema for the URL, compiling it if it is not cached or has changed since it was compiled.
+	 *
+	 * @param xsd the URL of the XSD schema
+	 * @return the compiled schema
+	 * @throws KnowyValidationException if the schema cannot be compiled
+	 * @throws IOException              if an I/O error occurs while reading the schema
+	 */
+	Schema schema(URL xsd) throws KnowyValidationException, IOException {
+		return compiledSchema(xsd).schema;
+	}
+
+	private CompiledSchema compiledSchema(URL xsd) throws KnowyValidationException, IOException {
+		String key = xsd.toExternalForm();
+		long lastModified = lastModified(xsd);
+
+		CompiledSchema cached = schemas.get(key);
+		if (cached != null && cached.lastModified == lastModified) {
+			return cached;
 		}
+
+		CompiledSchema compiled = new CompiledSchema(createSchema(xsd), lastModified);
+		schemas.put(key, compiled);
+		return compiled;
 	}
 
-	private Schema createSchema(URL xsd) throws SAXException {
-		SchemaFactory schemaFactory = createSchemaFactory();
-		return schemaFactory.newSchema(xsd);
+	private Schema createSchema(URL xsd) throws KnowyValidationException {
+		try {
+			SchemaFactory schemaFactory = createSchemaFactory();
+			return schemaFactory.newSchema(xsd);
+		} catch (SAXException e) {
+			throw new KnowyValidationException("The XSD cannot be compiled: " + e.getMessage(), e);
+		}
 	}
 
 	private SchemaFactory createSchemaFactory() throws SAXNotSupportedException, SAXNotRecognizedException {
@@ -54,4 +116,87 @@ class XmlValidation {
 
 		return factory;
 	}
+
+	private static long lastModified(URL xsd) throws IOException {
+		if ("file".equals(xsd.getProtocol())) {
+			try {
+				return Files.getLastModifiedTime(Path.of(xsd.toURI())).toMillis();
+			} catch (URISyntaxException e) {
+				throw new IOException("Invalid schema location: " + xsd, e);
+			}
+		}
+
+		URLConnection connection = xsd.openConnection();
+		try {
+			return connection.getLastModified();
+		} finally {
+			if (connection instanceof HttpURLConnection httpConnection) {
+				httpConnection.disconnect();
+			}
+		}
+	}
+
+	/**
+	 * A {@link ValidatorHandler} taken from the handlers of a compiled schema, given back when closed.
+	 */
+	static final class PooledValidatorHandler implements AutoCloseable {
+
+		private final CompiledSchema owner;
+		private final ValidatorHandler validatorHandler;
+
+		private PooledValidatorHandler(CompiledSchema owner, ValidatorHandler validatorHandler) {
+			this.owner = owner;
+			this.validatorHandler = validatorHandler;
+		}
+
+		ValidatorHandler validatorHandler() {
+			return validatorHandler;
+		}
+
+		@Override
+		public void close() {
+			owner.releaseValidatorHandler(validatorHandler);
+		}
+	}
+
+	private static final class CompiledSchema {
+
+		private final Schema schema;
+		private final long lastModified;
+		private final ThreadLocal<Validator> idleValidator = new ThreadLocal<>();
+		private final ThreadLocal<ValidatorHandler> idleValidatorHandler = new ThreadLocal<>();
+
+		private CompiledSchema(Schema schema, long lastModified) {
+			this.schema = schema;
+			this.lastModified = lastModified;
+		}
+
+		private Validator acquireValidator() {
+			Validator validator = idleValidator.get();
+			if (validator == null) {
+				return schema.newValidator();
+			}
+			idleValidator.remove();
+			return validator;
+		}
+
+		private void releaseValidator(Validator validator) {
+			validator.reset();
+			idleValidator.set(validator);
+		}
+
+		private ValidatorHandler acquireValidatorHandler() {
+			ValidatorHandler validatorHandler = idleValidatorHandler.get();
+			if (validatorHandler == null) {
+				return schema.newValidatorHandler();
+			}
+			idleValidatorHandler.remove();
+			return validatorHandler;
+		}
+
+		private void releaseValidatorHandler(ValidatorHandler validatorHandler) {
+			validatorHandler.setContentHandler(null);
+			idleValidatorHandler.set(validatorHandler);
+		}
+	}
 }
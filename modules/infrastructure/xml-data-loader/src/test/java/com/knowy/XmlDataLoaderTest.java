@@ -1,5 +1,6 @@
 package com.knowy;
 
+import com.knowy.core.exception.KnowyInconsistentDataException;
 import com.knowy.core.exception.KnowyValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +50,43 @@ class XmlDataLoaderTest {
 		);
 	}
 
+	@Test
+	void given_xmlAndXsdFile_when_streamData_then_handRecordsInOrder() {
+		InputStream xml = ClassLoader.getSystemClassLoader().getResourceAsStream("data.xml");
+		URL xsd = ClassLoader.getSystemClassLoader().getResource("data.xsd");
+		List<String> names = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+
+		assertDoesNotThrow(() -> xmlDataLoader.streamData(
+			Objects.requireNonNull(xml),
+			Objects.requireNonNull(xsd),
+			(name, value) -> {
+				names.add(name);
+				ids.add(((Map<?, ?>) value).get("id"));
+			}
+		));
+
+		assertAll(
+			() -> assertEquals(List.of("item", "item", "item"), names),
+			() -> assertEquals(List.of("1", "2", "3"), ids)
+		);
+	}
+
+	@Test
+	void given_recordHandlerThatFails_when_streamData_then_throwHandlerException() {
+		InputStream xml = ClassLoader.getSystemClassLoader().getResourceAsStream("data.xml");
+		URL xsd = ClassLoader.getSystemClassLoader().getResource("data.xsd");
+		KnowyInconsistentDataException failure = new KnowyInconsistentDataException("Cannot store record");
+
+		KnowyInconsistentDataException exception = assertThrows(
+			KnowyInconsistentDataException.class,
+			() -> xmlDataLoader.streamData(Objects.requireNonNull(xml), Objects.requireNonNull(xsd), (name, value) -> {
+				throw failure;
+			})
+		);
+		assertSame(failure, exception);
+	}
+
 	@Test
 	void given_invalidXmlFile_when_loadData_then_throwKnowyValidationException() {
 		InputStream xml = ClassLoader.getSystemClassLoader().getResourceAsStream("invaliddata.xml");
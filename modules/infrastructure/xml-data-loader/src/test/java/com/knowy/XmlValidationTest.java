@@ -0,0 +1,69 @@
+package com.knowy;
+
+import com.knowy.core.exception.KnowyValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.validation.Schema;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlValidationTest {
+
+	private final XmlValidation xmlValidation = new XmlValidation();
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void given_unchangedSchema_when_schema_then_returnCompiledSchema() throws KnowyValidationException, IOException {
+		URL xsd = copySchema();
+
+		Schema first = xmlValidation.schema(xsd);
+		Schema second = xmlValidation.schema(xsd);
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void given_modifiedSchema_when_schema_then_compileItAgain() throws KnowyValidationException, IOException {
+		URL xsd = copySchema();
+		Schema first = xmlValidation.schema(xsd);
+
+		Path schemaFile = tempDir.resolve("data.xsd");
+		Files.setLastModifiedTime(schemaFile, FileTime.from(Instant.now().plusSeconds(60)));
+		Schema second = xmlValidation.schema(xsd);
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void given_invalidXmlAfterValidOne_when_validate_then_throwKnowyValidationException() throws IOException {
+		URL xsd = copySchema();
+
+		try (InputStream xml = resource("data.xml"); InputStream invalidXml = resource("invaliddata.xml")) {
+			assertDoesNotThrow(() -> xmlValidation.validate(xml, xsd));
+			assertThrows(KnowyValidationException.class, () -> xmlValidation.validate(invalidXml, xsd));
+		}
+	}
+
+	private URL copySchema() throws IOException {
+		Path schemaFile = tempDir.resolve("data.xsd");
+		try (InputStream schema = resource("data.xsd")) {
+			Files.copy(schema, schemaFile);
+		}
+		return schemaFile.toUri().toURL();
+	}
+
+	private static InputStream resource(String name) {
+		return Objects.requireNonNull(ClassLoader.getSystemClassLoader().getResourceAsStream(name));
+	}
+}
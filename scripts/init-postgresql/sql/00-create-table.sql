@@ -139,6 +139,28 @@ CREATE TABLE IF NOT EXISTS public.lesson_documentation
 	PRIMARY KEY (id_lesson, id_documentation)
 );
 
+CREATE TABLE IF NOT EXISTS public.import_ledger
+(
+	source         text        NOT NULL,
+	checksum       varchar(64) NOT NULL,
+	schema_version varchar(64) NOT NULL,
+	imported_at    timestamp   NOT NULL DEFAULT current_timestamp,
+	PRIMARY KEY (source)
+);
+
+CREATE TABLE IF NOT EXISTS public.notification_outbox
+(
+	id              bigserial NOT NULL,
+	recipient       text      NOT NULL,
+	subject         text      NOT NULL,
+	message         text      NOT NULL,
+	attempts        integer   NOT NULL DEFAULT 0,
+	last_error      text,
+	next_attempt_at timestamp NOT NULL DEFAULT current_timestamp,
+	created_at      timestamp NOT NULL DEFAULT current_timestamp,
+	PRIMARY KEY (id)
+);
+
 -- FK public_user
 ALTER TABLE IF EXISTS public.public_user
 	ADD FOREIGN KEY (id_profile_image)
@@ -219,4 +241,18 @@ ALTER TABLE IF EXISTS public.lesson_documentation
 
 ALTER TABLE IF EXISTS public.lesson_documentation
 	ADD FOREIGN KEY (id_documentation)
-		REFERENCES public.documentation (id);
\ No newline at end of file
+		REFERENCES public.documentation (id);
+
+-- Indexes course store
+CREATE INDEX IF NOT EXISTS course_title_id_idx
+	ON public.course (title, id);
+
+CREATE INDEX IF NOT EXISTS course_language_id_language_idx
+	ON public.course_language (id_language, id_course);
+
+CREATE INDEX IF NOT EXISTS lesson_id_course_idx
+	ON public.lesson (id_course);
+
+-- Indexes notification outbox
+CREATE INDEX IF NOT EXISTS notification_outbox_next_attempt_at_idx
+	ON public.notification_outbox (next_attempt_at);